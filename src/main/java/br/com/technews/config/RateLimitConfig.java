@@ -0,0 +1,34 @@
+package br.com.technews.config;
+
+import br.com.technews.service.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Registro do {@link RateLimitFilter} antes da cadeia do Spring Security; desligado com
+ * {@code api.rate-limit.enabled=false}
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${api.rate-limit.enabled:true}") boolean enabled,
+            @Value("${api.rate-limit.paths:/api/**}") List<String> paths,
+            @Value("${api.security.api-key-header:X-API-Key}") String apiKeyHeader,
+            @Value("${api.security.api-keys:}") List<String> apiKeys) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+            new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, meterRegistry, paths, apiKeyHeader, apiKeys));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.technews.config;
+
+import br.com.technews.service.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Limite de requisições da API ({@code api.rate-limit.*}, ver application-api.properties) aplicado antes
+ * do Spring Security e dos controllers, então requisições excedentes não chegam ao banco.
+ *
+ * O cliente é identificado pelo header de API key ({@code api.security.api-key-header}) quando a chave
+ * está entre as configuradas em {@code api.security.api-keys}; qualquer outro valor é ignorado e o cliente
+ * é identificado pelo IP, para que trocar o header a cada requisição não gere um bucket novo. Excedido o limite a resposta é 429 com Retry-After; o saldo vai em X-RateLimit-Remaining.
+ * Registrado por {@link RateLimitConfig}.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final List<String> paths;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, MeterRegistry meterRegistry, List<String> paths, String apiKeyHeader,
+                           Collection<String> apiKeys) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.paths = List.copyOf(paths);
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = apiKeys.stream()
+            .filter(StringUtils::hasText)
+            .map(String::trim)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimiter.Decision decision = rateLimiter.tryConsume(clientKey(request));
+        if (decision.allowed()) {
+            response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+            chain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("technews.api.rate-limit.rejected").increment();
+        log.debug("Limite de requisições excedido em {} por {}", request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"success\":false,\"message\":\"Limite de requisições excedido\","
+            + "\"retryAfterSeconds\":" + decision.retryAfterSeconds() + "}");
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (StringUtils.hasText(apiKey) && apiKeys.contains(apiKey.trim())) {
+            return "key:" + apiKey.trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.technews.config;
 
 import org.springframework.context.annotation.Bean;
+import org.springframework.security.config.Customizer;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -37,8 +38,12 @@ public class SecurityConfig {
                 //                "/api/newsletter/send", "/api/newsletter/templates/**",
                 //                "/api/newsletter/schedule/**").hasRole("ADMIN")
                 // .requestMatchers("/admin/**").hasRole("ADMIN")
+                // Exportação em massa (e-mails de assinantes): sempre autenticada, via HTTP Basic
+                .requestMatchers("/admin/export/**").hasRole("ADMIN")
                 .anyRequest().permitAll() // Permitir acesso a todas as outras rotas
             )
+            // Credenciais dos jobs de exportação; sem efeito nas rotas públicas
+            .httpBasic(Customizer.withDefaults())
             // FORM LOGIN DESATIVADO
             // .formLogin(form -> form
             //     .loginPage("/login")
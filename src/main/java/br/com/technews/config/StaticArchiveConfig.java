@@ -0,0 +1,35 @@
+package br.com.technews.config;
+
+import br.com.technews.service.StaticNewsletterArchiveService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.nio.file.Paths;
+
+/**
+ * Publicação do arquivo estático de newsletters gerado pelo {@link StaticNewsletterArchiveService}
+ * Serve a variante pré-comprimida (.gz) quando o cliente aceita, direto do disco
+ */
+@Configuration
+public class StaticArchiveConfig implements WebMvcConfigurer {
+
+    @Value("${technews.newsletter.static.dir:${java.io.tmpdir}/technews-newsletter-static}")
+    private String directory;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = Paths.get(directory).toAbsolutePath().toUri().toString();
+        registry.addResourceHandler(StaticNewsletterArchiveService.URL_PREFIX + "**")
+                .addResourceLocations(location.endsWith("/") ? location : location + "/")
+                .setCacheControl(CacheControl.noCache())
+                // Sem cache de resolução: as páginas são regravadas enquanto a aplicação roda
+                .resourceChain(false)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+    }
+}
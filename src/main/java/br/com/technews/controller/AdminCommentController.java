@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Controller
 @RequestMapping("/admin/comments")
@@ -64,7 +65,8 @@ public class AdminCommentController {
             comments = commentService.getAllComments(pageable);
         }
 
-        Page<CommentDTO> commentDTOs = comments.map(this::convertToDTO);
+        Set<Long> withReplies = commentService.findIdsWithReplies(comments.map(Comment::getId).getContent());
+        Page<CommentDTO> commentDTOs = comments.map(comment -> convertToDTO(comment, withReplies.contains(comment.getId())));
         return ResponseEntity.ok(commentDTOs);
     }
 
@@ -83,7 +85,7 @@ public class AdminCommentController {
     @GetMapping("/api/{id}")
     @ResponseBody
     public ResponseEntity<CommentDetailDTO> getCommentDetails(@PathVariable Long id) {
-        Comment comment = commentService.getCommentById(id);
+        Comment comment = commentService.getCommentDetail(id);
         if (comment == null) {
             return ResponseEntity.notFound().build();
         }
@@ -182,6 +184,23 @@ public class AdminCommentController {
         // Constructors
         public CommentDTO() {}
 
+        // Requires the article to be loaded (entity graph or join fetch)
+        public static CommentDTO of(Comment comment, boolean hasReplies) {
+            CommentDTO dto = new CommentDTO();
+            dto.setId(comment.getId());
+            dto.setAuthorName(comment.getAuthorName());
+            dto.setAuthorEmail(comment.getAuthorEmail());
+            dto.setAuthorWebsite(comment.getAuthorWebsite());
+            dto.setContent(comment.getContent());
+            dto.setStatus(comment.getStatus().name());
+            dto.setCreatedAt(comment.getCreatedAt().toString());
+            dto.setArticleTitle(comment.getArticle().getTitle());
+            dto.setArticleId(comment.getArticle().getId());
+            dto.setParentId(comment.getParent() != null ? comment.getParent().getId() : null);
+            dto.setHasReplies(hasReplies);
+            return dto;
+        }
+
         // Getters and Setters
         public Long getId() { return id; }
         public void setId(Long id) { this.id = id; }
@@ -234,21 +253,8 @@ public class AdminCommentController {
     }
 
     // Helper methods
-    private CommentDTO convertToDTO(Comment comment) {
-        CommentDTO dto = new CommentDTO();
-        dto.setId(comment.getId());
-        dto.setAuthorName(comment.getAuthorName());
-        dto.setAuthorEmail(comment.getAuthorEmail());
-        dto.setAuthorWebsite(comment.getAuthorWebsite());
-        dto.setContent(comment.getContent());
-        dto.setStatus(comment.getStatus().name());
-        dto.setCreatedAt(comment.getCreatedAt().toString());
-        dto.setArticleTitle(comment.getArticle().getTitle());
-        dto.setArticleId(comment.getArticle().getId());
-        dto.setParentId(comment.getParent() != null ? comment.getParent().getId() : null);
-        dto.setHasReplies(comment.getReplies() != null && !comment.getReplies().isEmpty());
-        
-        return dto;
+    private CommentDTO convertToDTO(Comment comment, boolean hasReplies) {
+        return CommentDTO.of(comment, hasReplies);
     }
 
     private CommentDetailDTO convertToDetailDTO(Comment comment) {
@@ -268,13 +274,15 @@ public class AdminCommentController {
         
         // Set parent comment if exists
         if (comment.getParent() != null) {
-            dto.setParentComment(convertToDTO(comment.getParent()));
+            dto.setParentComment(convertToDTO(comment.getParent(), true));
         }
         
         // Set replies if exist
         if (comment.getReplies() != null && !comment.getReplies().isEmpty()) {
+            Set<Long> withReplies = commentService.findIdsWithReplies(
+                comment.getReplies().stream().map(Comment::getId).toList());
             dto.setReplies(comment.getReplies().stream()
-                .map(this::convertToDTO)
+                .map(reply -> convertToDTO(reply, withReplies.contains(reply.getId())))
                 .toList());
         }
         
@@ -1,5 +1,6 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.ArticleCursor;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.ArticleStatus;
 import br.com.technews.service.NewsArticleService;
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -29,7 +31,11 @@ public class ArticleController {
     @GetMapping
     public String listArticles(@RequestParam(defaultValue = "0") int page,
                               @RequestParam(defaultValue = "10") int size,
+                              @RequestParam(required = false) String cursor,
                               Model model) {
+        if (cursor != null) {
+            return listArticlesByCursor(cursor, size, model);
+        }
         try {
             Pageable pageable = PageRequest.of(page, size);
             Page<NewsArticle> articles = newsArticleService.findAll(pageable);
@@ -50,6 +56,26 @@ public class ArticleController {
         return "admin/articles/list";
     }
 
+    /**
+     * Listagem por cursor (mais recentes primeiro), sem contagem total
+     */
+    private String listArticlesByCursor(String cursor, int size, Model model) {
+        try {
+            Slice<NewsArticle> articles = newsArticleService.findAllAfter(ArticleCursor.decode(cursor), size);
+            
+            model.addAttribute("articles", articles);
+            model.addAttribute("nextCursor", ArticleCursor.next(articles));
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("articles", Page.empty());
+            model.addAttribute("error", "Cursor inválido");
+        }
+        model.addAttribute("cursorMode", true);
+        model.addAttribute("size", size);
+        model.addAttribute("totalPages", 0);
+        
+        return "admin/articles/list";
+    }
+
     @GetMapping("/new")
     public String showCreateForm(Model model) {
         model.addAttribute("article", new NewsArticle());
@@ -71,7 +97,7 @@ public class ArticleController {
 
     @GetMapping("/{id}")
     public String viewArticle(@PathVariable Long id, Model model) {
-        Optional<NewsArticle> article = newsArticleService.findById(id);
+        Optional<NewsArticle> article = newsArticleService.findDetailedById(id);
         if (article.isPresent()) {
             model.addAttribute("article", article.get());
             return "admin/articles/view";
@@ -81,7 +107,7 @@ public class ArticleController {
 
     @GetMapping("/{id}/edit")
     public String showEditForm(@PathVariable Long id, Model model) {
-        Optional<NewsArticle> article = newsArticleService.findById(id);
+        Optional<NewsArticle> article = newsArticleService.findDetailedById(id);
         if (article.isPresent()) {
             model.addAttribute("article", article.get());
             model.addAttribute("categories", getCategories());
@@ -2,6 +2,7 @@ package br.com.technews.controller;
 
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.service.NewsArticleService;
+import br.com.technews.service.ViewCounterService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Optional;
@@ -23,14 +25,22 @@ public class ArticleViewController {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ArticleViewController.class);
 
     private final NewsArticleService newsArticleService;
+    private final ViewCounterService viewCounterService;
 
     /**
      * Exibe a página de detalhes de um artigo
      */
     @GetMapping("/article/{id}")
-    public String viewArticle(@PathVariable Long id, Model model, RedirectAttributes redirectAttributes) {
+    public String viewArticle(@PathVariable Long id, Model model, RedirectAttributes redirectAttributes,
+                              WebRequest webRequest) {
         try {
-            Optional<NewsArticle> articleOpt = newsArticleService.findById(id);
+            // Cliente já tem a versão atual: 304 sem carregar o artigo nem renderizar
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findVersion(id))) {
+                viewCounterService.recordView(ViewCounterService.Target.ARTICLE, id);
+                return null;
+            }
+            
+            Optional<NewsArticle> articleOpt = newsArticleService.findDetailedById(id);
             
             if (articleOpt.isEmpty()) {
                 log.warn("Artigo não encontrado com ID: {}", id);
@@ -41,13 +51,14 @@ public class ArticleViewController {
             NewsArticle article = articleOpt.get();
             
             // Verifica se o artigo está publicado
-            if (!"PUBLISHED".equals(article.getStatus())) {
+            if (!Boolean.TRUE.equals(article.getPublished())) {
                 log.warn("Tentativa de acesso a artigo não publicado com ID: {}", id);
                 redirectAttributes.addFlashAttribute("error", "Artigo não disponível.");
                 return "redirect:/";
             }
             
             model.addAttribute("article", article);
+            viewCounterService.recordView(ViewCounterService.Target.ARTICLE, id);
             
             // Log para auditoria
             log.info("Artigo visualizado - ID: {}, Título: {}", id, article.getTitle());
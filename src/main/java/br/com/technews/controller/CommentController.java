@@ -1,5 +1,9 @@
 package br.com.technews.controller;
 
+import br.com.technews.controller.AdminCommentController.CommentDTO;
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.CommentThread;
+import br.com.technews.dto.CommentThreadPage;
 import br.com.technews.entity.Comment;
 import br.com.technews.service.CommentService;
 import br.com.technews.entity.NewsArticle;
@@ -20,6 +24,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -30,14 +35,18 @@ public class CommentController {
     private CommentService commentService;
     
     @GetMapping("/article/{articleId}")
-    public ResponseEntity<Map<String, Object>> getCommentsByArticle(@PathVariable Long articleId) {
+    public ResponseEntity<Map<String, Object>> getCommentsByArticle(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<Comment> comments = commentService.getApprovedCommentsByArticle(articleId);
-            Long totalComments = commentService.countApprovedCommentsByArticle(articleId);
+            CommentThreadPage page = commentService.getCommentThreads(articleId, ArticleCursor.decode(cursor), size);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("comments", comments);
-            response.put("totalComments", totalComments);
+            response.put("comments", page.threads());
+            response.put("totalComments", page.totalComments());
+            response.put("hasNext", page.hasNext());
+            response.put("nextCursor", page.nextCursor());
             response.put("success", true);
             
             return ResponseEntity.ok(response);
@@ -52,7 +61,9 @@ public class CommentController {
     @GetMapping("/replies/{parentId}")
     public ResponseEntity<Map<String, Object>> getRepliesByParent(@PathVariable Long parentId) {
         try {
-            List<Comment> replies = commentService.getApprovedRepliesByParent(parentId);
+            List<CommentThread> replies = commentService.getApprovedRepliesByParent(parentId).stream()
+                .map(CommentThread::of)
+                .toList();
             
             Map<String, Object> response = new HashMap<>();
             response.put("replies", replies);
@@ -89,7 +100,7 @@ public class CommentController {
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("comment", comment);
+            response.put("comment", CommentThread.of(comment));
             response.put("message", comment.getApproved() ? 
                 "Comentário publicado com sucesso!" : 
                 "Comentário enviado para moderação. Será publicado após aprovação.");
@@ -117,9 +128,12 @@ public class CommentController {
         try {
             Pageable pageable = PageRequest.of(page, size);
             Page<Comment> pendingComments = commentService.getPendingComments(pageable);
+            Set<Long> withReplies = commentService.findIdsWithReplies(pendingComments.map(Comment::getId).getContent());
             
             Map<String, Object> response = new HashMap<>();
-            response.put("comments", pendingComments.getContent());
+            response.put("comments", pendingComments.getContent().stream()
+                .map(comment -> CommentDTO.of(comment, withReplies.contains(comment.getId())))
+                .toList());
             response.put("totalElements", pendingComments.getTotalElements());
             response.put("totalPages", pendingComments.getTotalPages());
             response.put("currentPage", pendingComments.getNumber());
@@ -141,7 +155,7 @@ public class CommentController {
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("comment", comment);
+            response.put("comment", CommentThread.of(comment));
             response.put("message", "Comentário aprovado com sucesso!");
             
             return ResponseEntity.ok(response);
@@ -0,0 +1,68 @@
+package br.com.technews.controller;
+
+import br.com.technews.dto.ContentVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Requisições condicionais (If-None-Match / If-Modified-Since) para páginas e endpoints públicos.
+ *
+ * O ETag é um hash da versão do conteúdo ({@link ContentVersion}), do caminho e dos parâmetros da
+ * requisição e de um marcador da inicialização da aplicação, para que mudanças de template ou de
+ * serialização após um deploy não sejam respondidas com 304. Deve ser chamado antes de carregar as
+ * entidades: quando retorna true a resposta já é 304 e o controlador retorna null.
+ */
+public final class ConditionalRequests {
+
+    private static final String DEPLOYMENT = Long.toString(System.currentTimeMillis(), 36);
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Verifica se o cliente já tem a versão atual; conteúdo ausente ou não publicado segue o fluxo normal
+     */
+    public static boolean notModified(WebRequest request, Optional<ContentVersion> version) {
+        if (version.isEmpty() || !version.get().isPublished()) {
+            return false;
+        }
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                // Sem isso o Spring Security envia no-store e o navegador não revalida
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            }
+        }
+        return request.checkNotModified(etag(request, version.get()), lastModifiedMillis(version.get()));
+    }
+
+    static String etag(WebRequest request, ContentVersion version) {
+        Map<String, String> parameters = new TreeMap<>();
+        request.getParameterMap().forEach((name, values) -> parameters.put(name, Arrays.toString(values)));
+        String source = DEPLOYMENT + "|" + request.getDescription(false) + "|" + parameters + "|" + version.fingerprint();
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static long lastModifiedMillis(ContentVersion version) {
+        return version.lastModified() != null
+            ? version.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.technews.controller;
+
+import br.com.technews.service.ArticleFeedService;
+import br.com.technews.service.ArticleFeedService.RenderedFeed;
+import br.com.technews.service.ArticleFeedService.Type;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Feeds RSS (.xml) e Atom (.atom) dos artigos publicados para parceiros e agregadores.
+ *
+ * O corpo vem pronto do cache do {@link ArticleFeedService}; com o ETag e o Last-Modified na resposta o
+ * Spring responde 304 às requisições condicionais, e clientes que aceitam gzip recebem a versão comprimida.
+ */
+@Controller
+public class FeedController {
+
+    private static final String GZIP = "gzip";
+
+    @Autowired
+    private ArticleFeedService articleFeedService;
+
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> rss(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.RSS, null, null, acceptEncoding);
+    }
+
+    @GetMapping("/feed.atom")
+    public ResponseEntity<byte[]> atom(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.ATOM, null, null, acceptEncoding);
+    }
+
+    @GetMapping("/feed/category/{category}.xml")
+    public ResponseEntity<byte[]> categoryRss(@PathVariable String category,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.RSS, category, null, acceptEncoding);
+    }
+
+    @GetMapping("/feed/category/{category}.atom")
+    public ResponseEntity<byte[]> categoryAtom(@PathVariable String category,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.ATOM, category, null, acceptEncoding);
+    }
+
+    @GetMapping("/feed/tag/{tag}.xml")
+    public ResponseEntity<byte[]> tagRss(@PathVariable String tag,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.RSS, null, tag, acceptEncoding);
+    }
+
+    @GetMapping("/feed/tag/{tag}.atom")
+    public ResponseEntity<byte[]> tagAtom(@PathVariable String tag,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return feed(Type.ATOM, null, tag, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> feed(Type type, String category, String tag, String acceptEncoding) {
+        RenderedFeed feed = articleFeedService.getFeed(type, category, tag);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.parseMediaType(type.getContentType()), StandardCharsets.UTF_8))
+            // Sem isso o Spring Security envia no-store e o agregador não revalida
+            .cacheControl(CacheControl.noCache())
+            .lastModified(feed.lastModified())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.eTag("\"" + feed.etag() + "-" + GZIP + "\"")
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(feed.gzipped());
+        }
+        return response.eTag("\"" + feed.etag() + "\"").body(feed.body());
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
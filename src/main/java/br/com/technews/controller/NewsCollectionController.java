@@ -1,6 +1,7 @@
 package br.com.technews.controller;
 
 import br.com.technews.entity.NewsArticle;
+import br.com.technews.service.IngestionMetricsService;
 import br.com.technews.service.NewsScrapingService;
 import br.com.technews.service.NewsSchedulerService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class NewsCollectionController {
 
     private final NewsScrapingService newsScrapingService;
     private final NewsSchedulerService newsSchedulerService;
+    private final IngestionMetricsService ingestionMetricsService;
 
     @GetMapping
     public String newsManagement(Model model) {
@@ -110,4 +112,16 @@ public class NewsCollectionController {
             return ResponseEntity.badRequest().body(stats);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resumo das execuções recentes de coleta por fonte (métricas completas em /actuator/prometheus)
+     */
+    @GetMapping("/ingestion")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getIngestionSummary(@RequestParam(defaultValue = "50") int limit) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("sources", ingestionMetricsService.getSourceSummaries());
+        summary.put("recentRuns", ingestionMetricsService.getRecentRuns(limit));
+        return ResponseEntity.ok(summary);
+    }
+}
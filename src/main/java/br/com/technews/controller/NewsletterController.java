@@ -1,11 +1,15 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.ContentVersion;
+import br.com.technews.dto.NewsletterSummary;
 import br.com.technews.entity.Subscriber;
 import br.com.technews.entity.Category;
 import br.com.technews.entity.Newsletter;
 import br.com.technews.service.SubscriberService;
 import br.com.technews.service.CategoryService;
 import br.com.technews.service.NewsletterService;
+import br.com.technews.service.StaticNewsletterArchiveService;
+import br.com.technews.service.ViewCounterService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
@@ -43,6 +48,8 @@ public class NewsletterController {
     private final SubscriberService subscriberService;
     private final CategoryService categoryService;
     private final NewsletterService newsletterService;
+    private final ViewCounterService viewCounterService;
+    private final StaticNewsletterArchiveService staticNewsletterArchiveService;
 
     /**
      * Página de inscrição na newsletter
@@ -206,7 +213,21 @@ public class NewsletterController {
      * Exibir newsletter específica
      */
     @GetMapping("/{slug}")
-    public String showNewsletter(@PathVariable String slug, Model model) {
+    public String showNewsletter(@PathVariable String slug, Model model, WebRequest webRequest) {
+        Optional<ContentVersion> version = newsletterService.findVersionBySlug(slug);
+        if (ConditionalRequests.notModified(webRequest, version)) {
+            viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, version.get().id());
+            return null;
+        }
+        
+        // Página estática já gerada: servida do disco, sem carregar a newsletter nem renderizar
+        Optional<String> staticPage = version.filter(ContentVersion::isPublished)
+            .flatMap(published -> staticNewsletterArchiveService.newsletterPath(slug));
+        if (staticPage.isPresent()) {
+            viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, version.get().id());
+            return "forward:" + staticPage.get();
+        }
+        
         Optional<Newsletter> newsletterOpt = newsletterService.findBySlug(slug);
         
         if (newsletterOpt.isEmpty()) {
@@ -221,6 +242,7 @@ public class NewsletterController {
         }
         
         model.addAttribute("newsletter", newsletter);
+        viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, newsletter.getId());
         
         return "newsletter/view";
     }
@@ -229,9 +251,14 @@ public class NewsletterController {
      * Exibir newsletter por data
      */
     @GetMapping("/data/{date}")
-    public String showNewsletterByDate(@PathVariable String date, Model model) {
+    public String showNewsletterByDate(@PathVariable String date, Model model, WebRequest webRequest) {
         try {
             LocalDate newsletterDate = parseDate(date);
+            Optional<ContentVersion> version = newsletterService.findVersionByDate(newsletterDate);
+            if (ConditionalRequests.notModified(webRequest, version)) {
+                viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, version.get().id());
+                return null;
+            }
             Optional<Newsletter> newsletterOpt = newsletterService.findByDate(newsletterDate);
             
             if (newsletterOpt.isEmpty()) {
@@ -248,6 +275,7 @@ public class NewsletterController {
             }
             
             model.addAttribute("newsletter", newsletter);
+            viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, newsletter.getId());
             
             return "newsletter/view";
             
@@ -263,10 +291,20 @@ public class NewsletterController {
     @GetMapping("/arquivo")
     public String showNewsletterArchive(Model model,
                                       @RequestParam(defaultValue = "0") int page,
-                                      @RequestParam(defaultValue = "10") int size) {
+                                      @RequestParam(defaultValue = "10") int size,
+                                      WebRequest webRequest) {
         try {
+            if (ConditionalRequests.notModified(webRequest, newsletterService.findPublishedVersion())) {
+                return null;
+            }
+            
+            Optional<String> staticPage = staticNewsletterArchiveService.indexPath(page, size);
+            if (staticPage.isPresent()) {
+                return "forward:" + staticPage.get();
+            }
+            
             Pageable pageable = PageRequest.of(page, size);
-            Page<Newsletter> newsletters = newsletterService.findAllPublished(pageable);
+            Page<NewsletterSummary> newsletters = newsletterService.findPublishedSummaries(pageable);
             
             model.addAttribute("newsletters", newsletters);
             model.addAttribute("currentPage", page);
@@ -287,7 +325,7 @@ public class NewsletterController {
      */
     @GetMapping("/api/search")
     @ResponseBody
-    public ResponseEntity<Page<Newsletter>> searchNewsletters(
+    public ResponseEntity<Page<NewsletterSummary>> searchNewsletters(
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
             @RequestParam(defaultValue = "0") int page,
@@ -295,14 +333,14 @@ public class NewsletterController {
         
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Newsletter> newsletters;
+            Page<NewsletterSummary> newsletters;
             
             if (startDate != null && endDate != null) {
                 LocalDate start = parseDate(startDate);
                 LocalDate end = parseDate(endDate);
-                newsletters = newsletterService.findByDateRange(start, end, pageable);
+                newsletters = newsletterService.findPublishedSummaries(start, end, pageable);
             } else {
-                newsletters = newsletterService.findAllPublished(pageable);
+                newsletters = newsletterService.findPublishedSummaries(pageable);
             }
             
             return ResponseEntity.ok(newsletters);
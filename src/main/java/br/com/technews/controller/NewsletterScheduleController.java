@@ -174,7 +174,7 @@ public class NewsletterScheduleController {
     @GetMapping("/{id}/edit")
     public String editScheduleForm(@PathVariable Long id, Model model) {
         try {
-            NewsletterSchedule schedule = scheduleService.findById(id)
+            NewsletterSchedule schedule = scheduleService.findWithCategoriesById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Agendamento não encontrado"));
             
             if (!schedule.isPending()) {
@@ -283,7 +283,7 @@ public class NewsletterScheduleController {
     @PostMapping("/{id}/process")
     public String processSchedule(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         try {
-            NewsletterSchedule schedule = scheduleService.findById(id)
+            NewsletterSchedule schedule = scheduleService.findWithCategoriesById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Agendamento não encontrado"));
             
             if (!schedule.isPending()) {
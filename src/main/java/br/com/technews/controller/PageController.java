@@ -1,12 +1,9 @@
 package br.com.technews.controller;
 
-import br.com.technews.entity.Subscriber;
-import br.com.technews.entity.NewsArticle;
+import br.com.technews.dto.HomePageSnapshot;
+import br.com.technews.service.HomePageSnapshotService;
 import br.com.technews.service.SubscriberService;
-import br.com.technews.service.NewsArticleService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,8 +11,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 public class PageController {
 
@@ -23,32 +18,16 @@ public class PageController {
     private SubscriberService subscriberService;
     
     @Autowired
-    private NewsArticleService newsArticleService;
+    private HomePageSnapshotService homePageSnapshotService;
     
     @GetMapping("/")
     public String home(Model model) {
-        try {
-            // Estatísticas de assinantes
-            List<Subscriber> subscribers = subscriberService.getAllSubscribers();
-            model.addAttribute("subscriberCount", subscribers.size());
-            
-            // Artigos em destaque (últimos 6 publicados)
-            List<NewsArticle> featuredArticles = newsArticleService.findPublishedArticles(
-                PageRequest.of(0, 6, Sort.by("publishedAt").descending())
-            ).getContent();
-            model.addAttribute("featuredArticles", featuredArticles);
-            
-            // Estatísticas gerais
-            model.addAttribute("totalArticles", newsArticleService.countPublished());
-            model.addAttribute("categories", newsArticleService.getDistinctCategories());
-            
-        } catch (Exception e) {
-            // Se houver erro, define valores padrão
-            model.addAttribute("subscriberCount", 0);
-            model.addAttribute("featuredArticles", List.of());
-            model.addAttribute("totalArticles", 0);
-            model.addAttribute("categories", List.of());
-        }
+        // Dados pré-calculados: a página inicial não consulta o banco
+        HomePageSnapshot snapshot = homePageSnapshotService.getSnapshot();
+        model.addAttribute("subscriberCount", snapshot.subscriberCount());
+        model.addAttribute("featuredArticles", snapshot.featuredArticles());
+        model.addAttribute("totalArticles", snapshot.totalArticles());
+        model.addAttribute("categories", snapshot.categories());
         return "index";
     }
 
@@ -70,6 +49,7 @@ public class PageController {
                           RedirectAttributes redirectAttributes) {
         try {
             subscriberService.subscribe(email, nome, null, null);
+            homePageSnapshotService.requestRefresh();
             redirectAttributes.addFlashAttribute("successMessage", 
                 "Obrigado, " + nome + "! Sua inscrição foi realizada com sucesso.");
         } catch (IllegalArgumentException e) {
@@ -1,11 +1,15 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.ArticleSearchPage;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.service.NewsArticleService;
+import br.com.technews.service.ViewCounterService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +29,9 @@ public class PublicArticleController {
     @Autowired
     private NewsArticleService newsArticleService;
 
+    @Autowired
+    private ViewCounterService viewCounterService;
+
     @GetMapping
     public String listArticles(
             @RequestParam(defaultValue = "0") int page,
@@ -35,19 +43,31 @@ public class PublicArticleController {
             @RequestParam(required = false) String dateFrom,
             @RequestParam(required = false) String dateTo,
             @RequestParam(required = false) String author,
-            Model model) {
+            @RequestParam(required = false) String cursor,
+            Model model,
+            WebRequest webRequest) {
+        
+        // Resultado depende só dos parâmetros (parte do ETag) e do conjunto de publicados
+        if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+            return null;
+        }
+        
+        // Navegação por cursor: só para a listagem cronológica, sem busca nem filtros além da categoria
+        if (cursor != null && isChronological(search, sortBy, sortDir, dateFrom, dateTo, author)) {
+            return listArticlesByCursor(cursor, size, category, model);
+        }
         
         // Configurar ordenação
-        Sort sort = createSort(sortBy, sortDir);
+        Sort sort = createSort(sortBy, sortDir, search);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<NewsArticle> articles;
-        
-        // Aplicar filtros combinados
-        articles = newsArticleService.searchArticlesWithFilters(
+        // Aplicar filtros combinados (índice de busca com facetas, ou banco)
+        ArticleSearchPage result = newsArticleService.searchArticles(
             search, category, dateFrom, dateTo, author, pageable);
+        Page<NewsArticle> articles = result.articles();
         
         model.addAttribute("articles", articles);
+        model.addAttribute("facets", result.facets());
         model.addAttribute("currentPage", page);
         model.addAttribute("totalPages", articles.getTotalPages());
         model.addAttribute("totalElements", articles.getTotalElements());
@@ -64,9 +84,51 @@ public class PublicArticleController {
         return "articles/index";
     }
     
-    private Sort createSort(String sortBy, String sortDir) {
+    private String listArticlesByCursor(String cursor, int size, String category, Model model) {
+        ArticleCursor position;
+        try {
+            position = ArticleCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            // Cursor adulterado ou expirado: recomeça do início
+            position = null;
+        }
+        if (position != null && position.publishedAt() == null) {
+            // Cursor de outra listagem, sem data de publicação: também recomeça do início
+            position = null;
+        }
+        Slice<NewsArticle> articles = newsArticleService.findPublishedArticlesAfter(category, position, size);
+        
+        model.addAttribute("articles", articles);
+        model.addAttribute("cursorMode", true);
+        model.addAttribute("nextCursor", ArticleCursor.next(articles));
+        model.addAttribute("size", size);
+        model.addAttribute("category", category);
+        model.addAttribute("categories", getCategories());
+        model.addAttribute("authors", getAuthors());
+        
+        return "articles/index";
+    }
+    
+    private boolean isChronological(String search, String sortBy, String sortDir,
+                                    String dateFrom, String dateTo, String author) {
+        return isBlank(search) && isBlank(dateFrom) && isBlank(dateTo) && isBlank(author)
+            && (isBlank(sortBy) || "date".equalsIgnoreCase(sortBy))
+            && !"asc".equalsIgnoreCase(sortDir);
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
+    private Sort createSort(String sortBy, String sortDir, String search) {
         String field = "publishedAt"; // default
         Sort.Direction direction = Sort.Direction.DESC; // default
+        boolean hasSearch = search != null && !search.isBlank();
+        
+        // Sem ordenação o serviço ordena a busca por relevância
+        if (hasSearch && (sortBy == null || sortBy.isBlank() || "relevance".equalsIgnoreCase(sortBy))) {
+            return Sort.unsorted();
+        }
         
         if (sortBy != null && !sortBy.trim().isEmpty()) {
             switch (sortBy.toLowerCase()) {
@@ -98,8 +160,13 @@ public class PublicArticleController {
     }
 
     @GetMapping("/{id}")
-    public String viewArticle(@PathVariable Long id, Model model) {
-        Optional<NewsArticle> articleOpt = newsArticleService.findById(id);
+    public String viewArticle(@PathVariable Long id, Model model, WebRequest webRequest) {
+        if (ConditionalRequests.notModified(webRequest, newsArticleService.findVersion(id))) {
+            viewCounterService.recordView(ViewCounterService.Target.ARTICLE, id);
+            return null;
+        }
+        
+        Optional<NewsArticle> articleOpt = newsArticleService.findDetailedById(id);
         
         if (articleOpt.isPresent()) {
             NewsArticle article = articleOpt.get();
@@ -110,6 +177,7 @@ public class PublicArticleController {
             }
             
             model.addAttribute("article", article);
+            viewCounterService.recordView(ViewCounterService.Target.ARTICLE, id);
             return "articles/view";
         } else {
             return "redirect:/articles";
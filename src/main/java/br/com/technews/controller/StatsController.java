@@ -1,9 +1,12 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.ArticleListItem;
+import br.com.technews.dto.ArticleStatisticsSnapshot;
+import br.com.technews.dto.TagSummary;
 import br.com.technews.entity.Category;
-import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.Tag;
 import br.com.technews.entity.CommentStatus;
+import br.com.technews.service.ArticleStatisticsService;
 import br.com.technews.service.CategoryService;
 import br.com.technews.service.CommentService;
 import br.com.technews.service.NewsArticleService;
@@ -17,7 +20,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +37,8 @@ public class StatsController {
     private final NewsArticleService newsArticleService;
     private final CategoryService categoryService;
     private final TagService tagService;
-    private final CommentService commentService; 
+    private final CommentService commentService;
+    private final ArticleStatisticsService articleStatisticsService;
     /**
      * Estatísticas gerais do sistema
      */
@@ -41,13 +47,13 @@ public class StatsController {
         Map<String, Object> stats = new HashMap<>();
         
         try {
+            ArticleStatisticsSnapshot snapshot = articleStatisticsService.getSnapshot();
+            
             // Total de artigos publicados
-            List<NewsArticle> publishedArticles = newsArticleService.findPublishedArticles();
-            stats.put("totalPublishedArticles", publishedArticles.size());
+            stats.put("totalPublishedArticles", snapshot.publishedArticles());
             
             // Total de categorias distintas
-            List<String> categories = newsArticleService.getDistinctCategories();
-            stats.put("totalCategories", categories.size());
+            stats.put("totalCategories", snapshot.categories().size());
             
             // Total de tags ativas
             List<Tag> activeTags = tagService.findAllActiveTags();
@@ -70,9 +76,9 @@ public class StatsController {
      * Artigos mais recentes (últimos 10)
      */
     @GetMapping("/recent-articles")
-    public ResponseEntity<List<NewsArticle>> getRecentArticles() {
+    public ResponseEntity<List<ArticleListItem>> getRecentArticles() {
         try {
-            List<NewsArticle> recentArticles = newsArticleService.findRecentArticles(10);
+            List<ArticleListItem> recentArticles = newsArticleService.findRecentItems(10);
             return ResponseEntity.ok(recentArticles);
             
         } catch (Exception e) {
@@ -87,31 +93,11 @@ public class StatsController {
     @GetMapping("/popular-categories")
     public ResponseEntity<Map<String, Object>> getPopularCategories() {
         try {
-            List<NewsArticle> publishedArticles = newsArticleService.findPublishedArticles();
-            
-            // Conta artigos por categoria
-            Map<String, Long> categoryCount = publishedArticles.stream()
-                    .filter(article -> article.getCategory() != null)
-                    .collect(Collectors.groupingBy(
-                            NewsArticle::getCategory,
-                            Collectors.counting()
-                    ));
-            
-            // Ordena por quantidade (decrescente) e pega os top 10
-            List<Map<String, Object>> topCategories = categoryCount.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(10)
-                    .map(entry -> {
-                        Map<String, Object> categoryMap = new HashMap<>();
-                        categoryMap.put("category", entry.getKey());
-                        categoryMap.put("count", entry.getValue());
-                        return categoryMap;
-                    })
-                    .collect(Collectors.toList());
+            ArticleStatisticsSnapshot snapshot = articleStatisticsService.getSnapshot();
             
             Map<String, Object> response = new HashMap<>();
-            response.put("categories", topCategories);
-            response.put("totalCategories", categoryCount.size());
+            response.put("categories", toCountList(snapshot.topCategories(10), "category"));
+            response.put("totalCategories", snapshot.categories().size());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -125,9 +111,9 @@ public class StatsController {
      * Tags mais populares (com mais artigos)
      */
     @GetMapping("/popular-tags")
-    public ResponseEntity<List<Tag>> getPopularTags(@RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<List<TagSummary>> getPopularTags(@RequestParam(defaultValue = "10") int limit) {
         try {
-            List<Tag> popularTags = tagService.getMostPopularTags(limit);
+            List<TagSummary> popularTags = tagService.getMostPopularSummaries(limit);
             return ResponseEntity.ok(popularTags);
             
         } catch (Exception e) {
@@ -142,31 +128,11 @@ public class StatsController {
     @GetMapping("/active-authors")
     public ResponseEntity<Map<String, Object>> getActiveAuthors() {
         try {
-            List<NewsArticle> publishedArticles = newsArticleService.findPublishedArticles();
-            
-            // Conta artigos por autor
-            Map<String, Long> authorCount = publishedArticles.stream()
-                    .filter(article -> article.getAuthor() != null && !article.getAuthor().trim().isEmpty())
-                    .collect(Collectors.groupingBy(
-                            NewsArticle::getAuthor,
-                            Collectors.counting()
-                    ));
-            
-            // Ordena por quantidade (decrescente) e pega os top 10
-            List<Map<String, Object>> topAuthors = authorCount.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(10)
-                    .map(entry -> {
-                        Map<String, Object> authorMap = new HashMap<>();
-                        authorMap.put("author", entry.getKey());
-                        authorMap.put("count", entry.getValue());
-                        return authorMap;
-                    })
-                    .collect(Collectors.toList());
+            ArticleStatisticsSnapshot snapshot = articleStatisticsService.getSnapshot();
             
             Map<String, Object> response = new HashMap<>();
-            response.put("authors", topAuthors);
-            response.put("totalAuthors", authorCount.size());
+            response.put("authors", toCountList(snapshot.topAuthors(10), "author"));
+            response.put("totalAuthors", snapshot.authors().size());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -176,6 +142,36 @@ public class StatsController {
         }
     }
     
+    /**
+     * Artigos publicados por dia nos últimos dias (dias sem publicação aparecem com zero)
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<Map<String, Object>> getDailyStats(@RequestParam(defaultValue = "30") int days) {
+        try {
+            Map<LocalDate, Long> counts = articleStatisticsService.getSnapshot().days();
+            int range = Math.max(1, Math.min(days, 366));
+            LocalDate today = LocalDate.now();
+            
+            List<Map<String, Object>> daily = new ArrayList<>(range);
+            for (int i = range - 1; i >= 0; i--) {
+                LocalDate day = today.minusDays(i);
+                Map<String, Object> dayMap = new HashMap<>();
+                dayMap.put("date", day.toString());
+                dayMap.put("count", counts.getOrDefault(day, 0L));
+                daily.add(dayMap);
+            }
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("days", daily);
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("Erro ao buscar publicações por dia", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", "Erro ao carregar publicações por dia"));
+        }
+    }
+    
     /**
      * Estatísticas de comentários
      */
@@ -214,30 +210,14 @@ public class StatsController {
             Map<String, Object> summary = new HashMap<>();
             
             // Estatísticas gerais
-            List<NewsArticle> publishedArticles = newsArticleService.findPublishedArticles();
-            summary.put("totalArticles", publishedArticles.size());
-            summary.put("totalCategories", newsArticleService.getDistinctCategories().size());
+            ArticleStatisticsSnapshot snapshot = articleStatisticsService.getSnapshot();
+            summary.put("totalArticles", snapshot.publishedArticles());
+            summary.put("totalCategories", snapshot.categories().size());
             summary.put("totalTags", tagService.findAllActiveTags().size());
             summary.put("totalComments", commentService.getCommentCountByStatus(CommentStatus.APPROVED));
             
             // Top 5 categorias
-            Map<String, Long> categoryCount = publishedArticles.stream()
-                    .filter(article -> article.getCategory() != null)
-                    .collect(Collectors.groupingBy(
-                            NewsArticle::getCategory,
-                            Collectors.counting()
-                    ));
-            
-            List<Map<String, Object>> topCategories = categoryCount.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(5)
-                    .map(entry -> {
-                        Map<String, Object> categoryMap = new HashMap<>();
-                        categoryMap.put("name", entry.getKey());
-                        categoryMap.put("count", entry.getValue());
-                        return categoryMap;
-                    })
-                    .collect(Collectors.toList());
+            List<Map<String, Object>> topCategories = toCountList(snapshot.topCategories(5), "name");
             
             summary.put("topCategories", topCategories);
             
@@ -258,4 +238,15 @@ public class StatsController {
     public String statsPage() {
         return "stats";
     }
+    
+    private static List<Map<String, Object>> toCountList(List<Map.Entry<String, Long>> entries, String keyName) {
+        return entries.stream()
+                .map(entry -> {
+                    Map<String, Object> item = new HashMap<>();
+                    item.put(keyName, entry.getKey());
+                    item.put("count", entry.getValue());
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
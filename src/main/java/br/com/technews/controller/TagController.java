@@ -1,5 +1,6 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.TagSummary;
 import br.com.technews.entity.Tag;
 import br.com.technews.service.TagService;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +25,8 @@ public class TagController {
      * Lista todas as tags ativas
      */
     @GetMapping
-    public ResponseEntity<List<Tag>> getAllTags() {
-        List<Tag> tags = tagService.findAllActiveTags();
+    public ResponseEntity<List<TagSummary>> getAllTags() {
+        List<TagSummary> tags = tagService.findActiveSummaries();
         return ResponseEntity.ok(tags);
     }
     
@@ -33,8 +34,8 @@ public class TagController {
      * Busca tag por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Tag> getTagById(@PathVariable Long id) {
-        Optional<Tag> tag = tagService.findById(id);
+    public ResponseEntity<TagSummary> getTagById(@PathVariable Long id) {
+        Optional<TagSummary> tag = tagService.findSummaryById(id);
         return tag.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -43,8 +44,8 @@ public class TagController {
      * Busca tags por texto
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Tag>> searchTags(@RequestParam String q) {
-        List<Tag> tags = tagService.searchTags(q);
+    public ResponseEntity<List<TagSummary>> searchTags(@RequestParam String q) {
+        List<TagSummary> tags = tagService.searchSummaries(q);
         return ResponseEntity.ok(tags);
     }
     
@@ -52,8 +53,8 @@ public class TagController {
      * Busca tags mais populares
      */
     @GetMapping("/popular")
-    public ResponseEntity<List<Tag>> getPopularTags(@RequestParam(defaultValue = "10") int limit) {
-        List<Tag> tags = tagService.getMostPopularTags(limit);
+    public ResponseEntity<List<TagSummary>> getPopularTags(@RequestParam(defaultValue = "10") int limit) {
+        List<TagSummary> tags = tagService.getMostPopularSummaries(limit);
         return ResponseEntity.ok(tags);
     }
     
@@ -61,8 +62,8 @@ public class TagController {
      * Busca tags usadas em artigos publicados
      */
     @GetMapping("/published")
-    public ResponseEntity<List<Tag>> getTagsFromPublishedArticles() {
-        List<Tag> tags = tagService.getTagsUsedInPublishedArticles();
+    public ResponseEntity<List<TagSummary>> getTagsFromPublishedArticles() {
+        List<TagSummary> tags = tagService.getSummariesUsedInPublishedArticles();
         return ResponseEntity.ok(tags);
     }
     
@@ -82,7 +83,7 @@ public class TagController {
             }
             
             Tag tag = tagService.createTag(name, color, description);
-            return ResponseEntity.status(HttpStatus.CREATED).body(tag);
+            return ResponseEntity.status(HttpStatus.CREATED).body(TagSummary.of(tag));
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -110,7 +111,7 @@ public class TagController {
             }
             
             Tag tag = tagService.updateTag(id, name, color, description);
-            return ResponseEntity.ok(tag);
+            return ResponseEntity.ok(TagSummary.of(tag));
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -129,7 +130,7 @@ public class TagController {
     public ResponseEntity<?> toggleTagStatus(@PathVariable Long id) {
         try {
             Tag tag = tagService.toggleTagStatus(id);
-            return ResponseEntity.ok(tag);
+            return ResponseEntity.ok(TagSummary.of(tag));
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
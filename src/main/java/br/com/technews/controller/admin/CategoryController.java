@@ -196,6 +196,7 @@ public class CategoryController {
         }
         
         model.addAttribute("category", category.get());
+        model.addAttribute("articles", categoryService.findArticles(id));
         return "admin/categories/view";
     }
     
@@ -0,0 +1,67 @@
+package br.com.technews.controller.admin;
+
+import br.com.technews.service.BulkExportService;
+import br.com.technews.service.BulkExportService.Format;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Exportação em massa para os jobs noturnos: o arquivo é escrito direto na resposta enquanto as
+ * linhas são lidas do banco, sem montar a lista em memória
+ */
+@Controller
+@RequestMapping("/admin/export")
+public class ExportController {
+
+    @Autowired
+    private BulkExportService bulkExportService;
+
+    /**
+     * Todos os artigos (sem content) em NDJSON ou CSV
+     */
+    @GetMapping("/articles")
+    public void exportArticles(@RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        Optional<Format> exportFormat = prepare(BulkExportService.DATASET_ARTICLES, format, response);
+        if (exportFormat.isPresent()) {
+            bulkExportService.exportArticles(exportFormat.get(), response.getOutputStream());
+        }
+    }
+
+    /**
+     * Todos os assinantes (sem tokens) em NDJSON ou CSV
+     */
+    @GetMapping("/subscribers")
+    public void exportSubscribers(@RequestParam(defaultValue = "ndjson") String format,
+                                  HttpServletResponse response) throws IOException {
+        Optional<Format> exportFormat = prepare(BulkExportService.DATASET_SUBSCRIBERS, format, response);
+        if (exportFormat.isPresent()) {
+            bulkExportService.exportSubscribers(exportFormat.get(), response.getOutputStream());
+        }
+    }
+
+    private Optional<Format> prepare(String dataset, String format, HttpServletResponse response) throws IOException {
+        Optional<Format> exportFormat = Format.parse(format);
+        if (exportFormat.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Formato de exportação inválido: " + format);
+            return exportFormat;
+        }
+        String filename = dataset + "-" + LocalDate.now() + "." + exportFormat.get().getExtension();
+        response.setContentType(exportFormat.get().getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString());
+        return exportFormat;
+    }
+}
@@ -1,15 +1,20 @@
 package br.com.technews.controller.api;
 
-import br.com.technews.entity.NewsArticle;
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.ArticleDetail;
+import br.com.technews.dto.ArticleListItem;
+import br.com.technews.controller.ConditionalRequests;
 import br.com.technews.entity.ArticleStatus;
 import br.com.technews.service.NewsArticleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -19,6 +24,9 @@ import java.util.Optional;
 /**
  * API REST para integração externa com artigos
  * Fornece endpoints públicos para acesso aos artigos publicados
+ * Os artigos saem como {@link ArticleListItem} (listagens) e {@link ArticleDetail} (detalhe), lidos
+ * por consultas só com as colunas exibidas, sem serializar entidades nem associações lazy.
+ * As consultas respondem 304 quando o ETag/Last-Modified enviado ainda corresponde aos artigos publicados
  */
 @RestController
 @RequestMapping("/api/articles")
@@ -36,16 +44,21 @@ public class ArticleApiController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "publishedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            WebRequest webRequest) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+                return null;
+            }
+            
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             
             Pageable pageable = PageRequest.of(page, size, sort);
-            Page<NewsArticle> articles = newsArticleService.findPublishedArticles(pageable);
+            Page<ArticleListItem> articles = newsArticleService.findPublishedItems(pageable);
             
             response.put("success", true);
             response.put("articles", articles.getContent());
@@ -68,13 +81,17 @@ public class ArticleApiController {
      * Busca artigo por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getArticleById(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getArticleById(@PathVariable Long id, WebRequest webRequest) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Optional<NewsArticle> article = newsArticleService.findById(id);
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findVersion(id))) {
+                return null;
+            }
             
-            if (article.isPresent() && article.get().getPublished()) {
+            Optional<ArticleDetail> article = newsArticleService.findDetail(id);
+            
+            if (article.isPresent() && article.get().isPublished()) {
                 response.put("success", true);
                 response.put("article", article.get());
                 return ResponseEntity.ok(response);
@@ -98,13 +115,18 @@ public class ArticleApiController {
     public ResponseEntity<Map<String, Object>> getArticlesByCategory(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+                return null;
+            }
+            
             Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-            Page<NewsArticle> articles = newsArticleService.findPublishedArticlesByCategory(category, pageable);
+            Page<ArticleListItem> articles = newsArticleService.findPublishedItemsByCategory(category, pageable);
             
             response.put("success", true);
             response.put("articles", articles.getContent());
@@ -122,6 +144,46 @@ public class ArticleApiController {
         }
     }
 
+    /**
+     * Lista artigos publicados por cursor (mais recentes primeiro), sem contagem total.
+     * A primeira requisição vai sem cursor; as seguintes usam o nextCursor da resposta anterior.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> getArticlesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String category,
+            WebRequest webRequest) {
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+                return null;
+            }
+            
+            Slice<ArticleListItem> articles = newsArticleService.findPublishedItemsAfter(
+                category, ArticleCursor.decode(cursor), size);
+            
+            response.put("success", true);
+            response.put("articles", articles.getContent());
+            response.put("size", articles.getNumberOfElements());
+            response.put("hasNext", articles.hasNext());
+            response.put("nextCursor", ArticleCursor.next(articles, ArticleCursor::of));
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Erro ao buscar artigos: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * Busca artigos por termo de pesquisa
      */
@@ -129,14 +191,19 @@ public class ArticleApiController {
     public ResponseEntity<Map<String, Object>> searchArticles(
             @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-            Page<NewsArticle> articles = newsArticleService.searchArticlesWithFilters(
-                query, null, null, null, null, pageable);
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+                return null;
+            }
+            
+            // Sem ordenação: resultados por relevância
+            Pageable pageable = PageRequest.of(page, size);
+            Page<ArticleListItem> articles = newsArticleService.searchItems(query, pageable);
             
             response.put("success", true);
             response.put("articles", articles.getContent());
@@ -159,12 +226,17 @@ public class ArticleApiController {
      */
     @GetMapping("/recent")
     public ResponseEntity<Map<String, Object>> getRecentArticles(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<NewsArticle> articles = newsArticleService.findRecentArticles(limit);
+            if (ConditionalRequests.notModified(webRequest, newsArticleService.findPublishedVersion())) {
+                return null;
+            }
+            
+            List<ArticleListItem> articles = newsArticleService.findRecentItems(limit);
             
             response.put("success", true);
             response.put("articles", articles);
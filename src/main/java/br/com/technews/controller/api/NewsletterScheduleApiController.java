@@ -53,7 +53,7 @@ public class NewsletterScheduleApiController {
     @GetMapping("/{id}")
     public ResponseEntity<NewsletterSchedule> getScheduleById(@PathVariable Long id) {
         try {
-            return scheduleService.findById(id)
+            return scheduleService.findWithCategoriesById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
@@ -217,7 +217,7 @@ public class NewsletterScheduleApiController {
     @PostMapping("/{id}/process")
     public ResponseEntity<Void> processSchedule(@PathVariable Long id) {
         try {
-            NewsletterSchedule schedule = scheduleService.findById(id)
+            NewsletterSchedule schedule = scheduleService.findWithCategoriesById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Agendamento não encontrado"));
             
             if (!schedule.isPending()) {
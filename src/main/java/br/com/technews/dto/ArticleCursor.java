@@ -0,0 +1,84 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Posição opaca da paginação por chave das listagens de artigos: o último (publishedAt, id) lido.
+ * A próxima página começa no primeiro artigo estritamente posterior a ele na ordem
+ * publishedAt DESC, id DESC; sem publishedAt a posição é apenas o id (listagem do admin).
+ * As threads de comentários de um artigo usam o mesmo formato, com createdAt no lugar de publishedAt.
+ */
+public record ArticleCursor(
+        LocalDateTime publishedAt,
+        Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static ArticleCursor of(NewsArticle article) {
+        return new ArticleCursor(article.getPublishedAt(), article.getId());
+    }
+
+    public static ArticleCursor of(ArticleListItem item) {
+        return new ArticleCursor(item.publishedAt(), item.id());
+    }
+
+    /**
+     * Cursor da página seguinte à fatia, ou null quando ela é a última
+     */
+    public static String next(Slice<NewsArticle> slice) {
+        return next(slice, ArticleCursor::of);
+    }
+
+    /**
+     * Cursor da página seguinte a uma fatia de outro tipo, com a posição extraída de cada elemento
+     */
+    public static <T> String next(Slice<T> slice, Function<T, ArticleCursor> position) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return position.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public String encode() {
+        String value = (publishedAt != null ? publishedAt.toString() : "") + "|" + id;
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor recebido na requisição; null ou vazio indica a primeira página
+     *
+     * @throws IllegalArgumentException se o cursor não foi gerado por {@link #encode()}
+     */
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value;
+        try {
+            value = new String(DECODER.decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+        int separator = value.lastIndexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+        try {
+            String date = value.substring(0, separator);
+            return new ArticleCursor(date.isEmpty() ? null : LocalDateTime.parse(date),
+                Long.valueOf(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+}
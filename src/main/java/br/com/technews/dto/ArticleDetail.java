@@ -0,0 +1,56 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.Tag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Artigo no endpoint de detalhe da API: conteúdo completo e nomes das tags, sem a categoria
+ * nem os artigos de cada tag
+ */
+public record ArticleDetail(
+        Long id,
+        String title,
+        String content,
+        String summary,
+        String author,
+        String category,
+        String url,
+        String imageUrl,
+        String sourceDomain,
+        String slug,
+        Boolean published,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt,
+        Long views,
+        List<String> tags) {
+
+    /**
+     * Colunas do artigo lidas por consulta; as tags são preenchidas depois com {@link #withTags(List)}
+     */
+    public ArticleDetail(Long id, String title, String content, String summary, String author, String category,
+                         String url, String imageUrl, String sourceDomain, String slug, Boolean published,
+                         LocalDateTime publishedAt, LocalDateTime updatedAt, Long views) {
+        this(id, title, content, summary, author, category, url, imageUrl, sourceDomain, slug, published,
+            publishedAt, updatedAt, views, List.of());
+    }
+
+    public static ArticleDetail of(NewsArticle article) {
+        return new ArticleDetail(article.getId(), article.getTitle(), article.getContent(), article.getSummary(),
+            article.getAuthor(), article.getCategory(), article.getUrl(), article.getImageUrl(),
+            article.getSourceDomain(), article.getSlug(), article.getPublished(), article.getPublishedAt(),
+            article.getUpdatedAt(), article.getViews(),
+            article.getTags().stream().map(Tag::getName).sorted().toList());
+    }
+
+    public boolean isPublished() {
+        return Boolean.TRUE.equals(published);
+    }
+
+    public ArticleDetail withTags(List<String> tagNames) {
+        return new ArticleDetail(id, title, content, summary, author, category, url, imageUrl, sourceDomain, slug,
+            published, publishedAt, updatedAt, views, List.copyOf(tagNames));
+    }
+}
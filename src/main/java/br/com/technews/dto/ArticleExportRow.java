@@ -0,0 +1,23 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.ArticleStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação em massa de artigos (sem content e sem associações)
+ */
+public record ArticleExportRow(
+        Long id,
+        String title,
+        String summary,
+        String author,
+        String category,
+        String url,
+        String sourceDomain,
+        ArticleStatus status,
+        Boolean published,
+        LocalDateTime publishedAt,
+        LocalDateTime createdAt,
+        Long views) {
+}
@@ -0,0 +1,29 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+
+import java.time.LocalDateTime;
+
+/**
+ * Artigo nas listagens da API: sem o conteúdo completo nem associações, lido direto por consulta
+ */
+public record ArticleListItem(
+        Long id,
+        String title,
+        String summary,
+        String author,
+        String category,
+        String url,
+        String imageUrl,
+        String sourceDomain,
+        String slug,
+        Boolean published,
+        LocalDateTime publishedAt,
+        Long views) {
+
+    public static ArticleListItem of(NewsArticle article) {
+        return new ArticleListItem(article.getId(), article.getTitle(), article.getSummary(), article.getAuthor(),
+            article.getCategory(), article.getUrl(), article.getImageUrl(), article.getSourceDomain(),
+            article.getSlug(), article.getPublished(), article.getPublishedAt(), article.getViews());
+    }
+}
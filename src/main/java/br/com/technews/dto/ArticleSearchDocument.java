@@ -0,0 +1,34 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um artigo publicado com os campos indexados pela busca em memória.
+ * Lida em blocos na reconstrução do índice, sem carregar entidades no contexto de persistência.
+ */
+public record ArticleSearchDocument(
+        Long id,
+        String title,
+        String summary,
+        String content,
+        String category,
+        String author,
+        LocalDateTime publishedAt) {
+
+    /**
+     * Deve ser chamado com a sessão aberta: a categoria pode vir da entidade LAZY
+     */
+    public static ArticleSearchDocument of(NewsArticle article) {
+        return new ArticleSearchDocument(article.getId(), article.getTitle(), article.getSummary(), article.getContent(),
+            article.getCategory(), article.getAuthor(), article.getPublishedAt());
+    }
+
+    /**
+     * Cópia sem resumo e conteúdo: depois da análise só os campos de filtro e ordenação são usados
+     */
+    public ArticleSearchDocument withoutText() {
+        return new ArticleSearchDocument(id, title, null, null, category, author, publishedAt);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.technews.dto;
+
+import java.util.Map;
+
+/**
+ * Contagens dos artigos encontrados por categoria, autor e mês de publicação ("yyyy-MM"),
+ * em ordem de exibição (mais frequentes primeiro; meses do mais recente ao mais antigo)
+ */
+public record ArticleSearchFacets(
+        Map<String, Long> categories,
+        Map<String, Long> authors,
+        Map<String, Long> months) {
+
+    private static final ArticleSearchFacets EMPTY = new ArticleSearchFacets(Map.of(), Map.of(), Map.of());
+
+    public static ArticleSearchFacets empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && authors.isEmpty() && months.isEmpty();
+    }
+}
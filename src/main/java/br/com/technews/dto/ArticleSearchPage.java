@@ -0,0 +1,13 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+import org.springframework.data.domain.Page;
+
+/**
+ * Resultado da busca de artigos com as facetas para a tela de filtros;
+ * facetas vazias quando a busca foi atendida pelo banco
+ */
+public record ArticleSearchPage(
+        Page<NewsArticle> articles,
+        ArticleSearchFacets facets) {
+}
@@ -0,0 +1,13 @@
+package br.com.technews.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados do índice de busca: ids na ordem de exibição, total de artigos
+ * encontrados e facetas calculadas sobre todos eles
+ */
+public record ArticleSearchResult(
+        List<Long> ids,
+        long total,
+        ArticleSearchFacets facets) {
+}
@@ -0,0 +1,41 @@
+package br.com.technews.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cópia imutável das contagens de artigos publicados, lida pelos endpoints de estatísticas
+ * sem consultar news_articles
+ */
+public record ArticleStatisticsSnapshot(
+        long publishedArticles,
+        Map<String, Long> categories,
+        Map<String, Long> authors,
+        Map<String, Long> tags,
+        Map<LocalDate, Long> days) {
+
+    public static ArticleStatisticsSnapshot empty() {
+        return new ArticleStatisticsSnapshot(0, Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    public List<Map.Entry<String, Long>> topCategories(int limit) {
+        return top(categories, limit);
+    }
+
+    public List<Map.Entry<String, Long>> topAuthors(int limit) {
+        return top(authors, limit);
+    }
+
+    public List<Map.Entry<String, Long>> topTags(int limit) {
+        return top(tags, limit);
+    }
+
+    private static List<Map.Entry<String, Long>> top(Map<String, Long> counts, int limit) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .toList();
+    }
+}
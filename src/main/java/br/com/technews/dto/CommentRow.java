@@ -0,0 +1,17 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comentário aprovado lido por consulta, com o id do pai no lugar das associações; base da montagem
+ * de {@link CommentThread}
+ */
+public record CommentRow(
+        Long id,
+        Long parentId,
+        String authorName,
+        String authorEmail,
+        String authorWebsite,
+        String content,
+        LocalDateTime createdAt) {
+}
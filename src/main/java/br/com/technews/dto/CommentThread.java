@@ -0,0 +1,33 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.Comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comentário público com as respostas aninhadas (mais antigas primeiro), sem email, IP nem artigo
+ */
+public record CommentThread(
+        Long id,
+        String authorName,
+        String authorWebsite,
+        String gravatarUrl,
+        String content,
+        LocalDateTime createdAt,
+        List<CommentThread> replies) {
+
+    public static CommentThread of(CommentRow row) {
+        return new CommentThread(row.id(), row.authorName(), row.authorWebsite(),
+            Comment.gravatarUrl(row.authorEmail()), row.content(), row.createdAt(), new ArrayList<>());
+    }
+
+    /**
+     * Comentário isolado (criação, aprovação), sem carregar as respostas
+     */
+    public static CommentThread of(Comment comment) {
+        return new CommentThread(comment.getId(), comment.getAuthorName(), comment.getAuthorWebsite(),
+            comment.getGravatarUrl(), comment.getContent(), comment.getCreatedAt(), new ArrayList<>());
+    }
+}
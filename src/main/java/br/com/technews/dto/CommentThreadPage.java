@@ -0,0 +1,14 @@
+package br.com.technews.dto;
+
+import java.util.List;
+
+/**
+ * Página de threads de comentários de um artigo (mais recentes primeiro). {@code totalComments} conta
+ * todos os comentários visíveis do artigo, respostas incluídas; {@code nextCursor} é null na última página.
+ */
+public record CommentThreadPage(
+        List<CommentThread> threads,
+        long totalComments,
+        boolean hasNext,
+        String nextCursor) {
+}
@@ -0,0 +1,44 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão de um conteúdo público (artigo, newsletter ou listagem) lida sem carregar entidades,
+ * usada para responder requisições condicionais (ETag / Last-Modified) antes de montar a página.
+ *
+ * Além do updatedAt do próprio registro, considera a quantidade e a alteração mais recente dos
+ * registros exibidos junto com ele (tags do artigo, artigos da newsletter), que mudam sem atualizar
+ * o registro principal. Visualizações não fazem parte da versão.
+ */
+public record ContentVersion(
+        Long id,
+        Boolean published,
+        LocalDateTime updatedAt,
+        Long relatedCount,
+        LocalDateTime relatedUpdatedAt) {
+
+    /**
+     * Versão de uma listagem de publicados: quantidade de itens e alteração mais recente
+     */
+    public ContentVersion(Long count, LocalDateTime lastUpdatedAt) {
+        this(null, true, lastUpdatedAt, count, null);
+    }
+
+    public boolean isPublished() {
+        return Boolean.TRUE.equals(published);
+    }
+
+    /**
+     * Alteração mais recente entre o registro e os relacionados; null se nenhuma for conhecida
+     */
+    public LocalDateTime lastModified() {
+        if (updatedAt == null || (relatedUpdatedAt != null && relatedUpdatedAt.isAfter(updatedAt))) {
+            return relatedUpdatedAt;
+        }
+        return updatedAt;
+    }
+
+    public String fingerprint() {
+        return published + "|" + updatedAt + "|" + relatedCount + "|" + relatedUpdatedAt;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.CollectedNews;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção enxuta de uma notícia coletada com apenas os campos usados no scoring da curadoria.
+ * Permite reprocessar o backlog em blocos sem carregar entidades no contexto de persistência.
+ */
+public record CurationCandidate(
+        Long id,
+        String title,
+        String content,
+        String originalUrl,
+        LocalDateTime publishedAt,
+        Long sourceId) {
+
+    public static CurationCandidate of(CollectedNews news) {
+        Long sourceId = news.getSource() != null ? news.getSource().getId() : null;
+        return new CurationCandidate(news.getId(), news.getTitle(), news.getContent(), news.getOriginalUrl(),
+            news.getPublishedAt(), sourceId);
+    }
+}
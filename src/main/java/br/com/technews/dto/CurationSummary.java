@@ -0,0 +1,7 @@
+package br.com.technews.dto;
+
+/**
+ * Resumo de uma execução de curadoria em lote
+ */
+public record CurationSummary(long processed, long approved, long rejected, long elapsedMillis) {
+}
@@ -0,0 +1,17 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Artigo publicado nos feeds RSS/Atom: só as colunas usadas pelo item do feed
+ */
+public record FeedEntry(
+        Long id,
+        String title,
+        String summary,
+        String author,
+        String category,
+        String url,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt) {
+}
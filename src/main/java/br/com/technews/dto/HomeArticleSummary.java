@@ -0,0 +1,34 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.NewsArticle;
+
+import java.time.LocalDateTime;
+
+/**
+ * Artigo em destaque da página inicial com apenas os campos exibidos no card
+ * (o conteúdo completo é reduzido ao resumo)
+ */
+public record HomeArticleSummary(
+        Long id,
+        String title,
+        String excerpt,
+        String imageUrl,
+        String category,
+        String author,
+        LocalDateTime publishedAt) {
+
+    private static final int EXCERPT_LENGTH = 120;
+
+    public static HomeArticleSummary of(NewsArticle article) {
+        return new HomeArticleSummary(article.getId(), article.getTitle(), excerpt(article.getContent()),
+            article.getImageUrl(), article.getCategory(), article.getAuthor(), article.getPublishedAt());
+    }
+
+    // Mesmo corte de #strings.abbreviate(content, 120) usado antes no template
+    private static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, EXCERPT_LENGTH - 3) + "...";
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Dados pré-calculados da página inicial, substituídos por inteiro a cada reconstrução
+ */
+public record HomePageSnapshot(
+        List<HomeArticleSummary> featuredArticles,
+        long totalArticles,
+        long subscriberCount,
+        List<String> categories,
+        LocalDateTime builtAt) {
+
+    public HomePageSnapshot {
+        featuredArticles = List.copyOf(featuredArticles);
+        categories = List.copyOf(categories);
+    }
+
+    public static HomePageSnapshot empty() {
+        return new HomePageSnapshot(List.of(), 0, 0, List.of(), null);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Item extraído de uma fonte (entrada RSS, card de página ou artigo da API GNews) antes da normalização
+ *
+ * @param content     HTML ou texto do corpo/resumo, conforme a fonte
+ * @param publishedAt data informada pela fonte, ou {@code null}
+ * @param sourceName  nome da publicação informado pela fonte, quando houver
+ */
+public record IngestedEntry(String title, String url, String content, String imageUrl,
+                            LocalDateTime publishedAt, String sourceName) {
+}
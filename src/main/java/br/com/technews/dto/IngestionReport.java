@@ -0,0 +1,8 @@
+package br.com.technews.dto;
+
+/**
+ * Resultado de uma execução do pipeline de ingestão
+ */
+public record IngestionReport(String pipeline, int sources, int failedSources, long parsed,
+                              long duplicates, long inserted, long errors, long elapsedMillis) {
+}
@@ -0,0 +1,22 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma execução de coleta de uma fonte (feed RSS ou scraper)
+ */
+public record IngestionRunSummary(
+    String source,
+    String type,
+    LocalDateTime startedAt,
+    long fetchMillis,
+    long totalMillis,
+    long bytesDownloaded,
+    long entriesParsed,
+    long duplicatesByUrl,
+    long duplicatesByHash,
+    long inserted,
+    long parseErrors,
+    boolean success,
+    String error) {
+}
@@ -0,0 +1,22 @@
+package br.com.technews.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Agregado das execuções recentes de coleta de uma fonte
+ */
+public record IngestionSourceSummary(
+    String source,
+    String type,
+    long runs,
+    long failures,
+    double averageFetchMillis,
+    long maxFetchMillis,
+    long bytesDownloaded,
+    long entriesParsed,
+    long duplicatesByUrl,
+    long duplicatesByHash,
+    long inserted,
+    long parseErrors,
+    LocalDateTime lastSuccessAt) {
+}
@@ -0,0 +1,16 @@
+package br.com.technews.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Dados de uma newsletter publicada exibidos no arquivo, sem a coluna content
+ */
+public record NewsletterSummary(
+        Long id,
+        String title,
+        String description,
+        LocalDate newsletterDate,
+        String slug,
+        LocalDateTime publishedAt) {
+}
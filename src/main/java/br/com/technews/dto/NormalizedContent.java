@@ -0,0 +1,28 @@
+package br.com.technews.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da normalização de uma entrada de feed.
+ * Produzido uma única vez por entrada e reutilizado pela deduplicação e pelo scoring,
+ * evitando novos parses do HTML e novas conversões para minúsculas.
+ *
+ * @param title         título limpo (sem HTML, espaços normalizados)
+ * @param text          conteúdo limpo (sem HTML, espaços normalizados)
+ * @param imageUrl      primeira imagem encontrada no conteúdo, ou {@code null}
+ * @param contentHash   hash SHA-256 do título e conteúdo originais, usado na deduplicação
+ * @param wordCount     quantidade de palavras do conteúdo
+ * @param sentenceCount quantidade de terminadores de frase ('.', '!', '?') do conteúdo
+ * @param lowerText     título e conteúdo em minúsculas, separados por espaço
+ * @param tokens        tokens em minúsculas do título e do conteúdo
+ */
+public record NormalizedContent(
+        String title,
+        String text,
+        String imageUrl,
+        String contentHash,
+        int wordCount,
+        int sentenceCount,
+        String lowerText,
+        List<String> tokens) {
+}
@@ -0,0 +1,12 @@
+package br.com.technews.dto;
+
+/**
+ * Visão imutável da reputação de uma fonte ou domínio
+ *
+ * @param samples       quantidade (com decaimento) de notícias curadas
+ * @param approvalRate  fração de notícias aprovadas
+ * @param duplicateRate fração de notícias descartadas como conteúdo duplicado
+ * @param averageScore  score médio de qualidade
+ */
+public record ReputationSnapshot(double samples, double approvalRate, double duplicateRate, double averageScore) {
+}
@@ -0,0 +1,7 @@
+package br.com.technews.dto;
+
+/**
+ * Resultado da execução de uma política de retenção
+ */
+public record RetentionReport(String policy, long rowsPurged, int batches, long elapsedMillis) {
+}
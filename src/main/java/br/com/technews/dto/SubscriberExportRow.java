@@ -0,0 +1,21 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.Subscriber;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação em massa de assinantes (sem tokens, IP ou user agent)
+ */
+public record SubscriberExportRow(
+        Long id,
+        String email,
+        String fullName,
+        Boolean active,
+        Boolean emailVerified,
+        Subscriber.SubscriptionFrequency frequency,
+        Integer emailCount,
+        LocalDateTime lastEmailSentAt,
+        LocalDateTime subscribedAt,
+        LocalDateTime unsubscribedAt) {
+}
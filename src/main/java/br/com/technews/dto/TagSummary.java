@@ -0,0 +1,18 @@
+package br.com.technews.dto;
+
+import br.com.technews.entity.Tag;
+
+/**
+ * Tag nas respostas da API, sem a coleção de artigos
+ */
+public record TagSummary(
+        Long id,
+        String name,
+        String color,
+        String description,
+        Boolean isActive) {
+
+    public static TagSummary of(Tag tag) {
+        return new TagSummary(tag.getId(), tag.getName(), tag.getColor(), tag.getDescription(), tag.getIsActive());
+    }
+}
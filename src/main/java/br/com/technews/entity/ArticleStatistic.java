@@ -0,0 +1,56 @@
+package br.com.technews.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contagem de artigos publicados em uma dimensão (categoria, autor, tag ou dia), persistida
+ * periodicamente a partir dos contadores em memória do ArticleStatisticsService.
+ */
+@Entity
+@Table(name = "article_statistics",
+       uniqueConstraints = @UniqueConstraint(name = "uk_article_statistics_dimension_key",
+                                             columnNames = {"dimension", "stat_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Dimension dimension;
+
+    @Column(name = "stat_key", nullable = false)
+    private String statKey;
+
+    @Column(name = "article_count", nullable = false)
+    @Builder.Default
+    private Long articleCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Dimension {
+        TOTAL,      // Chave única "all"
+        CATEGORY,   // Nome da categoria (entidade ou texto livre)
+        AUTHOR,     // Autor informado no artigo
+        TAG,        // Nome da tag
+        DAY         // Data de publicação (yyyy-MM-dd)
+    }
+}
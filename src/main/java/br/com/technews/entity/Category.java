@@ -1,5 +1,6 @@
 package br.com.technews.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
@@ -51,7 +52,8 @@ public class Category {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    // Relacionamento com artigos
+    // Relacionamento com artigos (fora do JSON: artigos da categoria vêm de CategoryService.findArticles)
+    @JsonIgnore
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<NewsArticle> articles;
     
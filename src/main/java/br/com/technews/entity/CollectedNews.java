@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
            @Index(name = "idx_collected_news_url", columnList = "original_url"),
            @Index(name = "idx_collected_news_hash", columnList = "content_hash"),
            @Index(name = "idx_collected_news_published", columnList = "published_at"),
-           @Index(name = "idx_collected_news_status", columnList = "status")
+           @Index(name = "idx_collected_news_status", columnList = "status"),
+           @Index(name = "idx_collected_news_status_created", columnList = "status, created_at")
        })
 @Data
 @Builder
@@ -288,6 +289,14 @@ public class CollectedNews {
         PUBLISHED     // Já incluída em newsletter
     }
 
+    // published_at é a chave de partição da tabela no PostgreSQL e não pode ser nula
+    @PrePersist
+    void ensurePublishedAt() {
+        if (publishedAt == null) {
+            publishedAt = createdAt != null ? createdAt : LocalDateTime.now();
+        }
+    }
+
     public boolean isRecentNews() {
         if (publishedAt == null) {
             return false;
@@ -15,7 +15,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_article_approved_active_created", columnList = "article_id, approved, active, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -86,9 +88,13 @@ public class Comment {
     }
     
     public String getGravatarUrl() {
+        return gravatarUrl(authorEmail);
+    }
+
+    public static String gravatarUrl(String email) {
         try {
             java.security.MessageDigest md = java.security.MessageDigest.getInstance("MD5");
-            byte[] hash = md.digest(authorEmail.toLowerCase().getBytes());
+            byte[] hash = md.digest(email.toLowerCase().getBytes());
             StringBuilder hexString = new StringBuilder();
             for (byte b : hash) {
                 String hex = Integer.toHexString(0xff & b);
@@ -102,4 +108,4 @@ public class Comment {
             return "https://www.gravatar.com/avatar/default?d=identicon&s=50";
         }
     }
-}
\ No newline at end of file
+}
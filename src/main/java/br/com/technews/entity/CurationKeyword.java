@@ -0,0 +1,63 @@
+package br.com.technews.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Palavra-chave usada pela curadoria automática e pela moderação de comentários.
+ * As listas são recarregadas em memória periodicamente, sem necessidade de restart.
+ */
+@Entity
+@Table(name = "curation_keywords",
+       uniqueConstraints = @UniqueConstraint(name = "uk_curation_keywords_list_keyword",
+                                             columnNames = {"keyword_list", "keyword"}),
+       indexes = @Index(name = "idx_curation_keywords_active", columnList = "active"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CurationKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "keyword_list", nullable = false, length = 20)
+    private KeywordList keywordList;
+
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum KeywordList {
+        TECH,           // Relevância tecnológica (bonifica o score)
+        SPAM,           // Spam em notícias coletadas (penaliza o score)
+        COMMENT_SPAM    // Spam em comentários (bloqueia/modera)
+    }
+}
@@ -3,6 +3,7 @@ package br.com.technews.entity;
 import br.com.technews.entity.Tag;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -24,7 +25,11 @@ import java.util.Set;
 import java.util.HashSet;
 
 @Entity
-@Table(name = "news_articles")
+@Table(name = "news_articles",
+       indexes = {
+           @Index(name = "idx_news_articles_published_created", columnList = "published, created_at"),
+           @Index(name = "idx_news_articles_published_keyset", columnList = "published, published_at DESC, id DESC")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,7 +9,8 @@ import java.util.Set;
  * Entidade para agendamento de newsletters
  */
 @Entity
-@Table(name = "newsletter_schedules")
+@Table(name = "newsletter_schedules",
+       indexes = @Index(name = "idx_newsletter_schedules_status_created", columnList = "status, created_date"))
 public class NewsletterSchedule {
 
     @Id
@@ -0,0 +1,65 @@
+package br.com.technews.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contadores de reputação de uma fonte (NewsSource) ou domínio, persistidos periodicamente.
+ * Os contadores são médias móveis com decaimento exponencial, dando mais peso às curadorias recentes.
+ */
+@Entity
+@Table(name = "source_reputations",
+       uniqueConstraints = @UniqueConstraint(name = "uk_source_reputations_scope_key",
+                                             columnNames = {"scope", "reputation_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SourceReputation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Scope scope;
+
+    @Column(name = "reputation_key", nullable = false)
+    private String reputationKey;
+
+    @Column(name = "approved_count", nullable = false)
+    @Builder.Default
+    private Double approvedCount = 0.0;
+
+    @Column(name = "rejected_count", nullable = false)
+    @Builder.Default
+    private Double rejectedCount = 0.0;
+
+    @Column(name = "duplicate_count", nullable = false)
+    @Builder.Default
+    private Double duplicateCount = 0.0;
+
+    @Column(name = "quality_score_sum", nullable = false)
+    @Builder.Default
+    private Double qualityScoreSum = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Scope {
+        SOURCE,     // Chave é o id da NewsSource
+        DOMAIN      // Chave é o host da URL original (sem "www.")
+    }
+}
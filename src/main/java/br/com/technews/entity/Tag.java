@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -42,8 +44,11 @@ public class Tag {
     @Builder.Default
     private Boolean isActive = true;
     
+    // Lado inverso fora de equals/hashCode/toString: NewsArticle.hashCode inclui as tags
     @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
     @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<NewsArticle> articles = new HashSet<>();
     
     @PrePersist
@@ -0,0 +1,12 @@
+package br.com.technews.repository;
+
+import br.com.technews.entity.ArticleStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository das contagens agregadas de artigos publicados
+ */
+@Repository
+public interface ArticleStatisticRepository extends JpaRepository<ArticleStatistic, Long> {
+}
@@ -1,5 +1,6 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.CurationCandidate;
 import br.com.technews.entity.CollectedNews;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,8 +10,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CollectedNewsRepository extends JpaRepository<CollectedNews, Long> {
@@ -50,4 +53,27 @@ public interface CollectedNewsRepository extends JpaRepository<CollectedNews, Lo
     List<CollectedNews> findApprovedNewsByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
 
     boolean existsByContentHash(String contentHash);
+
+    /**
+     * URLs do lote já coletadas (deduplicação em lote do pipeline de ingestão)
+     */
+    @Query("SELECT cn.originalUrl FROM CollectedNews cn WHERE cn.originalUrl IN :urls")
+    Set<String> findExistingOriginalUrls(@Param("urls") Collection<String> urls);
+
+    /**
+     * Hashes de conteúdo do lote já coletados
+     */
+    @Query("SELECT cn.contentHash FROM CollectedNews cn WHERE cn.contentHash IN :hashes")
+    Set<String> findExistingContentHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Paginação por chave (id) para reprocessamento do backlog; retorna apenas os campos usados no scoring
+     */
+    @Query("SELECT new br.com.technews.dto.CurationCandidate(cn.id, cn.title, cn.content, cn.originalUrl, " +
+           "cn.publishedAt, cn.source.id) " +
+           "FROM CollectedNews cn WHERE cn.status IN :statuses AND cn.id > :afterId ORDER BY cn.id")
+    List<CurationCandidate> findCurationCandidatesAfter(
+        @Param("statuses") Collection<CollectedNews.NewsStatus> statuses,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
 }
\ No newline at end of file
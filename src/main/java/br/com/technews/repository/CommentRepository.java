@@ -1,25 +1,49 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.CommentRow;
 import br.com.technews.entity.Comment;
 import br.com.technews.entity.CommentStatus;
 import br.com.technews.entity.NewsArticle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // Moderation list with the article title in the same query
+    @Override
+    @EntityGraph(attributePaths = "article")
+    Page<Comment> findAll(Pageable pageable);
+
+    // Comment with article, parent and replies (moderation detail)
+    @EntityGraph(attributePaths = {"article", "parent", "replies"})
+    Optional<Comment> findDetailedById(Long id);
+
+    // Ids among the given comments that have at least one reply
+    @Query("SELECT DISTINCT c.parent.id FROM Comment c WHERE c.parent.id IN :ids")
+    Set<Long> findParentIdsIn(@Param("ids") Collection<Long> ids);
     
     // Find approved comments for an article (excluding replies)
     @Query("SELECT c FROM Comment c WHERE c.article = :article AND c.approved = true AND c.active = true AND c.parent IS NULL ORDER BY c.createdAt DESC")
     List<Comment> findApprovedCommentsByArticle(@Param("article") NewsArticle article);
     
+    // Every approved comment of an article as flat rows (parent id instead of associations), oldest first;
+    // served by idx_comments_article_approved_active_created without loading the article
+    @Query("SELECT new br.com.technews.dto.CommentRow(c.id, c.parent.id, c.authorName, c.authorEmail, c.authorWebsite, c.content, c.createdAt) " +
+           "FROM Comment c WHERE c.article.id = :articleId AND c.approved = true AND c.active = true ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findApprovedRowsByArticleId(@Param("articleId") Long articleId);
+    
     // Find approved replies for a comment
     @Query("SELECT c FROM Comment c WHERE c.parent = :parent AND c.approved = true AND c.active = true ORDER BY c.createdAt ASC")
     List<Comment> findApprovedRepliesByParent(@Param("parent") Comment parent);
@@ -28,7 +52,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.article = :article AND c.active = true ORDER BY c.createdAt DESC")
     List<Comment> findAllCommentsByArticle(@Param("article") NewsArticle article);
     
-    // Find pending comments (for moderation)
+    // Find pending comments (for moderation), with the article title in the same query
+    @EntityGraph(attributePaths = "article")
     @Query("SELECT c FROM Comment c WHERE c.approved = false AND c.active = true ORDER BY c.createdAt DESC")
     Page<Comment> findPendingComments(Pageable pageable);
     
@@ -57,6 +82,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findCommentsAfterDate(@Param("date") LocalDateTime date);
     
     // Search comments by content
+    @EntityGraph(attributePaths = "article")
     @Query("SELECT c FROM Comment c WHERE LOWER(c.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND c.active = true ORDER BY c.createdAt DESC")
     Page<Comment> searchCommentsByContent(@Param("searchTerm") String searchTerm, Pageable pageable);
     
@@ -76,6 +102,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Object[]> findTopCommenters(Pageable pageable);
     
     // Find comments by status
+    @EntityGraph(attributePaths = "article")
     @Query("SELECT c FROM Comment c WHERE c.status = :status AND c.active = true ORDER BY c.createdAt DESC")
     Page<Comment> findByStatus(@Param("status") CommentStatus status, Pageable pageable);
     
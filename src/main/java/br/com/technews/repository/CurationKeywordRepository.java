@@ -0,0 +1,16 @@
+package br.com.technews.repository;
+
+import br.com.technews.entity.CurationKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CurationKeywordRepository extends JpaRepository<CurationKeyword, Long> {
+
+    /**
+     * Busca todas as palavras-chave ativas, de todas as listas
+     */
+    List<CurationKeyword> findByActiveTrue();
+}
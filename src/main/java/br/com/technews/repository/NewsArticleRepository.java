@@ -1,24 +1,45 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.ArticleDetail;
+import br.com.technews.dto.ArticleExportRow;
+import br.com.technews.dto.ArticleListItem;
+import br.com.technews.dto.ArticleSearchDocument;
+import br.com.technews.dto.ContentVersion;
+import br.com.technews.dto.FeedEntry;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.ArticleStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository para operações com a entidade NewsArticle
  */
 @Repository
 public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+
+    /**
+     * Início das consultas de {@link ArticleListItem} (alias a)
+     */
+    String ITEM_SELECT = "SELECT new br.com.technews.dto.ArticleListItem(a.id, a.title, a.summary, a.author, a.category, a.url, " +
+           "a.imageUrl, a.sourceDomain, a.slug, a.published, a.publishedAt, a.views) " +
+           "FROM NewsArticle a ";
     
     /**
      * Busca artigos por status
@@ -39,7 +60,23 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
      * Verifica se existe um artigo com a URL especificada
      */
     boolean existsByUrl(String url);
+
+    /**
+     * URLs do lote que já possuem artigo (deduplicação em lote do pipeline de ingestão)
+     */
+    @Query("SELECT a.url FROM NewsArticle a WHERE a.url IN :urls")
+    Set<String> findExistingUrls(@Param("urls") Collection<String> urls);
     
+    /**
+     * Paginação por chave (id) dos artigos publicados para reconstrução do índice de busca;
+     * retorna apenas os campos indexados
+     */
+    @Query("SELECT new br.com.technews.dto.ArticleSearchDocument(a.id, a.title, a.summary, a.content, " +
+           "COALESCE(c.name, a.category), a.author, a.publishedAt) " +
+           "FROM NewsArticle a LEFT JOIN a.categoryEntity c " +
+           "WHERE a.published = true AND a.id > :afterId ORDER BY a.id")
+    List<ArticleSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * Busca artigos por domínio da fonte
      */
@@ -64,7 +101,77 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
      * Busca artigos publicados com paginação
      */
     Page<NewsArticle> findByPublishedTrueOrderByPublishedAtDesc(Pageable pageable);
+
+    /**
+     * Ids dos últimos artigos publicados; as entidades vêm de {@link #findWithCategoryAndTagsByIdIn}
+     */
+    @Query("SELECT a.id FROM NewsArticle a WHERE a.published = true ORDER BY a.publishedAt DESC")
+    List<Long> findLatestPublishedIds(Pageable pageable);
+
+    /**
+     * Listagem do admin com a categoria (exibida em cada linha) na mesma consulta
+     */
+    @Override
+    @EntityGraph(attributePaths = "categoryEntity")
+    Page<NewsArticle> findAll(Pageable pageable);
+
+    /**
+     * Artigo com categoria e tags, para as páginas de detalhe
+     */
+    @EntityGraph(attributePaths = {"categoryEntity", "tags"})
+    Optional<NewsArticle> findWithCategoryAndTagsById(Long id);
+
+    /**
+     * Artigos com a categoria, por id (resultados do índice e da busca nativa), sem ordem garantida
+     */
+    @EntityGraph(attributePaths = "categoryEntity")
+    List<NewsArticle> findWithCategoryByIdIn(Collection<Long> ids);
+
+    /**
+     * Artigos com categoria e tags por id (renderização de e-mails), sem ordem garantida
+     */
+    @Query("SELECT DISTINCT a FROM NewsArticle a LEFT JOIN FETCH a.categoryEntity LEFT JOIN FETCH a.tags WHERE a.id IN :ids")
+    List<NewsArticle> findWithCategoryAndTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Artigos de uma categoria cadastrada, para a página da categoria no admin
+     */
+    List<NewsArticle> findByCategoryEntityIdOrderByCreatedAtDesc(Long categoryId);
     
+    /**
+     * Primeira fatia da paginação por chave dos artigos publicados (opcionalmente de uma categoria),
+     * sem contagem; usa o índice idx_news_articles_published_keyset
+     */
+    @EntityGraph(attributePaths = "categoryEntity")
+    @Query("SELECT a FROM NewsArticle a WHERE a.published = true AND a.publishedAt IS NOT NULL " +
+           "AND (:category IS NULL OR a.category = :category) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    Slice<NewsArticle> findPublishedSlice(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Fatia seguinte ao cursor (publishedAt, id) na ordem publishedAt DESC, id DESC.
+     * O Pageable deve ser sempre a primeira página: a posição vem do cursor, não do offset.
+     * O limite redundante {@code publishedAt <= :publishedAt} dá ao planner o início da faixa no índice,
+     * que a forma com OR sozinha não permite usar.
+     */
+    @EntityGraph(attributePaths = "categoryEntity")
+    @Query("SELECT a FROM NewsArticle a WHERE a.published = true AND a.publishedAt IS NOT NULL " +
+           "AND (:category IS NULL OR a.category = :category) " +
+           "AND a.publishedAt <= :publishedAt " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    Slice<NewsArticle> findPublishedSliceAfter(@Param("category") String category,
+                                               @Param("publishedAt") LocalDateTime publishedAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * Paginação por chave (id decrescente) de todos os artigos, para a listagem do admin
+     */
+    @EntityGraph(attributePaths = "categoryEntity")
+    @Query("SELECT a FROM NewsArticle a WHERE a.id < :beforeId ORDER BY a.id DESC")
+    Slice<NewsArticle> findSliceBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
     /**
      * Busca artigos por categoria ordenados por data de criação
      */
@@ -74,6 +181,99 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
      * Conta artigos publicados
      */
     long countByPublishedTrue();
+
+    /**
+     * Listagem de publicados para a API, só com as colunas exibidas (sem content)
+     */
+    @Query(value = ITEM_SELECT + "WHERE a.published = true",
+           countQuery = "SELECT COUNT(a) FROM NewsArticle a WHERE a.published = true")
+    Page<ArticleListItem> findPublishedItems(Pageable pageable);
+
+    /**
+     * Listagem de publicados de uma categoria para a API
+     */
+    @Query(value = ITEM_SELECT + "WHERE a.published = true AND a.category = :category",
+           countQuery = "SELECT COUNT(a) FROM NewsArticle a WHERE a.published = true AND a.category = :category")
+    Page<ArticleListItem> findPublishedItemsByCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Primeira fatia por chave para a API (mesma ordem de {@link #findPublishedSlice})
+     */
+    @Query(ITEM_SELECT + "WHERE a.published = true AND a.publishedAt IS NOT NULL " +
+           "AND (:category IS NULL OR a.category = :category) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    Slice<ArticleListItem> findPublishedItemSlice(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Fatia seguinte à posição (publishedAt, id) para a API (mesma ordem de {@link #findPublishedSliceAfter})
+     */
+    @Query(ITEM_SELECT + "WHERE a.published = true AND a.publishedAt IS NOT NULL " +
+           "AND (:category IS NULL OR a.category = :category) " +
+           "AND a.publishedAt <= :publishedAt " +
+           "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    Slice<ArticleListItem> findPublishedItemSliceAfter(@Param("category") String category,
+                                                       @Param("publishedAt") LocalDateTime publishedAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * Itens mais recentes dos feeds RSS/Atom, opcionalmente de uma categoria
+     */
+    @Query("SELECT new br.com.technews.dto.FeedEntry(a.id, a.title, a.summary, a.author, a.category, a.url, " +
+           "a.publishedAt, a.updatedAt) FROM NewsArticle a " +
+           "WHERE a.published = true AND a.publishedAt IS NOT NULL " +
+           "AND (:category IS NULL OR a.category = :category) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedEntry> findFeedEntries(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Itens mais recentes do feed de uma tag (nome sem diferenciar maiúsculas)
+     */
+    @Query("SELECT new br.com.technews.dto.FeedEntry(a.id, a.title, a.summary, a.author, a.category, a.url, " +
+           "a.publishedAt, a.updatedAt) FROM NewsArticle a JOIN a.tags t " +
+           "WHERE a.published = true AND a.publishedAt IS NOT NULL AND LOWER(t.name) = LOWER(:tag) " +
+           "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedEntry> findFeedEntriesByTag(@Param("tag") String tag, Pageable pageable);
+
+    /**
+     * Artigos mais recentes para a API
+     */
+    @Query(ITEM_SELECT + "ORDER BY a.publishedAt DESC")
+    List<ArticleListItem> findRecentItems(Pageable pageable);
+
+    /**
+     * Itens de listagem por id (resultados do índice de busca), sem ordem garantida
+     */
+    @Query(ITEM_SELECT + "WHERE a.id IN :ids")
+    List<ArticleListItem> findItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Colunas do detalhe de um artigo para a API; as tags vêm de {@link #findTagNamesByArticleId}
+     */
+    @Query("SELECT new br.com.technews.dto.ArticleDetail(a.id, a.title, a.content, a.summary, a.author, a.category, " +
+           "a.url, a.imageUrl, a.sourceDomain, a.slug, a.published, a.publishedAt, a.updatedAt, a.views) " +
+           "FROM NewsArticle a WHERE a.id = :id")
+    Optional<ArticleDetail> findDetailById(@Param("id") Long id);
+
+    /**
+     * Nomes das tags de um artigo
+     */
+    @Query("SELECT t.name FROM NewsArticle a JOIN a.tags t WHERE a.id = :id ORDER BY t.name")
+    List<String> findTagNamesByArticleId(@Param("id") Long id);
+
+    /**
+     * Versão do artigo e de suas tags, sem carregar a entidade (requisições condicionais)
+     */
+    @Query("SELECT new br.com.technews.dto.ContentVersion(a.id, a.published, a.updatedAt, COUNT(t), MAX(t.updatedAt)) " +
+           "FROM NewsArticle a LEFT JOIN a.tags t WHERE a.id = :id GROUP BY a.id, a.published, a.updatedAt")
+    Optional<ContentVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Versão do conjunto de artigos publicados: quantidade e alteração mais recente
+     */
+    @Query("SELECT new br.com.technews.dto.ContentVersion(COUNT(a), MAX(a.updatedAt)) FROM NewsArticle a WHERE a.published = true")
+    ContentVersion findPublishedVersion();
     
     /**
      * Conta artigos por status
@@ -82,13 +282,6 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
 
     // Métodos adicionais para integração com GNews API
 
-    /**
-     * Remove artigos não publicados criados antes de uma data específica
-     */
-    @Modifying
-    @Query("DELETE FROM NewsArticle n WHERE n.published = false AND n.createdAt < :cutoffDate")
-    int deleteByPublishedFalseAndCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
-
     /**
      * Busca artigos criados após uma data específica
      */
@@ -125,11 +318,13 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
     /**
      * Busca artigos publicados por categoria ordenados por data de publicação
      */
+    @EntityGraph(attributePaths = "categoryEntity")
     Page<NewsArticle> findByPublishedTrueAndCategoryOrderByPublishedAtDesc(String category, Pageable pageable);
     
     /**
      * Busca artigos com filtros avançados combinados
      */
+    @EntityGraph(attributePaths = "categoryEntity")
     @Query("SELECT n FROM NewsArticle n WHERE n.published = true " +
            "AND (:search IS NULL OR :search = '' OR " +
            "     LOWER(n.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -144,7 +339,48 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
                                             @Param("dateTo") String dateTo,
                                             @Param("author") String author,
                                             Pageable pageable);
-    
+
+    /**
+     * Busca textual (PostgreSQL, coluna search_vector da migração V11) com os filtros de
+     * findArticlesWithFilters, ordenada por relevância. Filtros vazios ('') são ignorados;
+     * a busca não pode ser vazia. Retorna só os ids: a consulta nativa não aplica entity graph,
+     * as entidades vêm de {@link #findWithCategoryByIdIn}.
+     */
+    @Query(value = "SELECT n.id FROM news_articles n " + FULL_TEXT_FILTERS +
+                   "ORDER BY ts_rank_cd(n.search_vector, q.query) DESC, n.published_at DESC NULLS LAST",
+           countQuery = "SELECT COUNT(*) FROM news_articles n " + FULL_TEXT_FILTERS,
+           nativeQuery = true)
+    Page<Long> searchPublishedRanked(@Param("search") String search,
+                                            @Param("category") String category,
+                                            @Param("dateFrom") String dateFrom,
+                                            @Param("dateTo") String dateTo,
+                                            @Param("author") String author,
+                                            Pageable pageable);
+
+    /**
+     * Mesma busca textual de searchPublishedRanked, ordenada pelo Sort do Pageable
+     * (nomes de coluna, ex.: published_at)
+     */
+    @Query(value = "SELECT n.id FROM news_articles n " + FULL_TEXT_FILTERS,
+           countQuery = "SELECT COUNT(*) FROM news_articles n " + FULL_TEXT_FILTERS,
+           nativeQuery = true)
+    Page<Long> searchPublishedMatching(@Param("search") String search,
+                                              @Param("category") String category,
+                                              @Param("dateFrom") String dateFrom,
+                                              @Param("dateTo") String dateTo,
+                                              @Param("author") String author,
+                                              Pageable pageable);
+
+    // Consulta da busca textual: a mesma expressão tsquery (português OU inglês) filtra pelo índice GIN e ranqueia
+    String FULL_TEXT_FILTERS =
+        "CROSS JOIN LATERAL (SELECT websearch_to_tsquery('portuguese', :search) || " +
+        "                           websearch_to_tsquery('english', :search) AS query) q " +
+        "WHERE n.published = true AND n.search_vector @@ q.query " +
+        "AND (:category = '' OR n.category = :category) " +
+        "AND (:dateFrom = '' OR n.published_at >= CAST(NULLIF(:dateFrom, '') AS timestamp)) " +
+        "AND (:dateTo = '' OR n.published_at <= CAST(NULLIF(:dateTo, '') AS timestamp)) " +
+        "AND (:author = '' OR LOWER(n.author) LIKE LOWER(CONCAT('%', :author, '%'))) ";
+
     /**
      * Obtém lista de autores distintos
      */
@@ -157,8 +393,47 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
     @Query("SELECT DISTINCT n.category FROM NewsArticle n WHERE n.published = true AND n.category IS NOT NULL ORDER BY n.category")
     List<String> findDistinctCategories();
     
+    // Contagens de artigos publicados por dimensão, usadas na reconciliação das estatísticas (ArticleStatisticsService)
+
+    /**
+     * Artigos publicados por categoria (nome da entidade ou, sem entidade, o texto da coluna)
+     */
+    @Query("SELECT COALESCE(c.name, n.category), COUNT(n) FROM NewsArticle n LEFT JOIN n.categoryEntity c " +
+           "WHERE n.published = true AND COALESCE(c.name, n.category) IS NOT NULL " +
+           "GROUP BY COALESCE(c.name, n.category)")
+    List<Object[]> countPublishedByCategory();
+
+    /**
+     * Artigos publicados por autor, ignorando autores em branco
+     */
+    @Query("SELECT n.author, COUNT(n) FROM NewsArticle n " +
+           "WHERE n.published = true AND n.author IS NOT NULL AND TRIM(n.author) <> '' GROUP BY n.author")
+    List<Object[]> countPublishedByAuthor();
+
+    /**
+     * Artigos publicados por tag
+     */
+    @Query("SELECT t.name, COUNT(n) FROM NewsArticle n JOIN n.tags t WHERE n.published = true GROUP BY t.name")
+    List<Object[]> countPublishedByTag();
+
+    /**
+     * Artigos publicados por dia de publicação
+     */
+    @Query("SELECT CAST(n.publishedAt AS LocalDate), COUNT(n) FROM NewsArticle n " +
+           "WHERE n.published = true AND n.publishedAt IS NOT NULL GROUP BY CAST(n.publishedAt AS LocalDate)")
+    List<Object[]> countPublishedByDay();
+
     /**
      * Conta artigos publicados após uma data específica
      */
     long countByPublishedTrueAndPublishedAtAfter(LocalDateTime date);
-}
\ No newline at end of file
+
+    /**
+     * Todos os artigos para a exportação em massa, em ordem de id, lidos por cursor forward-only
+     * (fetch size de 500 linhas). Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new br.com.technews.dto.ArticleExportRow(a.id, a.title, a.summary, a.author, a.category, a.url, " +
+           "a.sourceDomain, a.status, a.published, a.publishedAt, a.createdAt, a.views) FROM NewsArticle a ORDER BY a.id")
+    Stream<ArticleExportRow> streamExportRows();
+}
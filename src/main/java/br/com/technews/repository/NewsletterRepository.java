@@ -1,5 +1,7 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.ContentVersion;
+import br.com.technews.dto.NewsletterSummary;
 import br.com.technews.entity.Newsletter;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -47,6 +49,45 @@ public interface NewsletterRepository extends JpaRepository<Newsletter, Long> {
      * Buscar newsletters publicadas com paginação
      */
     Page<Newsletter> findByPublishedTrueOrderByNewsletterDateDesc(Pageable pageable);
+
+    /**
+     * Página do arquivo de newsletters publicadas sem carregar o conteúdo
+     */
+    @Query(value = "SELECT new br.com.technews.dto.NewsletterSummary(n.id, n.title, n.description, n.newsletterDate, n.slug, n.publishedAt) " +
+                   "FROM Newsletter n WHERE n.published = true ORDER BY n.newsletterDate DESC",
+           countQuery = "SELECT COUNT(n) FROM Newsletter n WHERE n.published = true")
+    Page<NewsletterSummary> findPublishedSummaries(Pageable pageable);
+
+    /**
+     * Newsletters publicadas de um período, sem carregar o conteúdo nem os artigos
+     */
+    @Query(value = "SELECT new br.com.technews.dto.NewsletterSummary(n.id, n.title, n.description, n.newsletterDate, n.slug, n.publishedAt) " +
+                   "FROM Newsletter n WHERE n.published = true AND n.newsletterDate BETWEEN :start AND :end " +
+                   "ORDER BY n.newsletterDate DESC",
+           countQuery = "SELECT COUNT(n) FROM Newsletter n WHERE n.published = true AND n.newsletterDate BETWEEN :start AND :end")
+    Page<NewsletterSummary> findPublishedSummariesBetween(@Param("start") LocalDate start,
+                                                          @Param("end") LocalDate end,
+                                                          Pageable pageable);
+
+    /**
+     * Versão da newsletter e de seus artigos, sem carregar a entidade (requisições condicionais)
+     */
+    @Query("SELECT new br.com.technews.dto.ContentVersion(n.id, n.published, n.updatedAt, COUNT(a), MAX(a.updatedAt)) " +
+           "FROM Newsletter n LEFT JOIN n.articles a WHERE n.slug = :slug GROUP BY n.id, n.published, n.updatedAt")
+    Optional<ContentVersion> findVersionBySlug(@Param("slug") String slug);
+
+    /**
+     * Versão da newsletter de uma data e de seus artigos
+     */
+    @Query("SELECT new br.com.technews.dto.ContentVersion(n.id, n.published, n.updatedAt, COUNT(a), MAX(a.updatedAt)) " +
+           "FROM Newsletter n LEFT JOIN n.articles a WHERE n.newsletterDate = :date GROUP BY n.id, n.published, n.updatedAt")
+    Optional<ContentVersion> findVersionByNewsletterDate(@Param("date") LocalDate date);
+
+    /**
+     * Versão do arquivo de newsletters publicadas: quantidade e alteração mais recente
+     */
+    @Query("SELECT new br.com.technews.dto.ContentVersion(COUNT(n), MAX(n.updatedAt)) FROM Newsletter n WHERE n.published = true")
+    ContentVersion findPublishedVersion();
     
     /**
      * Buscar todas as newsletters ordenadas por data (mais recentes primeiro)
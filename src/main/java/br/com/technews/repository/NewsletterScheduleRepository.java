@@ -3,6 +3,7 @@ package br.com.technews.repository;
 import br.com.technews.entity.NewsletterSchedule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,7 +11,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositório para agendamento de newsletters
@@ -18,9 +21,23 @@ import java.util.List;
 @Repository
 public interface NewsletterScheduleRepository extends JpaRepository<NewsletterSchedule, Long> {
 
+    /**
+     * Agendamento com as categorias (edição, processamento e API)
+     */
+    @EntityGraph(attributePaths = "categories")
+    Optional<NewsletterSchedule> findWithCategoriesById(Long id);
+
+    /**
+     * Agendamentos com as categorias por id; inicializa as categorias dos agendamentos de uma
+     * página já lida na transação atual (paginação com fetch de coleção seria feita em memória)
+     */
+    @Query("SELECT DISTINCT ns FROM NewsletterSchedule ns LEFT JOIN FETCH ns.categories WHERE ns.id IN :ids")
+    List<NewsletterSchedule> findWithCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Busca agendamentos por status
      */
+    @EntityGraph(attributePaths = "categories")
     List<NewsletterSchedule> findByStatus(NewsletterSchedule.ScheduleStatus status);
 
     /**
@@ -61,18 +78,21 @@ public interface NewsletterScheduleRepository extends JpaRepository<NewsletterSc
     /**
      * Busca agendamentos por data específica
      */
+    @EntityGraph(attributePaths = "categories")
     @Query("SELECT ns FROM NewsletterSchedule ns WHERE CAST(ns.scheduledDate AS date) = CAST(:date AS date)")
     List<NewsletterSchedule> findByScheduledDate(@Param("date") LocalDateTime date);
 
     /**
      * Busca agendamentos da semana
      */
+    @EntityGraph(attributePaths = "categories")
     @Query("SELECT ns FROM NewsletterSchedule ns WHERE ns.scheduledDate BETWEEN :weekStart AND :weekEnd ORDER BY ns.scheduledDate")
     List<NewsletterSchedule> findByWeek(@Param("weekStart") LocalDateTime weekStart, @Param("weekEnd") LocalDateTime weekEnd);
 
     /**
      * Busca agendamentos do mês
      */
+    @EntityGraph(attributePaths = "categories")
     @Query("SELECT ns FROM NewsletterSchedule ns WHERE ns.scheduledDate BETWEEN :monthStart AND :monthEnd ORDER BY ns.scheduledDate")
     List<NewsletterSchedule> findByMonth(@Param("monthStart") LocalDateTime monthStart, @Param("monthEnd") LocalDateTime monthEnd);
 
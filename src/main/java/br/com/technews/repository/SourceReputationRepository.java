@@ -0,0 +1,9 @@
+package br.com.technews.repository;
+
+import br.com.technews.entity.SourceReputation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SourceReputationRepository extends JpaRepository<SourceReputation, Long> {
+}
@@ -1,17 +1,22 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.SubscriberExportRow;
 import br.com.technews.entity.Subscriber;
 import br.com.technews.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SubscriberRepository extends JpaRepository<Subscriber, Long> {
@@ -152,4 +157,10 @@ public interface SubscriberRepository extends JpaRepository<Subscriber, Long> {
     
     // Busca por frequência e status ativo
     Page<Subscriber> findByFrequencyAndActive(Subscriber.SubscriptionFrequency frequency, Boolean active, Pageable pageable);
+    
+    // Todos os assinantes para a exportação em massa, por cursor forward-only (usar dentro de transação)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new br.com.technews.dto.SubscriberExportRow(s.id, s.email, s.fullName, s.active, s.emailVerified, " +
+           "s.frequency, s.emailCount, s.lastEmailSentAt, s.subscribedAt, s.unsubscribedAt) FROM Subscriber s ORDER BY s.id")
+    Stream<SubscriberExportRow> streamExportRows();
 }
@@ -1,5 +1,6 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.TagSummary;
 import br.com.technews.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +12,12 @@ import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /**
+     * Início das consultas de {@link TagSummary} (alias t)
+     */
+    String SUMMARY_SELECT = "SELECT new br.com.technews.dto.TagSummary(t.id, t.name, t.color, t.description, t.isActive) " +
+           "FROM Tag t ";
     
     /**
      * Busca tag por nome (case insensitive)
@@ -57,4 +64,36 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      */
     @Query("SELECT DISTINCT t FROM Tag t JOIN t.articles a WHERE a.published = true AND t.isActive = true")
     List<Tag> findTagsUsedInPublishedArticles();
-}
\ No newline at end of file
+
+    /**
+     * Tags ativas para a API, sem a coleção de artigos
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.isActive = true ORDER BY t.name ASC")
+    List<TagSummary> findActiveSummaries();
+
+    /**
+     * Tag por id para a API
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.id = :id")
+    Optional<TagSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Tags ativas com nome contendo o texto (case insensitive) para a API
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.isActive = true AND LOWER(t.name) LIKE LOWER(CONCAT('%', :text, '%'))")
+    List<TagSummary> searchActiveSummaries(@Param("text") String text);
+
+    /**
+     * Tags ativas com mais artigos para a API
+     */
+    @Query(SUMMARY_SELECT + "LEFT JOIN t.articles a WHERE t.isActive = true " +
+           "GROUP BY t.id, t.name, t.color, t.description, t.isActive ORDER BY COUNT(a) DESC LIMIT :limit")
+    List<TagSummary> findMostPopularSummaries(@Param("limit") int limit);
+
+    /**
+     * Tags ativas usadas em artigos publicados para a API
+     */
+    @Query("SELECT DISTINCT new br.com.technews.dto.TagSummary(t.id, t.name, t.color, t.description, t.isActive) " +
+           "FROM Tag t JOIN t.articles a WHERE a.published = true AND t.isActive = true")
+    List<TagSummary> findSummariesUsedInPublishedArticles();
+}
@@ -1,13 +1,18 @@
 package br.com.technews.scheduler;
 
+import br.com.technews.dto.IngestionReport;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.service.GNewsService;
+import br.com.technews.service.IngestionPipeline;
+import br.com.technews.service.IngestionSink;
+import br.com.technews.service.IngestionTask;
 import br.com.technews.service.NewsArticleService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 @Component
@@ -15,12 +20,21 @@ public class NewsScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(NewsScheduler.class);
 
+    private static final String PIPELINE = "gnews";
+
+    // A API GNews limita requisições: uma por vez, com pausa entre elas
+    private static final int MAX_CONCURRENT_REQUESTS = 1;
+    private static final Duration REQUEST_SPACING = Duration.ofMillis(200);
+
     private final GNewsService gNewsService;
     private final NewsArticleService newsArticleService;
+    private final IngestionPipeline ingestionPipeline;
 
-    public NewsScheduler(GNewsService gNewsService, NewsArticleService newsArticleService) {
+    public NewsScheduler(GNewsService gNewsService, NewsArticleService newsArticleService,
+                         IngestionPipeline ingestionPipeline) {
         this.gNewsService = gNewsService;
         this.newsArticleService = newsArticleService;
+        this.ingestionPipeline = ingestionPipeline;
     }
 
     @Scheduled(cron = "0 0 */2 * * *")
@@ -28,22 +42,11 @@ public class NewsScheduler {
         logger.info("Iniciando busca automatica de noticias de tecnologia...");
         
         try {
-            List<NewsArticle> techHeadlines = gNewsService.getTechNews();
-            List<NewsArticle> keywordNews = gNewsService.getTechNewsWithKeywords();
-            
-            List<NewsArticle> allNews = combineAndDeduplicate(techHeadlines, keywordNews);
-            List<NewsArticle> filteredNews = gNewsService.filterByTrustedSources(allNews);
-            
-            int savedCount = 0;
-            for (NewsArticle article : filteredNews) {
-                if (!newsArticleService.existsByUrl(article.getUrl())) {
-                    newsArticleService.save(article);
-                    savedCount++;
-                }
-            }
+            // Headlines e buscas por palavra-chave; URLs repetidas entre as respostas são descartadas no pipeline
+            IngestionReport report = ingest(gNewsService.techNewsTasks());
             
             logger.info("Busca automatica concluida. {} novas noticias salvas de {} encontradas.", 
-                       savedCount, filteredNews.size());
+                       report.inserted(), report.parsed());
             
         } catch (Exception e) {
             logger.error("Erro durante a busca automatica de noticias: {}", e.getMessage(), e);
@@ -64,60 +67,25 @@ public class NewsScheduler {
         );
         
         try {
-            int totalSaved = 0;
+            IngestionReport report = ingest(specificKeywords.stream()
+                .map(gNewsService::searchTask)
+                .toList());
             
-            for (String keyword : specificKeywords) {
-                List<NewsArticle> keywordArticles = gNewsService.searchNews(keyword);
-                List<NewsArticle> filteredArticles = gNewsService.filterByTrustedSources(keywordArticles);
-                
-                for (NewsArticle article : filteredArticles) {
-                    if (!newsArticleService.existsByUrl(article.getUrl())) {
-                        newsArticleService.save(article);
-                        totalSaved++;
-                    }
-                }
-                
-                Thread.sleep(200);
-            }
-            
-            logger.info("Busca por palavras-chave especificas concluida. {} novas noticias salvas.", totalSaved);
+            logger.info("Busca por palavras-chave especificas concluida. {} novas noticias salvas.", report.inserted());
             
         } catch (Exception e) {
             logger.error("Erro durante a busca por palavras-chave especificas: {}", e.getMessage(), e);
         }
     }
 
-    @Scheduled(cron = "0 0 2 * * *")
-    public void cleanupOldNews() {
-        logger.info("Iniciando limpeza de noticias antigas...");
-        
-        try {
-            int deletedCount = newsArticleService.deleteOldUnpublishedArticles(7);
-            logger.info("Limpeza concluida. {} noticias antigas removidas.", deletedCount);
-            
-        } catch (Exception e) {
-            logger.error("Erro durante a limpeza de noticias antigas: {}", e.getMessage(), e);
-        }
-    }
-
     public void forceNewsUpdate() {
         logger.info("Executando busca manual de noticias...");
         fetchTechNews();
     }
 
-    private List<NewsArticle> combineAndDeduplicate(List<NewsArticle> list1, List<NewsArticle> list2) {
-        List<NewsArticle> combined = new java.util.ArrayList<>(list1);
-        combined.addAll(list2);
-        
-        return combined.stream()
-                .filter(article -> article.getUrl() != null)
-                .collect(java.util.stream.Collectors.toMap(
-                    NewsArticle::getUrl,
-                    article -> article,
-                    (existing, replacement) -> existing
-                ))
-                .values()
-                .stream()
-                .toList();
+    private IngestionReport ingest(List<IngestionTask<NewsArticle>> tasks) {
+        return ingestionPipeline.ingest(PIPELINE, tasks,
+            IngestionSink.of(newsArticleService::findExistingUrls, newsArticleService::saveAll, article -> article.setId(null)),
+            MAX_CONCURRENT_REQUESTS, REQUEST_SPACING);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.FeedEntry;
+import br.com.technews.repository.NewsArticleRepository;
+import com.rometools.rome.feed.synd.SyndCategory;
+import com.rometools.rome.feed.synd.SyndCategoryImpl;
+import com.rometools.rome.feed.synd.SyndContent;
+import com.rometools.rome.feed.synd.SyndContentImpl;
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndEntryImpl;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.feed.synd.SyndFeedImpl;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedOutput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.util.UriUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Feeds RSS 2.0 e Atom 1.0 dos artigos publicados (geral, por categoria e por tag), gerados com Rome a
+ * partir de {@link FeedEntry}.
+ *
+ * Os bytes serializados, a versão gzip e o ETag de cada feed ficam em cache, então agregadores consultando
+ * com frequência não chegam ao banco. O cache é descartado após o commit de cada escrita de artigo feita
+ * pelo {@link NewsArticleService} e cada feed expira após {@code technews.feed.ttl-ms} (tags renomeadas,
+ * escritas de outras instâncias).
+ */
+@Service
+@Slf4j
+public class ArticleFeedService {
+
+    public enum Type {
+        RSS("rss_2.0", "application/rss+xml"),
+        ATOM("atom_1.0", "application/atom+xml");
+
+        private final String romeType;
+        private final String contentType;
+
+        Type(String romeType, String contentType) {
+            this.romeType = romeType;
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * Feed serializado; {@code etag} sem aspas, identifica o conteúdo (a versão gzip acrescenta um sufixo)
+     */
+    public record RenderedFeed(byte[] body, byte[] gzipped, String etag, Instant lastModified, long builtAtMillis) {
+    }
+
+    private record FeedKey(Type type, String category, String tag) {
+    }
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final Map<FeedKey, RenderedFeed> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${technews.feed.size:50}")
+    private int size = 50;
+
+    @Value("${technews.feed.ttl-ms:300000}")
+    private long ttlMillis = 300000;
+
+    @Value("${technews.feed.cache.max-entries:200}")
+    private int maxEntries = 200;
+
+    @Value("${app.base-url:http://localhost:8080}")
+    private String baseUrl = "http://localhost:8080";
+
+    @Value("${app.name:TechNews}")
+    private String appName = "TechNews";
+
+    public ArticleFeedService(NewsArticleRepository newsArticleRepository) {
+        this.newsArticleRepository = newsArticleRepository;
+    }
+
+    /**
+     * Feed geral, de uma categoria ou de uma tag (no máximo um dos dois filtros)
+     */
+    public RenderedFeed getFeed(Type type, String category, String tag) {
+        FeedKey key = new FeedKey(type, category, tag);
+        RenderedFeed cached = cache.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.builtAtMillis() < ttlMillis) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        RenderedFeed feed = render(key);
+        // Não guarda um feed lido antes de uma invalidação concorrente, nem filtros além do limite
+        if (generation.get() == startGeneration && (cache.size() < maxEntries || cache.containsKey(key))) {
+            cache.put(key, feed);
+        }
+        return feed;
+    }
+
+    /**
+     * Descarta os feeds em cache após o commit da transação atual (ou imediatamente, fora de transação)
+     */
+    public void articlesChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private RenderedFeed render(FeedKey key) {
+        PageRequest page = PageRequest.of(0, size);
+        List<FeedEntry> entries = key.tag() != null
+            ? newsArticleRepository.findFeedEntriesByTag(key.tag(), page)
+            : newsArticleRepository.findFeedEntries(key.category(), page);
+
+        SyndFeed feed = new SyndFeedImpl();
+        feed.setFeedType(key.type().romeType);
+        feed.setEncoding(StandardCharsets.UTF_8.name());
+        feed.setLanguage("pt-br");
+        feed.setTitle(key.category() != null ? appName + " - " + key.category()
+            : key.tag() != null ? appName + " - #" + key.tag() : appName);
+        feed.setDescription("Notícias de tecnologia selecionadas pelo " + appName);
+        feed.setLink(key.category() != null
+            ? baseUrl + "/articles?category=" + UriUtils.encodeQueryParam(key.category(), StandardCharsets.UTF_8)
+            : baseUrl + "/articles");
+        feed.setUri(feed.getLink());
+
+        LocalDateTime lastModified = null;
+        List<SyndEntry> items = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            items.add(toEntry(entry));
+            LocalDateTime modified = entry.updatedAt() != null && entry.updatedAt().isAfter(entry.publishedAt())
+                ? entry.updatedAt() : entry.publishedAt();
+            if (lastModified == null || modified.isAfter(lastModified)) {
+                lastModified = modified;
+            }
+        }
+        feed.setEntries(items);
+        feed.setPublishedDate(entries.isEmpty() ? null : toDate(entries.get(0).publishedAt()));
+
+        byte[] body = serialize(feed);
+        Instant modifiedAt = lastModified != null
+            ? lastModified.atZone(ZoneId.systemDefault()).toInstant()
+            : Instant.now();
+        log.debug("Feed {} gerado: {} itens, {} bytes", key, entries.size(), body.length);
+        return new RenderedFeed(body, gzip(body), hash(body), modifiedAt, System.currentTimeMillis());
+    }
+
+    private SyndEntry toEntry(FeedEntry article) {
+        SyndEntry entry = new SyndEntryImpl();
+        String link = baseUrl + "/articles/" + article.id();
+        entry.setTitle(article.title());
+        entry.setLink(link);
+        entry.setUri(link);
+        entry.setAuthor(article.author());
+        entry.setPublishedDate(toDate(article.publishedAt()));
+        entry.setUpdatedDate(toDate(Objects.requireNonNullElse(article.updatedAt(), article.publishedAt())));
+        if (article.summary() != null) {
+            SyndContent description = new SyndContentImpl();
+            description.setType("text/plain");
+            description.setValue(article.summary());
+            entry.setDescription(description);
+        }
+        if (article.category() != null) {
+            SyndCategory category = new SyndCategoryImpl();
+            category.setName(article.category());
+            entry.setCategories(List.of(category));
+        }
+        return entry;
+    }
+
+    private static byte[] serialize(SyndFeed feed) {
+        try {
+            return new SyndFeedOutput().outputString(feed).getBytes(StandardCharsets.UTF_8);
+        } catch (FeedException e) {
+            throw new IllegalStateException("Falha ao gerar o feed " + feed.getFeedType(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime != null ? Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()) : null;
+    }
+}
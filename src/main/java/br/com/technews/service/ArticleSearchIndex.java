@@ -0,0 +1,349 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleSearchDocument;
+import br.com.technews.dto.ArticleSearchFacets;
+import br.com.technews.dto.ArticleSearchResult;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Índice invertido em memória dos artigos publicados.
+ * Os textos são reduzidos a termos (minúsculas, sem acentos, sem tags HTML e sem stopwords em
+ * português/inglês) e pontuados com BM25, com título valendo mais que resumo e conteúdo.
+ * Todos os termos da busca precisam estar presentes no artigo.
+ *
+ * Atualizações e buscas podem ser feitas por threads diferentes: escritas são exclusivas e
+ * ficam visíveis para a próxima busca. A análise do texto ({@link #analyze}) não depende do
+ * índice e pode rodar em paralelo, fora do lock.
+ */
+public final class ArticleSearchIndex {
+
+    static final float TITLE_BOOST = 3.0f;
+    static final float SUMMARY_BOOST = 2.0f;
+    static final float CONTENT_BOOST = 1.0f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int FACET_LIMIT = 20;
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    // Termos de uma letra já são descartados pelo tamanho mínimo
+    private static final Set<String> STOPWORDS = Set.of(
+        // português
+        "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos", "um", "uma", "uns", "umas", "os", "as",
+        "que", "com", "por", "para", "se", "ao", "aos", "mais", "como", "mas", "ou", "ja", "sao", "foi",
+        // inglês
+        "the", "of", "and", "to", "in", "is", "for", "on", "with", "by", "an", "at", "it", "from", "be", "are",
+        "this", "that", "or", "was", "its");
+
+    // Ordenações aceitas além da relevância
+    private static final Map<String, Comparator<ArticleSearchDocument>> SORTS = Map.of(
+        "publishedAt", Comparator.comparing(ArticleSearchDocument::publishedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+        "title", nullsFirst(ArticleSearchDocument::title),
+        "author", nullsFirst(ArticleSearchDocument::author),
+        "category", nullsFirst(ArticleSearchDocument::category));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Analyzed> documents = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private double totalLength;
+
+    /**
+     * Documento já analisado: frequência ponderada de cada termo e comprimento ponderado.
+     * O documento guardado não tem resumo nem conteúdo, para o índice não manter uma segunda cópia do acervo.
+     */
+    public record Analyzed(ArticleSearchDocument document, Map<String, Float> terms, float length) {
+    }
+
+    public static Analyzed analyze(ArticleSearchDocument document) {
+        Map<String, Float> terms = new HashMap<>();
+        float length = addTerms(terms, document.title(), TITLE_BOOST)
+            + addTerms(terms, document.summary(), SUMMARY_BOOST)
+            + addTerms(terms, document.content(), CONTENT_BOOST);
+        return new Analyzed(document.withoutText(), Map.copyOf(terms), length);
+    }
+
+    /**
+     * Inclui ou substitui o artigo
+     */
+    public void put(Analyzed analyzed) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(analyzed.document().id());
+            documents.put(analyzed.document().id(), analyzed);
+            analyzed.terms().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(analyzed.document().id(), frequency));
+            totalLength += analyzed.length();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca com os mesmos filtros da tela de artigos. Busca vazia lista todos os artigos que
+     * passam pelos filtros; sem ordenação no Pageable, ordena por relevância e data de publicação.
+     *
+     * @param category igual à categoria, ignorando maiúsculas ({@code null} ignora)
+     * @param author   contido no autor, ignorando maiúsculas ({@code null} ignora)
+     * @param from     publicado a partir de ({@code null} ignora)
+     * @param to       publicado até ({@code null} ignora)
+     */
+    public ArticleSearchResult search(String query, String category, String author,
+                                      LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        String authorFilter = author != null ? author.toLowerCase(Locale.ROOT) : null;
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty()) {
+                if (query != null && !query.isBlank()) {
+                    // Apenas stopwords ou pontuação
+                    return new ArticleSearchResult(List.of(), 0, ArticleSearchFacets.empty());
+                }
+                for (Analyzed analyzed : documents.values()) {
+                    hits.add(new Hit(analyzed.document(), 0.0));
+                }
+            } else {
+                collectHits(queryTerms, hits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.removeIf(hit -> !matchesFilters(hit.document(), category, authorFilter, from, to));
+        hits.sort(comparator(pageable.getSort()));
+
+        List<Long> ids = new ArrayList<>();
+        if (pageable.isPaged()) {
+            long offset = pageable.getOffset();
+            for (long i = offset; i < hits.size() && i < offset + pageable.getPageSize(); i++) {
+                ids.add(hits.get((int) i).document().id());
+            }
+        } else {
+            hits.forEach(hit -> ids.add(hit.document().id()));
+        }
+        return new ArticleSearchResult(ids, hits.size(), facets(hits));
+    }
+
+    /**
+     * Termos indexáveis do texto: minúsculas sem acentos, sem tags HTML, sem stopwords e com ao menos 2 caracteres
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder token = new StringBuilder();
+        boolean inTag = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char ch = folded.charAt(i);
+            if (ch == '<' && startsTag(folded, i + 1)) {
+                inTag = true;
+            } else if (ch == '>' && inTag) {
+                inTag = false;
+                flush(token, tokens);
+                continue;
+            }
+            if (inTag || Character.getType(ch) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(ch)) {
+                token.append(Character.toLowerCase(ch));
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    /**
+     * Só abre tag quando o {@code '<'} é seguido de letra, {@code '/'} ou {@code '!'}; um "a < b" no texto é pontuação
+     */
+    private static boolean startsTag(String text, int next) {
+        if (next >= text.length()) {
+            return false;
+        }
+        char ch = text.charAt(next);
+        return Character.isLetter(ch) || ch == '/' || ch == '!';
+    }
+
+    private void collectHits(List<String> queryTerms, List<Hit> hits) {
+        // Começa pelo termo mais raro e intersecta com os demais
+        List<Map<Long, Float>> termPostings = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting == null) {
+                return;
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        double averageLength = documents.isEmpty() ? 1.0 : Math.max(1.0, totalLength / documents.size());
+        double[] idf = new double[termPostings.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = termPostings.get(i).size();
+            idf[i] = Math.log(1.0 + (documents.size() - df + 0.5) / (df + 0.5));
+        }
+
+        candidates:
+        for (Map.Entry<Long, Float> candidate : termPostings.get(0).entrySet()) {
+            Analyzed analyzed = documents.get(candidate.getKey());
+            double norm = K1 * (1 - B + B * analyzed.length() / averageLength);
+            double score = 0.0;
+            for (int i = 0; i < termPostings.size(); i++) {
+                Float frequency = i == 0 ? candidate.getValue() : termPostings.get(i).get(candidate.getKey());
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+            }
+            hits.add(new Hit(analyzed.document(), score));
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Analyzed previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    private static boolean matchesFilters(ArticleSearchDocument document, String category, String author,
+                                          LocalDateTime from, LocalDateTime to) {
+        if (category != null && !category.equalsIgnoreCase(document.category())) {
+            return false;
+        }
+        if (author != null && (document.author() == null || !document.author().toLowerCase(Locale.ROOT).contains(author))) {
+            return false;
+        }
+        if (from != null && (document.publishedAt() == null || document.publishedAt().isBefore(from))) {
+            return false;
+        }
+        return to == null || (document.publishedAt() != null && !document.publishedAt().isAfter(to));
+    }
+
+    private static Comparator<Hit> comparator(Sort sort) {
+        Comparator<Hit> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ArticleSearchDocument> field = SORTS.get(order.getProperty());
+            if (field == null) {
+                continue;
+            }
+            Comparator<Hit> byField = Comparator.comparing(Hit::document, order.isAscending() ? field : field.reversed());
+            comparator = comparator == null ? byField : comparator.thenComparing(byField);
+        }
+        if (comparator == null) {
+            comparator = Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::document, SORTS.get("publishedAt").reversed());
+        }
+        return comparator.thenComparing(hit -> hit.document().id());
+    }
+
+    private static ArticleSearchFacets facets(List<Hit> hits) {
+        if (hits.isEmpty()) {
+            return ArticleSearchFacets.empty();
+        }
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> authors = new HashMap<>();
+        Map<String, Long> months = new HashMap<>();
+        for (Hit hit : hits) {
+            ArticleSearchDocument document = hit.document();
+            if (document.category() != null) {
+                categories.merge(document.category(), 1L, Long::sum);
+            }
+            if (document.author() != null) {
+                authors.merge(document.author(), 1L, Long::sum);
+            }
+            if (document.publishedAt() != null) {
+                months.merge(MONTH.format(document.publishedAt()), 1L, Long::sum);
+            }
+        }
+        Comparator<Map.Entry<String, Long>> byCount = Map.Entry.<String, Long>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+        return new ArticleSearchFacets(
+            top(categories, byCount),
+            top(authors, byCount),
+            top(months, Map.Entry.<String, Long>comparingByKey().reversed()));
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts, Comparator<Map.Entry<String, Long>> order) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(order)
+            .limit(FACET_LIMIT)
+            .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private static float addTerms(Map<String, Float> terms, String text, float boost) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            terms.merge(token, boost, Float::sum);
+        }
+        return tokens.size() * boost;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (token.length() >= 2) {
+            String term = token.toString();
+            if (!STOPWORDS.contains(term)) {
+                tokens.add(term);
+            }
+        }
+        token.setLength(0);
+    }
+
+    private static Comparator<ArticleSearchDocument> nullsFirst(Function<ArticleSearchDocument, String> field) {
+        return Comparator.comparing(field, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    private record Hit(ArticleSearchDocument document, double score) {
+    }
+}
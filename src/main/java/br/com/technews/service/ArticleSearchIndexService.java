@@ -0,0 +1,270 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleSearchDocument;
+import br.com.technews.dto.ArticleSearchResult;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.repository.NewsArticleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Mantém o {@link ArticleSearchIndex} dos artigos publicados, usado pela busca e pelos filtros
+ * de /articles no lugar do banco.
+ *
+ * O índice é reconstruído em segundo plano ao iniciar a aplicação e diariamente
+ * ({@code technews.search.index.rebuild-cron}), para incorporar escritas que não passam pelo
+ * {@link NewsArticleService} (ex.: retenção, outras instâncias). Na reconstrução os artigos são lidos
+ * em blocos por chave e analisados em paralelo; alterações feitas durante a reconstrução são
+ * reaplicadas no novo índice antes da troca. Enquanto o primeiro índice não fica pronto,
+ * {@link #search} retorna vazio e a busca é atendida pelo banco.
+ */
+@Service
+@Slf4j
+public class ArticleSearchIndexService {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final Timer rebuildTimer;
+    private final Object changeLock = new Object();
+    private final List<Consumer<ArticleSearchIndex>> pendingChanges = new ArrayList<>();
+
+    @Value("${technews.search.index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${technews.search.index.rebuild-chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    // 0 = núcleos disponíveis
+    @Value("${technews.search.index.parallelism:0}")
+    private int parallelism;
+
+    private volatile ArticleSearchIndex index;
+    private boolean rebuilding;
+    private ForkJoinPool analysisPool;
+    private ExecutorService rebuildExecutor;
+
+    public ArticleSearchIndexService(NewsArticleRepository newsArticleRepository, MeterRegistry meterRegistry) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.rebuildTimer = Timer.builder("technews.search.index.rebuild")
+            .description("Tempo de reconstrução do índice de busca de artigos")
+            .register(meterRegistry);
+        Gauge.builder("technews.search.index.documents", this, ArticleSearchIndexService::size)
+            .description("Artigos no índice de busca")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void initPools() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        analysisPool = new ForkJoinPool(threads);
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownPools() {
+        rebuildExecutor.shutdownNow();
+        analysisPool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuildAsync();
+        }
+    }
+
+    @Scheduled(cron = "${technews.search.index.rebuild-cron:0 15 3 * * ?}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuildAsync();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    public int size() {
+        ArticleSearchIndex current = index;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * Busca no índice; vazio quando o índice está desativado ou ainda não foi construído.
+     * Datas no formato do formulário ("yyyy-MM-dd") ou ISO completo; valores vazios ignoram o filtro.
+     */
+    public Optional<ArticleSearchResult> search(String search, String category, String dateFrom, String dateTo,
+                                                String author, Pageable pageable) {
+        ArticleSearchIndex current = enabled ? index : null;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(search, blankToNull(category), blankToNull(author),
+            parseDate(dateFrom), parseDate(dateTo), pageable));
+    }
+
+    /**
+     * Atualiza o artigo no índice após o commit: publicados são (re)indexados, os demais removidos.
+     * Deve ser chamado com a sessão aberta, pois lê a categoria da entidade.
+     */
+    public void articleSaved(NewsArticle article) {
+        if (!enabled || article.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(article.getPublished())) {
+            ArticleSearchIndex.Analyzed analyzed = ArticleSearchIndex.analyze(ArticleSearchDocument.of(article));
+            afterCommit(current -> current.put(analyzed));
+        } else {
+            articleDeleted(article.getId());
+        }
+    }
+
+    public void articleDeleted(Long id) {
+        if (enabled && id != null) {
+            afterCommit(current -> current.remove(id));
+        }
+    }
+
+    public CompletableFuture<Void> rebuildAsync() {
+        return CompletableFuture.runAsync(this::rebuild, rebuildExecutor)
+            .exceptionally(e -> {
+                log.error("Erro ao reconstruir índice de busca de artigos: {}", e.getMessage(), e);
+                return null;
+            });
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco e substitui o atual
+     */
+    public void rebuild() {
+        synchronized (changeLock) {
+            if (rebuilding) {
+                log.debug("Reconstrução do índice de busca já em andamento");
+                return;
+            }
+            rebuilding = true;
+            pendingChanges.clear();
+        }
+
+        try {
+            ArticleSearchIndex rebuilt = rebuildTimer.record(this::buildIndex);
+            synchronized (changeLock) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                log.info("Índice de busca reconstruído: {} artigos ({} alterações reaplicadas)",
+                    rebuilt.size(), pendingChanges.size());
+                index = rebuilt;
+            }
+        } finally {
+            synchronized (changeLock) {
+                pendingChanges.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    private ArticleSearchIndex buildIndex() {
+        ArticleSearchIndex rebuilt = new ArticleSearchIndex();
+        long afterId = 0L;
+        while (true) {
+            List<ArticleSearchDocument> chunk = newsArticleRepository.findSearchDocumentsAfter(
+                afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            analyzeInParallel(chunk).forEach(rebuilt::put);
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+        return rebuilt;
+    }
+
+    private List<ArticleSearchIndex.Analyzed> analyzeInParallel(List<ArticleSearchDocument> chunk) {
+        try {
+            return analysisPool.submit(() -> chunk.parallelStream()
+                .map(ArticleSearchIndex::analyze)
+                .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstrução do índice interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro na análise paralela dos artigos", e.getCause());
+        }
+    }
+
+    /**
+     * Aplica a alteração ao índice atual (e guarda para o índice em reconstrução) após o commit da transação
+     */
+    private void afterCommit(Consumer<ArticleSearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<ArticleSearchIndex> change) {
+        synchronized (changeLock) {
+            ArticleSearchIndex current = index;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (rebuilding) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        String date = blankToNull(value);
+        if (date == null) {
+            return null;
+        }
+        try {
+            return date.length() <= 10 ? LocalDate.parse(date).atStartOfDay() : LocalDateTime.parse(date);
+        } catch (DateTimeParseException e) {
+            log.debug("Data inválida ignorada na busca: {}", date);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleStatisticsSnapshot;
+import br.com.technews.entity.ArticleStatistic;
+import br.com.technews.entity.ArticleStatistic.Dimension;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.Tag;
+import br.com.technews.repository.ArticleStatisticRepository;
+import br.com.technews.repository.NewsArticleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Contagens de artigos publicados (total, por categoria, autor, tag e dia) para /api/stats,
+ * sem carregar os artigos a cada requisição.
+ *
+ * Os contadores ficam em memória e são ajustados incrementalmente pelo {@link NewsArticleService}
+ * após o commit de cada publicação, despublicação, edição ou exclusão; os alterados são persistidos
+ * periodicamente em article_statistics. Escritas que não passam pelo serviço (ex.: outras instâncias,
+ * scraping direto no repositório) são corrigidas pela reconciliação, que recalcula tudo a partir de
+ * news_articles ({@code technews.stats.reconcile-cron}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleStatisticsService {
+
+    private static final String TOTAL_KEY = "all";
+
+    private final ArticleStatisticRepository articleStatisticRepository;
+    private final NewsArticleRepository newsArticleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Trocado por inteiro na reconciliação; flush e reconciliação não rodam ao mesmo tempo
+    private volatile Map<Key, Counter> counters = new ConcurrentHashMap<>();
+    private final Object persistLock = new Object();
+
+    // Versão dos contadores: a cópia lida pelos endpoints é refeita quando muda
+    private final AtomicLong version = new AtomicLong();
+    private volatile CachedSnapshot cached;
+
+    /**
+     * Participação de um artigo publicado nas contagens; null para artigos não publicados
+     */
+    public record Contribution(String category, String author, Set<String> tags, LocalDate day) {
+
+        public static Contribution of(NewsArticle article) {
+            if (article == null || !Boolean.TRUE.equals(article.getPublished())) {
+                return null;
+            }
+            String author = article.getAuthor() != null && !article.getAuthor().isBlank() ? article.getAuthor() : null;
+            Set<String> tags = article.getTags().stream()
+                .map(Tag::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+            LocalDate day = article.getPublishedAt() != null ? article.getPublishedAt().toLocalDate() : null;
+            return new Contribution(article.getCategory(), author, tags, day);
+        }
+
+        List<Key> keys() {
+            List<Key> keys = new ArrayList<>(4 + tags.size());
+            keys.add(new Key(Dimension.TOTAL, TOTAL_KEY));
+            if (category != null) {
+                keys.add(new Key(Dimension.CATEGORY, category));
+            }
+            if (author != null) {
+                keys.add(new Key(Dimension.AUTHOR, author));
+            }
+            tags.forEach(tag -> keys.add(new Key(Dimension.TAG, tag)));
+            if (day != null) {
+                keys.add(new Key(Dimension.DAY, day.toString()));
+            }
+            return keys;
+        }
+    }
+
+    record Key(Dimension dimension, String statKey) {
+    }
+
+    private record CachedSnapshot(long version, ArticleStatisticsSnapshot snapshot) {
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            List<ArticleStatistic> rows = articleStatisticRepository.findAll();
+            if (rows.isEmpty()) {
+                reconcile();
+                return;
+            }
+            Map<Key, Counter> loaded = new ConcurrentHashMap<>();
+            for (ArticleStatistic row : rows) {
+                loaded.put(new Key(row.getDimension(), row.getStatKey()), new Counter(row.getId(), row.getArticleCount()));
+            }
+            counters = loaded;
+            version.incrementAndGet();
+            log.info("Estatísticas de artigos carregadas: {} contagens", loaded.size());
+        } catch (Exception e) {
+            log.warn("Erro ao carregar estatísticas de artigos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Contagens atuais; a cópia é refeita apenas quando algum contador mudou
+     */
+    public ArticleStatisticsSnapshot getSnapshot() {
+        long currentVersion = version.get();
+        CachedSnapshot current = cached;
+        if (current != null && current.version() == currentVersion) {
+            return current.snapshot();
+        }
+        ArticleStatisticsSnapshot built = buildSnapshot(counters);
+        cached = new CachedSnapshot(currentVersion, built);
+        return built;
+    }
+
+    /**
+     * Participação atual do artigo; deve ser obtida com a sessão aberta e antes de alterá-lo
+     */
+    public Contribution contributionOf(NewsArticle article) {
+        return Contribution.of(article);
+    }
+
+    /**
+     * Ajusta as contagens após o commit: remove a participação anterior do artigo e soma a nova.
+     * Use null para artigo antes inexistente/não publicado ou agora excluído/despublicado.
+     */
+    public void articleChanged(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Runnable change = () -> {
+            if (before != null) {
+                apply(before, -1);
+            }
+            if (after != null) {
+                apply(after, 1);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Persiste os contadores alterados desde a última gravação
+     */
+    @Scheduled(fixedDelayString = "${technews.stats.flush-interval-ms:60000}")
+    public void flush() {
+        synchronized (persistLock) {
+            List<Map.Entry<Key, Counter>> dirty = counters.entrySet().stream()
+                .filter(entry -> entry.getValue().isDirty())
+                .toList();
+            if (dirty.isEmpty()) {
+                return;
+            }
+
+            List<ArticleStatistic> entities = new ArrayList<>(dirty.size());
+            for (Map.Entry<Key, Counter> entry : dirty) {
+                entities.add(entry.getValue().toEntity(entry.getKey()));
+            }
+
+            try {
+                List<ArticleStatistic> saved = articleStatisticRepository.saveAll(entities);
+                for (int i = 0; i < saved.size(); i++) {
+                    dirty.get(i).getValue().entityId = saved.get(i).getId();
+                }
+                log.debug("Estatísticas de artigos persistidas: {} contagens", saved.size());
+            } catch (Exception e) {
+                dirty.forEach(entry -> entry.getValue().markDirty());
+                log.warn("Erro ao persistir estatísticas de artigos: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Recalcula todas as contagens a partir de news_articles e substitui a tabela e os contadores.
+     * Alterações confirmadas durante o recálculo podem ficar de fora até a próxima reconciliação.
+     */
+    @Scheduled(cron = "${technews.stats.reconcile-cron:0 45 3 * * ?}")
+    public void reconcile() {
+        synchronized (persistLock) {
+            Map<Key, Long> actual = countPublishedArticles();
+            List<ArticleStatistic> entities = actual.entrySet().stream()
+                .map(entry -> ArticleStatistic.builder()
+                    .dimension(entry.getKey().dimension())
+                    .statKey(entry.getKey().statKey())
+                    .articleCount(entry.getValue())
+                    .build())
+                .toList();
+
+            List<ArticleStatistic> saved = transactionTemplate.execute(status -> {
+                articleStatisticRepository.deleteAllInBatch();
+                return articleStatisticRepository.saveAll(entities);
+            });
+
+            Map<Key, Counter> rebuilt = new ConcurrentHashMap<>();
+            for (ArticleStatistic row : saved) {
+                rebuilt.put(new Key(row.getDimension(), row.getStatKey()), new Counter(row.getId(), row.getArticleCount()));
+            }
+            long drift = countDrift(counters, rebuilt);
+            counters = rebuilt;
+            version.incrementAndGet();
+            log.info("Estatísticas de artigos reconciliadas: {} contagens ({} divergentes corrigidas)",
+                rebuilt.size(), drift);
+        }
+    }
+
+    private Map<Key, Long> countPublishedArticles() {
+        Map<Key, Long> actual = new HashMap<>();
+        actual.put(new Key(Dimension.TOTAL, TOTAL_KEY), newsArticleRepository.countByPublishedTrue());
+        collect(actual, Dimension.CATEGORY, newsArticleRepository.countPublishedByCategory());
+        collect(actual, Dimension.AUTHOR, newsArticleRepository.countPublishedByAuthor());
+        collect(actual, Dimension.TAG, newsArticleRepository.countPublishedByTag());
+        collect(actual, Dimension.DAY, newsArticleRepository.countPublishedByDay());
+        return actual;
+    }
+
+    private static void collect(Map<Key, Long> target, Dimension dimension, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                target.put(new Key(dimension, row[0].toString()), ((Number) row[1]).longValue());
+            }
+        }
+    }
+
+    private void apply(Contribution contribution, long delta) {
+        Map<Key, Counter> current = counters;
+        for (Key key : contribution.keys()) {
+            current.computeIfAbsent(key, k -> new Counter(null, 0L)).add(delta);
+        }
+        version.incrementAndGet();
+    }
+
+    private static ArticleStatisticsSnapshot buildSnapshot(Map<Key, Counter> counters) {
+        long total = 0;
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> authors = new HashMap<>();
+        Map<String, Long> tags = new HashMap<>();
+        Map<LocalDate, Long> days = new HashMap<>();
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            long count = entry.getValue().get();
+            if (count <= 0) {
+                continue;
+            }
+            String statKey = entry.getKey().statKey();
+            switch (entry.getKey().dimension()) {
+                case TOTAL -> total = count;
+                case CATEGORY -> categories.put(statKey, count);
+                case AUTHOR -> authors.put(statKey, count);
+                case TAG -> tags.put(statKey, count);
+                case DAY -> days.put(LocalDate.parse(statKey), count);
+            }
+        }
+        return new ArticleStatisticsSnapshot(total, Map.copyOf(categories), Map.copyOf(authors),
+            Map.copyOf(tags), Map.copyOf(days));
+    }
+
+    private static long countDrift(Map<Key, Counter> previous, Map<Key, Counter> rebuilt) {
+        Set<Key> keys = new HashSet<>(previous.keySet());
+        keys.addAll(rebuilt.keySet());
+        return keys.stream()
+            .filter(key -> valueOf(previous.get(key)) != valueOf(rebuilt.get(key)))
+            .count();
+    }
+
+    private static long valueOf(Counter counter) {
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * Contagem de uma chave; sincronizada por instância para não bloquear outras chaves
+     */
+    private static final class Counter {
+        private volatile Long entityId;
+        private long count;
+        private boolean dirty;
+
+        private Counter(Long entityId, long count) {
+            this.entityId = entityId;
+            this.count = count;
+        }
+
+        synchronized void add(long delta) {
+            count = Math.max(0, count + delta);
+            dirty = true;
+        }
+
+        synchronized long get() {
+            return count;
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        synchronized void markDirty() {
+            dirty = true;
+        }
+
+        synchronized ArticleStatistic toEntity(Key key) {
+            dirty = false;
+            return ArticleStatistic.builder()
+                .id(entityId)
+                .dimension(key.dimension())
+                .statKey(key.statKey())
+                .articleCount(count)
+                .build();
+        }
+    }
+}
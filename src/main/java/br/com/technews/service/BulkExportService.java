@@ -0,0 +1,206 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleExportRow;
+import br.com.technews.dto.SubscriberExportRow;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.SubscriberRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Exportação em massa de artigos e assinantes em NDJSON ou CSV. As linhas vêm de projeções lidas por
+ * cursor forward-only ({@code streamExportRows} dos repositórios) e são escritas direto no stream de saída
+ * com buffer fixo, então a memória não cresce com o número de linhas (nada fica no contexto de persistência).
+ *
+ * Cada exportação registra {@code technews.export.rows} e {@code technews.export.duration} com as tags
+ * {@code dataset}, {@code format} e {@code outcome}, expostas em /actuator/prometheus.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkExportService {
+
+    public static final String DATASET_ARTICLES = "articles";
+    public static final String DATASET_SUBSCRIBERS = "subscribers";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final SubscriberRepository subscriberRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Formato pelo nome, sem diferenciar maiúsculas
+         */
+        public static Optional<Format> parse(String value) {
+            return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value != null ? value.trim() : ""))
+                .findFirst();
+        }
+    }
+
+    /**
+     * Escreve todos os artigos em {@code out}; retorna o número de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(Format format, OutputStream out) throws IOException {
+        try (Stream<ArticleExportRow> rows = newsArticleRepository.streamExportRows()) {
+            return export(DATASET_ARTICLES, ArticleExportRow.class, format, rows, out);
+        }
+    }
+
+    /**
+     * Escreve todos os assinantes em {@code out}; retorna o número de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportSubscribers(Format format, OutputStream out) throws IOException {
+        try (Stream<SubscriberExportRow> rows = subscriberRepository.streamExportRows()) {
+            return export(DATASET_SUBSCRIBERS, SubscriberExportRow.class, format, rows, out);
+        }
+    }
+
+    private <T extends Record> long export(String dataset, Class<T> type, Format format, Stream<T> rows,
+                                           OutputStream out) throws IOException {
+        String formatTag = format.name().toLowerCase(Locale.ROOT);
+        long start = System.nanoTime();
+        // Contado pelos writers a cada linha, para que uma exportação interrompida registre as linhas já escritas
+        AtomicLong written = new AtomicLong();
+        boolean success = false;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == Format.CSV) {
+                writeCsv(type, rows.iterator(), writer, written);
+            } else {
+                writeNdjson(rows.iterator(), writer, written);
+            }
+            writer.flush();
+            success = true;
+            return written.get();
+        } finally {
+            long count = written.get();
+            long nanos = System.nanoTime() - start;
+            String outcome = success ? "success" : "failure";
+            meterRegistry.counter("technews.export.rows", "dataset", dataset, "format", formatTag, "outcome", outcome)
+                .increment(count);
+            Timer.builder("technews.export.duration")
+                .description("Duração da exportação em massa")
+                .tags("dataset", dataset, "format", formatTag, "outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+            long millis = Math.max(1, nanos / 1_000_000);
+            log.info("Exportação de {} ({}) {}: {} linhas em {} ms ({} linhas/s)",
+                dataset, formatTag, success ? "concluída" : "interrompida", count, millis, count * 1000 / millis);
+        }
+    }
+
+    private void writeNdjson(Iterator<? extends Record> rows, Writer writer, AtomicLong written) throws IOException {
+        // Sem flush por linha: o buffer do writer decide quando enviar ao cliente
+        ObjectWriter json = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        while (rows.hasNext()) {
+            json.writeValue(writer, rows.next());
+            writer.write('\n');
+            written.incrementAndGet();
+        }
+    }
+
+    private void writeCsv(Class<? extends Record> type, Iterator<? extends Record> rows, Writer writer,
+                          AtomicLong written) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(components[i].getName());
+        }
+        writer.write("\r\n");
+
+        while (rows.hasNext()) {
+            Record row = rows.next();
+            for (int i = 0; i < accessors.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(invoke(accessors[i], row), writer);
+            }
+            writer.write("\r\n");
+            written.incrementAndGet();
+        }
+    }
+
+    // RFC 4180: aspas quando o valor tem separador, aspas ou quebra de linha. Textos que uma planilha
+    // interpretaria como fórmula (=, +, -, @, tab, CR no início) recebem o prefixo '
+    private static void writeCsvValue(Object value, Writer writer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!(value instanceof Number) && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static Object invoke(Method accessor, Record row) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Falha ao ler " + accessor.getName() + " da linha exportada", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.technews.service;
 
 import br.com.technews.entity.Category;
+import br.com.technews.entity.NewsArticle;
 import br.com.technews.repository.CategoryRepository;
+import br.com.technews.repository.NewsArticleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,12 @@ public class CategoryService {
     
     @Autowired
     private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private NewsArticleRepository newsArticleRepository;
     
     /**
      * Busca todas as categorias com paginação
@@ -46,6 +54,14 @@ public class CategoryService {
         return categoryRepository.findById(id);
     }
     
+    /**
+     * Artigos vinculados à categoria, mais recentes primeiro (página de detalhes do admin)
+     */
+    @Transactional(readOnly = true)
+    public List<NewsArticle> findArticles(Long categoryId) {
+        return newsArticleRepository.findByCategoryEntityIdOrderByCreatedAtDesc(categoryId);
+    }
+    
     /**
      * Busca categoria por slug
      */
@@ -66,7 +82,9 @@ public class CategoryService {
             category.setUpdatedAt(LocalDateTime.now());
         }
         
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.CATEGORIES);
+        return saved;
     }
     
     /**
@@ -85,7 +103,9 @@ public class CategoryService {
         
         validateCategory(existingCategory);
         
-        return categoryRepository.save(existingCategory);
+        Category saved = categoryRepository.save(existingCategory);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.CATEGORIES);
+        return saved;
     }
     
     /**
@@ -98,7 +118,9 @@ public class CategoryService {
         category.setActive(!category.getActive());
         category.setUpdatedAt(LocalDateTime.now());
         
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.CATEGORIES);
+        return saved;
     }
     
     /**
@@ -115,6 +137,7 @@ public class CategoryService {
         }
         
         categoryRepository.delete(category);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.CATEGORIES);
     }
     
     /**
@@ -0,0 +1,62 @@
+package br.com.technews.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Manutenção das partições mensais de collected_news (PostgreSQL, ver migração V10):
+ * cria as partições dos próximos meses e move para o schema archive as partições
+ * anteriores ao período de retenção.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "technews.partitioning.enabled", havingValue = "true")
+public class CollectedNewsPartitionService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${technews.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    // Meses mantidos na tabela ativa; 0 desativa o arquivamento
+    @Value("${technews.partitioning.retain-months:12}")
+    private int retainMonths;
+
+    @PostConstruct
+    public void init() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${technews.partitioning.cron:0 30 1 * * ?}")
+    public void maintainPartitions() {
+        try {
+            List<String> created = ensurePartitions();
+            List<String> archived = archiveOldPartitions();
+            if (!created.isEmpty() || !archived.isEmpty()) {
+                log.info("Partições de collected_news: criadas {}, arquivadas {}", created, archived);
+            }
+        } catch (Exception e) {
+            log.error("Erro na manutenção das partições de collected_news: {}", e.getMessage(), e);
+        }
+    }
+
+    public List<String> ensurePartitions() {
+        return jdbcTemplate.queryForList("SELECT ensure_collected_news_partitions(?)", String.class, monthsAhead);
+    }
+
+    public List<String> archiveOldPartitions() {
+        if (retainMonths <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("SELECT archive_collected_news_partitions(?)", String.class, retainMonths);
+    }
+}
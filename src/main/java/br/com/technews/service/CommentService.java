@@ -1,7 +1,12 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.CommentRow;
+import br.com.technews.dto.CommentThread;
+import br.com.technews.dto.CommentThreadPage;
 import br.com.technews.entity.Comment;
 import br.com.technews.entity.CommentStatus;
+import br.com.technews.entity.CurationKeyword.KeywordList;
 import br.com.technews.repository.CommentRepository;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.repository.NewsArticleRepository;
@@ -12,9 +17,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -26,10 +38,8 @@ public class CommentService {
     @Autowired
     private NewsArticleRepository newsArticleRepository;
     
-    // Spam detection patterns
-    private static final Pattern SPAM_PATTERNS = Pattern.compile(
-        "(?i)(viagra|casino|poker|loan|debt|credit|bitcoin|crypto|investment|forex|trading|pills|pharmacy|dating|adult|xxx|porn|sex|escort|massage|replica|fake|cheap|discount|sale|buy now|click here|free money|make money|work from home|get rich|lose weight|miracle|guaranteed|limited time|act now|urgent|congratulations|winner|lottery|prize|claim now|http://|https://|www\\.|bit\\.ly|tinyurl|goo\\.gl)"
-    );
+    @Autowired
+    private KeywordMatcherService keywordMatcherService;
     
     private static final int MAX_LINKS_ALLOWED = 2;
     private static final int MIN_COMMENT_LENGTH = 10;
@@ -51,6 +61,63 @@ public class CommentService {
         return List.of();
     }
     
+    // Approved comment tree of an article from a single query: rows are linked to their parents through an
+    // id map (O(n)), replies whose parent is not visible are dropped. Threads come newest first, replies
+    // oldest first; the cursor (last thread's createdAt, id) pages the top-level threads only
+    @Transactional(readOnly = true)
+    public CommentThreadPage getCommentThreads(Long articleId, ArticleCursor cursor, Integer size) {
+        List<CommentRow> rows = commentRepository.findApprovedRowsByArticleId(articleId);
+        Map<Long, CommentThread> nodes = new HashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            nodes.put(row.id(), CommentThread.of(row));
+        }
+        
+        List<CommentThread> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentThread node = nodes.get(row.id());
+            if (row.parentId() == null) {
+                roots.add(node);
+            } else {
+                CommentThread parent = nodes.get(row.parentId());
+                if (parent != null) {
+                    parent.replies().add(node);
+                }
+            }
+        }
+        Collections.reverse(roots);
+        long totalComments = countVisible(roots);
+        
+        int from = 0;
+        if (cursor != null) {
+            while (from < roots.size() && !isAfter(roots.get(from), cursor)) {
+                from++;
+            }
+        }
+        int to = size == null ? roots.size() : Math.min(roots.size(), from + Math.max(1, size));
+        List<CommentThread> threads = roots.subList(from, to);
+        boolean hasNext = to < roots.size();
+        String nextCursor = hasNext && !threads.isEmpty()
+            ? new ArticleCursor(threads.get(threads.size() - 1).createdAt(), threads.get(threads.size() - 1).id()).encode()
+            : null;
+        return new CommentThreadPage(List.copyOf(threads), totalComments, hasNext, nextCursor);
+    }
+    
+    // Whether the thread comes after the cursor position in createdAt DESC, id DESC order
+    private static boolean isAfter(CommentThread thread, ArticleCursor cursor) {
+        int byDate = thread.createdAt().compareTo(cursor.publishedAt());
+        return byDate < 0 || (byDate == 0 && thread.id() < cursor.id());
+    }
+    
+    private static long countVisible(List<CommentThread> threads) {
+        long count = 0;
+        Deque<CommentThread> pending = new ArrayDeque<>(threads);
+        while (!pending.isEmpty()) {
+            count++;
+            pending.addAll(pending.poll().replies());
+        }
+        return count;
+    }
+    
     public Comment createComment(Long articleId, String authorName, String authorEmail, 
                                String authorWebsite, String content, String ipAddress, 
                                String userAgent, Long parentId) {
@@ -96,7 +163,7 @@ public class CommentService {
         }
         
         // Check for spam patterns
-        if (SPAM_PATTERNS.matcher(content).find()) {
+        if (spamMatcher().containsAny(content)) {
             throw new IllegalArgumentException("Comentário contém conteúdo suspeito.");
         }
         
@@ -146,7 +213,8 @@ public class CommentService {
         String authorName = comment.getAuthorName().toLowerCase();
         
         // Don't auto-approve if contains suspicious patterns
-        if (SPAM_PATTERNS.matcher(content).find() || SPAM_PATTERNS.matcher(authorName).find()) {
+        KeywordMatcher spamMatcher = spamMatcher();
+        if (spamMatcher.containsAny(content) || spamMatcher.containsAny(authorName)) {
             return false;
         }
         
@@ -159,6 +227,10 @@ public class CommentService {
         return true;
     }
     
+    private KeywordMatcher spamMatcher() {
+        return keywordMatcherService.getMatcher(KeywordList.COMMENT_SPAM);
+    }
+    
     public Comment approveComment(Long commentId) {
         Comment comment = getCommentById(commentId);
         comment.setApproved(true);
@@ -204,6 +276,7 @@ public class CommentService {
         return commentRepository.searchCommentsByContent(searchTerm, pageable);
     }
     
+    @Transactional(readOnly = true)
     public Page<Comment> getPendingComments(Pageable pageable) {
         return commentRepository.findPendingComments(pageable);
     }
@@ -227,6 +300,21 @@ public class CommentService {
     public Comment getCommentById(Long id) {
         return commentRepository.findById(id).orElse(null);
     }
+
+    // Comment with article, parent and replies loaded (moderation detail)
+    @Transactional(readOnly = true)
+    public Comment getCommentDetail(Long id) {
+        return commentRepository.findDetailedById(id).orElse(null);
+    }
+
+    // Ids among the given comments that have replies
+    @Transactional(readOnly = true)
+    public Set<Long> findIdsWithReplies(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return commentRepository.findParentIdsIn(commentIds);
+    }
     
     public List<Comment> getAllCommentsByArticle(Long articleId) {
         Optional<NewsArticle> article = newsArticleRepository.findById(articleId);
@@ -0,0 +1,162 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.NormalizedContent;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Estágio de normalização de conteúdo coletado.
+ * Faz um único parse do HTML de cada entrada e, em uma única varredura do texto,
+ * produz texto limpo, primeira imagem, contagens de palavras/frases e tokens em minúsculas.
+ */
+@Service
+public class ContentNormalizationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentNormalizationService.class);
+
+    /**
+     * Normaliza uma entrada de feed cujo conteúdo pode conter HTML.
+     */
+    public NormalizedContent normalize(String title, String html) {
+        String rawTitle = title != null ? title : "";
+        String rawContent = html != null ? html : "";
+
+        String cleanTitle = cleanInline(rawTitle);
+        String cleanText = "";
+        String imageUrl = null;
+
+        if (!rawContent.isEmpty()) {
+            try {
+                Document doc = Jsoup.parse(rawContent);
+                Element img = doc.selectFirst("img");
+                imageUrl = img != null ? img.attr("src") : null;
+                cleanText = doc.text().trim();
+            } catch (Exception e) {
+                log.debug("Erro ao normalizar conteúdo HTML", e);
+            }
+        }
+
+        return analyze(cleanTitle, cleanText, imageUrl, generateContentHash(rawTitle + rawContent));
+    }
+
+    /**
+     * Normaliza título e conteúdo já limpos (ex.: notícias persistidas), sem parse de HTML.
+     * O hash de conteúdo não é calculado neste caso.
+     */
+    public NormalizedContent normalizeText(String title, String text) {
+        return analyze(title != null ? title : "", text != null ? text : "", null, null);
+    }
+
+    public String generateContentHash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder(hash.length * 2);
+
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+
+            return hexString.toString();
+        } catch (Exception e) {
+            log.error("Erro ao gerar hash do conteúdo", e);
+            return String.valueOf(content.hashCode());
+        }
+    }
+
+    /**
+     * Títulos raramente trazem marcação; o parse completo só é feito quando há tags ou entidades.
+     */
+    private String cleanInline(String text) {
+        if (text.indexOf('<') >= 0 || text.indexOf('&') >= 0) {
+            return Jsoup.parse(text).text().trim();
+        }
+        return collapseWhitespace(text);
+    }
+
+    private String collapseWhitespace(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch) || ch == '\u00a0') {
+                pendingSpace = sb.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    sb.append(' ');
+                    pendingSpace = false;
+                }
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private NormalizedContent analyze(String title, String text, String imageUrl, String contentHash) {
+        StringBuilder lower = new StringBuilder(title.length() + text.length() + 1);
+        List<String> tokens = new ArrayList<>();
+
+        scan(title, lower, tokens);
+        lower.append(' ');
+        int titleTokens = tokens.size();
+        int sentences = scan(text, lower, tokens);
+
+        return new NormalizedContent(
+            title,
+            text,
+            imageUrl,
+            contentHash,
+            tokens.size() - titleTokens,
+            sentences,
+            lower.toString(),
+            Collections.unmodifiableList(tokens)
+        );
+    }
+
+    /**
+     * Acrescenta o texto em minúsculas e seus tokens, retornando a quantidade de terminadores de frase.
+     */
+    private int scan(String text, StringBuilder lower, List<String> tokens) {
+        int sentences = 0;
+        int tokenStart = -1;
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+
+            if (Character.isLetterOrDigit(ch)) {
+                if (tokenStart < 0) {
+                    tokenStart = lower.length();
+                }
+            } else {
+                if (tokenStart >= 0) {
+                    tokens.add(lower.substring(tokenStart));
+                    tokenStart = -1;
+                }
+                if (ch == '.' || ch == '!' || ch == '?') {
+                    sentences++;
+                }
+            }
+            lower.append(ch);
+        }
+
+        if (tokenStart >= 0) {
+            tokens.add(lower.substring(tokenStart));
+        }
+
+        return sentences;
+    }
+}
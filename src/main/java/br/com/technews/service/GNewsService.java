@@ -1,10 +1,8 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.IngestedEntry;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.Category;
-import br.com.technews.entity.TrustedSource;
-import br.com.technews.repository.CategoryRepository;
-import br.com.technews.repository.TrustedSourceRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -14,6 +12,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -25,6 +26,13 @@ public class GNewsService {
 
     private static final Logger logger = LoggerFactory.getLogger(GNewsService.class);
 
+    public static final String TYPE_GNEWS = "GNEWS";
+
+    private static final List<String> TECH_KEYWORDS = List.of(
+        "technology", "software", "programming", "artificial intelligence",
+        "machine learning", "cybersecurity", "blockchain", "cloud computing"
+    );
+
     @Value("${gnews.api.key}")
     private String apiKey;
 
@@ -39,15 +47,15 @@ public class GNewsService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    private final CategoryRepository categoryRepository;
-    private final TrustedSourceRepository trustedSourceRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TrustedSourceService trustedSourceService;
 
-    public GNewsService(CategoryRepository categoryRepository, 
-                       TrustedSourceRepository trustedSourceRepository) {
+    public GNewsService(ReferenceDataCache referenceDataCache,
+                       TrustedSourceService trustedSourceService) {
         this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
-        this.categoryRepository = categoryRepository;
-        this.trustedSourceRepository = trustedSourceRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.trustedSourceService = trustedSourceService;
     }
 
     /**
@@ -99,14 +107,9 @@ public class GNewsService {
      * Busca notícias usando múltiplas palavras-chave relacionadas à tecnologia
      */
     public List<NewsArticle> getTechNewsWithKeywords() {
-        List<String> techKeywords = List.of(
-            "technology", "software", "programming", "artificial intelligence",
-            "machine learning", "cybersecurity", "blockchain", "cloud computing"
-        );
-
         List<NewsArticle> allNews = new ArrayList<>();
         
-        for (String keyword : techKeywords) {
+        for (String keyword : TECH_KEYWORDS) {
             List<NewsArticle> keywordNews = searchNews(keyword);
             allNews.addAll(keywordNews);
             
@@ -122,29 +125,65 @@ public class GNewsService {
         return removeDuplicates(allNews);
     }
 
+    /**
+     * Tarefas do pipeline de ingestão: top headlines de tecnologia e buscas pelas palavras-chave de tecnologia
+     */
+    public List<IngestionTask<NewsArticle>> techNewsTasks() {
+        List<IngestionTask<NewsArticle>> tasks = new ArrayList<>();
+        tasks.add(topHeadlinesTask("technology"));
+        for (String keyword : TECH_KEYWORDS) {
+            tasks.add(searchTask(keyword));
+        }
+        return tasks;
+    }
+
+    public IngestionTask<NewsArticle> topHeadlinesTask(String category) {
+        return task("top-headlines:" + category, String.format("%s/top-headlines?category=%s&lang=%s&max=%d&apikey=%s",
+                baseUrl, encode(category), language, maxArticles, apiKey));
+    }
+
+    public IngestionTask<NewsArticle> searchTask(String query) {
+        return task("search:" + query, String.format("%s/search?q=%s&lang=%s&max=%d&apikey=%s",
+                baseUrl, encode(query), language, maxArticles, apiKey));
+    }
+
+    /**
+     * Só os artigos de fontes confiáveis seguem no pipeline
+     */
+    private IngestionTask<NewsArticle> task(String name, String url) {
+        return new IngestionTask<>("GNews " + name, TYPE_GNEWS, null, url, null, maxArticles,
+                body -> trustedOnly(parseEntries(new String(body, StandardCharsets.UTF_8))),
+                (entry, normalized) -> toArticle(entry));
+    }
+
+    private List<IngestedEntry> trustedOnly(List<IngestedEntry> entries) {
+        TrustedSourceMatcher matcher = trustedSourceService.getMatcher();
+        if (matcher.isEmpty()) {
+            return entries;
+        }
+        return entries.stream()
+                .filter(entry -> matcher.matches(entry.url()))
+                .toList();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
     /**
      * Filtra notícias por fontes confiáveis
      */
     public List<NewsArticle> filterByTrustedSources(List<NewsArticle> articles) {
-        List<TrustedSource> trustedSources = trustedSourceRepository.findByActiveTrue();
+        TrustedSourceMatcher matcher = trustedSourceService.getMatcher();
         
-        if (trustedSources.isEmpty()) {
+        if (matcher.isEmpty()) {
             logger.warn("Nenhuma fonte confiável configurada. Retornando todas as notícias.");
             return articles;
         }
 
-        List<String> trustedDomains = trustedSources.stream()
-                .map(TrustedSource::getDomainName)
-                .toList();
-
+        // Comparação pelo host da URL (domínio ou subdomínio), sem acesso ao banco por artigo
         return articles.stream()
-                .filter(article -> {
-                    String url = article.getUrl();
-                    if (url == null) return false;
-                    
-                    return trustedDomains.stream()
-                            .anyMatch(domain -> url.contains(domain));
-                })
+                .filter(article -> matcher.matches(article.getUrl()))
                 .toList();
     }
 
@@ -155,16 +194,8 @@ public class GNewsService {
         List<NewsArticle> articles = new ArrayList<>();
         
         try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode articlesNode = root.get("articles");
-            
-            if (articlesNode != null && articlesNode.isArray()) {
-                for (JsonNode articleNode : articlesNode) {
-                    NewsArticle article = parseArticle(articleNode);
-                    if (article != null) {
-                        articles.add(article);
-                    }
-                }
+            for (IngestedEntry entry : parseEntries(jsonResponse)) {
+                articles.add(toArticle(entry));
             }
             
             logger.info("Parsed {} articles from GNews response", articles.size());
@@ -176,55 +207,52 @@ public class GNewsService {
         return articles;
     }
 
+    /**
+     * Itens da resposta JSON da API GNews; artigos que não puderem ser lidos são ignorados
+     */
+    List<IngestedEntry> parseEntries(String jsonResponse) throws IOException {
+        List<IngestedEntry> entries = new ArrayList<>();
+        JsonNode root = objectMapper.readTree(jsonResponse);
+        JsonNode articlesNode = root != null ? root.get("articles") : null;
+        
+        if (articlesNode != null && articlesNode.isArray()) {
+            for (JsonNode articleNode : articlesNode) {
+                IngestedEntry entry = parseArticle(articleNode);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
     /**
      * Parse de um artigo individual
      */
-    private NewsArticle parseArticle(JsonNode articleNode) {
+    private IngestedEntry parseArticle(JsonNode articleNode) {
         try {
-            NewsArticle article = new NewsArticle();
-            
-            article.setTitle(getTextValue(articleNode, "title"));
-            article.setContent(getTextValue(articleNode, "description"));
-            article.setUrl(getTextValue(articleNode, "url"));
-            article.setImageUrl(getTextValue(articleNode, "image"));
-            
             // Parse da data de publicação
+            LocalDateTime publishDate = LocalDateTime.now();
             String publishedAt = getTextValue(articleNode, "publishedAt");
             if (publishedAt != null) {
                 try {
-                    LocalDateTime publishDate = LocalDateTime.parse(publishedAt, 
-                            DateTimeFormatter.ISO_DATE_TIME);
-                    article.setPublishedAt(publishDate);
+                    publishDate = LocalDateTime.parse(publishedAt, DateTimeFormatter.ISO_DATE_TIME);
                 } catch (Exception e) {
                     logger.warn("Erro ao fazer parse da data: {}", publishedAt);
-                    article.setPublishedAt(LocalDateTime.now());
                 }
-            } else {
-                article.setPublishedAt(LocalDateTime.now());
             }
 
             // Parse da fonte
             JsonNode sourceNode = articleNode.get("source");
-            if (sourceNode != null) {
-                String sourceName = getTextValue(sourceNode, "name");
-                article.setSourceDomain(sourceName);
-            }
+            String sourceName = sourceNode != null ? getTextValue(sourceNode, "name") : null;
 
-            // Define categoria padrão
-            Optional<Category> techCategory = categoryRepository.findByNameIgnoreCase("Technology");
-            if (techCategory.isPresent()) {
-                article.setCategoryEntity(techCategory.get());
-                article.setCategory(techCategory.get().getName());
-            } else {
-                article.setCategory("Technology");
-            }
-
-            // Definir como não publicado inicialmente (precisa de aprovação)
-            article.setPublished(false);
-            article.setCreatedAt(LocalDateTime.now());
-            article.setUpdatedAt(LocalDateTime.now());
-
-            return article;
+            return new IngestedEntry(
+                getTextValue(articleNode, "title"),
+                getTextValue(articleNode, "url"),
+                getTextValue(articleNode, "description"),
+                getTextValue(articleNode, "image"),
+                publishDate,
+                sourceName);
             
         } catch (Exception e) {
             logger.error("Erro ao fazer parse do artigo: {}", e.getMessage());
@@ -232,6 +260,36 @@ public class GNewsService {
         }
     }
 
+    /**
+     * Monta o artigo (não publicado) a partir de um item da API
+     */
+    NewsArticle toArticle(IngestedEntry entry) {
+        NewsArticle article = new NewsArticle();
+        
+        article.setTitle(entry.title());
+        article.setContent(entry.content());
+        article.setUrl(entry.url());
+        article.setImageUrl(entry.imageUrl());
+        article.setPublishedAt(entry.publishedAt() != null ? entry.publishedAt() : LocalDateTime.now());
+        article.setSourceDomain(entry.sourceName());
+
+        // Define categoria padrão
+        Optional<Category> techCategory = referenceDataCache.findCategoryByName("Technology");
+        if (techCategory.isPresent()) {
+            article.setCategoryEntity(techCategory.get());
+            article.setCategory(techCategory.get().getName());
+        } else {
+            article.setCategory("Technology");
+        }
+
+        // Definir como não publicado inicialmente (precisa de aprovação)
+        article.setPublished(false);
+        article.setCreatedAt(LocalDateTime.now());
+        article.setUpdatedAt(LocalDateTime.now());
+
+        return article;
+    }
+
     /**
      * Utilitário para extrair valores de texto do JSON
      */
@@ -0,0 +1,145 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.HomeArticleSummary;
+import br.com.technews.dto.HomePageSnapshot;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.SubscriberRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dados da página inicial (destaques, totais e categorias) pré-calculados, para que "/" não consulte o banco.
+ *
+ * O snapshot é reconstruído em segundo plano na inicialização, após o commit de cada escrita de artigo
+ * feita pelo {@link NewsArticleService} e a cada {@code technews.home.snapshot.ttl-ms} (cobre novos
+ * assinantes e escritas de outras instâncias). Pedidos de reconstrução feitos enquanto uma já está
+ * pendente são agrupados em uma só; o snapshot novo substitui o anterior de uma vez.
+ */
+@Service
+@Slf4j
+public class HomePageSnapshotService {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final SubscriberRepository subscriberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    @Value("${technews.home.snapshot.featured-size:6}")
+    private int featuredSize = 6;
+
+    private volatile HomePageSnapshot snapshot;
+    private ExecutorService refreshExecutor;
+
+    public HomePageSnapshotService(NewsArticleRepository newsArticleRepository,
+                                   SubscriberRepository subscriberRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.subscriberRepository = subscriberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void initExecutor() {
+        refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "home-page-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${technews.home.snapshot.ttl-ms:300000}",
+               initialDelayString = "${technews.home.snapshot.ttl-ms:300000}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    /**
+     * Snapshot atual; vazio (e com reconstrução agendada) enquanto o primeiro não fica pronto
+     */
+    public HomePageSnapshot getSnapshot() {
+        HomePageSnapshot current = snapshot;
+        if (current == null) {
+            requestRefresh();
+            return HomePageSnapshot.empty();
+        }
+        return current;
+    }
+
+    /**
+     * Agenda a reconstrução após o commit da transação atual (ou imediatamente, fora de transação)
+     */
+    public void articlesChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestRefresh();
+                }
+            });
+        } else {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * Agenda uma reconstrução, a menos que já exista uma aguardando execução
+     */
+    public CompletableFuture<Void> requestRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+            // Liberado antes de ler o banco: escritas durante a leitura agendam uma nova reconstrução
+            refreshPending.set(false);
+            refresh();
+        }, refreshExecutor).exceptionally(e -> {
+            log.error("Erro ao reconstruir dados da página inicial: {}", e.getMessage(), e);
+            return null;
+        });
+    }
+
+    /**
+     * Reconstrói o snapshot a partir do banco e substitui o atual
+     */
+    public void refresh() {
+        snapshot = readOnlyTransaction.execute(status -> build());
+        log.debug("Dados da página inicial reconstruídos");
+    }
+
+    private HomePageSnapshot build() {
+        List<HomeArticleSummary> featured = newsArticleRepository.findPublishedSlice(null, PageRequest.of(0, featuredSize))
+            .map(HomeArticleSummary::of)
+            .getContent();
+        return new HomePageSnapshot(featured, newsArticleRepository.countByPublishedTrue(),
+            subscriberRepository.count(), newsArticleRepository.findDistinctCategories(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestionRunSummary;
+import br.com.technews.dto.IngestionSourceSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Telemetria da coleta por fonte (feeds RSS de NewsSource e scrapers do NewsScrapingService).
+ * Cada execução é registrada em métricas Micrometer com as tags {@code source} e {@code type}
+ * (expostas em /actuator/prometheus) e guardada em um histórico curto em memória para o
+ * resumo JSON do painel administrativo.
+ */
+@Service
+@RequiredArgsConstructor
+public class IngestionMetricsService {
+
+    public static final String TYPE_SCRAPER = "SCRAPER";
+
+    private static final int RECENT_RUNS_CAPACITY = 200;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Deque<IngestionRunSummary> recentRuns = new ArrayDeque<>();
+    private final Map<String, AtomicLong> lastSuccessBySource = new ConcurrentHashMap<>();
+
+    /**
+     * Inicia a medição de uma execução; o tempo de download conta a partir daqui
+     */
+    public IngestionRun start(String source, String type) {
+        return new IngestionRun(source, type);
+    }
+
+    /**
+     * Execuções mais recentes primeiro
+     */
+    public List<IngestionRunSummary> getRecentRuns(int limit) {
+        synchronized (recentRuns) {
+            return recentRuns.stream().limit(Math.max(0, limit)).toList();
+        }
+    }
+
+    /**
+     * Agregado por fonte sobre o histórico em memória, na ordem da execução mais recente
+     */
+    public List<IngestionSourceSummary> getSourceSummaries() {
+        Map<String, List<IngestionRunSummary>> bySource = new LinkedHashMap<>();
+        for (IngestionRunSummary run : getRecentRuns(RECENT_RUNS_CAPACITY)) {
+            bySource.computeIfAbsent(run.type() + ':' + run.source(), k -> new ArrayList<>()).add(run);
+        }
+
+        List<IngestionSourceSummary> summaries = new ArrayList<>(bySource.size());
+        for (List<IngestionRunSummary> runs : bySource.values()) {
+            IngestionRunSummary latest = runs.get(0);
+            long failures = 0, maxFetch = 0, fetchSum = 0, bytes = 0, parsed = 0;
+            long byUrl = 0, byHash = 0, inserted = 0, errors = 0;
+            for (IngestionRunSummary run : runs) {
+                failures += run.success() ? 0 : 1;
+                maxFetch = Math.max(maxFetch, run.fetchMillis());
+                fetchSum += run.fetchMillis();
+                bytes += run.bytesDownloaded();
+                parsed += run.entriesParsed();
+                byUrl += run.duplicatesByUrl();
+                byHash += run.duplicatesByHash();
+                inserted += run.inserted();
+                errors += run.parseErrors();
+            }
+            AtomicLong lastSuccess = lastSuccessBySource.get(latest.type() + ':' + latest.source());
+            summaries.add(new IngestionSourceSummary(latest.source(), latest.type(), runs.size(), failures,
+                (double) fetchSum / runs.size(), maxFetch, bytes, parsed, byUrl, byHash, inserted, errors,
+                lastSuccess != null && lastSuccess.get() > 0 ? toLocalDateTime(lastSuccess.get()) : null));
+        }
+        return summaries;
+    }
+
+    private void record(IngestionRun run, IngestionRunSummary summary) {
+        Tags tags = Tags.of("source", run.source, "type", run.type);
+
+        Timer.builder("technews.ingestion.fetch")
+            .description("Tempo de download e parse do feed/página da fonte")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(summary.fetchMillis(), TimeUnit.MILLISECONDS);
+
+        DistributionSummary.builder("technews.ingestion.bytes")
+            .description("Bytes baixados por execução")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(summary.bytesDownloaded());
+
+        increment("technews.ingestion.entries.parsed", tags, summary.entriesParsed());
+        increment("technews.ingestion.duplicates", tags.and("reason", "url"), summary.duplicatesByUrl());
+        increment("technews.ingestion.duplicates", tags.and("reason", "hash"), summary.duplicatesByHash());
+        increment("technews.ingestion.inserted", tags, summary.inserted());
+        increment("technews.ingestion.parse.errors", tags, summary.parseErrors());
+        increment("technews.ingestion.runs", tags.and("outcome", summary.success() ? "success" : "failure"), 1);
+
+        if (summary.success()) {
+            lastSuccessBySource.computeIfAbsent(run.type + ':' + run.source, k -> {
+                AtomicLong holder = new AtomicLong();
+                TimeGauge.builder("technews.ingestion.last.success", holder, TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .description("Momento (epoch) da última coleta bem-sucedida")
+                    .tags(tags)
+                    .register(meterRegistry);
+                return holder;
+            }).set(System.currentTimeMillis());
+        }
+
+        synchronized (recentRuns) {
+            recentRuns.addFirst(summary);
+            while (recentRuns.size() > RECENT_RUNS_CAPACITY) {
+                recentRuns.removeLast();
+            }
+        }
+    }
+
+    private void increment(String name, Tags tags, long amount) {
+        Counter counter = meterRegistry.counter(name, tags);
+        if (amount > 0) {
+            counter.increment(amount);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Contadores de uma execução; atualizados pelos estágios do pipeline de ingestão em threads diferentes
+     */
+    public final class IngestionRun {
+        private final String source;
+        private final String type;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private long fetchNanos = -1;
+        private long bytes;
+        private long parsed;
+        private long duplicatesByUrl;
+        private long duplicatesByHash;
+        private long inserted;
+        private long parseErrors;
+        private boolean finished;
+
+        private IngestionRun(String source, String type) {
+            this.source = source != null ? source : "unknown";
+            this.type = type;
+        }
+
+        /**
+         * Marca o fim do download/parse da fonte
+         */
+        public synchronized void fetched(long bytesDownloaded) {
+            fetchNanos = System.nanoTime() - startNanos;
+            bytes += bytesDownloaded;
+        }
+
+        public synchronized void parsed() {
+            parsed++;
+        }
+
+        public synchronized void duplicateByUrl() {
+            duplicatesByUrl++;
+        }
+
+        public synchronized void duplicateByHash() {
+            duplicatesByHash++;
+        }
+
+        public synchronized void inserted() {
+            inserted++;
+        }
+
+        public synchronized void parseError() {
+            parseErrors++;
+        }
+
+        public IngestionRunSummary success() {
+            return finish(true, null);
+        }
+
+        public IngestionRunSummary failure(Exception e) {
+            // Sem a query das URLs: a da GNews leva a chave da API
+            return finish(false, e.getMessage() != null ? IngestionPipeline.withoutQuery(e.getMessage()) : e.getClass().getSimpleName());
+        }
+
+        private synchronized IngestionRunSummary finish(boolean success, String error) {
+            if (finished) {
+                throw new IllegalStateException("Execução de coleta já finalizada: " + source);
+            }
+            finished = true;
+            long totalNanos = System.nanoTime() - startNanos;
+            IngestionRunSummary summary = new IngestionRunSummary(source, type, startedAt,
+                TimeUnit.NANOSECONDS.toMillis(fetchNanos >= 0 ? fetchNanos : totalNanos),
+                TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                bytes, parsed, duplicatesByUrl, duplicatesByHash, inserted, parseErrors, success, error);
+            record(this, summary);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,506 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestedEntry;
+import br.com.technews.dto.IngestionReport;
+import br.com.technews.dto.NormalizedContent;
+import br.com.technews.service.IngestionMetricsService.IngestionRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Pipeline único de ingestão (RSS, scrapers e GNews), em estágios:
+ * <pre>
+ * fetch → parse → normalize → dedup → score → persist
+ * </pre>
+ * O fetch é não bloqueante (WebClient); parse, normalização e score rodam no scheduler paralelo
+ * (CPU); deduplicação e gravação, que acessam o banco, rodam em lotes no boundedElastic.
+ * Cada estágio tem concorrência e buffer limitados, e a demanda é propagada de trás para frente:
+ * se a gravação atrasa, os estágios anteriores param de pedir itens em vez de acumulá-los em memória.
+ *
+ * Métricas por estágio (tag {@code stage} e {@code pipeline}): {@code technews.ingestion.pipeline.stage}
+ * (tempo por chamada), {@code technews.ingestion.pipeline.items} (itens aprovados/descartados) e
+ * {@code technews.ingestion.pipeline.active} (chamadas em andamento). As métricas por fonte continuam
+ * em {@link IngestionMetricsService}.
+ */
+@Service
+@Slf4j
+public class IngestionPipeline {
+
+    static final String STAGE_FETCH = "fetch";
+    static final String STAGE_PARSE = "parse";
+    static final String STAGE_NORMALIZE = "normalize";
+    static final String STAGE_DEDUP = "dedup";
+    static final String STAGE_SCORE = "score";
+    static final String STAGE_PERSIST = "persist";
+
+    private static final String DEFAULT_USER_AGENT = "TechNews-Bot/1.0 (News Collection Service)";
+    private static final Pattern QUERY_STRING = Pattern.compile("(\\b[a-zA-Z][a-zA-Z0-9+.-]*://[^\\s?#]*)[?#]\\S*");
+
+    private final WebClient webClient;
+    private final ContentNormalizationService contentNormalizationService;
+    private final IngestionMetricsService ingestionMetricsService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+    @Value("${technews.ingestion.pipeline.fetch-concurrency:16}")
+    private int fetchConcurrency = 16;
+
+    @Value("${technews.ingestion.pipeline.fetch-timeout-ms:10000}")
+    private long fetchTimeoutMillis = 10_000;
+
+    // 0 = núcleos disponíveis
+    @Value("${technews.ingestion.pipeline.parse-concurrency:0}")
+    private int parseConcurrency;
+
+    @Value("${technews.ingestion.pipeline.normalize-concurrency:0}")
+    private int normalizeConcurrency;
+
+    @Value("${technews.ingestion.pipeline.score-concurrency:0}")
+    private int scoreConcurrency;
+
+    @Value("${technews.ingestion.pipeline.dedup-batch-size:100}")
+    private int dedupBatchSize = 100;
+
+    @Value("${technews.ingestion.pipeline.dedup-concurrency:2}")
+    private int dedupConcurrency = 2;
+
+    @Value("${technews.ingestion.pipeline.persist-batch-size:100}")
+    private int persistBatchSize = 100;
+
+    @Value("${technews.ingestion.pipeline.persist-concurrency:2}")
+    private int persistConcurrency = 2;
+
+    // Itens em espera entre dois estágios
+    @Value("${technews.ingestion.pipeline.buffer-size:256}")
+    private int bufferSize = 256;
+
+    // Tempo máximo de espera para completar um lote de dedup/persist
+    @Value("${technews.ingestion.pipeline.batch-max-wait-ms:200}")
+    private long batchMaxWaitMillis = 200;
+
+    public IngestionPipeline(WebClient.Builder webClientBuilder,
+                             ContentNormalizationService contentNormalizationService,
+                             IngestionMetricsService ingestionMetricsService,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${technews.ingestion.pipeline.max-body-bytes:5242880}") int maxBodyBytes) {
+        this.webClient = webClientBuilder.clone()
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxBodyBytes))
+            .defaultHeader(HttpHeaders.USER_AGENT, DEFAULT_USER_AGENT)
+            .build();
+        this.contentNormalizationService = contentNormalizationService;
+        this.ingestionMetricsService = ingestionMetricsService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executa o pipeline e aguarda a gravação de todos os itens
+     */
+    public <T> IngestionReport ingest(String pipeline, List<IngestionTask<T>> tasks, IngestionSink<T> sink) {
+        return execute(pipeline, tasks, sink, fetchConcurrency, Duration.ZERO).block();
+    }
+
+    /**
+     * Executa o pipeline limitando os downloads simultâneos e espaçando o início de cada um
+     * (APIs com limite de requisições)
+     */
+    public <T> IngestionReport ingest(String pipeline, List<IngestionTask<T>> tasks, IngestionSink<T> sink,
+                                      int maxConcurrentFetches, Duration fetchSpacing) {
+        return execute(pipeline, tasks, sink, maxConcurrentFetches, fetchSpacing).block();
+    }
+
+    public <T> Mono<IngestionReport> execute(String pipeline, List<IngestionTask<T>> tasks, IngestionSink<T> sink,
+                                             int maxConcurrentFetches, Duration fetchSpacing) {
+        return Mono.defer(() -> {
+            Run<T> run = new Run<>(pipeline, sink);
+            Duration batchWait = Duration.ofMillis(batchMaxWaitMillis);
+
+            Flux<TaskRun<T>> sources = Flux.fromIterable(tasks).map(run::start);
+            if (fetchSpacing != null && !fetchSpacing.isZero()) {
+                sources = sources.delayElements(fetchSpacing, Schedulers.parallel());
+            }
+
+            return sources
+                .flatMap(task -> fetch(run, task), Math.max(1, maxConcurrentFetches), bufferSize)
+                .parallel(parallelism(parseConcurrency), bufferSize)
+                .runOn(Schedulers.parallel(), bufferSize)
+                .flatMap(fetched -> Flux.fromIterable(parse(run, fetched)))
+                .sequential(bufferSize)
+                .parallel(parallelism(normalizeConcurrency), bufferSize)
+                .runOn(Schedulers.parallel(), bufferSize)
+                .flatMap(item -> Mono.justOrEmpty(normalize(run, item)))
+                .sequential(bufferSize)
+                .bufferTimeout(dedupBatchSize, batchWait, true)
+                .flatMap(batch -> Mono.fromCallable(() -> dedup(run, batch))
+                    .subscribeOn(Schedulers.boundedElastic()), dedupConcurrency, 1)
+                .flatMapIterable(items -> items, bufferSize)
+                .parallel(parallelism(scoreConcurrency), bufferSize)
+                .runOn(Schedulers.parallel(), bufferSize)
+                .flatMap(item -> Mono.justOrEmpty(score(run, item)))
+                .sequential(bufferSize)
+                .bufferTimeout(persistBatchSize, batchWait, true)
+                .flatMap(batch -> Mono.fromRunnable(() -> persist(run, batch))
+                    .subscribeOn(Schedulers.boundedElastic()), persistConcurrency, 1)
+                .then(Mono.fromCallable(() -> run.finish(null)))
+                .onErrorResume(e -> {
+                    log.error("Erro no pipeline de ingestão {}: {}", pipeline, e.getMessage(), e);
+                    return Mono.fromCallable(() -> run.finish(e instanceof Exception ex ? ex : new IllegalStateException(e)));
+                });
+        });
+    }
+
+    private <T> Mono<Fetched<T>> fetch(Run<T> run, TaskRun<T> task) {
+        Stage stage = stage(run.pipeline, STAGE_FETCH);
+        return Mono.defer(() -> {
+                stage.active.incrementAndGet();
+                long start = System.nanoTime();
+                return webClient.get()
+                    .uri(URI.create(task.task.url()))
+                    .headers(headers -> {
+                        if (task.task.userAgent() != null) {
+                            headers.set(HttpHeaders.USER_AGENT, task.task.userAgent());
+                        }
+                    })
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .timeout(Duration.ofMillis(fetchTimeoutMillis))
+                    .defaultIfEmpty(new byte[0])
+                    .doFinally(signal -> {
+                        stage.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        stage.active.decrementAndGet();
+                    });
+            })
+            .map(body -> {
+                task.run.fetched(body.length);
+                stage.passed.increment();
+                return new Fetched<>(task, body);
+            })
+            .onErrorResume(e -> {
+                stage.dropped.increment();
+                task.fail(e);
+                log.error("Erro ao baixar {} ({}): {}", task.task.source(), withoutQuery(task.task.url()),
+                    withoutQuery(e.getMessage()));
+                return Mono.empty();
+            });
+    }
+
+    private <T> List<Item<T>> parse(Run<T> run, Fetched<T> fetched) {
+        Stage stage = stage(run.pipeline, STAGE_PARSE);
+        TaskRun<T> task = fetched.task();
+        return stage.record(() -> {
+            List<IngestedEntry> entries;
+            try {
+                entries = task.task.parser().parse(fetched.body());
+            } catch (Exception e) {
+                stage.dropped.increment();
+                task.fail(e);
+                log.error("Erro ao interpretar resposta de {}: {}", task.task.source(), e.getMessage());
+                return List.of();
+            }
+
+            int limit = Math.min(entries.size(), Math.max(0, task.task.maxEntries()));
+            List<Item<T>> items = new ArrayList<>(limit);
+            for (IngestedEntry entry : entries.subList(0, limit)) {
+                task.run.parsed();
+                run.parsed.increment();
+                if (entry.url() == null || entry.url().isBlank()) {
+                    task.run.parseError();
+                    run.errors.increment();
+                    stage.dropped.increment();
+                    continue;
+                }
+                items.add(new Item<>(task, entry, null, null));
+            }
+            stage.passed.increment(items.size());
+            return items;
+        });
+    }
+
+    private <T> Item<T> normalize(Run<T> run, Item<T> item) {
+        Stage stage = stage(run.pipeline, STAGE_NORMALIZE);
+        return stage.record(() -> {
+            try {
+                NormalizedContent normalized = contentNormalizationService.normalize(
+                    item.entry().title(), item.entry().content());
+                stage.passed.increment();
+                return new Item<>(item.task(), item.entry(), normalized, null);
+            } catch (Exception e) {
+                stage.dropped.increment();
+                item.task().run.parseError();
+                run.errors.increment();
+                log.warn("Erro ao normalizar item de {}: {}", item.task().task.source(), e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Descarta URLs e conteúdos já persistidos (uma consulta por lote) ou já vistos nesta execução
+     */
+    private <T> List<Item<T>> dedup(Run<T> run, List<Item<T>> batch) {
+        Stage stage = stage(run.pipeline, STAGE_DEDUP);
+        return stage.record(() -> {
+            IngestionSink<T> sink = run.sink;
+            Set<String> existingUrls;
+            Set<String> existingHashes;
+            try {
+                Set<String> urls = new HashSet<>(batch.size() * 2);
+                Set<String> hashes = new HashSet<>(batch.size() * 2);
+                for (Item<T> item : batch) {
+                    urls.add(item.entry().url());
+                    hashes.add(item.normalized().contentHash());
+                }
+                existingUrls = sink.findExistingUrls(urls);
+                existingHashes = sink.tracksContentHash() ? sink.findExistingContentHashes(hashes) : Set.of();
+            } catch (Exception e) {
+                stage.dropped.increment(batch.size());
+                batch.forEach(item -> item.task().run.parseError());
+                run.errors.add(batch.size());
+                log.error("Erro na deduplicação de {} itens do pipeline {}: {}", batch.size(), run.pipeline, e.getMessage());
+                return List.of();
+            }
+
+            List<Item<T>> unique = new ArrayList<>(batch.size());
+            for (Item<T> item : batch) {
+                if (existingUrls.contains(item.entry().url()) || !run.seenUrls.add(item.entry().url())) {
+                    item.task().run.duplicateByUrl();
+                    run.duplicates.increment();
+                    continue;
+                }
+                String hash = item.normalized().contentHash();
+                if (sink.tracksContentHash() && (existingHashes.contains(hash) || !run.seenHashes.add(hash))) {
+                    item.task().run.duplicateByHash();
+                    run.duplicates.increment();
+                    sink.duplicateContent(item.task().task, item.entry());
+                    log.debug("Conteúdo duplicado detectado: {}", item.entry().title());
+                    continue;
+                }
+                unique.add(item);
+            }
+            stage.passed.increment(unique.size());
+            stage.dropped.increment(batch.size() - unique.size());
+            return unique;
+        });
+    }
+
+    private <T> Item<T> score(Run<T> run, Item<T> item) {
+        Stage stage = stage(run.pipeline, STAGE_SCORE);
+        return stage.record(() -> {
+            try {
+                T entity = item.task().task.mapper().map(item.entry(), item.normalized());
+                if (entity == null) {
+                    stage.dropped.increment();
+                    return null;
+                }
+                stage.passed.increment();
+                return new Item<>(item.task(), item.entry(), item.normalized(), entity);
+            } catch (Exception e) {
+                stage.dropped.increment();
+                item.task().run.parseError();
+                run.errors.increment();
+                log.warn("Erro ao montar item de {}: {}", item.task().task.source(), e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Grava o lote em uma transação; se o lote falhar (ex.: violação de unicidade por uma coleta
+     * concorrente), grava os itens um a um para não perder o lote inteiro. As entidades voltam do
+     * rollback com o id já atribuído e passam por {@link IngestionSink#resetForRetry} antes da nova tentativa.
+     */
+    private <T> void persist(Run<T> run, List<Item<T>> batch) {
+        Stage stage = stage(run.pipeline, STAGE_PERSIST);
+        stage.record(() -> {
+            List<T> entities = batch.stream().map(item -> item.entity()).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> run.sink.saveAll(entities));
+                batch.forEach(item -> inserted(run, stage, item));
+                return null;
+            } catch (Exception e) {
+                log.warn("Erro ao gravar lote de {} itens do pipeline {}, gravando individualmente: {}",
+                    batch.size(), run.pipeline, e.getMessage());
+            }
+
+            for (Item<T> item : batch) {
+                try {
+                    run.sink.resetForRetry(item.entity());
+                    transactionTemplate.executeWithoutResult(status -> run.sink.saveAll(List.of(item.entity())));
+                    inserted(run, stage, item);
+                } catch (Exception e) {
+                    stage.dropped.increment();
+                    item.task().run.parseError();
+                    run.errors.increment();
+                    log.error("Erro ao gravar item {}: {}", item.entry().url(), e.getMessage());
+                }
+            }
+            return null;
+        });
+    }
+
+    private <T> void inserted(Run<T> run, Stage stage, Item<T> item) {
+        item.task().run.inserted();
+        run.inserted.increment();
+        stage.passed.increment();
+    }
+
+    private Stage stage(String pipeline, String name) {
+        return stages.computeIfAbsent(pipeline + ':' + name, key -> new Stage(pipeline, name));
+    }
+
+    /**
+     * Remove a query das URLs de um texto de log: a da GNews leva a chave da API ({@code apikey}),
+     * também repetida nas mensagens de erro do WebClient
+     */
+    static String withoutQuery(String text) {
+        return text == null ? null : QUERY_STRING.matcher(text).replaceAll("$1");
+    }
+
+    private static int parallelism(int configured) {
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Medidores de um estágio de um pipeline
+     */
+    private final class Stage {
+        private final Timer timer;
+        private final Counter passed;
+        private final Counter dropped;
+        private final AtomicInteger active = new AtomicInteger();
+
+        private Stage(String pipeline, String name) {
+            timer = Timer.builder("technews.ingestion.pipeline.stage")
+                .description("Tempo por chamada do estágio (item, resposta ou lote)")
+                .tags("pipeline", pipeline, "stage", name)
+                .register(meterRegistry);
+            passed = meterRegistry.counter("technews.ingestion.pipeline.items",
+                "pipeline", pipeline, "stage", name, "outcome", "passed");
+            dropped = meterRegistry.counter("technews.ingestion.pipeline.items",
+                "pipeline", pipeline, "stage", name, "outcome", "dropped");
+            Gauge.builder("technews.ingestion.pipeline.active", active, AtomicInteger::get)
+                .description("Chamadas do estágio em andamento")
+                .tags("pipeline", pipeline, "stage", name)
+                .register(meterRegistry);
+        }
+
+        <R> R record(Supplier<R> call) {
+            active.incrementAndGet();
+            try {
+                return timer.record(call);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Estado de uma execução: deduplicação entre lotes/fontes e totais do relatório
+     */
+    private final class Run<T> {
+        private final String pipeline;
+        private final IngestionSink<T> sink;
+        private final long startNanos = System.nanoTime();
+        private final List<TaskRun<T>> tasks = new ArrayList<>();
+        private final Set<String> seenUrls = ConcurrentHashMap.newKeySet();
+        private final Set<String> seenHashes = ConcurrentHashMap.newKeySet();
+        private final LongAdder parsed = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder inserted = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Run(String pipeline, IngestionSink<T> sink) {
+            this.pipeline = pipeline;
+            this.sink = sink;
+        }
+
+        synchronized TaskRun<T> start(IngestionTask<T> task) {
+            TaskRun<T> taskRun = new TaskRun<>(task, ingestionMetricsService.start(task.source(), task.type()));
+            tasks.add(taskRun);
+            return taskRun;
+        }
+
+        /**
+         * Finaliza as métricas das fontes ainda abertas (sucesso, ou falha se o pipeline abortou)
+         */
+        synchronized IngestionReport finish(Exception error) {
+            int failed = 0;
+            for (TaskRun<T> task : tasks) {
+                if (error != null) {
+                    task.fail(error);
+                } else {
+                    task.succeed();
+                }
+                failed += task.failed ? 1 : 0;
+            }
+            IngestionReport report = new IngestionReport(pipeline, tasks.size(), failed, parsed.sum(),
+                duplicates.sum(), inserted.sum(), errors.sum(), (System.nanoTime() - startNanos) / 1_000_000);
+            log.info("Pipeline {} concluído: {} fontes ({} com falha), {} itens, {} duplicados, {} gravados, {} erros em {} ms",
+                pipeline, report.sources(), report.failedSources(), report.parsed(), report.duplicates(),
+                report.inserted(), report.errors(), report.elapsedMillis());
+            return report;
+        }
+    }
+
+    /**
+     * Uma fonte em coleta; a execução é finalizada uma única vez (falha no fetch/parse ou ao fim do pipeline)
+     */
+    private static final class TaskRun<T> {
+        private final IngestionTask<T> task;
+        private final IngestionRun run;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile boolean failed;
+
+        private TaskRun(IngestionTask<T> task, IngestionRun run) {
+            this.task = task;
+            this.run = run;
+        }
+
+        void fail(Throwable e) {
+            if (finished.compareAndSet(false, true)) {
+                failed = true;
+                run.failure(e instanceof Exception ex ? ex : new IllegalStateException(e));
+            }
+        }
+
+        void succeed() {
+            if (finished.compareAndSet(false, true)) {
+                run.success();
+            }
+        }
+    }
+
+    private record Fetched<T>(TaskRun<T> task, byte[] body) {
+    }
+
+    private record Item<T>(TaskRun<T> task, IngestedEntry entry, NormalizedContent normalized, T entity) {
+    }
+}
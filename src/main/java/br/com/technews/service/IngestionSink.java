@@ -0,0 +1,82 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestedEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Destino das entidades produzidas pelo {@link IngestionPipeline}: consultas de deduplicação
+ * em lote e gravação em lote (chamada dentro de uma transação do pipeline)
+ */
+public interface IngestionSink<T> {
+
+    /**
+     * URLs do lote que já estão persistidas
+     */
+    Set<String> findExistingUrls(Collection<String> urls);
+
+    /**
+     * Hashes de conteúdo do lote que já estão persistidos; só consultado quando {@link #tracksContentHash()}
+     */
+    default Set<String> findExistingContentHashes(Collection<String> hashes) {
+        return Set.of();
+    }
+
+    /**
+     * Indica se itens com o mesmo conteúdo em URLs diferentes devem ser descartados
+     */
+    default boolean tracksContentHash() {
+        return false;
+    }
+
+    /**
+     * Notificado quando um item é descartado por conteúdo duplicado
+     */
+    default void duplicateContent(IngestionTask<T> task, IngestedEntry entry) {
+    }
+
+    void saveAll(List<T> entities);
+
+    /**
+     * Prepara uma entidade de um lote que falhou para ser gravada individualmente. O rollback não desfaz
+     * o id (IDENTITY) que o Hibernate já atribuiu às entidades inseridas antes da falha, e com ele o save()
+     * faria merge de uma linha inexistente; destinos de entidades JPA devem limpar o id aqui.
+     */
+    default void resetForRetry(T entity) {
+    }
+
+    /**
+     * Destino com deduplicação apenas por URL
+     */
+    static <T> IngestionSink<T> of(Function<Collection<String>, Set<String>> existingUrls, Consumer<List<T>> saveAll) {
+        return of(existingUrls, saveAll, entity -> { });
+    }
+
+    /**
+     * Destino com deduplicação apenas por URL, de entidades que precisam ser preparadas antes de uma
+     * nova tentativa (ver {@link #resetForRetry})
+     */
+    static <T> IngestionSink<T> of(Function<Collection<String>, Set<String>> existingUrls, Consumer<List<T>> saveAll,
+                                   Consumer<T> resetForRetry) {
+        return new IngestionSink<>() {
+            @Override
+            public Set<String> findExistingUrls(Collection<String> urls) {
+                return existingUrls.apply(urls);
+            }
+
+            @Override
+            public void saveAll(List<T> entities) {
+                saveAll.accept(entities);
+            }
+
+            @Override
+            public void resetForRetry(T entity) {
+                resetForRetry.accept(entity);
+            }
+        };
+    }
+}
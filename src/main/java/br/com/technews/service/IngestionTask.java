@@ -0,0 +1,32 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestedEntry;
+import br.com.technews.dto.NormalizedContent;
+
+import java.util.List;
+
+/**
+ * Uma fonte a ser coletada pelo {@link IngestionPipeline}.
+ *
+ * @param source     nome da fonte (métricas e logs)
+ * @param type       tipo da fonte (RSS_FEED, SCRAPER, GNEWS...)
+ * @param sourceId   id da {@code NewsSource}, quando houver (reputação)
+ * @param url        endereço baixado no estágio de fetch
+ * @param userAgent  User-Agent da requisição, ou {@code null} para o padrão do pipeline
+ * @param maxEntries máximo de itens aproveitados da resposta
+ * @param parser     extrai os itens do corpo da resposta
+ * @param mapper     monta (e pontua) a entidade a persistir a partir do item normalizado
+ */
+public record IngestionTask<T>(String source, String type, Long sourceId, String url, String userAgent,
+                               int maxEntries, Parser parser, Mapper<T> mapper) {
+
+    @FunctionalInterface
+    public interface Parser {
+        List<IngestedEntry> parse(byte[] body) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Mapper<T> {
+        T map(IngestedEntry entry, NormalizedContent normalized);
+    }
+}
@@ -0,0 +1,227 @@
+package br.com.technews.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Matcher de múltiplas palavras-chave compilado como autômato de Aho–Corasick.
+ * Conta todas as palavras-chave em uma única passada pelo texto, sem alocações por palavra-chave
+ * e sem converter o texto para minúsculas (a comparação é case-insensitive caractere a caractere).
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class KeywordMatcher {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final List<String> keywords;
+    private final int[] keywordLengths;
+
+    // Alfabeto compacto: classe 0 representa qualquer caractere fora das palavras-chave
+    private final int[] asciiClasses = new int[128];
+    private final char[] extendedChars;
+    private final int[] extendedClasses;
+
+    // Função de transição completa (goto + failure já resolvidos) e saídas por estado
+    private final int[][] delta;
+    private final int[][] outputs;
+
+    private KeywordMatcher(List<String> keywords) {
+        this.keywords = List.copyOf(keywords);
+        this.keywordLengths = new int[keywords.size()];
+
+        Set<Character> extended = new TreeSet<>();
+        int nextClass = 1;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = keyword.charAt(i);
+                if (ch < 128) {
+                    if (asciiClasses[ch] == 0) {
+                        asciiClasses[ch] = nextClass++;
+                    }
+                } else {
+                    extended.add(ch);
+                }
+            }
+        }
+        this.extendedChars = new char[extended.size()];
+        this.extendedClasses = new int[extended.size()];
+        int idx = 0;
+        for (Character ch : extended) {
+            extendedChars[idx] = ch;
+            extendedClasses[idx] = nextClass++;
+            idx++;
+        }
+        int alphabetSize = nextClass;
+
+        // 1. Trie
+        List<int[]> transitions = new ArrayList<>();
+        List<int[]> terminals = new ArrayList<>();
+        transitions.add(newRow(alphabetSize));
+        terminals.add(NO_OUTPUT);
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            keywordLengths[k] = keyword.length();
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int cls = classOf(keyword.charAt(i));
+                int next = transitions.get(state)[cls];
+                if (next < 0) {
+                    next = transitions.size();
+                    transitions.get(state)[cls] = next;
+                    transitions.add(newRow(alphabetSize));
+                    terminals.add(NO_OUTPUT);
+                }
+                state = next;
+            }
+            terminals.set(state, append(terminals.get(state), k));
+        }
+
+        // 2. Links de falha em largura, incorporando-os à função de transição
+        int[] failure = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int[] root = transitions.get(0);
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            if (root[cls] < 0) {
+                root[cls] = 0;
+            } else {
+                failure[root[cls]] = 0;
+                queue.add(root[cls]);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] row = transitions.get(state);
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int next = row[cls];
+                int fallback = transitions.get(failure[state])[cls];
+                if (next < 0) {
+                    row[cls] = fallback;
+                } else {
+                    failure[next] = fallback;
+                    terminals.set(next, concat(terminals.get(next), terminals.get(fallback)));
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.delta = transitions.toArray(new int[0][]);
+        this.outputs = terminals.toArray(new int[0][]);
+    }
+
+    /**
+     * Compila as palavras-chave (ignorando vazias e duplicadas, sem diferenciar maiúsculas).
+     */
+    public static KeywordMatcher compile(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword == null) {
+                continue;
+            }
+            String lower = toLowerCase(keyword.trim());
+            if (!lower.isEmpty()) {
+                normalized.add(lower);
+            }
+        }
+        return new KeywordMatcher(new ArrayList<>(normalized));
+    }
+
+    /**
+     * Total de ocorrências de todas as palavras-chave. Ocorrências da mesma palavra-chave não se
+     * sobrepõem; palavras-chave diferentes são contadas independentemente (ex.: "java" em "javascript").
+     */
+    public long countAll(CharSequence text) {
+        if (text == null || keywords.isEmpty()) {
+            return 0;
+        }
+
+        int[] nextAllowedStart = new int[keywords.size()];
+        long count = 0;
+        int state = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = delta[state][classOf(text.charAt(i))];
+            for (int k : outputs[state]) {
+                int start = i - keywordLengths[k] + 1;
+                if (start >= nextAllowedStart[k]) {
+                    count++;
+                    nextAllowedStart[k] = i + 1;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Indica se ao menos uma palavra-chave ocorre no texto, parando na primeira ocorrência.
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || keywords.isEmpty()) {
+            return false;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = delta[state][classOf(text.charAt(i))];
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int size() {
+        return keywords.size();
+    }
+
+    private int classOf(char ch) {
+        char lower = Character.toLowerCase(ch);
+        if (lower < 128) {
+            return asciiClasses[lower];
+        }
+        int idx = Arrays.binarySearch(extendedChars, lower);
+        return idx >= 0 ? extendedClasses[idx] : 0;
+    }
+
+    private static String toLowerCase(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(text.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static int[] newRow(int size) {
+        int[] row = new int[size];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
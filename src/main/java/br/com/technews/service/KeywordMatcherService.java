@@ -0,0 +1,107 @@
+package br.com.technews.service;
+
+import br.com.technews.entity.CurationKeyword;
+import br.com.technews.entity.CurationKeyword.KeywordList;
+import br.com.technews.repository.CurationKeywordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém em memória os matchers de palavras-chave compilados para curadoria e moderação.
+ * As listas vêm da tabela curation_keywords e são recarregadas periodicamente (hot-reload);
+ * listas sem registros no banco usam os valores padrão abaixo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordMatcherService {
+
+    // Palavras-chave que indicam conteúdo de qualidade em tecnologia
+    static final List<String> DEFAULT_TECH_KEYWORDS = List.of(
+        "inteligência artificial", "machine learning", "blockchain", "criptomoeda",
+        "desenvolvimento", "programação", "software", "aplicativo", "startup",
+        "inovação", "tecnologia", "digital", "dados", "segurança", "cloud",
+        "api", "framework", "javascript", "python", "java", "react", "angular",
+        "mobile", "web", "frontend", "backend", "devops", "kubernetes", "docker"
+    );
+
+    // Palavras que indicam conteúdo de baixa qualidade
+    static final List<String> DEFAULT_SPAM_KEYWORDS = List.of(
+        "clique aqui", "ganhe dinheiro", "oferta imperdível", "promoção",
+        "desconto", "compre agora", "urgente", "último dia"
+    );
+
+    // Termos suspeitos em comentários
+    static final List<String> DEFAULT_COMMENT_SPAM_KEYWORDS = List.of(
+        "viagra", "casino", "poker", "loan", "debt", "credit", "bitcoin", "crypto", "investment",
+        "forex", "trading", "pills", "pharmacy", "dating", "adult", "xxx", "porn", "sex", "escort",
+        "massage", "replica", "fake", "cheap", "discount", "sale", "buy now", "click here",
+        "free money", "make money", "work from home", "get rich", "lose weight", "miracle",
+        "guaranteed", "limited time", "act now", "urgent", "congratulations", "winner", "lottery",
+        "prize", "claim now", "http://", "https://", "www.", "bit.ly", "tinyurl", "goo.gl"
+    );
+
+    private final CurationKeywordRepository curationKeywordRepository;
+
+    private volatile Map<KeywordList, KeywordMatcher> matchers = compileDefaults();
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * Recarrega as listas do banco e substitui os matchers atomicamente.
+     * Em caso de falha mantém os matchers atuais.
+     */
+    @Scheduled(fixedDelayString = "${technews.curation.keywords.reload-interval-ms:300000}",
+               initialDelayString = "${technews.curation.keywords.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            Map<KeywordList, List<String>> lists = new EnumMap<>(KeywordList.class);
+            for (CurationKeyword keyword : curationKeywordRepository.findByActiveTrue()) {
+                lists.computeIfAbsent(keyword.getKeywordList(), k -> new ArrayList<>()).add(keyword.getKeyword());
+            }
+
+            Map<KeywordList, KeywordMatcher> compiled = new EnumMap<>(KeywordList.class);
+            for (KeywordList list : KeywordList.values()) {
+                List<String> keywords = lists.getOrDefault(list, defaultsFor(list));
+                compiled.put(list, KeywordMatcher.compile(keywords));
+            }
+
+            matchers = Collections.unmodifiableMap(compiled);
+            log.debug("Listas de palavras-chave recarregadas: {}", lists.keySet());
+        } catch (Exception e) {
+            log.warn("Erro ao recarregar palavras-chave, mantendo listas atuais: {}", e.getMessage());
+        }
+    }
+
+    public KeywordMatcher getMatcher(KeywordList list) {
+        return matchers.get(list);
+    }
+
+    private static Map<KeywordList, KeywordMatcher> compileDefaults() {
+        Map<KeywordList, KeywordMatcher> compiled = new EnumMap<>(KeywordList.class);
+        for (KeywordList list : KeywordList.values()) {
+            compiled.put(list, KeywordMatcher.compile(defaultsFor(list)));
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    private static List<String> defaultsFor(KeywordList list) {
+        return switch (list) {
+            case TECH -> DEFAULT_TECH_KEYWORDS;
+            case SPAM -> DEFAULT_SPAM_KEYWORDS;
+            case COMMENT_SPAM -> DEFAULT_COMMENT_SPAM_KEYWORDS;
+        };
+    }
+}
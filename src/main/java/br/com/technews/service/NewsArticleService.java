@@ -1,25 +1,69 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.ArticleDetail;
+import br.com.technews.dto.ArticleListItem;
+import br.com.technews.dto.ArticleSearchFacets;
+import br.com.technews.dto.ArticleSearchPage;
+import br.com.technews.dto.ArticleSearchResult;
+import br.com.technews.dto.ContentVersion;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.ArticleStatus;
 import br.com.technews.repository.NewsArticleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class NewsArticleService {
 
+    // Propriedades ordenáveis na busca textual nativa -> colunas de news_articles
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "publishedAt", "published_at",
+        "createdAt", "created_at",
+        "title", "title",
+        "author", "author",
+        "category", "category");
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "publishedAt");
+
     @Autowired
     private NewsArticleRepository newsArticleRepository;
 
+    @Autowired
+    private ArticleSearchIndexService articleSearchIndexService;
+
+    @Autowired
+    private ArticleStatisticsService articleStatisticsService;
+
+    @Autowired
+    private HomePageSnapshotService homePageSnapshotService;
+
+    @Autowired
+    private ArticleFeedService articleFeedService;
+
+    // Busca textual com tsvector/GIN (PostgreSQL, migração V11); desativada usa LIKE (H2)
+    @Value("${technews.search.full-text.enabled:false}")
+    private boolean fullTextSearchEnabled;
+
     public List<NewsArticle> findAll() {
         return newsArticleRepository.findAll();
     }
@@ -28,10 +72,43 @@ public class NewsArticleService {
         return newsArticleRepository.findAll(pageable);
     }
 
+    /**
+     * Listagem do admin por chave (id decrescente), sem contagem; cursor null retorna a primeira fatia
+     */
+    @Transactional(readOnly = true)
+    public Slice<NewsArticle> findAllAfter(ArticleCursor cursor, int size) {
+        long beforeId = cursor != null ? cursor.id() : Long.MAX_VALUE;
+        return newsArticleRepository.findSliceBefore(beforeId, PageRequest.of(0, size));
+    }
+
     public Optional<NewsArticle> findById(Long id) {
         return newsArticleRepository.findById(id);
     }
 
+    /**
+     * Artigo com categoria e tags carregadas, para as páginas de detalhe
+     */
+    @Transactional(readOnly = true)
+    public Optional<NewsArticle> findDetailedById(Long id) {
+        return newsArticleRepository.findWithCategoryAndTagsById(id);
+    }
+
+    /**
+     * Versão do artigo para requisições condicionais, sem carregar a entidade
+     */
+    @Transactional(readOnly = true)
+    public Optional<ContentVersion> findVersion(Long id) {
+        return newsArticleRepository.findVersionById(id);
+    }
+
+    /**
+     * Versão das listagens de artigos publicados para requisições condicionais
+     */
+    @Transactional(readOnly = true)
+    public Optional<ContentVersion> findPublishedVersion() {
+        return Optional.ofNullable(newsArticleRepository.findPublishedVersion());
+    }
+
     public List<NewsArticle> findPublishedArticles() {
         return newsArticleRepository.findByPublishedTrueOrderByPublishedAtDesc();
     }
@@ -48,21 +125,49 @@ public class NewsArticleService {
         return newsArticleRepository.findByStatusOrderByCreatedAtDesc(status);
     }
 
+    /**
+     * Salva o artigo; alterações em artigos existentes feitas por aqui só entram nas estatísticas
+     * na próxima reconciliação (o estado anterior não é conhecido)
+     */
     public NewsArticle save(NewsArticle article) {
-        return newsArticleRepository.save(article);
+        boolean isNew = article.getId() == null;
+        NewsArticle saved = written(newsArticleRepository.save(article));
+        if (isNew) {
+            articleStatisticsService.articleChanged(null, articleStatisticsService.contributionOf(saved));
+        }
+        return saved;
+    }
+
+    public List<NewsArticle> saveAll(List<NewsArticle> articles) {
+        List<NewsArticle> fresh = articles.stream().filter(article -> article.getId() == null).toList();
+        List<NewsArticle> saved = newsArticleRepository.saveAll(articles);
+        saved.forEach(articleSearchIndexService::articleSaved);
+        homePageSnapshotService.articlesChanged();
+        articleFeedService.articlesChanged();
+        fresh.forEach(article -> articleStatisticsService.articleChanged(null,
+            articleStatisticsService.contributionOf(article)));
+        return saved;
+    }
+
+    /**
+     * URLs que já possuem artigo, em uma única consulta
+     */
+    public Set<String> findExistingUrls(Collection<String> urls) {
+        return newsArticleRepository.findExistingUrls(urls);
     }
 
     public NewsArticle create(NewsArticle article) {
         article.setId(null); // Garantir que é um novo artigo
         article.setStatus(ArticleStatus.PENDENTE_REVISAO);
         article.setPublished(false);
-        return newsArticleRepository.save(article);
+        return written(newsArticleRepository.save(article));
     }
 
     public NewsArticle update(Long id, NewsArticle articleDetails) {
         Optional<NewsArticle> optionalArticle = newsArticleRepository.findById(id);
         if (optionalArticle.isPresent()) {
             NewsArticle article = optionalArticle.get();
+            ArticleStatisticsService.Contribution before = articleStatisticsService.contributionOf(article);
             article.setTitle(articleDetails.getTitle());
             article.setContent(articleDetails.getContent());
             article.setSummary(articleDetails.getSummary());
@@ -71,7 +176,7 @@ public class NewsArticleService {
             article.setUrl(articleDetails.getUrl());
             article.setImageUrl(articleDetails.getImageUrl());
             article.setSourceDomain(articleDetails.getSourceDomain());
-            return newsArticleRepository.save(article);
+            return counted(before, written(newsArticleRepository.save(article)));
         }
         throw new RuntimeException("Artigo não encontrado com ID: " + id);
     }
@@ -80,10 +185,11 @@ public class NewsArticleService {
         Optional<NewsArticle> optionalArticle = newsArticleRepository.findById(id);
         if (optionalArticle.isPresent()) {
             NewsArticle article = optionalArticle.get();
+            ArticleStatisticsService.Contribution before = articleStatisticsService.contributionOf(article);
             article.setPublished(true);
             article.setPublishedAt(LocalDateTime.now());
             article.setStatus(ArticleStatus.PUBLICADO);
-            return newsArticleRepository.save(article);
+            return counted(before, written(newsArticleRepository.save(article)));
         }
         throw new RuntimeException("Artigo não encontrado com ID: " + id);
     }
@@ -92,16 +198,23 @@ public class NewsArticleService {
         Optional<NewsArticle> optionalArticle = newsArticleRepository.findById(id);
         if (optionalArticle.isPresent()) {
             NewsArticle article = optionalArticle.get();
+            ArticleStatisticsService.Contribution before = articleStatisticsService.contributionOf(article);
             article.setPublished(false);
             article.setStatus(ArticleStatus.PENDENTE_REVISAO);
-            return newsArticleRepository.save(article);
+            return counted(before, written(newsArticleRepository.save(article)));
         }
         throw new RuntimeException("Artigo não encontrado com ID: " + id);
     }
 
     public void deleteById(Long id) {
-        if (newsArticleRepository.existsById(id)) {
+        Optional<NewsArticle> optionalArticle = newsArticleRepository.findById(id);
+        if (optionalArticle.isPresent()) {
+            ArticleStatisticsService.Contribution before = articleStatisticsService.contributionOf(optionalArticle.get());
             newsArticleRepository.deleteById(id);
+            articleSearchIndexService.articleDeleted(id);
+            homePageSnapshotService.articlesChanged();
+            articleFeedService.articlesChanged();
+            articleStatisticsService.articleChanged(before, null);
         } else {
             throw new RuntimeException("Artigo não encontrado com ID: " + id);
         }
@@ -128,14 +241,6 @@ public class NewsArticleService {
         return newsArticleRepository.existsByUrl(url);
     }
 
-    /**
-     * Remove artigos não publicados mais antigos que o número de dias especificado
-     */
-    public int deleteOldUnpublishedArticles(int daysOld) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        return newsArticleRepository.deleteByPublishedFalseAndCreatedAtBefore(cutoffDate);
-    }
-
     /**
      * Busca artigos por fonte
      */
@@ -168,6 +273,9 @@ public class NewsArticleService {
     }
 
     public Page<NewsArticle> searchPublishedArticles(String searchTerm, Pageable pageable) {
+        if (useFullTextSearch(searchTerm)) {
+            return fullTextSearch(searchTerm, null, null, null, null, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return newsArticleRepository.findByPublishedTrueAndTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByPublishedAtDesc(
             searchTerm, pageable);
     }
@@ -175,15 +283,176 @@ public class NewsArticleService {
     public Page<NewsArticle> findPublishedArticlesByCategory(String category, Pageable pageable) {
         return newsArticleRepository.findByPublishedTrueAndCategoryOrderByPublishedAtDesc(category, pageable);
     }
+
+    /**
+     * Artigos publicados por chave (publishedAt, id) em ordem decrescente, sem contagem.
+     * Cursor null retorna a primeira fatia; categoria vazia lista todas.
+     */
+    @Transactional(readOnly = true)
+    public Slice<NewsArticle> findPublishedArticlesAfter(String category, ArticleCursor cursor, int size) {
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+        Pageable pageable = PageRequest.of(0, size);
+        if (cursor == null) {
+            return newsArticleRepository.findPublishedSlice(categoryFilter, pageable);
+        }
+        if (cursor.publishedAt() == null) {
+            throw new IllegalArgumentException("Cursor sem data de publicação");
+        }
+        return newsArticleRepository.findPublishedSliceAfter(categoryFilter, cursor.publishedAt(), cursor.id(), pageable);
+    }
     
     /**
-     * Busca artigos com filtros avançados combinados
+     * Listagem de publicados para a API, sem carregar entidades
+     */
+    @Transactional(readOnly = true)
+    public Page<ArticleListItem> findPublishedItems(Pageable pageable) {
+        return newsArticleRepository.findPublishedItems(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArticleListItem> findPublishedItemsByCategory(String category, Pageable pageable) {
+        return newsArticleRepository.findPublishedItemsByCategory(category, pageable);
+    }
+
+    /**
+     * Equivalente de {@link #findPublishedArticlesAfter} para a API
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleListItem> findPublishedItemsAfter(String category, ArticleCursor cursor, int size) {
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+        Pageable pageable = PageRequest.of(0, size);
+        if (cursor == null) {
+            return newsArticleRepository.findPublishedItemSlice(categoryFilter, pageable);
+        }
+        if (cursor.publishedAt() == null) {
+            throw new IllegalArgumentException("Cursor sem data de publicação");
+        }
+        return newsArticleRepository.findPublishedItemSliceAfter(categoryFilter, cursor.publishedAt(), cursor.id(), pageable);
+    }
+
+    /**
+     * Até 10 artigos mais recentes para a API (mesmo limite de {@link #findRecentArticles})
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleListItem> findRecentItems(int limit) {
+        return newsArticleRepository.findRecentItems(PageRequest.of(0, Math.max(1, Math.min(limit, 10))));
+    }
+
+    /**
+     * Detalhe do artigo para a API: colunas do artigo e nomes das tags em duas consultas
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleDetail> findDetail(Long id) {
+        return newsArticleRepository.findDetailById(id)
+            .map(detail -> detail.withTags(newsArticleRepository.findTagNamesByArticleId(id)));
+    }
+
+    /**
+     * Busca da API com os mesmos critérios de {@link #searchArticlesWithFilters}, retornando itens de listagem
+     */
+    @Transactional(readOnly = true)
+    public Page<ArticleListItem> searchItems(String search, Pageable pageable) {
+        Optional<ArticleSearchResult> indexed = articleSearchIndexService.search(search, null, null, null, null, pageable);
+        if (indexed.isPresent()) {
+            List<Long> ids = indexed.get().ids();
+            Map<Long, ArticleListItem> byId = ids.isEmpty() ? Map.of() : newsArticleRepository.findItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArticleListItem::id, Function.identity()));
+            List<ArticleListItem> items = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+            return new PageImpl<>(items, pageable, indexed.get().total());
+        }
+        return searchDatabase(search, null, null, null, null, pageable).map(ArticleListItem::of);
+    }
+
+    /**
+     * Busca artigos com filtros avançados combinados.
+     * Com termo de busca e sem ordenação no Pageable, o resultado vem por relevância
+     * (índice de busca ou busca textual) ou por data de publicação (fallback com LIKE).
      */
     public Page<NewsArticle> searchArticlesWithFilters(String search, String category, 
                                                       String dateFrom, String dateTo, 
                                                       String author, Pageable pageable) {
+        return searchArticles(search, category, dateFrom, dateTo, author, pageable).articles();
+    }
+
+    /**
+     * Busca da tela de artigos: usa o índice de busca em memória quando pronto (com facetas de
+     * categoria, autor e mês); caso contrário consulta o banco, sem facetas
+     */
+    @Transactional(readOnly = true)
+    public ArticleSearchPage searchArticles(String search, String category,
+                                            String dateFrom, String dateTo,
+                                            String author, Pageable pageable) {
+        Optional<ArticleSearchResult> indexed = articleSearchIndexService.search(
+            search, category, dateFrom, dateTo, author, pageable);
+        if (indexed.isPresent()) {
+            ArticleSearchResult result = indexed.get();
+            return new ArticleSearchPage(new PageImpl<>(loadInOrder(result.ids()), pageable, result.total()),
+                result.facets());
+        }
+        return new ArticleSearchPage(searchDatabase(search, category, dateFrom, dateTo, author, pageable),
+            ArticleSearchFacets.empty());
+    }
+
+    private Page<NewsArticle> searchDatabase(String search, String category, String dateFrom, String dateTo,
+                                             String author, Pageable pageable) {
+        if (useFullTextSearch(search)) {
+            return fullTextSearch(search, category, dateFrom, dateTo, author, pageable);
+        }
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+        }
         return newsArticleRepository.findArticlesWithFilters(search, category, dateFrom, dateTo, author, pageable);
     }
+
+    private List<NewsArticle> loadInOrder(List<Long> ids) {
+        return inOrder(ids, newsArticleRepository.findWithCategoryByIdIn(ids));
+    }
+
+    private static List<NewsArticle> inOrder(List<Long> ids, List<NewsArticle> articles) {
+        Map<Long, NewsArticle> byId = articles.stream()
+            .collect(Collectors.toMap(NewsArticle::getId, Function.identity()));
+        // Artigos removidos depois da atualização do índice são ignorados
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // Atualiza o índice de busca, a página inicial e os feeds após o commit da escrita
+    private NewsArticle written(NewsArticle article) {
+        articleSearchIndexService.articleSaved(article);
+        homePageSnapshotService.articlesChanged();
+        articleFeedService.articlesChanged();
+        return article;
+    }
+
+    private NewsArticle counted(ArticleStatisticsService.Contribution before, NewsArticle article) {
+        articleStatisticsService.articleChanged(before, articleStatisticsService.contributionOf(article));
+        return article;
+    }
+
+    private boolean useFullTextSearch(String search) {
+        return fullTextSearchEnabled && search != null && !search.isBlank();
+    }
+
+    private Page<NewsArticle> fullTextSearch(String search, String category, String dateFrom, String dateTo,
+                                             String author, Pageable pageable) {
+        // Consulta nativa: o Sort precisa referenciar colunas; sem ordenação válida, ordena por relevância
+        List<Sort.Order> orders = pageable.getSort().stream()
+            .filter(order -> SORT_COLUMNS.containsKey(order.getProperty()))
+            .map(order -> new Sort.Order(order.getDirection(), SORT_COLUMNS.get(order.getProperty())))
+            .toList();
+        Pageable columnPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+
+        String query = search.trim();
+        Page<Long> ids = orders.isEmpty()
+            ? newsArticleRepository.searchPublishedRanked(query, blankToEmpty(category), blankToEmpty(dateFrom),
+                blankToEmpty(dateTo), blankToEmpty(author), columnPageable)
+            : newsArticleRepository.searchPublishedMatching(query, blankToEmpty(category), blankToEmpty(dateFrom),
+                blankToEmpty(dateTo), blankToEmpty(author), columnPageable);
+        return new PageImpl<>(loadInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    private static String blankToEmpty(String value) {
+        return value == null || value.isBlank() ? "" : value.trim();
+    }
     
     /**
      * Obtém lista de autores distintos
@@ -210,13 +479,12 @@ public class NewsArticleService {
     }
     
     /**
-     * Busca últimos artigos publicados (limitado)
+     * Busca últimos artigos publicados (limitado), com categoria e tags para a renderização dos e-mails
      */
+    @Transactional(readOnly = true)
     public List<NewsArticle> findLatestPublishedArticles(int limit) {
-        return newsArticleRepository.findByPublishedTrueOrderByPublishedAtDesc()
-                .stream()
-                .limit(limit)
-                .toList();
+        List<Long> ids = newsArticleRepository.findLatestPublishedIds(PageRequest.of(0, limit));
+        return inOrder(ids, newsArticleRepository.findWithCategoryAndTagsByIdIn(ids));
     }
     
     /**
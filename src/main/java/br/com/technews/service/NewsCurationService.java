@@ -1,16 +1,32 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.CurationCandidate;
+import br.com.technews.dto.CurationSummary;
+import br.com.technews.dto.NormalizedContent;
+import br.com.technews.dto.ReputationSnapshot;
 import br.com.technews.entity.CollectedNews;
+import br.com.technews.entity.CurationKeyword.KeywordList;
 import br.com.technews.repository.CollectedNewsRepository;
+import br.com.technews.service.SourceReputationService.FastTrack;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 @Service
@@ -19,21 +35,11 @@ import java.util.regex.Pattern;
 public class NewsCurationService {
 
     private final CollectedNewsRepository collectedNewsRepository;
-
-    // Palavras-chave que indicam conteúdo de qualidade em tecnologia
-    private static final Set<String> TECH_KEYWORDS = Set.of(
-        "inteligência artificial", "machine learning", "blockchain", "criptomoeda",
-        "desenvolvimento", "programação", "software", "aplicativo", "startup",
-        "inovação", "tecnologia", "digital", "dados", "segurança", "cloud",
-        "api", "framework", "javascript", "python", "java", "react", "angular",
-        "mobile", "web", "frontend", "backend", "devops", "kubernetes", "docker"
-    );
-
-    // Palavras que indicam conteúdo de baixa qualidade
-    private static final Set<String> SPAM_KEYWORDS = Set.of(
-        "clique aqui", "ganhe dinheiro", "oferta imperdível", "promoção",
-        "desconto", "compre agora", "urgente", "último dia"
-    );
+    private final ContentNormalizationService contentNormalizationService;
+    private final KeywordMatcherService keywordMatcherService;
+    private final SourceReputationService sourceReputationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     // Padrões de títulos de baixa qualidade
     private static final Pattern CLICKBAIT_PATTERN = Pattern.compile(
@@ -41,33 +47,94 @@ public class NewsCurationService {
         "não vai acreditar|vai te surpreender|impressionante).*"
     );
 
-    @Transactional
-    public void processAllPendingNews() {
+    // Status reavaliados quando as regras de curadoria mudam (notícias já publicadas não são alteradas)
+    public static final Set<CollectedNews.NewsStatus> RESCORABLE_STATUSES = EnumSet.of(
+        CollectedNews.NewsStatus.PENDING, CollectedNews.NewsStatus.APPROVED, CollectedNews.NewsStatus.REJECTED
+    );
+
+    private static final double APPROVAL_THRESHOLD = 6.0;
+
+    private static final String BULK_UPDATE_SQL =
+        "UPDATE collected_news SET status = ?, quality_score = ?, processed_at = ?, updated_at = ? WHERE id = ?";
+
+    @Value("${technews.curation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${technews.curation.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool curationPool;
+
+    @PostConstruct
+    void initPool() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        curationPool = new ForkJoinPool(threads);
+    }
+
+    @PreDestroy
+    void shutdownPool() {
+        curationPool.shutdown();
+    }
+
+    /**
+     * Processa as notícias pendentes em blocos paginados por chave, com scoring paralelo e atualização em lote.
+     */
+    public CurationSummary processAllPendingNews() {
         log.info("Iniciando processamento de notícias pendentes");
-        
-        List<CollectedNews> pendingNews = collectedNewsRepository
-            .findByStatus(CollectedNews.NewsStatus.PENDING);
-        
-        log.info("Encontradas {} notícias pendentes para processamento", pendingNews.size());
-        
-        int approved = 0;
-        int rejected = 0;
-        
-        for (CollectedNews news : pendingNews) {
-            try {
-                if (shouldApproveNews(news)) {
-                    approveNews(news);
-                    approved++;
-                } else {
-                    rejectNews(news);
-                    rejected++;
-                }
-            } catch (Exception e) {
-                log.error("Erro ao processar notícia ID {}: {}", news.getId(), e.getMessage());
+        // Notícias pendentes ainda não contaram para a reputação das fontes
+        return rescore(EnumSet.of(CollectedNews.NewsStatus.PENDING), true);
+    }
+
+    /**
+     * Reavalia o backlog com as regras atuais. Cada bloco de {@code chunkSize} notícias é lido
+     * como projeção (sem entidades gerenciadas), pontuado em paralelo no ForkJoinPool da curadoria
+     * e gravado com um único UPDATE em lote por bloco.
+     */
+    public CurationSummary rescoreBacklog(Set<CollectedNews.NewsStatus> statuses) {
+        return rescore(statuses, false);
+    }
+
+    private CurationSummary rescore(Set<CollectedNews.NewsStatus> statuses, boolean recordReputation) {
+        long start = System.currentTimeMillis();
+        long processed = 0;
+        long approved = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<CurationCandidate> chunk = collectedNewsRepository.findCurationCandidatesAfter(
+                statuses, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
             }
+
+            List<CurationResult> results = scoreInParallel(chunk, recordReputation);
+            applyResults(results);
+
+            processed += results.size();
+            approved += results.stream().filter(CurationResult::approved).count();
+            afterId = chunk.get(chunk.size() - 1).id();
+
+            log.debug("Bloco de curadoria concluído até ID {} ({} processadas)", afterId, processed);
         }
-        
-        log.info("Processamento concluído: {} aprovadas, {} rejeitadas", approved, rejected);
+
+        CurationSummary summary = new CurationSummary(
+            processed, approved, processed - approved, System.currentTimeMillis() - start);
+        log.info("Processamento concluído: {} aprovadas, {} rejeitadas em {} ms",
+            summary.approved(), summary.rejected(), summary.elapsedMillis());
+        return summary;
+    }
+
+    /**
+     * Curadoria inline de uma notícia recém-coletada, reaproveitando o conteúdo normalizado na coleta.
+     * Define score, status e data de processamento antes da persistência, evitando um UPDATE posterior.
+     */
+    public void curate(CollectedNews news, NormalizedContent normalized) {
+        CurationResult result = score(CurationCandidate.of(news), normalized, true);
+        news.setQualityScore(result.score());
+        news.setStatus(result.approved()
+            ? CollectedNews.NewsStatus.APPROVED
+            : CollectedNews.NewsStatus.REJECTED);
+        news.setProcessedAt(LocalDateTime.now());
     }
 
     @Transactional
@@ -86,28 +153,87 @@ public class NewsCurationService {
         log.debug("Notícia rejeitada: {}", news.getTitle());
     }
 
-    private boolean shouldApproveNews(CollectedNews news) {
-        double score = calculateDetailedQualityScore(news);
-        
-        // Atualiza o score na entidade
-        news.setQualityScore(score);
-        
-        // Aprova se score >= 6.0
-        return score >= 6.0;
+    /**
+     * Falhas de uma notícia são registradas e a notícia fica de fora do bloco, sem interromper
+     * as demais: o cursor avança mesmo assim e a próxima execução não esbarra de novo nela primeiro.
+     */
+    private List<CurationResult> scoreInParallel(List<CurationCandidate> chunk, boolean recordReputation) {
+        try {
+            return curationPool.submit(() -> chunk.parallelStream()
+                .flatMap(candidate -> scoreSafely(candidate, recordReputation).stream())
+                .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Curadoria interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro no scoring paralelo da curadoria", e.getCause());
+        }
+    }
+
+    private Optional<CurationResult> scoreSafely(CurationCandidate candidate, boolean recordReputation) {
+        try {
+            return Optional.of(score(candidate, null, recordReputation));
+        } catch (Exception e) {
+            log.error("Erro ao processar notícia ID {}: {}", candidate.id(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fontes com reputação consistente são decididas sem análise de conteúdo; as demais passam
+     * pela análise completa, cujo resultado alimenta a reputação quando {@code recordReputation}.
+     */
+    private CurationResult score(CurationCandidate candidate, NormalizedContent normalized, boolean recordReputation) {
+        ReputationSnapshot reputation = sourceReputationService.getReputation(candidate.sourceId(), candidate.originalUrl());
+        FastTrack fastTrack = sourceReputationService.fastTrack(candidate.sourceId(), reputation);
+        if (fastTrack != FastTrack.NONE) {
+            double average = reputation.averageScore();
+            boolean approve = fastTrack == FastTrack.APPROVE;
+            double score = approve
+                ? Math.max(average, APPROVAL_THRESHOLD)
+                : Math.min(average, APPROVAL_THRESHOLD - 1.0);
+            return new CurationResult(candidate.id(), score, approve);
+        }
+
+        if (normalized == null) {
+            normalized = contentNormalizationService.normalizeText(candidate.title(), candidate.content());
+        }
+        double score = calculateDetailedQualityScore(candidate, normalized);
+        boolean approve = score >= APPROVAL_THRESHOLD;
+        if (recordReputation) {
+            sourceReputationService.recordCuration(candidate.sourceId(), candidate.originalUrl(), score, approve);
+        }
+        return new CurationResult(candidate.id(), score, approve);
+    }
+
+    private void applyResults(List<CurationResult> results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(BULK_UPDATE_SQL, results, results.size(), (ps, result) -> {
+                ps.setString(1, (result.approved()
+                    ? CollectedNews.NewsStatus.APPROVED
+                    : CollectedNews.NewsStatus.REJECTED).name());
+                ps.setDouble(2, result.score());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.setLong(5, result.id());
+            }));
     }
 
-    private double calculateDetailedQualityScore(CollectedNews news) {
+    /**
+     * Calcula o score detalhado reaproveitando o conteúdo já normalizado,
+     * sem novas conversões para minúsculas ou varreduras de frases.
+     */
+    public double calculateDetailedQualityScore(CurationCandidate news, NormalizedContent normalized) {
         double score = 5.0; // Score base
         
-        String title = news.getTitle() != null ? news.getTitle().toLowerCase() : "";
-        String content = news.getContent() != null ? news.getContent().toLowerCase() : "";
-        String fullText = title + " " + content;
+        String fullText = normalized.lowerText();
         
         // 1. Análise do título
-        score += analyzeTitleQuality(news.getTitle());
+        score += analyzeTitleQuality(news.title());
         
         // 2. Análise do conteúdo
-        score += analyzeContentQuality(news.getContent());
+        score += analyzeContentQuality(news.content(), normalized.sentenceCount());
         
         // 3. Relevância tecnológica
         score += analyzeTechRelevance(fullText);
@@ -159,7 +285,7 @@ public class NewsCurationService {
         return score;
     }
 
-    private double analyzeContentQuality(String content) {
+    private double analyzeContentQuality(String content, int sentences) {
         if (content == null || content.trim().isEmpty()) {
             return -1.0;
         }
@@ -184,7 +310,6 @@ public class NewsCurationService {
         }
         
         // Contagem de frases (indica estrutura)
-        long sentences = content.chars().filter(ch -> ch == '.' || ch == '!' || ch == '?').count();
         if (sentences >= 3) {
             score += 0.5;
         }
@@ -195,10 +320,8 @@ public class NewsCurationService {
     private double analyzeTechRelevance(String text) {
         double score = 0.0;
         
-        // Conta palavras-chave tecnológicas
-        long techKeywordCount = TECH_KEYWORDS.stream()
-            .mapToLong(keyword -> countOccurrences(text, keyword))
-            .sum();
+        // Conta palavras-chave tecnológicas em uma única passada
+        long techKeywordCount = keywordMatcherService.getMatcher(KeywordList.TECH).countAll(text);
         
         if (techKeywordCount >= 3) {
             score += 2.0;
@@ -215,9 +338,7 @@ public class NewsCurationService {
         double penalty = 0.0;
         
         // Detecta palavras de spam
-        long spamCount = SPAM_KEYWORDS.stream()
-            .mapToLong(keyword -> countOccurrences(text, keyword))
-            .sum();
+        long spamCount = keywordMatcherService.getMatcher(KeywordList.SPAM).countAll(text);
         
         penalty += spamCount * 1.5;
         
@@ -237,13 +358,13 @@ public class NewsCurationService {
         return penalty;
     }
 
-    private double analyzeRecency(CollectedNews news) {
-        if (news.getPublishedAt() == null) {
+    private double analyzeRecency(CurationCandidate news) {
+        if (news.publishedAt() == null) {
             return 0.0;
         }
         
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime publishedAt = news.getPublishedAt();
+        LocalDateTime publishedAt = news.publishedAt();
         
         // Notícias mais recentes têm score maior
         if (publishedAt.isAfter(now.minusHours(24))) {
@@ -259,29 +380,9 @@ public class NewsCurationService {
         return 0.0;
     }
 
-    private double analyzeSourceQuality(CollectedNews news) {
-        // Por enquanto, score neutro
-        // Pode ser expandido para avaliar a reputação da fonte
-        return 0.0;
-    }
-
-    private long countOccurrences(String text, String keyword) {
-        if (text == null || keyword == null) {
-            return 0;
-        }
-        
-        String lowerText = text.toLowerCase();
-        String lowerKeyword = keyword.toLowerCase();
-        
-        int count = 0;
-        int index = 0;
-        
-        while ((index = lowerText.indexOf(lowerKeyword, index)) != -1) {
-            count++;
-            index += lowerKeyword.length();
-        }
-        
-        return count;
+    private double analyzeSourceQuality(CurationCandidate news) {
+        // Histórico de aprovação da fonte (ou do domínio, se a fonte ainda não tem amostras)
+        return sourceReputationService.scoreAdjustment(news.sourceId(), news.originalUrl());
     }
 
     public List<CollectedNews> getTopQualityNews(int limit) {
@@ -298,24 +399,6 @@ public class NewsCurationService {
         );
     }
 
-    @Transactional
-    public void cleanupOldNews() {
-        log.info("Iniciando limpeza de notícias antigas");
-        
-        // Remove notícias rejeitadas com mais de 30 dias
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        
-        List<CollectedNews> oldRejectedNews = collectedNewsRepository
-            .findByStatus(CollectedNews.NewsStatus.REJECTED)
-            .stream()
-            .filter(news -> news.getCreatedAt().isBefore(cutoffDate))
-            .toList();
-        
-        if (!oldRejectedNews.isEmpty()) {
-            collectedNewsRepository.deleteAll(oldRejectedNews);
-            log.info("Removidas {} notícias rejeitadas antigas", oldRejectedNews.size());
-        }
-        
-        log.info("Limpeza de notícias antigas concluída");
+    private record CurationResult(Long id, double score, boolean approved) {
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.IngestedEntry;
 import br.com.technews.entity.Category;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.repository.CategoryRepository;
@@ -9,13 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,22 +28,43 @@ public class NewsScrapingService {
 
     private final NewsArticleRepository newsArticleRepository;
     private final CategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final IngestionPipeline ingestionPipeline;
+
+    static final String PIPELINE = "scraper";
+
+    // Artigos aproveitados por página
+    private static final int MAX_ARTICLES_PER_PAGE = 5;
 
     private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
 
-    @Transactional
+    // Páginas de origem dos scrapers (configuráveis para replay offline)
+    @Value("${technews.scraping.techcrunch-url:https://techcrunch.com/}")
+    private String techCrunchUrl;
+
+    @Value("${technews.scraping.arstechnica-url:https://arstechnica.com/}")
+    private String arsTechnicaUrl;
+
+    @Value("${technews.scraping.theverge-url:https://www.theverge.com/tech}")
+    private String theVergeUrl;
+
     public List<NewsArticle> scrapeNews() {
-        List<NewsArticle> allNews = new ArrayList<>();
+        List<NewsArticle> allNews = Collections.synchronizedList(new ArrayList<>());
         
         try {
-            // Scraping do TechCrunch
-            allNews.addAll(scrapeTechCrunch());
-            
-            // Scraping do Ars Technica
-            allNews.addAll(scrapeArsTechnica());
-            
-            // Scraping do The Verge
-            allNews.addAll(scrapeTheVerge());
+            // TechCrunch, Ars Technica e The Verge em uma única execução do pipeline
+            List<IngestionTask<NewsArticle>> tasks = List.of(
+                scraperTask("TechCrunch", techCrunchUrl, NewsScrapingService::parseTechCrunch),
+                scraperTask("Ars Technica", arsTechnicaUrl, NewsScrapingService::parseArsTechnica),
+                scraperTask("The Verge", theVergeUrl, NewsScrapingService::parseTheVerge));
+
+            ingestionPipeline.ingest(PIPELINE, tasks, IngestionSink.of(
+                newsArticleRepository::findExistingUrls,
+                articles -> {
+                    newsArticleRepository.saveAll(articles);
+                    allNews.addAll(articles);
+                },
+                article -> article.setId(null)));
             
             log.info("Total de {} notícias coletadas", allNews.size());
             
@@ -49,130 +72,64 @@ public class NewsScrapingService {
             log.error("Erro durante o scraping de notícias", e);
         }
         
-        return allNews;
+        return new ArrayList<>(allNews);
     }
 
-    private List<NewsArticle> scrapeTechCrunch() {
-        List<NewsArticle> articles = new ArrayList<>();
-        
-        try {
-            log.info("Iniciando scraping do TechCrunch...");
-            Document doc = Jsoup.connect("https://techcrunch.com/")
-                    .userAgent(USER_AGENT)
-                    .timeout(10000)
-                    .get();
+    private IngestionTask<NewsArticle> scraperTask(String source, String url, IngestionTask.Parser parser) {
+        return new IngestionTask<>(source, IngestionMetricsService.TYPE_SCRAPER, null, url, USER_AGENT,
+            MAX_ARTICLES_PER_PAGE, parser,
+            (entry, normalized) -> createNewsArticle(entry.title(), entry.content(), entry.url(), source, "Tecnologia"));
+    }
 
-            Elements articleElements = doc.select("article.post-block");
+    static List<IngestedEntry> parseTechCrunch(byte[] body) throws IOException {
+        Document doc = Jsoup.parse(new ByteArrayInputStream(body), null, "https://techcrunch.com/");
+        List<IngestedEntry> entries = new ArrayList<>();
+        for (Element element : doc.select("article.post-block")) {
+            String title = element.select("h2.post-block__title a").text();
+            String url = element.select("h2.post-block__title a").attr("href");
+            String summary = element.select(".post-block__content").text();
             
-            for (Element element : articleElements.subList(0, Math.min(5, articleElements.size()))) {
-                try {
-                    String title = element.select("h2.post-block__title a").text();
-                    String url = element.select("h2.post-block__title a").attr("href");
-                    String summary = element.select(".post-block__content").text();
-                    
-                    if (!title.isEmpty() && !url.isEmpty()) {
-                        // Verificar se já existe
-                        if (!newsArticleRepository.existsByUrl(url)) {
-                            NewsArticle article = createNewsArticle(title, summary, url, "TechCrunch", "Tecnologia");
-                            articles.add(article);
-                            newsArticleRepository.save(article);
-                            log.info("Artigo salvo: {}", title);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Erro ao processar artigo do TechCrunch", e);
-                }
+            if (!title.isEmpty() && !url.isEmpty()) {
+                entries.add(new IngestedEntry(title, url, summary, null, null, "TechCrunch"));
             }
-            
-        } catch (IOException e) {
-            log.error("Erro ao conectar com TechCrunch", e);
         }
-        
-        return articles;
+        return entries;
     }
 
-    private List<NewsArticle> scrapeArsTechnica() {
-        List<NewsArticle> articles = new ArrayList<>();
-        
-        try {
-            log.info("Iniciando scraping do Ars Technica...");
-            Document doc = Jsoup.connect("https://arstechnica.com/")
-                    .userAgent(USER_AGENT)
-                    .timeout(10000)
-                    .get();
-
-            Elements articleElements = doc.select("article");
+    static List<IngestedEntry> parseArsTechnica(byte[] body) throws IOException {
+        Document doc = Jsoup.parse(new ByteArrayInputStream(body), null, "https://arstechnica.com/");
+        List<IngestedEntry> entries = new ArrayList<>();
+        for (Element element : doc.select("article")) {
+            String title = element.select("h2 a, h1 a").text();
+            String url = element.select("h2 a, h1 a").attr("href");
+            String summary = element.select("p.excerpt").text();
             
-            for (Element element : articleElements.subList(0, Math.min(5, articleElements.size()))) {
-                try {
-                    String title = element.select("h2 a, h1 a").text();
-                    String url = element.select("h2 a, h1 a").attr("href");
-                    String summary = element.select("p.excerpt").text();
-                    
-                    if (!title.isEmpty() && !url.isEmpty()) {
-                        if (!url.startsWith("http")) {
-                            url = "https://arstechnica.com" + url;
-                        }
-                        
-                        if (!newsArticleRepository.existsByUrl(url)) {
-                            NewsArticle article = createNewsArticle(title, summary, url, "Ars Technica", "Tecnologia");
-                            articles.add(article);
-                            newsArticleRepository.save(article);
-                            log.info("Artigo salvo: {}", title);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Erro ao processar artigo do Ars Technica", e);
+            if (!title.isEmpty() && !url.isEmpty()) {
+                if (!url.startsWith("http")) {
+                    url = "https://arstechnica.com" + url;
                 }
+                entries.add(new IngestedEntry(title, url, summary, null, null, "Ars Technica"));
             }
-            
-        } catch (IOException e) {
-            log.error("Erro ao conectar com Ars Technica", e);
         }
-        
-        return articles;
+        return entries;
     }
 
-    private List<NewsArticle> scrapeTheVerge() {
-        List<NewsArticle> articles = new ArrayList<>();
-        
-        try {
-            log.info("Iniciando scraping do The Verge...");
-            Document doc = Jsoup.connect("https://www.theverge.com/tech")
-                    .userAgent(USER_AGENT)
-                    .timeout(10000)
-                    .get();
-
-            Elements articleElements = doc.select("article, .c-entry-box--compact");
+    static List<IngestedEntry> parseTheVerge(byte[] body) throws IOException {
+        Document doc = Jsoup.parse(new ByteArrayInputStream(body), null, "https://www.theverge.com/");
+        List<IngestedEntry> entries = new ArrayList<>();
+        for (Element element : doc.select("article, .c-entry-box--compact")) {
+            String title = element.select("h2 a, .c-entry-box--compact__title a").text();
+            String url = element.select("h2 a, .c-entry-box--compact__title a").attr("href");
+            String summary = element.select(".c-entry-summary p, .c-entry-box--compact__body").text();
             
-            for (Element element : articleElements.subList(0, Math.min(5, articleElements.size()))) {
-                try {
-                    String title = element.select("h2 a, .c-entry-box--compact__title a").text();
-                    String url = element.select("h2 a, .c-entry-box--compact__title a").attr("href");
-                    String summary = element.select(".c-entry-summary p, .c-entry-box--compact__body").text();
-                    
-                    if (!title.isEmpty() && !url.isEmpty()) {
-                        if (!url.startsWith("http")) {
-                            url = "https://www.theverge.com" + url;
-                        }
-                        
-                        if (!newsArticleRepository.existsByUrl(url)) {
-                            NewsArticle article = createNewsArticle(title, summary, url, "The Verge", "Tecnologia");
-                            articles.add(article);
-                            newsArticleRepository.save(article);
-                            log.info("Artigo salvo: {}", title);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Erro ao processar artigo do The Verge", e);
+            if (!title.isEmpty() && !url.isEmpty()) {
+                if (!url.startsWith("http")) {
+                    url = "https://www.theverge.com" + url;
                 }
+                entries.add(new IngestedEntry(title, url, summary, null, null, "The Verge"));
             }
-            
-        } catch (IOException e) {
-            log.error("Erro ao conectar com The Verge", e);
         }
-        
-        return articles;
+        return entries;
     }
 
     private NewsArticle createNewsArticle(String title, String summary, String url, String source, String categoryName) {
@@ -184,24 +141,31 @@ public class NewsScrapingService {
         article.setPublishedAt(LocalDateTime.now());
         article.setCreatedAt(LocalDateTime.now());
         
-        // Buscar ou criar categoria
-        Optional<Category> categoryOpt = categoryRepository.findByName(categoryName);
-        if (categoryOpt.isPresent()) {
-            article.setCategoryEntity(categoryOpt.get());
-            article.setCategory(categoryOpt.get().getName());
-        } else {
-            Category category = new Category();
-            category.setName(categoryName);
-            category.setDescription("Categoria " + categoryName);
-            category.setCreatedAt(LocalDateTime.now());
-            categoryRepository.save(category);
-            article.setCategoryEntity(category);
-            article.setCategory(category.getName());
-        }
+        Category category = findOrCreateCategory(categoryName);
+        article.setCategoryEntity(category);
+        article.setCategory(category.getName());
         
         return article;
     }
 
+    /**
+     * Buscar ou criar categoria; sincronizado porque os artigos são montados em paralelo pelo pipeline
+     */
+    private synchronized Category findOrCreateCategory(String categoryName) {
+        Optional<Category> categoryOpt = referenceDataCache.findCategoryByName(categoryName);
+        if (categoryOpt.isPresent()) {
+            return categoryOpt.get();
+        }
+
+        Category category = new Category();
+        category.setName(categoryName);
+        category.setDescription("Categoria " + categoryName);
+        category.setCreatedAt(LocalDateTime.now());
+        categoryRepository.save(category);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.CATEGORIES);
+        return category;
+    }
+
     public long getArticleCount() {
         return newsArticleRepository.count();
     }
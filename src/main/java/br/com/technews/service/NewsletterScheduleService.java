@@ -94,12 +94,20 @@ public class NewsletterScheduleService {
         return scheduleRepository.findById(id);
     }
 
+    /**
+     * Busca agendamento por ID com as categorias carregadas
+     */
+    @Transactional(readOnly = true)
+    public Optional<NewsletterSchedule> findWithCategoriesById(Long id) {
+        return scheduleRepository.findWithCategoriesById(id);
+    }
+
     /**
      * Lista todos os agendamentos com paginação
      */
     @Transactional(readOnly = true)
     public Page<NewsletterSchedule> findAll(Pageable pageable) {
-        return scheduleRepository.findRecentSchedules(pageable);
+        return withCategories(scheduleRepository.findRecentSchedules(pageable));
     }
 
     /**
@@ -107,7 +115,7 @@ public class NewsletterScheduleService {
      */
     @Transactional(readOnly = true)
     public Page<NewsletterSchedule> findByStatus(NewsletterSchedule.ScheduleStatus status, Pageable pageable) {
-        return scheduleRepository.findByStatusOrderByScheduledDateDesc(status, pageable);
+        return withCategories(scheduleRepository.findByStatusOrderByScheduledDateDesc(status, pageable));
     }
 
     /**
@@ -153,7 +161,7 @@ public class NewsletterScheduleService {
      */
     public NewsletterSchedule updateSchedule(Long id, String subject, LocalDateTime scheduledDate,
                                            Set<Long> categoryIds) {
-        NewsletterSchedule schedule = scheduleRepository.findById(id)
+        NewsletterSchedule schedule = scheduleRepository.findWithCategoriesById(id)
             .orElseThrow(() -> new IllegalArgumentException("Agendamento não encontrado"));
 
         if (!schedule.isPending()) {
@@ -324,14 +332,12 @@ public class NewsletterScheduleService {
         return scheduleRepository.findByStatus(status, pageable);
     }
 
-    /**
-     * Remove agendamentos antigos
-     */
-    @Scheduled(cron = "0 0 2 * * ?") // Todo dia às 2h
-    public void cleanupOldSchedules() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(3);
-        scheduleRepository.deleteOldFailedSchedules(cutoffDate);
-        log.info("Limpeza de agendamentos antigos executada");
+    // Uma consulta para as categorias da página inteira, serializadas pela API fora da transação
+    private Page<NewsletterSchedule> withCategories(Page<NewsletterSchedule> page) {
+        if (page.hasContent()) {
+            scheduleRepository.findWithCategoriesByIdIn(page.map(NewsletterSchedule::getId).getContent());
+        }
+        return page;
     }
 
     /**
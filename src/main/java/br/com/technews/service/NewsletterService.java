@@ -1,6 +1,8 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.ContentVersion;
 import br.com.technews.dto.NewsletterStats;
+import br.com.technews.dto.NewsletterSummary;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.Newsletter;
 import br.com.technews.entity.ArticleStatus;
@@ -46,6 +48,8 @@ public class NewsletterService {
     private final NewsletterRepository newsletterRepository;
     private final NewsArticleRepository newsArticleRepository;
     private final SubscriberRepository subscriberRepository;
+    private final ViewCounterService viewCounterService;
+    private final StaticNewsletterArchiveService staticNewsletterArchiveService;
 
     @Value("${app.base-url}")
     private String baseUrl;
@@ -312,6 +316,41 @@ public class NewsletterService {
         return newsletterRepository.findByPublishedTrueOrderByNewsletterDateDesc(pageable);
     }
 
+    /**
+     * Página do arquivo de newsletters publicadas sem a coluna content
+     */
+    public Page<NewsletterSummary> findPublishedSummaries(Pageable pageable) {
+        return newsletterRepository.findPublishedSummaries(pageable);
+    }
+
+    /**
+     * Newsletters publicadas de um período (datas inclusivas), sem a coluna content
+     */
+    public Page<NewsletterSummary> findPublishedSummaries(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return newsletterRepository.findPublishedSummariesBetween(startDate, endDate, pageable);
+    }
+
+    /**
+     * Versão da newsletter para requisições condicionais, sem carregar a entidade
+     */
+    public Optional<ContentVersion> findVersionBySlug(String slug) {
+        return newsletterRepository.findVersionBySlug(slug);
+    }
+
+    /**
+     * Versão da newsletter de uma data para requisições condicionais
+     */
+    public Optional<ContentVersion> findVersionByDate(LocalDate date) {
+        return newsletterRepository.findVersionByNewsletterDate(date);
+    }
+
+    /**
+     * Versão do arquivo de newsletters publicadas para requisições condicionais
+     */
+    public Optional<ContentVersion> findPublishedVersion() {
+        return Optional.ofNullable(newsletterRepository.findPublishedVersion());
+    }
+
     /**
      * Busca newsletters por período
      */
@@ -391,6 +430,7 @@ public class NewsletterService {
             
             // Salvar newsletter novamente com os artigos associados
             newsletter = newsletterRepository.save(newsletter);
+            staticNewsletterArchiveService.newsletterChanged(newsletter.getId());
 
             log.info("Newsletter gerada com sucesso para a data: {} com {} artigos", 
                 date, articlesForDate.size());
@@ -495,17 +535,12 @@ public class NewsletterService {
     }
 
     /**
-     * Incrementa visualizações da newsletter
+     * Incrementa visualizações da newsletter (acumuladas em memória e gravadas em lote pelo ViewCounterService)
      */
-    @Transactional
     public void incrementViews(String slug) {
         try {
-            Optional<Newsletter> newsletterOpt = findBySlug(slug);
-            if (newsletterOpt.isPresent()) {
-                Newsletter newsletter = newsletterOpt.get();
-                newsletter.setViews(newsletter.getViews() + 1);
-                newsletterRepository.save(newsletter);
-            }
+            findBySlug(slug).ifPresent(newsletter ->
+                viewCounterService.recordView(ViewCounterService.Target.NEWSLETTER, newsletter.getId()));
         } catch (Exception e) {
             log.warn("Erro ao incrementar visualizações para newsletter {}: {}", slug, e.getMessage());
         }
@@ -19,6 +19,7 @@ import java.util.Optional;
 public class NewsletterTemplateService {
 
     private final NewsletterTemplateRepository templateRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Buscar todos os templates ativos
@@ -38,14 +39,14 @@ public class NewsletterTemplateService {
      * Buscar template por chave
      */
     public Optional<NewsletterTemplate> findByKey(String templateKey) {
-        return templateRepository.findByTemplateKeyAndIsActiveTrue(templateKey);
+        return referenceDataCache.findActiveTemplateByKey(templateKey);
     }
 
     /**
      * Buscar template padrão
      */
     public NewsletterTemplate getDefaultTemplate() {
-        return templateRepository.findByIsDefaultTrueAndIsActiveTrue()
+        return referenceDataCache.findDefaultTemplate()
                 .orElseGet(this::createDefaultTemplate);
     }
 
@@ -64,7 +65,9 @@ public class NewsletterTemplateService {
             unsetDefaultTemplates();
         }
 
-        return templateRepository.save(template);
+        NewsletterTemplate saved = templateRepository.save(template);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
+        return saved;
     }
 
     /**
@@ -96,7 +99,9 @@ public class NewsletterTemplateService {
         existingTemplate.setIsActive(updatedTemplate.getIsActive());
         existingTemplate.setIsDefault(updatedTemplate.getIsDefault());
 
-        return templateRepository.save(existingTemplate);
+        NewsletterTemplate saved = templateRepository.save(existingTemplate);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
+        return saved;
     }
 
     /**
@@ -113,6 +118,7 @@ public class NewsletterTemplateService {
 
         template.setIsActive(false);
         templateRepository.save(template);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
     }
 
     /**
@@ -133,6 +139,7 @@ public class NewsletterTemplateService {
         // Marcar como padrão
         template.setIsDefault(true);
         templateRepository.save(template);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
     }
 
     /**
@@ -192,6 +199,7 @@ public class NewsletterTemplateService {
                 .build();
 
         templateRepository.saveAll(List.of(defaultTemplate, gridTemplate, mobileTemplate));
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
         System.out.println("Templates padrão inicializados com sucesso!");
     }
 
@@ -210,7 +218,9 @@ public class NewsletterTemplateService {
                 .createdBy("system")
                 .build();
 
-        return templateRepository.save(defaultTemplate);
+        NewsletterTemplate saved = templateRepository.save(defaultTemplate);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.NEWSLETTER_TEMPLATES);
+        return saved;
     }
 
     /**
@@ -0,0 +1,30 @@
+package br.com.technews.service;
+
+/**
+ * Backend do limite de requisições da API usado pelo {@code RateLimitFilter}. A implementação padrão
+ * ({@link TokenBucketRateLimiter}) guarda os buckets em memória, por nó; com
+ * {@code api.rate-limit.backend} diferente de {@code memory} outra implementação (ex.: um store
+ * compartilhado) deve ser registrada como bean para aplicar o limite entre instâncias.
+ */
+public interface RateLimiter {
+
+    /**
+     * Consome uma requisição do cliente, se houver saldo
+     */
+    Decision tryConsume(String clientKey);
+
+    /**
+     * Resultado de uma tentativa: {@code remaining} requisições ainda disponíveis quando permitida,
+     * {@code retryAfterSeconds} até a próxima ficar disponível quando negada
+     */
+    record Decision(boolean allowed, long remaining, long retryAfterSeconds) {
+
+        public static Decision allow(long remaining) {
+            return new Decision(true, remaining, 0);
+        }
+
+        public static Decision deny(long retryAfterSeconds) {
+            return new Decision(false, 0, Math.max(1, retryAfterSeconds));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.technews.service;
+
+import br.com.technews.entity.Category;
+import br.com.technews.entity.NewsletterTemplate;
+import br.com.technews.entity.Tag;
+import br.com.technews.entity.TrustedSource;
+import br.com.technews.repository.CategoryRepository;
+import br.com.technews.repository.NewsletterTemplateRepository;
+import br.com.technews.repository.TagRepository;
+import br.com.technews.repository.TrustedSourceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache em memória das tabelas de referência (categorias, tags, fontes confiáveis e templates),
+ * usado nos caminhos quentes de ingestão e renderização. Cada tabela é carregada inteira em um
+ * snapshot imutável indexado por id e por chave (nome, slug, domínio, chave do template) e
+ * descartada pelos métodos de escrita dos serviços — ou após {@code technews.reference-cache.ttl-ms},
+ * para refletir alterações feitas por outras instâncias.
+ *
+ * As entidades devolvidas estão destacadas da sessão e são compartilhadas entre threads:
+ * servem como referência (ex.: categoria de um novo artigo) e não devem ser alteradas
+ * nem ter coleções LAZY acessadas.
+ */
+@Service
+@Slf4j
+public class ReferenceDataCache {
+
+    public enum Table {
+        CATEGORIES, TAGS, TRUSTED_SOURCES, NEWSLETTER_TEMPLATES
+    }
+
+    private static final String BY_NAME = "name";
+    private static final String BY_SLUG = "slug";
+    private static final String BY_DOMAIN = "domain";
+    private static final String BY_KEY = "key";
+
+    private final Map<Table, CachedTable<?>> tables = new EnumMap<>(Table.class);
+    private final CachedTable<Category> categories;
+    private final CachedTable<Tag> tags;
+    private final CachedTable<TrustedSource> trustedSources;
+    private final CachedTable<NewsletterTemplate> templates;
+
+    @Value("${technews.reference-cache.ttl-ms:600000}")
+    private long ttlMillis = 600_000;
+
+    public ReferenceDataCache(CategoryRepository categoryRepository,
+                              TagRepository tagRepository,
+                              TrustedSourceRepository trustedSourceRepository,
+                              NewsletterTemplateRepository templateRepository,
+                              MeterRegistry meterRegistry) {
+        categories = register(Table.CATEGORIES, categoryRepository::findAll, Category::getId, Map.of(
+            BY_NAME, category -> lower(category.getName()),
+            BY_SLUG, Category::getSlug), meterRegistry);
+        tags = register(Table.TAGS, tagRepository::findAll, Tag::getId, Map.of(
+            BY_NAME, tag -> lower(tag.getName())), meterRegistry);
+        trustedSources = register(Table.TRUSTED_SOURCES, trustedSourceRepository::findAll, TrustedSource::getId, Map.of(
+            BY_DOMAIN, source -> lower(source.getDomainName())), meterRegistry);
+        templates = register(Table.NEWSLETTER_TEMPLATES, templateRepository::findAll, NewsletterTemplate::getId, Map.of(
+            BY_KEY, NewsletterTemplate::getTemplateKey), meterRegistry);
+    }
+
+    public Optional<Category> findCategoryById(Long id) {
+        return categories.byId(id);
+    }
+
+    public Optional<Category> findCategoryByName(String name) {
+        return categories.byKey(BY_NAME, lower(name));
+    }
+
+    public Optional<Category> findCategoryBySlug(String slug) {
+        return categories.byKey(BY_SLUG, slug);
+    }
+
+    public Optional<Tag> findTagById(Long id) {
+        return tags.byId(id);
+    }
+
+    public Optional<Tag> findTagByName(String name) {
+        return tags.byKey(BY_NAME, lower(name));
+    }
+
+    public Optional<TrustedSource> findTrustedSourceByDomainName(String domainName) {
+        return trustedSources.byKey(BY_DOMAIN, lower(domainName));
+    }
+
+    public List<TrustedSource> getActiveTrustedSources() {
+        return trustedSources.filter(TrustedSource::isActive);
+    }
+
+    public Optional<NewsletterTemplate> findActiveTemplateByKey(String templateKey) {
+        return templates.byKey(BY_KEY, templateKey).filter(template -> Boolean.TRUE.equals(template.getIsActive()));
+    }
+
+    public Optional<NewsletterTemplate> findDefaultTemplate() {
+        return templates.filter(template -> Boolean.TRUE.equals(template.getIsDefault())
+                && Boolean.TRUE.equals(template.getIsActive()))
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Descarta o snapshot da tabela; dentro de uma transação descarta novamente ao final dela,
+     * para que uma leitura feita antes do commit (ou de um rollback) não fique em cache
+     */
+    public void invalidate(Table table) {
+        CachedTable<?> cached = tables.get(table);
+        cached.invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cached.invalidate();
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        for (Table table : Table.values()) {
+            invalidate(table);
+        }
+    }
+
+    private <T> CachedTable<T> register(Table table, Supplier<List<T>> loader, Function<T, Long> idOf,
+                                        Map<String, Function<T, String>> keyExtractors, MeterRegistry meterRegistry) {
+        String name = table.name().toLowerCase(Locale.ROOT);
+        CachedTable<T> cached = new CachedTable<>(name, loader, idOf, keyExtractors,
+            meterRegistry.counter("technews.reference.cache.requests", "table", name, "result", "hit"),
+            meterRegistry.counter("technews.reference.cache.requests", "table", name, "result", "miss"));
+        Gauge.builder("technews.reference.cache.size", cached, CachedTable::size)
+            .description("Registros da tabela de referência em cache")
+            .tag("table", name)
+            .register(meterRegistry);
+        tables.put(table, cached);
+        return cached;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Snapshot imutável de uma tabela com seus índices
+     */
+    private record Snapshot<T>(long generation, long loadedAt, List<T> rows, Map<Long, T> byId,
+                               Map<String, Map<String, T>> byKey) {
+    }
+
+    /**
+     * Tabela em cache: carregada sob demanda; uma invalidação avança a geração,
+     * então um carregamento concorrente iniciado antes dela nunca é servido
+     */
+    private final class CachedTable<T> {
+        private final String name;
+        private final Supplier<List<T>> loader;
+        private final Function<T, Long> idOf;
+        private final Map<String, Function<T, String>> keyExtractors;
+        private final Counter hits;
+        private final Counter misses;
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Snapshot<T> snapshot;
+
+        private CachedTable(String name, Supplier<List<T>> loader, Function<T, Long> idOf,
+                            Map<String, Function<T, String>> keyExtractors, Counter hits, Counter misses) {
+            this.name = name;
+            this.loader = loader;
+            this.idOf = idOf;
+            this.keyExtractors = keyExtractors;
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        Optional<T> byId(Long id) {
+            return id == null ? Optional.empty() : Optional.ofNullable(current().byId().get(id));
+        }
+
+        Optional<T> byKey(String index, String key) {
+            return key == null ? Optional.empty() : Optional.ofNullable(current().byKey().get(index).get(key));
+        }
+
+        List<T> filter(Predicate<T> predicate) {
+            return current().rows().stream().filter(predicate).toList();
+        }
+
+        double size() {
+            Snapshot<T> current = snapshot;
+            return current != null ? current.rows().size() : 0;
+        }
+
+        void invalidate() {
+            generation.incrementAndGet();
+            snapshot = null;
+        }
+
+        private Snapshot<T> current() {
+            Snapshot<T> current = snapshot;
+            if (isFresh(current)) {
+                hits.increment();
+                return current;
+            }
+            synchronized (this) {
+                current = snapshot;
+                if (isFresh(current)) {
+                    hits.increment();
+                    return current;
+                }
+                misses.increment();
+                current = load(generation.get());
+                if (current.generation() == generation.get()) {
+                    snapshot = current;
+                }
+                return current;
+            }
+        }
+
+        private boolean isFresh(Snapshot<T> current) {
+            return current != null
+                && current.generation() == generation.get()
+                && System.currentTimeMillis() - current.loadedAt() < ttlMillis;
+        }
+
+        private Snapshot<T> load(long loadGeneration) {
+            List<T> rows = List.copyOf(loader.get());
+            Map<Long, T> byId = new HashMap<>(rows.size() * 2);
+            Map<String, Map<String, T>> byKey = new HashMap<>();
+            keyExtractors.keySet().forEach(index -> byKey.put(index, new HashMap<>(rows.size() * 2)));
+            for (T row : rows) {
+                byId.put(idOf.apply(row), row);
+                keyExtractors.forEach((index, extractor) -> {
+                    String key = extractor.apply(row);
+                    if (key != null) {
+                        byKey.get(index).putIfAbsent(key, row);
+                    }
+                });
+            }
+            log.debug("Tabela de referência {} carregada em cache: {} registros", name, rows.size());
+            return new Snapshot<>(loadGeneration, System.currentTimeMillis(), rows, Map.copyOf(byId), Map.copyOf(byKey));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.technews.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Política de retenção de uma tabela.
+ *
+ * @param name                nome usado em logs e relatórios
+ * @param table               tabela purgada (chave primária {@code id})
+ * @param condition           filtro SQL das linhas expiradas, com um único parâmetro {@code ?} para a data de corte;
+ *                            deve ser atendido por índice para que cada lote não percorra a tabela inteira
+ * @param retention           tempo mínimo de permanência das linhas
+ * @param dependentStatements comandos executados antes da exclusão de cada lote para remover/desvincular
+ *                            linhas dependentes; {@code %s} é substituído pelos placeholders dos ids do lote
+ */
+public record RetentionPolicy(String name, String table, String condition, Duration retention,
+                              List<String> dependentStatements) {
+
+    public RetentionPolicy {
+        dependentStatements = dependentStatements != null ? List.copyOf(dependentStatements) : List.of();
+    }
+}
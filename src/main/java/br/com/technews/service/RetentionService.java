@@ -0,0 +1,166 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.RetentionReport;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motor de retenção: remove linhas expiradas em lotes pequenos, cada um em sua própria transação,
+ * com uma pausa entre lotes. Nenhuma linha é carregada como entidade e nenhuma transação
+ * mantém a tabela bloqueada por mais de um lote.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionService {
+
+    public static final String REJECTED_COLLECTED_NEWS = "collected-news-rejected";
+    public static final String FAILED_SCHEDULES = "newsletter-schedules-failed";
+    public static final String UNPUBLISHED_ARTICLES = "news-articles-unpublished";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, RetentionPolicy> policies = new LinkedHashMap<>();
+
+    @Value("${technews.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${technews.retention.pause-ms:100}")
+    private long pauseMillis;
+
+    @Value("${technews.retention.collected-news.rejected-days:30}")
+    private int rejectedNewsDays;
+
+    @Value("${technews.retention.schedules.failed-days:90}")
+    private int failedScheduleDays;
+
+    @Value("${technews.retention.articles.unpublished-days:7}")
+    private int unpublishedArticleDays;
+
+    @PostConstruct
+    public void init() {
+        register(new RetentionPolicy(REJECTED_COLLECTED_NEWS, "collected_news",
+            "status = 'REJECTED' AND created_at < ?",
+            Duration.ofDays(rejectedNewsDays), List.of()));
+
+        register(new RetentionPolicy(FAILED_SCHEDULES, "newsletter_schedules",
+            "status = 'FAILED' AND created_date < ?",
+            Duration.ofDays(failedScheduleDays),
+            List.of("DELETE FROM newsletter_schedule_categories WHERE schedule_id IN (%s)")));
+
+        register(new RetentionPolicy(UNPUBLISHED_ARTICLES, "news_articles",
+            "published = false AND created_at < ?",
+            Duration.ofDays(unpublishedArticleDays),
+            List.of(
+                "DELETE FROM article_tags WHERE article_id IN (%s)",
+                "DELETE FROM newsletter_articles WHERE article_id IN (%s)",
+                "UPDATE comments SET parent_id = NULL WHERE article_id IN (%s)",
+                "DELETE FROM comments WHERE article_id IN (%s)")));
+    }
+
+    public void register(RetentionPolicy policy) {
+        policies.put(policy.name(), policy);
+    }
+
+    public List<RetentionPolicy> getPolicies() {
+        return List.copyOf(policies.values());
+    }
+
+    /**
+     * Executa todas as políticas registradas. Falha em uma política não impede as demais.
+     */
+    @Scheduled(cron = "${technews.retention.cron:0 0 2 * * ?}") // Todo dia às 2h
+    public List<RetentionReport> purgeAll() {
+        List<RetentionReport> reports = new ArrayList<>();
+        for (RetentionPolicy policy : policies.values()) {
+            try {
+                reports.add(purge(policy));
+            } catch (Exception e) {
+                log.error("Erro ao aplicar política de retenção {}: {}", policy.name(), e.getMessage(), e);
+            }
+        }
+        return reports;
+    }
+
+    public RetentionReport purge(String policyName) {
+        RetentionPolicy policy = policies.get(policyName);
+        if (policy == null) {
+            throw new IllegalArgumentException("Política de retenção desconhecida: " + policyName);
+        }
+        return purge(policy);
+    }
+
+    /**
+     * Remove as linhas expiradas da política em lotes de {@code batch-size} até esgotá-las
+     */
+    public RetentionReport purge(RetentionPolicy policy) {
+        long start = System.currentTimeMillis();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(policy.retention()));
+        int limit = Math.max(1, batchSize);
+        String selectSql = "SELECT id FROM " + policy.table() + " WHERE " + policy.condition() + " LIMIT ?";
+
+        long purged = 0;
+        int batches = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> deleteBatch(policy, selectSql, cutoff, limit));
+            int count = deleted != null ? deleted : 0;
+            if (count == 0) {
+                break;
+            }
+            purged += count;
+            batches++;
+            if (count < limit || !pause()) {
+                break;
+            }
+        }
+
+        RetentionReport report = new RetentionReport(policy.name(), purged, batches, System.currentTimeMillis() - start);
+        log.info("Retenção {}: {} linhas removidas de {} em {} lotes ({} ms)",
+            policy.name(), purged, policy.table(), batches, report.elapsedMillis());
+        return report;
+    }
+
+    private int deleteBatch(RetentionPolicy policy, String selectSql, Timestamp cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(selectSql, Long.class, cutoff, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        for (String statement : policy.dependentStatements()) {
+            jdbcTemplate.update(statement.formatted(placeholders), args);
+        }
+        return jdbcTemplate.update("DELETE FROM " + policy.table() + " WHERE id IN (" + placeholders + ")", args);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Retenção interrompida entre lotes");
+            return false;
+        }
+    }
+}
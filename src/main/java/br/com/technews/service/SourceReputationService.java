@@ -0,0 +1,306 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ReputationSnapshot;
+import br.com.technews.entity.SourceReputation;
+import br.com.technews.entity.SourceReputation.Scope;
+import br.com.technews.repository.SourceReputationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reputação histórica de fontes e domínios, alimentada incrementalmente pela curadoria.
+ * Os contadores ficam em memória (médias móveis com decaimento exponencial) e são persistidos
+ * periodicamente em source_reputations. Fontes consistentemente ruins ou boas podem ser
+ * decididas sem a análise completa de conteúdo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SourceReputationService {
+
+    public enum FastTrack {
+        NONE,       // Análise completa de conteúdo
+        APPROVE,    // Fonte consistentemente boa
+        REJECT      // Fonte consistentemente ruim
+    }
+
+    // Fator de decaimento por observação (~200 notícias de janela efetiva)
+    private static final double DECAY = 0.995;
+
+    private final SourceReputationRepository sourceReputationRepository;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${technews.curation.reputation.min-samples:20}")
+    private double minSamples;
+
+    @Value("${technews.curation.reputation.fast-reject-rate:0.1}")
+    private double fastRejectRate;
+
+    @Value("${technews.curation.reputation.fast-approve-rate:0.9}")
+    private double fastApproveRate;
+
+    @Value("${technews.curation.reputation.fast-approve-min-score:7.5}")
+    private double fastApproveMinScore;
+
+    // A cada N decisões rápidas, uma notícia passa pela análise completa para manter a reputação atualizada
+    @Value("${technews.curation.reputation.audit-interval:10}")
+    private int auditInterval;
+
+    @PostConstruct
+    public void load() {
+        try {
+            for (SourceReputation reputation : sourceReputationRepository.findAll()) {
+                Counter counter = new Counter(reputation.getScope(), reputation.getReputationKey());
+                counter.entityId = reputation.getId();
+                counter.approved = reputation.getApprovedCount();
+                counter.rejected = reputation.getRejectedCount();
+                counter.duplicates = reputation.getDuplicateCount();
+                counter.scoreSum = reputation.getQualityScoreSum();
+                counters.put(key(reputation.getScope(), reputation.getReputationKey()), counter);
+            }
+            log.info("Reputação carregada para {} fontes/domínios", counters.size());
+        } catch (Exception e) {
+            log.warn("Erro ao carregar reputação das fontes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra o resultado de uma curadoria com análise completa
+     */
+    public void recordCuration(Long sourceId, String url, double score, boolean approved) {
+        for (Counter counter : countersFor(sourceId, url)) {
+            counter.recordCuration(score, approved);
+        }
+    }
+
+    /**
+     * Registra uma notícia descartada por conteúdo duplicado (mesmo hash com outra URL)
+     */
+    public void recordDuplicate(Long sourceId, String url) {
+        for (Counter counter : countersFor(sourceId, url)) {
+            counter.recordDuplicate();
+        }
+    }
+
+    /**
+     * Reputação da fonte; se a fonte ainda não tem amostras suficientes, usa a do domínio.
+     * Retorna {@code null} quando nenhuma das duas tem histórico suficiente.
+     */
+    public ReputationSnapshot getReputation(Long sourceId, String url) {
+        ReputationSnapshot source = snapshot(sourceId != null ? counters.get(key(Scope.SOURCE, sourceId.toString())) : null);
+        if (source != null) {
+            return source;
+        }
+        String domain = extractDomain(url);
+        return snapshot(domain != null ? counters.get(key(Scope.DOMAIN, domain)) : null);
+    }
+
+    /**
+     * Ajuste de score da curadoria (entre -2.0 e +2.0) com base no histórico da fonte
+     */
+    public double scoreAdjustment(Long sourceId, String url) {
+        ReputationSnapshot reputation = getReputation(sourceId, url);
+        if (reputation == null) {
+            return 0.0;
+        }
+
+        double adjustment = (reputation.approvalRate() - 0.5) * 2.0;
+        if (reputation.duplicateRate() > 0.5) {
+            adjustment -= 0.5;
+        }
+        return Math.max(-2.0, Math.min(2.0, adjustment));
+    }
+
+    /**
+     * Decide se a notícia pode ser aprovada/rejeitada apenas pela reputação obtida em {@link #getReputation}.
+     * As auditorias são contadas por fonte mesmo quando a reputação veio do domínio: o contador da fonte
+     * é criado no primeiro uso, e as auditorias passam a formar o histórico próprio dela.
+     */
+    public FastTrack fastTrack(Long sourceId, ReputationSnapshot reputation) {
+        if (reputation == null) {
+            return FastTrack.NONE;
+        }
+
+        FastTrack decision = FastTrack.NONE;
+        if (reputation.approvalRate() <= fastRejectRate) {
+            decision = FastTrack.REJECT;
+        } else if (reputation.approvalRate() >= fastApproveRate && reputation.averageScore() >= fastApproveMinScore) {
+            decision = FastTrack.APPROVE;
+        }
+
+        if (decision != FastTrack.NONE && sourceId != null) {
+            String id = sourceId.toString();
+            Counter counter = counters.computeIfAbsent(key(Scope.SOURCE, id), k -> new Counter(Scope.SOURCE, id));
+            if (counter.nextFastTrackIsAudit(auditInterval)) {
+                return FastTrack.NONE;
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * Persiste os contadores alterados desde a última gravação
+     */
+    @Scheduled(fixedDelayString = "${technews.curation.reputation.flush-interval-ms:60000}")
+    public void flush() {
+        List<Counter> dirty = counters.values().stream().filter(Counter::isDirty).toList();
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<SourceReputation> entities = new ArrayList<>(dirty.size());
+        for (Counter counter : dirty) {
+            entities.add(counter.toEntity());
+        }
+
+        try {
+            List<SourceReputation> saved = sourceReputationRepository.saveAll(entities);
+            for (int i = 0; i < saved.size(); i++) {
+                dirty.get(i).entityId = saved.get(i).getId();
+            }
+            log.debug("Reputação persistida para {} fontes/domínios", saved.size());
+        } catch (Exception e) {
+            dirty.forEach(Counter::markDirty);
+            log.warn("Erro ao persistir reputação das fontes: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Counter> countersFor(Long sourceId, String url) {
+        List<Counter> result = new ArrayList<>(2);
+        if (sourceId != null) {
+            String id = sourceId.toString();
+            result.add(counters.computeIfAbsent(key(Scope.SOURCE, id), k -> new Counter(Scope.SOURCE, id)));
+        }
+        String domain = extractDomain(url);
+        if (domain != null) {
+            result.add(counters.computeIfAbsent(key(Scope.DOMAIN, domain), k -> new Counter(Scope.DOMAIN, domain)));
+        }
+        return result;
+    }
+
+    private ReputationSnapshot snapshot(Counter counter) {
+        if (counter == null) {
+            return null;
+        }
+        ReputationSnapshot snapshot = counter.snapshot();
+        return snapshot.samples() > 0 && snapshot.samples() >= minSamples ? snapshot : null;
+    }
+
+    static String extractDomain(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            if (host == null) {
+                return null;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.startsWith("www.") ? host.substring(4) : host;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String key(Scope scope, String value) {
+        return scope.name() + ':' + value;
+    }
+
+    /**
+     * Contadores de uma chave; atualizações sincronizadas por instância para não bloquear outras fontes
+     */
+    private static final class Counter {
+        private final Scope scope;
+        private final String reputationKey;
+        private volatile Long entityId;
+        private double approved;
+        private double rejected;
+        private double duplicates;
+        private double scoreSum;
+        private long fastTracked;
+        private boolean dirty;
+
+        private Counter(Scope scope, String reputationKey) {
+            this.scope = scope;
+            this.reputationKey = reputationKey;
+        }
+
+        synchronized void recordCuration(double score, boolean wasApproved) {
+            decay();
+            if (wasApproved) {
+                approved += 1;
+            } else {
+                rejected += 1;
+            }
+            scoreSum += score;
+            dirty = true;
+        }
+
+        synchronized void recordDuplicate() {
+            decay();
+            duplicates += 1;
+            dirty = true;
+        }
+
+        synchronized boolean nextFastTrackIsAudit(int interval) {
+            return interval > 0 && ++fastTracked % interval == 0;
+        }
+
+        synchronized ReputationSnapshot snapshot() {
+            double curated = approved + rejected;
+            double total = curated + duplicates;
+            return new ReputationSnapshot(
+                curated,
+                curated > 0 ? approved / curated : 0.0,
+                total > 0 ? duplicates / total : 0.0,
+                curated > 0 ? scoreSum / curated : 0.0
+            );
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        synchronized void markDirty() {
+            dirty = true;
+        }
+
+        synchronized SourceReputation toEntity() {
+            dirty = false;
+            return SourceReputation.builder()
+                .id(entityId)
+                .scope(scope)
+                .reputationKey(reputationKey)
+                .approvedCount(approved)
+                .rejectedCount(rejected)
+                .duplicateCount(duplicates)
+                .qualityScoreSum(scoreSum)
+                .build();
+        }
+
+        private void decay() {
+            approved *= DECAY;
+            rejected *= DECAY;
+            duplicates *= DECAY;
+            scoreSum *= DECAY;
+        }
+    }
+}
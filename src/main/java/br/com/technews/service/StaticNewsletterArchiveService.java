@@ -0,0 +1,283 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.NewsletterSummary;
+import br.com.technews.entity.Newsletter;
+import br.com.technews.repository.NewsletterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Arquivo estático das newsletters publicadas: cada newsletter (o HTML já renderizado em content) e as
+ * páginas do índice do arquivo são gravadas em {@code technews.newsletter.static.dir} como .html e .html.gz,
+ * servidas pelo handler de recursos em {@value #URL_PREFIX} sem passar por JPA nem Thymeleaf.
+ *
+ * A geração completa roda na inicialização e pelo cron {@code technews.newsletter.static.rebuild-cron}
+ * (remove também newsletters despublicadas ou excluídas por fora do serviço); após o commit de cada
+ * newsletter gerada só ela e o índice são regravados. Os arquivos são substituídos por move atômico.
+ */
+@Service
+@Slf4j
+public class StaticNewsletterArchiveService {
+
+    public static final String URL_PREFIX = "/newsletter/estatico/";
+
+    private static final String INDEX_DIRECTORY = "arquivo";
+    private static final Pattern SAFE_SLUG = Pattern.compile("[a-z0-9][a-z0-9-]*");
+    private static final int REBUILD_BATCH_SIZE = 20;
+
+    private final NewsletterRepository newsletterRepository;
+    private final TemplateEngine templateEngine;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${technews.newsletter.static.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${technews.newsletter.static.dir:${java.io.tmpdir}/technews-newsletter-static}")
+    private String directory;
+
+    @Value("${technews.newsletter.static.page-size:10}")
+    private int pageSize = 10;
+
+    private ExecutorService writerExecutor;
+
+    public StaticNewsletterArchiveService(NewsletterRepository newsletterRepository,
+                                          TemplateEngine templateEngine,
+                                          PlatformTransactionManager transactionManager) {
+        this.newsletterRepository = newsletterRepository;
+        this.templateEngine = templateEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void initExecutor() {
+        writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "newsletter-static-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        writerExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        submit(this::rebuildAll);
+    }
+
+    @Scheduled(cron = "${technews.newsletter.static.rebuild-cron:0 30 4 * * ?}")
+    public void scheduledRebuild() {
+        submit(this::rebuildAll);
+    }
+
+    /**
+     * Regrava a newsletter e o índice após o commit da transação atual (ou imediatamente, fora de transação)
+     */
+    public void newsletterChanged(Long newsletterId) {
+        if (!enabled || newsletterId == null) {
+            return;
+        }
+        Runnable change = () -> submit(() -> {
+            writeNewsletter(newsletterId);
+            writeIndex();
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Caminho para encaminhar a requisição da newsletter, se a página estática já foi gerada
+     */
+    public Optional<String> newsletterPath(String slug) {
+        if (!enabled || !isSafe(slug)) {
+            return Optional.empty();
+        }
+        return existing(slug + ".html");
+    }
+
+    /**
+     * Caminho para encaminhar a página do arquivo (a partir de 0), se gerada com o mesmo tamanho de página
+     */
+    public Optional<String> indexPath(int page, int size) {
+        if (!enabled || page < 0 || size != pageSize) {
+            return Optional.empty();
+        }
+        return existing(indexFileName(page));
+    }
+
+    /**
+     * Regrava todas as newsletters publicadas e o índice, removendo páginas que não estão mais publicadas
+     */
+    public void rebuildAll() {
+        if (!enabled) {
+            return;
+        }
+        Set<String> written = new HashSet<>();
+        int page = 0;
+        Page<Newsletter> batch;
+        do {
+            int current = page++;
+            batch = readOnlyTransaction.execute(status ->
+                newsletterRepository.findByPublishedTrueOrderByNewsletterDateDesc(PageRequest.of(current, REBUILD_BATCH_SIZE)));
+            for (Newsletter newsletter : batch.getContent()) {
+                if (write(newsletter)) {
+                    written.add(newsletter.getSlug() + ".html");
+                }
+            }
+        } while (batch.hasNext());
+
+        try (Stream<Path> files = Files.list(Files.createDirectories(root()))) {
+            files.filter(file -> file.getFileName().toString().endsWith(".html"))
+                .filter(file -> !written.contains(file.getFileName().toString()))
+                .forEach(this::delete);
+        } catch (IOException e) {
+            log.warn("Erro ao limpar arquivo estático de newsletters: {}", e.getMessage());
+        }
+        writeIndex();
+        log.info("Arquivo estático de newsletters gerado: {} newsletters", written.size());
+    }
+
+    /**
+     * Regrava a página de uma newsletter, ou a remove se não estiver mais publicada
+     */
+    void writeNewsletter(Long newsletterId) {
+        readOnlyTransaction.execute(status -> newsletterRepository.findById(newsletterId)).ifPresent(newsletter -> {
+            if (!write(newsletter) && isSafe(newsletter.getSlug())) {
+                delete(root().resolve(newsletter.getSlug() + ".html"));
+            }
+        });
+    }
+
+    /**
+     * Regrava as páginas do índice e remove as que sobraram de um arquivo maior
+     */
+    void writeIndex() {
+        int page = 0;
+        Page<NewsletterSummary> summaries;
+        do {
+            int current = page++;
+            summaries = readOnlyTransaction.execute(status ->
+                newsletterRepository.findPublishedSummaries(PageRequest.of(current, pageSize)));
+            Context context = new Context();
+            context.setVariable("newsletters", summaries.getContent());
+            context.setVariable("currentPage", current);
+            context.setVariable("totalPages", Math.max(1, summaries.getTotalPages()));
+            context.setVariable("totalElements", summaries.getTotalElements());
+            context.setVariable("pageSize", pageSize);
+            writeFile(indexFileName(current), templateEngine.process("newsletter/static-archive", context));
+        } while (summaries.hasNext());
+
+        for (int stale = page; Files.exists(root().resolve(indexFileName(stale))); stale++) {
+            delete(root().resolve(indexFileName(stale)));
+        }
+    }
+
+    private boolean write(Newsletter newsletter) {
+        String slug = newsletter.getSlug();
+        if (!Boolean.TRUE.equals(newsletter.getPublished()) || newsletter.getContent() == null || !isSafe(slug)) {
+            return false;
+        }
+        writeFile(slug + ".html", newsletter.getContent());
+        return true;
+    }
+
+    private void writeFile(String name, String html) {
+        Path target = root().resolve(name);
+        byte[] content = html.getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.createDirectories(target.getParent());
+            // .gz antes do .html; leitores veem sempre um arquivo completo de cada um
+            Path gzipTemp = Files.createTempFile(target.getParent(), ".static-", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipTemp))) {
+                out.write(content);
+            }
+            move(gzipTemp, target.resolveSibling(target.getFileName() + ".gz"));
+            Path htmlTemp = Files.createTempFile(target.getParent(), ".static-", ".tmp");
+            Files.write(htmlTemp, content);
+            move(htmlTemp, target);
+        } catch (IOException e) {
+            log.error("Erro ao gravar página estática {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void delete(Path html) {
+        try {
+            Files.deleteIfExists(html.resolveSibling(html.getFileName() + ".gz"));
+            Files.deleteIfExists(html);
+        } catch (IOException e) {
+            log.warn("Erro ao remover página estática {}: {}", html, e.getMessage());
+        }
+    }
+
+    private static boolean isSafe(String slug) {
+        return slug != null && SAFE_SLUG.matcher(slug).matches();
+    }
+
+    private Optional<String> existing(String name) {
+        return Files.isRegularFile(root().resolve(name)) ? Optional.of(URL_PREFIX + name) : Optional.empty();
+    }
+
+    private static String indexFileName(int page) {
+        return INDEX_DIRECTORY + "/pagina-" + (page + 1) + ".html";
+    }
+
+    private void submit(Runnable task) {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(task, writerExecutor).exceptionally(e -> {
+            log.error("Erro ao gerar arquivo estático de newsletters: {}", e.getMessage(), e);
+            return null;
+        });
+    }
+
+    Path root() {
+        return Paths.get(directory).toAbsolutePath();
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.technews.service;
 
+import br.com.technews.dto.TagSummary;
 import br.com.technews.entity.Tag;
 import br.com.technews.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class TagService {
     
     private final TagRepository tagRepository;
+    private final ReferenceDataCache referenceDataCache;
     
     /**
      * Busca todas as tags ativas
@@ -38,7 +40,7 @@ public class TagService {
      * Busca tag por nome
      */
     public Optional<Tag> findByName(String name) {
-        return tagRepository.findByNameIgnoreCase(name);
+        return referenceDataCache.findTagByName(name);
     }
     
     /**
@@ -58,7 +60,9 @@ public class TagService {
                 .isActive(true)
                 .build();
         
-        return tagRepository.save(tag);
+        Tag saved = tagRepository.save(tag);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.TAGS);
+        return saved;
     }
     
     /**
@@ -78,7 +82,9 @@ public class TagService {
         tag.setColor(color);
         tag.setDescription(description);
         
-        return tagRepository.save(tag);
+        Tag saved = tagRepository.save(tag);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.TAGS);
+        return saved;
     }
     
     /**
@@ -90,7 +96,9 @@ public class TagService {
                 .orElseThrow(() -> new IllegalArgumentException("Tag não encontrada"));
         
         tag.setIsActive(!tag.getIsActive());
-        return tagRepository.save(tag);
+        Tag saved = tagRepository.save(tag);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.TAGS);
+        return saved;
     }
     
     /**
@@ -124,7 +132,7 @@ public class TagService {
         for (String tagName : tagNames) {
             String normalizedName = tagName.toLowerCase().trim();
             
-            Optional<Tag> existingTag = tagRepository.findByNameIgnoreCase(normalizedName);
+            Optional<Tag> existingTag = referenceDataCache.findTagByName(normalizedName);
             if (existingTag.isPresent()) {
                 tags.add(existingTag.get());
             } else {
@@ -135,6 +143,7 @@ public class TagService {
                         .isActive(true)
                         .build();
                 tags.add(tagRepository.save(newTag));
+                referenceDataCache.invalidate(ReferenceDataCache.Table.TAGS);
             }
         }
         
@@ -165,7 +174,31 @@ public class TagService {
         
         tag.setIsActive(false);
         tagRepository.save(tag);
+        referenceDataCache.invalidate(ReferenceDataCache.Table.TAGS);
         
         log.info("Tag '{}' foi desativada", tag.getName());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tags ativas para a API, sem carregar entidades
+     */
+    public List<TagSummary> findActiveSummaries() {
+        return tagRepository.findActiveSummaries();
+    }
+
+    public Optional<TagSummary> findSummaryById(Long id) {
+        return tagRepository.findSummaryById(id);
+    }
+
+    public List<TagSummary> searchSummaries(String searchText) {
+        return tagRepository.searchActiveSummaries(searchText);
+    }
+
+    public List<TagSummary> getMostPopularSummaries(int limit) {
+        return tagRepository.findMostPopularSummaries(limit);
+    }
+
+    public List<TagSummary> getSummariesUsedInPublishedArticles() {
+        return tagRepository.findSummariesUsedInPublishedArticles();
+    }
+}
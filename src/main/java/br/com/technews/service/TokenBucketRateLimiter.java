@@ -0,0 +1,114 @@
+package br.com.technews.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisições em memória: um token bucket por cliente com duas janelas,
+ * {@code api.rate-limit.requests-per-minute} e {@code api.rate-limit.requests-per-hour}, reabastecidas
+ * continuamente. Cada requisição consome um token das duas.
+ *
+ * Sem locks: os buckets ficam em um ConcurrentHashMap (já particionado internamente) e o saldo de cada
+ * um é um estado imutável trocado por compare-and-set. Buckets que já estariam cheios equivalem a um
+ * bucket novo e são removidos a cada {@code api.rate-limit.eviction-interval-ms}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "api.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_HOUR = TimeUnit.HOURS.toNanos(1);
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final double perMinute;
+    private final double perHour;
+
+    @Autowired
+    public TokenBucketRateLimiter(@Value("${api.rate-limit.requests-per-minute:60}") int requestsPerMinute,
+                                  @Value("${api.rate-limit.requests-per-hour:1000}") int requestsPerHour) {
+        this(requestsPerMinute, requestsPerHour, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int requestsPerMinute, int requestsPerHour, LongSupplier nanoClock) {
+        if (requestsPerMinute <= 0 || requestsPerHour <= 0) {
+            throw new IllegalArgumentException("Limites de requisições devem ser positivos");
+        }
+        this.perMinute = requestsPerMinute;
+        this.perHour = requestsPerHour;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Decision tryConsume(String clientKey) {
+        long now = nanoClock.getAsLong();
+        return buckets.computeIfAbsent(clientKey, key -> new Bucket(now)).tryConsume(now);
+    }
+
+    /**
+     * Remove os buckets sem uso há tempo suficiente para estarem cheios
+     */
+    @Scheduled(fixedDelayString = "${api.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        // Uma requisição concorrente em um bucket removido só perde o token consumido (bucket já estava cheio)
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("Limite de requisições: {} buckets ociosos removidos, {} ativos", before - buckets.size(), buckets.size());
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private record State(double minuteTokens, double hourTokens, long updatedNanos) {
+    }
+
+    private final class Bucket {
+        private final AtomicReference<State> state;
+
+        private Bucket(long now) {
+            state = new AtomicReference<>(new State(perMinute, perHour, now));
+        }
+
+        private Decision tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double minute = refill(current.minuteTokens(), perMinute, NANOS_PER_MINUTE, current, now);
+                double hour = refill(current.hourTokens(), perHour, NANOS_PER_HOUR, current, now);
+                if (minute < 1 || hour < 1) {
+                    double waitNanos = Math.max(
+                        minute < 1 ? (1 - minute) * NANOS_PER_MINUTE / perMinute : 0,
+                        hour < 1 ? (1 - hour) * NANOS_PER_HOUR / perHour : 0);
+                    return Decision.deny((long) Math.ceil(waitNanos / TimeUnit.SECONDS.toNanos(1)));
+                }
+                State next = new State(minute - 1, hour - 1, Math.max(now, current.updatedNanos()));
+                if (state.compareAndSet(current, next)) {
+                    return Decision.allow((long) Math.min(next.minuteTokens(), next.hourTokens()));
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            State current = state.get();
+            return refill(current.minuteTokens(), perMinute, NANOS_PER_MINUTE, current, now) >= perMinute
+                && refill(current.hourTokens(), perHour, NANOS_PER_HOUR, current, now) >= perHour;
+        }
+
+        private static double refill(double tokens, double capacity, double windowNanos, State state, long now) {
+            long elapsed = Math.max(0, now - state.updatedNanos());
+            return Math.min(capacity, tokens + elapsed * capacity / windowNanos);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.technews.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Conjunto imutável de domínios confiáveis indexado por host.
+ * O host da URL é extraído uma única vez e comparado apenas em fronteiras de rótulo:
+ * "techcrunch.com" aceita "techcrunch.com" e "www.techcrunch.com", mas não
+ * "evil-techcrunch.com" nem "techcrunch.com.example". Instâncias podem ser compartilhadas entre threads.
+ */
+public final class TrustedSourceMatcher {
+
+    private static final TrustedSourceMatcher EMPTY = new TrustedSourceMatcher(Set.of());
+
+    private final Set<String> domains;
+
+    private TrustedSourceMatcher(Set<String> domains) {
+        this.domains = domains;
+    }
+
+    /**
+     * Compila os domínios cadastrados (aceita também URLs completas ou domínios com "www.")
+     */
+    public static TrustedSourceMatcher compile(Collection<String> domainNames) {
+        Set<String> normalized = new HashSet<>();
+        for (String domainName : domainNames) {
+            String host = normalizeDomain(domainName);
+            if (host != null) {
+                normalized.add(host);
+            }
+        }
+        return normalized.isEmpty() ? EMPTY : new TrustedSourceMatcher(Set.copyOf(normalized));
+    }
+
+    public static TrustedSourceMatcher empty() {
+        return EMPTY;
+    }
+
+    public boolean matches(String url) {
+        return findDomain(url) != null;
+    }
+
+    /**
+     * Domínio confiável que cobre o host da URL, ou {@code null}
+     */
+    public String findDomain(String url) {
+        if (domains.isEmpty()) {
+            return null;
+        }
+        String host = extractHost(url);
+        if (host == null) {
+            return null;
+        }
+
+        // Sufixos do host em fronteiras de rótulo: a.b.example.com -> b.example.com -> example.com -> com
+        int from = 0;
+        while (from < host.length()) {
+            String suffix = from == 0 ? host : host.substring(from);
+            if (domains.contains(suffix)) {
+                return suffix;
+            }
+            int dot = host.indexOf('.', from);
+            if (dot < 0) {
+                break;
+            }
+            from = dot + 1;
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return domains.isEmpty();
+    }
+
+    public int size() {
+        return domains.size();
+    }
+
+    /**
+     * Host em minúsculas, sem porta, credenciais e ponto final. Aceita URLs sem esquema ("example.com/x").
+     */
+    static String extractHost(String url) {
+        if (url == null) {
+            return null;
+        }
+        int start = url.indexOf("://");
+        start = start >= 0 ? start + 3 : 0;
+        while (start < url.length() && url.charAt(start) == '/') {
+            start++;
+        }
+
+        int end = start;
+        int at = -1;
+        while (end < url.length()) {
+            char ch = url.charAt(end);
+            if (ch == '/' || ch == '?' || ch == '#') {
+                break;
+            }
+            if (ch == '@') {
+                at = end;
+            }
+            end++;
+        }
+        if (at >= 0) {
+            start = at + 1;
+        }
+
+        // Remove a porta (hosts IPv6 entre colchetes mantêm os ':' internos)
+        int portSeparator = url.lastIndexOf(':', end - 1);
+        if (portSeparator >= start && url.lastIndexOf(']', end - 1) < portSeparator) {
+            end = portSeparator;
+        }
+        while (end > start && url.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end <= start) {
+            return null;
+        }
+        return url.substring(start, end).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeDomain(String domainName) {
+        if (domainName == null || domainName.isBlank()) {
+            return null;
+        }
+        String host = extractHost(domainName.trim());
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+        return host.startsWith("www.") ? host.substring(4) : host;
+    }
+}
@@ -3,13 +3,17 @@ package br.com.technews.service;
 import br.com.technews.entity.TrustedSource;
 import br.com.technews.repository.TrustedSourceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service para gerenciamento de fontes confiáveis
@@ -21,6 +25,17 @@ public class TrustedSourceService {
     @Autowired
     private TrustedSourceRepository trustedSourceRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    // Domínios ativos indexados por host; recarregado sob demanda após alterações e, no máximo, a cada ttl-ms
+    // do cache de referência (alterações de outras instâncias). Cada invalidação instala um slot vazio novo,
+    // então um compile iniciado antes dela não consegue publicar o matcher antigo
+    private final AtomicReference<MatcherSlot> matcher = new AtomicReference<>(new MatcherSlot(null, 0L));
+
+    @Value("${technews.reference-cache.ttl-ms:600000}")
+    private long ttlMillis = 600_000;
+
     /**
      * Busca todas as fontes confiáveis com paginação
      */
@@ -104,7 +119,9 @@ public class TrustedSourceService {
      */
     public TrustedSource save(TrustedSource trustedSource) {
         validateTrustedSource(trustedSource);
-        return trustedSourceRepository.save(trustedSource);
+        TrustedSource saved = trustedSourceRepository.save(trustedSource);
+        invalidateMatcher();
+        return saved;
     }
 
     /**
@@ -127,7 +144,9 @@ public class TrustedSourceService {
         existing.setDescription(trustedSource.getDescription());
         existing.setActive(trustedSource.getActive());
 
-        return trustedSourceRepository.save(existing);
+        TrustedSource saved = trustedSourceRepository.save(existing);
+        invalidateMatcher();
+        return saved;
     }
 
     /**
@@ -141,7 +160,9 @@ public class TrustedSourceService {
 
         TrustedSource source = sourceOpt.get();
         source.toggleActive();
-        return trustedSourceRepository.save(source);
+        TrustedSource saved = trustedSourceRepository.save(source);
+        invalidateMatcher();
+        return saved;
     }
 
     /**
@@ -152,6 +173,7 @@ public class TrustedSourceService {
             throw new RuntimeException("Fonte confiável não encontrada com ID: " + id);
         }
         trustedSourceRepository.deleteById(id);
+        invalidateMatcher();
     }
 
     /**
@@ -199,10 +221,43 @@ public class TrustedSourceService {
      */
     @Transactional(readOnly = true)
     public boolean isTrustedDomain(String domainName) {
-        Optional<TrustedSource> source = findByDomainName(domainName);
+        Optional<TrustedSource> source = referenceDataCache.findTrustedSourceByDomainName(domainName);
         return source.isPresent() && source.get().isActive();
     }
 
+    /**
+     * Matcher em memória dos domínios ativos, carregado na primeira chamada após cada alteração
+     * ou depois de {@code technews.reference-cache.ttl-ms}
+     */
+    public TrustedSourceMatcher getMatcher() {
+        MatcherSlot observed = matcher.get();
+        if (observed.matcher() != null && System.currentTimeMillis() - observed.builtAt() < ttlMillis) {
+            return observed.matcher();
+        }
+        TrustedSourceMatcher compiled = TrustedSourceMatcher.compile(referenceDataCache.getActiveTrustedSources().stream()
+            .map(TrustedSource::getDomainName)
+            .toList());
+        matcher.compareAndSet(observed, new MatcherSlot(compiled, System.currentTimeMillis()));
+        return compiled;
+    }
+
+    /**
+     * Descarta o matcher; dentro de uma transação descarta novamente ao final dela,
+     * para que uma leitura feita antes do commit (ou de um rollback) não fique em cache
+     */
+    public void invalidateMatcher() {
+        matcher.set(new MatcherSlot(null, 0L));
+        referenceDataCache.invalidate(ReferenceDataCache.Table.TRUSTED_SOURCES);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    matcher.set(new MatcherSlot(null, 0L));
+                }
+            });
+        }
+    }
+
     /**
      * Valida uma fonte confiável antes de salvar
      */
@@ -248,4 +303,8 @@ public class TrustedSourceService {
             throw new IllegalArgumentException("Já existe uma fonte confiável com este domínio");
         }
     }
-}
\ No newline at end of file
+
+    // Comparado por identidade no compareAndSet: dois slots vazios são invalidações distintas
+    private record MatcherSlot(TrustedSourceMatcher matcher, long builtAt) {
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.technews.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem de visualizações de artigos e newsletters com gravação posterior (write-behind).
+ *
+ * Cada visualização só incrementa um {@link LongAdder} em memória por id, sem acesso ao banco nem
+ * disputa entre requisições simultâneas. Os acumulados são gravados a cada
+ * {@code technews.views.flush-interval-ms} em lote, com {@code views = views + delta} (sem leitura
+ * prévia, portanto sem perder incrementos de outras instâncias), e também no desligamento.
+ * Se a gravação falhar, os deltas voltam para os contadores e são tentados na próxima.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCounterService {
+
+    public enum Target {
+        ARTICLE("UPDATE news_articles SET views = COALESCE(views, 0) + ? WHERE id = ?"),
+        NEWSLETTER("UPDATE newsletters SET views = views + ? WHERE id = ?");
+
+        private final String updateSql;
+
+        Target(String updateSql) {
+            this.updateSql = updateSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Map.of(
+        Target.ARTICLE, new ConcurrentHashMap<>(),
+        Target.NEWSLETTER, new ConcurrentHashMap<>()));
+    private final Object flushLock = new Object();
+
+    public void recordView(Target target, Long id) {
+        if (id != null) {
+            add(target, id, 1);
+        }
+    }
+
+    /**
+     * Grava os acumulados desde a última gravação; retorna o número de ids atualizados
+     */
+    @Scheduled(fixedDelayString = "${technews.views.flush-interval-ms:10000}")
+    public int flush() {
+        synchronized (flushLock) {
+            int updated = 0;
+            for (Target target : Target.values()) {
+                updated += flush(target);
+            }
+            return updated;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int flush(Target target) {
+        List<long[]> deltas = drain(pending.get(target));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        // Ordem fixa de ids entre instâncias para evitar deadlock nos bloqueios de linha
+        deltas.sort(Comparator.comparingLong(delta -> delta[0]));
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(target.updateSql, deltas, deltas.size(), (ps, delta) -> {
+                    ps.setLong(1, delta[1]);
+                    ps.setLong(2, delta[0]);
+                }));
+            log.debug("Visualizações gravadas: {} ids ({})", deltas.size(), target);
+            return deltas.size();
+        } catch (Exception e) {
+            deltas.forEach(delta -> add(target, delta[0], delta[1]));
+            log.warn("Erro ao gravar visualizações ({}), nova tentativa na próxima gravação: {}",
+                target, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Zera os contadores e retorna os pares (id, delta) pendentes. Ids sem visualizações desde a
+     * gravação anterior são removidos para o mapa não crescer com todo o acervo.
+     */
+    private List<long[]> drain(ConcurrentHashMap<Long, LongAdder> counters) {
+        List<long[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.add(new long[]{entry.getKey(), delta});
+            } else if (counters.remove(entry.getKey(), entry.getValue())) {
+                // Incremento feito entre a leitura e a remoção: vai para a próxima gravação
+                // (os feitos depois da remoção são movidos pelo próprio add)
+                long late = entry.getValue().sumThenReset();
+                if (late > 0) {
+                    counters.computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(late);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private void add(Target target, long id, long delta) {
+        ConcurrentHashMap<Long, LongAdder> counters = pending.get(target);
+        LongAdder adder = counters.computeIfAbsent(id, k -> new LongAdder());
+        adder.add(delta);
+        // O drain removeu o adder entre a busca e o incremento: o saldo que ele não leu vai para o atual.
+        // sumThenReset zera cada célula atomicamente, então cada incremento é lido uma única vez
+        if (counters.get(id) != adder) {
+            long stranded = adder.sumThenReset();
+            if (stranded != 0) {
+                add(target, id, stranded);
+            }
+        }
+    }
+}
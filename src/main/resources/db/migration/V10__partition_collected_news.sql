@@ -0,0 +1,178 @@
+-- Particionamento mensal de collected_news por published_at (requer PostgreSQL 13+)
+-- Partições futuras são criadas e partições antigas movidas para o schema archive
+-- pelo CollectedNewsPartitionService através das funções definidas abaixo
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- Tabela atual passa a ser a origem da cópia; a sequence de ids é reaproveitada
+ALTER TABLE collected_news RENAME TO collected_news_legacy;
+ALTER TABLE collected_news_legacy RENAME CONSTRAINT collected_news_pkey TO collected_news_legacy_pkey;
+DROP TRIGGER IF EXISTS update_collected_news_updated_at ON collected_news_legacy;
+ALTER SEQUENCE collected_news_id_seq OWNED BY NONE;
+
+-- A chave de partição precisa fazer parte da chave primária, por isso published_at passa a ser obrigatório
+CREATE TABLE collected_news (
+    id BIGINT NOT NULL DEFAULT nextval('collected_news_id_seq'),
+    title VARCHAR(500) NOT NULL,
+    content TEXT,
+    original_url VARCHAR(1000) NOT NULL,
+    image_url VARCHAR(1000),
+    published_at TIMESTAMP NOT NULL,
+    source_id BIGINT NOT NULL REFERENCES news_sources(id),
+    category_id BIGINT REFERENCES categories(id),
+    content_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'PUBLISHED')),
+    quality_score DECIMAL(3,1) DEFAULT 0.0,
+    processed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, published_at)
+) PARTITION BY RANGE (published_at);
+
+ALTER SEQUENCE collected_news_id_seq OWNED BY collected_news.id;
+
+-- Datas fora das partições mensais existentes (muito antigas ou futuras)
+CREATE TABLE collected_news_default PARTITION OF collected_news DEFAULT;
+
+-- Unicidade global de URL e hash: índices únicos em tabela particionada precisariam incluir published_at,
+-- então as chaves de deduplicação ficam em uma tabela própria mantida por trigger.
+-- As chaves de partições arquivadas permanecem, evitando recoletar notícias antigas.
+CREATE TABLE collected_news_keys (
+    original_url VARCHAR(1000) PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL UNIQUE
+);
+
+-- Cria a partição do mês informado, movendo para ela as linhas que estiverem na partição default
+CREATE OR REPLACE FUNCTION create_collected_news_partition(month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month_start)::date;
+    end_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := 'collected_news_' || to_char(start_date, 'YYYY_MM');
+BEGIN
+    IF to_regclass('public.' || partition_name) IS NOT NULL
+       OR to_regclass('archive.' || partition_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE public.%I (LIKE collected_news INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM collected_news_default WHERE published_at >= %L AND published_at < %L RETURNING *) '
+                   'INSERT INTO public.%I SELECT * FROM moved', start_date, end_date, partition_name);
+    EXECUTE format('ALTER TABLE collected_news ATTACH PARTITION public.%I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_date, end_date);
+    -- O DELETE na partição default removeu as chaves das linhas movidas
+    EXECUTE format('INSERT INTO collected_news_keys (original_url, content_hash) '
+                   'SELECT original_url, content_hash FROM public.%I ON CONFLICT DO NOTHING', partition_name);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Garante as partições do mês corrente e dos próximos meses
+CREATE OR REPLACE FUNCTION ensure_collected_news_partitions(months_ahead INT)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    current_month DATE := date_trunc('month', CURRENT_DATE)::date;
+    created TEXT;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        created := create_collected_news_partition((current_month + make_interval(months => i))::date);
+        IF created IS NOT NULL THEN
+            RETURN NEXT created;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Desanexa as partições mensais anteriores ao período de retenção e as move para o schema archive
+CREATE OR REPLACE FUNCTION archive_collected_news_partitions(retain_months INT)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    cutoff DATE := (date_trunc('month', CURRENT_DATE) - make_interval(months => retain_months))::date;
+    partition_name TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'collected_news'::regclass
+          AND c.relname ~ '^collected_news_[0-9]{4}_[0-9]{2}$'
+          AND to_date(right(c.relname, 7), 'YYYY_MM') < cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE collected_news DETACH PARTITION public.%I', partition_name);
+        EXECUTE format('ALTER TABLE public.%I SET SCHEMA archive', partition_name);
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições mensais desde a notícia mais antiga (limitado a 24 meses; o restante fica na default) até 3 meses à frente
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    SELECT GREATEST(
+               date_trunc('month', COALESCE(MIN(COALESCE(published_at, created_at)), CURRENT_DATE)),
+               date_trunc('month', CURRENT_DATE) - INTERVAL '24 months')::date
+      INTO month_start
+      FROM collected_news_legacy;
+
+    WHILE month_start <= date_trunc('month', CURRENT_DATE) + INTERVAL '3 months' LOOP
+        PERFORM create_collected_news_partition(month_start);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Cópia dos dados (published_at nulo assume a data de coleta)
+INSERT INTO collected_news (id, title, content, original_url, image_url, published_at, source_id, category_id,
+                            content_hash, status, quality_score, processed_at, created_at, updated_at)
+SELECT id, title, content, original_url, image_url, COALESCE(published_at, created_at), source_id, category_id,
+       content_hash, status, quality_score, processed_at, created_at, updated_at
+FROM collected_news_legacy;
+
+INSERT INTO collected_news_keys (original_url, content_hash)
+SELECT original_url, content_hash FROM collected_news_legacy;
+
+DROP TABLE collected_news_legacy;
+
+-- Índices particionados (criados em cada partição, inclusive nas futuras)
+CREATE INDEX idx_collected_news_url ON collected_news(original_url);
+CREATE INDEX idx_collected_news_hash ON collected_news(content_hash);
+CREATE INDEX idx_collected_news_published ON collected_news(published_at);
+CREATE INDEX idx_collected_news_status_published ON collected_news(status, published_at DESC);
+CREATE INDEX idx_collected_news_status_created ON collected_news(status, created_at);
+CREATE INDEX idx_collected_news_quality ON collected_news(quality_score);
+CREATE INDEX idx_collected_news_source ON collected_news(source_id);
+CREATE INDEX idx_collected_news_category ON collected_news(category_id);
+
+-- Triggers
+CREATE OR REPLACE FUNCTION sync_collected_news_keys()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO collected_news_keys (original_url, content_hash) VALUES (NEW.original_url, NEW.content_hash);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NEW.original_url IS DISTINCT FROM OLD.original_url OR NEW.content_hash IS DISTINCT FROM OLD.content_hash THEN
+            UPDATE collected_news_keys
+               SET original_url = NEW.original_url, content_hash = NEW.content_hash
+             WHERE original_url = OLD.original_url;
+        END IF;
+        RETURN NEW;
+    END IF;
+    DELETE FROM collected_news_keys WHERE original_url = OLD.original_url;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER sync_collected_news_keys
+    AFTER INSERT OR UPDATE OR DELETE ON collected_news
+    FOR EACH ROW EXECUTE FUNCTION sync_collected_news_keys();
+
+CREATE TRIGGER update_collected_news_updated_at
+    BEFORE UPDATE ON collected_news
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE collected_news IS 'Notícias coletadas automaticamente, particionadas por mês de publicação';
+COMMENT ON TABLE collected_news_keys IS 'URLs e hashes de conteúdo já coletados (unicidade global entre partições)';
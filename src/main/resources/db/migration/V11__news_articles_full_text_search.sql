@@ -0,0 +1,19 @@
+-- Busca textual em news_articles (coluna gerada requer PostgreSQL 12+)
+-- O vetor é mantido pelo próprio banco a cada INSERT/UPDATE: título (peso A) acima do resumo (B)
+-- e do conteúdo (C), processados com as configurações portuguese e english para que termos nos
+-- dois idiomas sejam reduzidos ao radical. A consulta combina websearch_to_tsquery das duas
+-- configurações (ver NewsArticleRepository.searchPublishedRanked)
+
+-- Adicionar a coluna gerada reescreve a tabela
+ALTER TABLE news_articles ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('portuguese'::regconfig, coalesce(summary, '')), 'B') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(summary, '')), 'B') ||
+    setweight(to_tsvector('portuguese'::regconfig, coalesce(content, '')), 'C') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(content, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_news_articles_search_vector ON news_articles USING GIN (search_vector);
+
+COMMENT ON COLUMN news_articles.search_vector IS 'Vetor de busca textual (título A, resumo B, conteúdo C; portuguese + english)';
@@ -0,0 +1,5 @@
+-- Índice da paginação por cursor das listagens de artigos publicados (publishedAt DESC, id DESC):
+-- a próxima página é uma busca por faixa no índice a partir do último (published_at, id) lido,
+-- sem OFFSET nem contagem
+
+CREATE INDEX idx_news_articles_published_keyset ON news_articles(published, published_at DESC, id DESC);
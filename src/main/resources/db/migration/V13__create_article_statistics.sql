@@ -0,0 +1,13 @@
+-- Contagens agregadas de artigos publicados usadas por /api/stats
+-- Mantidas incrementalmente pelo ArticleStatisticsService e reconciliadas periodicamente com news_articles
+
+CREATE TABLE article_statistics (
+    id BIGSERIAL PRIMARY KEY,
+    dimension VARCHAR(10) NOT NULL CHECK (dimension IN ('TOTAL', 'CATEGORY', 'AUTHOR', 'TAG', 'DAY')),
+    stat_key VARCHAR(255) NOT NULL,
+    article_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_article_statistics_dimension_key UNIQUE (dimension, stat_key)
+);
+
+COMMENT ON TABLE article_statistics IS 'Artigos publicados por categoria, autor, tag e dia de publicação, e o total';
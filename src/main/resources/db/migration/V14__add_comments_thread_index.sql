@@ -0,0 +1,11 @@
+-- Índice da leitura das threads de comentários de um artigo: todos os comentários aprovados e ativos
+-- em uma busca por faixa, já na ordem de criação. A tabela comments é criada pelo Hibernate
+-- (ver @Table em Comment), então o índice só é criado quando ela já existe
+
+DO $$
+BEGIN
+    IF to_regclass('comments') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_comments_article_approved_active_created
+            ON comments(article_id, approved, active, created_at);
+    END IF;
+END $$;
@@ -0,0 +1,16 @@
+-- Listas de palavras-chave da curadoria automática e da moderação de comentários
+-- Recarregadas em memória periodicamente pelo KeywordMatcherService; listas vazias usam os padrões da aplicação
+
+CREATE TABLE curation_keywords (
+    id BIGSERIAL PRIMARY KEY,
+    keyword_list VARCHAR(20) NOT NULL CHECK (keyword_list IN ('TECH', 'SPAM', 'COMMENT_SPAM')),
+    keyword VARCHAR(100) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_curation_keywords_list_keyword UNIQUE (keyword_list, keyword)
+);
+
+CREATE INDEX idx_curation_keywords_active ON curation_keywords(active);
+
+COMMENT ON TABLE curation_keywords IS 'Palavras-chave de curadoria (TECH, SPAM) e moderação de comentários (COMMENT_SPAM)';
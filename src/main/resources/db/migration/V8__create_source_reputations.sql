@@ -0,0 +1,16 @@
+-- Reputação de fontes e domínios usada pela curadoria automática
+-- Mantida em memória pelo SourceReputationService e persistida periodicamente
+
+CREATE TABLE source_reputations (
+    id BIGSERIAL PRIMARY KEY,
+    scope VARCHAR(10) NOT NULL CHECK (scope IN ('SOURCE', 'DOMAIN')),
+    reputation_key VARCHAR(255) NOT NULL,
+    approved_count DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rejected_count DOUBLE PRECISION NOT NULL DEFAULT 0,
+    duplicate_count DOUBLE PRECISION NOT NULL DEFAULT 0,
+    quality_score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_source_reputations_scope_key UNIQUE (scope, reputation_key)
+);
+
+COMMENT ON TABLE source_reputations IS 'Contadores móveis de aprovação, duplicidade e score médio por fonte e por domínio';
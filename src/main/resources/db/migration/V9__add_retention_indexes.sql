@@ -0,0 +1,5 @@
+-- Índices usados pelo RetentionService para localizar linhas expiradas de cada política
+-- sem percorrer a tabela inteira a cada lote
+
+CREATE INDEX idx_collected_news_status_created ON collected_news(status, created_at);
+CREATE INDEX idx_news_articles_published_created ON news_articles(published, created_at);
@@ -0,0 +1,179 @@
+package br.com.technews.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência da busca de artigos publicados em 1 milhão de linhas: LIKE sobre título/conteúdo
+ * (consulta atual de findArticlesWithFilters, usada no H2) contra a busca textual com
+ * search_vector + GIN da migração V11, para termos frequentes, raros e frases.
+ * Requer um PostgreSQL 12+; a tabela bench_news_articles é criada e populada na primeira
+ * execução (conteúdo gerado a partir do corpus de feeds) e reaproveitada nas seguintes.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.technews.benchmark.ArticleSearchBenchmark
+ *   -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/technews
+ *   -Dbenchmark.jdbc.user=technews_user -Dbenchmark.jdbc.password=technews_password
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleSearchBenchmark {
+
+    private static final String TABLE = "bench_news_articles";
+
+    @Param({"1000000"})
+    public long rows;
+
+    @Param({"inteligência artificial", "kubernetes", "\"open source\""})
+    public String search;
+
+    private Connection connection;
+    private PreparedStatement like;
+    private PreparedStatement fullText;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/technews"),
+            System.getProperty("benchmark.jdbc.user", "technews_user"),
+            System.getProperty("benchmark.jdbc.password", "technews_password"));
+        if (!isPopulated()) {
+            populate();
+        }
+
+        // Primeira página (20 itens) de /articles?search=..., como gerada por findArticlesWithFilters
+        // e por NewsArticleRepository.searchPublishedRanked
+        like = connection.prepareStatement("SELECT * FROM " + TABLE + " n WHERE n.published = true AND "
+            + "(LOWER(n.title) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(n.content) LIKE LOWER(CONCAT('%', ?, '%'))) "
+            + "ORDER BY n.published_at DESC LIMIT 20");
+        fullText = connection.prepareStatement("SELECT n.* FROM " + TABLE + " n "
+            + "CROSS JOIN LATERAL (SELECT websearch_to_tsquery('portuguese', ?) || websearch_to_tsquery('english', ?) AS query) q "
+            + "WHERE n.published = true AND n.search_vector @@ q.query "
+            + "ORDER BY ts_rank_cd(n.search_vector, q.query) DESC, n.published_at DESC NULLS LAST LIMIT 20");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int likeSearch() throws SQLException {
+        // Mesmo efeito do LIKE para a frase entre aspas
+        String term = search.replace("\"", "");
+        like.setString(1, term);
+        like.setString(2, term);
+        return drain(like);
+    }
+
+    @Benchmark
+    public int fullTextSearch() throws SQLException {
+        fullText.setString(1, search);
+        fullText.setString(2, search);
+        return drain(fullText);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isPopulated() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT to_regclass('" + TABLE + "') IS NOT NULL")) {
+            rs.next();
+            if (!rs.getBoolean(1)) {
+                return false;
+            }
+        }
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+            rs.next();
+            return rs.getLong(1) >= rows;
+        }
+    }
+
+    private void populate() throws SQLException {
+        List<FeedCorpus.Entry> corpus = FeedCorpus.load();
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE + "_corpus");
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + "_corpus (idx INT PRIMARY KEY, title TEXT, content TEXT)");
+        }
+
+        // Textos reais do corpus, combinados por índice para variar título e conteúdo entre as linhas
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + "_corpus VALUES (?, ?, ?)")) {
+            for (int i = 0; i < corpus.size(); i++) {
+                insert.setInt(1, i);
+                insert.setString(2, corpus.get(i).title());
+                insert.setString(3, corpus.get(i).html().replaceAll("<[^>]+>", " "));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        int size = corpus.size();
+        try (Statement st = connection.createStatement()) {
+            // Mesmas colunas e mesma expressão de search_vector da migração V11
+            st.execute("CREATE TABLE " + TABLE + " ("
+                + "id BIGINT PRIMARY KEY, title VARCHAR(500) NOT NULL, summary VARCHAR(500), content TEXT, "
+                + "author VARCHAR(200), category VARCHAR(50), published BOOLEAN, published_at TIMESTAMP, "
+                + "search_vector tsvector GENERATED ALWAYS AS ("
+                + "setweight(to_tsvector('portuguese'::regconfig, coalesce(title, '')), 'A') || "
+                + "setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') || "
+                + "setweight(to_tsvector('portuguese'::regconfig, coalesce(summary, '')), 'B') || "
+                + "setweight(to_tsvector('english'::regconfig, coalesce(summary, '')), 'B') || "
+                + "setweight(to_tsvector('portuguese'::regconfig, coalesce(content, '')), 'C') || "
+                + "setweight(to_tsvector('english'::regconfig, coalesce(content, '')), 'C')) STORED)");
+            st.execute("INSERT INTO " + TABLE + " (id, title, summary, content, author, category, published, published_at) "
+                + "SELECT g, t.title || ' #' || g, left(c.content, 300), c.content, 'Autor ' || (g % 500), "
+                + "(ARRAY['tecnologia','programacao','ia','seguranca','startups'])[1 + g % 5], g % 10 <> 0, "
+                + "now() - random() * INTERVAL '1095 days' "
+                + "FROM generate_series(1, " + rows + ") g "
+                + "JOIN " + TABLE + "_corpus t ON t.idx = g % " + size + " "
+                + "JOIN " + TABLE + "_corpus c ON c.idx = (g / " + size + ") % " + size);
+            st.execute("CREATE INDEX ON " + TABLE + " USING GIN (search_vector)");
+            st.execute("CREATE INDEX ON " + TABLE + " (published_at)");
+            st.execute("DROP TABLE " + TABLE + "_corpus");
+            st.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(ArticleSearchBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.technews.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência das consultas quentes de CollectedNewsRepository em uma tabela simples e em uma
+ * tabela particionada por mês (mesmo layout da migração V10), ambas com 10 milhões de linhas
+ * distribuídas em 36 meses. Requer um PostgreSQL 13+; as tabelas bench_* são criadas e
+ * populadas na primeira execução e reaproveitadas nas seguintes.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.technews.benchmark.CollectedNewsPartitionBenchmark
+ *   -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/technews
+ *   -Dbenchmark.jdbc.user=technews_user -Dbenchmark.jdbc.password=technews_password
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectedNewsPartitionBenchmark {
+
+    private static final int MONTHS = 36;
+
+    @Param({"bench_collected_news_flat", "bench_collected_news_partitioned"})
+    public String table;
+
+    @Param({"10000000"})
+    public long rows;
+
+    private Connection connection;
+    private PreparedStatement topQuality;
+    private PreparedStatement recentApproved;
+    private PreparedStatement byStatusPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/technews"),
+            System.getProperty("benchmark.jdbc.user", "technews_user"),
+            System.getProperty("benchmark.jdbc.password", "technews_password"));
+        if (!isPopulated()) {
+            populate();
+        }
+
+        // Mesmas consultas geradas para findTopQualityNewsByStatusAndDate, findRecentApprovedNews
+        // e findByStatusOrderByPublishedAtDesc
+        topQuality = connection.prepareStatement("SELECT * FROM " + table
+            + " WHERE status = 'APPROVED' AND published_at >= ? ORDER BY quality_score DESC, published_at DESC LIMIT 10");
+        recentApproved = connection.prepareStatement("SELECT * FROM " + table
+            + " WHERE status = 'APPROVED' AND published_at >= ? ORDER BY published_at DESC");
+        byStatusPage = connection.prepareStatement("SELECT * FROM " + table
+            + " WHERE status = 'APPROVED' ORDER BY published_at DESC LIMIT 20 OFFSET 40");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int topQualityLastWeek() throws SQLException {
+        topQuality.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusDays(7)));
+        return drain(topQuality);
+    }
+
+    @Benchmark
+    public int recentApprovedLastDay() throws SQLException {
+        recentApproved.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+        return drain(recentApproved);
+    }
+
+    @Benchmark
+    public int approvedThirdPage() throws SQLException {
+        return drain(byStatusPage);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isPopulated() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT to_regclass('" + table + "') IS NOT NULL")) {
+            rs.next();
+            if (!rs.getBoolean(1)) {
+                return false;
+            }
+        }
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1) >= rows;
+        }
+    }
+
+    private void populate() throws SQLException {
+        boolean partitioned = table.endsWith("partitioned");
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + table + " CASCADE");
+            st.execute("CREATE TABLE " + table + " ("
+                + "id BIGINT NOT NULL, title VARCHAR(500) NOT NULL, original_url VARCHAR(1000) NOT NULL, "
+                + "published_at TIMESTAMP NOT NULL, status VARCHAR(20) NOT NULL, quality_score DECIMAL(3,1), "
+                + "content_hash VARCHAR(64) NOT NULL, created_at TIMESTAMP NOT NULL"
+                + (partitioned ? ", PRIMARY KEY (id, published_at)) PARTITION BY RANGE (published_at)" : ", PRIMARY KEY (id))"));
+
+            if (partitioned) {
+                st.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+                for (int i = -MONTHS; i <= 1; i++) {
+                    String month = "date_trunc('month', CURRENT_DATE) + INTERVAL '" + i + " months'";
+                    try (ResultSet rs = st.executeQuery("SELECT to_char(" + month + ", 'YYYY_MM')")) {
+                        rs.next();
+                        st.execute("CREATE TABLE " + table + "_" + rs.getString(1) + " PARTITION OF " + table
+                            + " FOR VALUES FROM (" + month + ") TO (" + month + " + INTERVAL '1 month')");
+                    }
+                }
+            }
+
+            st.execute("INSERT INTO " + table + " SELECT g, 'Notícia ' || g, 'https://example.com/news/' || g, "
+                + "now() - random() * INTERVAL '" + (MONTHS * 30) + " days', "
+                + "(ARRAY['PENDING','APPROVED','REJECTED','PUBLISHED'])[1 + g % 4], "
+                + "round((random() * 10)::numeric, 1), md5(g::text), now() "
+                + "FROM generate_series(1, " + rows + ") g");
+            st.execute("CREATE INDEX ON " + table + " (status, published_at DESC)");
+            st.execute("CREATE INDEX ON " + table + " (published_at)");
+            st.execute("ANALYZE " + table);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(CollectedNewsPartitionBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
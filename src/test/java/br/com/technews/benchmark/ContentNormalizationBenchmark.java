@@ -0,0 +1,92 @@
+package br.com.technews.benchmark;
+
+import br.com.technews.dto.NormalizedContent;
+import br.com.technews.service.ContentNormalizationService;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o processamento antigo de entradas RSS (três parses Jsoup e varreduras repetidas
+ * do texto em minúsculas) com o estágio de normalização em parse único.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.technews.benchmark.ContentNormalizationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentNormalizationBenchmark {
+
+    private static final List<String> KEYWORDS = List.of(
+        "inteligência artificial", "machine learning", "software", "segurança", "cloud", "api"
+    );
+
+    private List<FeedCorpus.Entry> corpus;
+    private ContentNormalizationService normalizer;
+
+    @Setup
+    public void setUp() {
+        corpus = FeedCorpus.load();
+        normalizer = new ContentNormalizationService();
+    }
+
+    @Benchmark
+    public void legacyMultiParse(Blackhole bh) {
+        for (FeedCorpus.Entry entry : corpus) {
+            Document doc = Jsoup.parse(entry.html());
+            String image = doc.select("img").first() != null ? doc.select("img").first().attr("src") : null;
+            String title = Jsoup.parse(entry.title()).text().trim();
+            String text = Jsoup.parse(entry.html()).text().trim();
+
+            String fullText = title.toLowerCase() + " " + text.toLowerCase();
+            long sentences = text.chars().filter(ch -> ch == '.' || ch == '!' || ch == '?').count();
+            long hits = 0;
+            for (String keyword : KEYWORDS) {
+                hits += fullText.toLowerCase().indexOf(keyword) >= 0 ? 1 : 0;
+            }
+
+            bh.consume(image);
+            bh.consume(sentences);
+            bh.consume(hits);
+            bh.consume(normalizer.generateContentHash(entry.title() + entry.html()));
+        }
+    }
+
+    @Benchmark
+    public void singlePassNormalize(Blackhole bh) {
+        for (FeedCorpus.Entry entry : corpus) {
+            NormalizedContent normalized = normalizer.normalize(entry.title(), entry.html());
+            long hits = 0;
+            for (String keyword : KEYWORDS) {
+                hits += normalized.lowerText().indexOf(keyword) >= 0 ? 1 : 0;
+            }
+            bh.consume(normalized);
+            bh.consume(hits);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(ContentNormalizationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
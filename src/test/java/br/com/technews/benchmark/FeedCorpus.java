@@ -0,0 +1,40 @@
+package br.com.technews.benchmark;
+
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corpus capturado de entradas RSS (src/test/resources/benchmark/feed-corpus.xml)
+ * compartilhado pelos benchmarks de ingestão.
+ */
+public final class FeedCorpus {
+
+    public static final String RESOURCE = "/benchmark/feed-corpus.xml";
+
+    private FeedCorpus() {
+    }
+
+    public record Entry(String title, String link, String html) {
+    }
+
+    public static List<Entry> load() {
+        try (InputStream in = FeedCorpus.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Corpus não encontrado: " + RESOURCE);
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (SyndEntry entry : new SyndFeedInput().build(new XmlReader(in)).getEntries()) {
+                String html = entry.getDescription() != null ? entry.getDescription().getValue() : "";
+                entries.add(new Entry(entry.getTitle(), entry.getLink(), html));
+            }
+            return entries;
+        } catch (Exception e) {
+            throw new IllegalStateException("Erro ao carregar corpus de benchmark", e);
+        }
+    }
+}
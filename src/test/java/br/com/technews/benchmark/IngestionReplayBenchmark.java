@@ -0,0 +1,140 @@
+package br.com.technews.benchmark;
+
+import br.com.technews.TechnewsApplication;
+import br.com.technews.entity.NewsSource;
+import br.com.technews.replay.ReplayServer;
+import br.com.technews.repository.CollectedNewsRepository;
+import br.com.technews.repository.NewsSourceRepository;
+import br.com.technews.service.NewsCollectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rodadas completas de coleta RSS (download, parse, normalização, deduplicação, curadoria inline
+ * e persistência em H2) contra o {@link ReplayServer}, com 10, 100 e 1000 fontes. Cada iteração
+ * avança a época do replay, então todos os itens são novos. Além do tempo da rodada, cada
+ * iteração imprime itens/s e p50/p99 do tempo por fonte; a taxa de alocação vem do GCProfiler
+ * (gc.alloc.rate).
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.technews.benchmark.IngestionReplayBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IngestionReplayBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int sources;
+
+    // Latência simulada por requisição (fixa + jitter de mesmo valor)
+    @Param({"5"})
+    public int latencyMillis;
+
+    private ReplayServer replay;
+    private ConfigurableApplicationContext context;
+    private NewsCollectionService newsCollectionService;
+    private CollectedNewsRepository collectedNewsRepository;
+    private List<NewsSource> newsSources;
+
+    private long[] sourceNanos;
+    private long runStartNanos;
+    private long runNanos;
+    private long itemsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        replay = ReplayServer.start()
+            .latency(Duration.ofMillis(latencyMillis), Duration.ofMillis(latencyMillis));
+        context = new SpringApplicationBuilder(TechnewsApplication.class)
+            .profiles("test")
+            .web(WebApplicationType.NONE)
+            .properties("logging.level.root=WARN")
+            .run();
+        newsCollectionService = context.getBean(NewsCollectionService.class);
+        collectedNewsRepository = context.getBean(CollectedNewsRepository.class);
+
+        NewsSourceRepository newsSourceRepository = context.getBean(NewsSourceRepository.class);
+        newsSources = new ArrayList<>(sources);
+        for (int i = 0; i < sources; i++) {
+            newsSources.add(newsSourceRepository.save(NewsSource.builder()
+                .name("Replay " + i)
+                .url(replay.rssUrl(i))
+                .type(NewsSource.SourceType.RSS_FEED)
+                .maxArticlesPerFetch(replay.feedSize())
+                .build()));
+        }
+        sourceNanos = new long[sources];
+    }
+
+    @Setup(Level.Iteration)
+    public void nextRun() {
+        replay.nextEpoch();
+        itemsBefore = collectedNewsRepository.count();
+        runStartNanos = System.nanoTime();
+    }
+
+    @Benchmark
+    public void fullCollectionRun() {
+        for (int i = 0; i < newsSources.size(); i++) {
+            long start = System.nanoTime();
+            newsCollectionService.collectNewsFromSource(newsSources.get(i));
+            sourceNanos[i] = System.nanoTime() - start;
+        }
+        runNanos = System.nanoTime() - runStartNanos;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long items = collectedNewsRepository.count() - itemsBefore;
+        long[] sorted = sourceNanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%n[replay] fontes=%d itens=%d itens/s=%.1f p50/fonte=%.2f ms p99/fonte=%.2f ms%n",
+            sources, items, items / (runNanos / 1e9),
+            percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        replay.close();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(IngestionReplayBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
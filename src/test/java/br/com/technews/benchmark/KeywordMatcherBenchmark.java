@@ -0,0 +1,97 @@
+package br.com.technews.benchmark;
+
+import br.com.technews.dto.NormalizedContent;
+import br.com.technews.service.ContentNormalizationService;
+import br.com.technews.service.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a contagem de palavras-chave da curadoria (indexOf por palavra-chave, com toLowerCase
+ * a cada chamada) com o autômato de Aho–Corasick, sobre 10 mil notícias coletadas
+ * geradas a partir do corpus de feeds.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=br.com.technews.benchmark.KeywordMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordMatcherBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    private static final List<String> TECH_KEYWORDS = List.of(
+        "inteligência artificial", "machine learning", "blockchain", "criptomoeda",
+        "desenvolvimento", "programação", "software", "aplicativo", "startup",
+        "inovação", "tecnologia", "digital", "dados", "segurança", "cloud",
+        "api", "framework", "javascript", "python", "java", "react", "angular",
+        "mobile", "web", "frontend", "backend", "devops", "kubernetes", "docker"
+    );
+
+    private List<String> texts;
+    private KeywordMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        ContentNormalizationService normalizer = new ContentNormalizationService();
+        List<FeedCorpus.Entry> corpus = FeedCorpus.load();
+
+        texts = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            FeedCorpus.Entry entry = corpus.get(i % corpus.size());
+            NormalizedContent normalized = normalizer.normalize(entry.title() + " #" + i, entry.html());
+            texts.add(normalized.lowerText());
+        }
+        matcher = KeywordMatcher.compile(TECH_KEYWORDS);
+    }
+
+    @Benchmark
+    public long legacyIndexOf() {
+        long total = 0;
+        for (String text : texts) {
+            for (String keyword : TECH_KEYWORDS) {
+                String lowerText = text.toLowerCase();
+                String lowerKeyword = keyword.toLowerCase();
+                int index = 0;
+                while ((index = lowerText.indexOf(lowerKeyword, index)) != -1) {
+                    total++;
+                    index += lowerKeyword.length();
+                }
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long ahoCorasick() {
+        long total = 0;
+        for (String text : texts) {
+            total += matcher.countAll(text);
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(KeywordMatcherBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
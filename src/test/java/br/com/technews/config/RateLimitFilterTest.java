@@ -0,0 +1,92 @@
+package br.com.technews.config;
+
+import br.com.technews.service.RateLimiter;
+import br.com.technews.service.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RateLimitFilter
+ */
+class RateLimitFilterTest {
+
+    private RateLimiter rateLimiter;
+    private SimpleMeterRegistry registry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        registry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(rateLimiter, registry, List.of("/api/**"), "X-API-Key", List.of("parceiro", " "));
+    }
+
+    @Test
+    void testAllowedRequestContinuesWithRemainingHeader() throws Exception {
+        when(rateLimiter.tryConsume("ip:10.0.0.1")).thenReturn(RateLimiter.Decision.allow(41));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/search");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("41");
+    }
+
+    @Test
+    void testExceededLimitReturns429WithRetryAfter() throws Exception {
+        when(rateLimiter.tryConsume("key:parceiro")).thenReturn(RateLimiter.Decision.deny(17));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/newsletter/subscribe");
+        request.addHeader("X-API-Key", " parceiro ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("17");
+        assertThat(response.getContentAsString()).contains("\"retryAfterSeconds\":17");
+        assertThat(registry.get("technews.api.rate-limit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnknownApiKeysShareTheClientIpBucket() throws Exception {
+        filter = new RateLimitFilter(new TokenBucketRateLimiter(2, 1000), registry, List.of("/api/**"), "X-API-Key",
+            List.of("parceiro"));
+        int[] statuses = new int[3];
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+            request.setRemoteAddr("10.0.0.9");
+            request.addHeader("X-API-Key", "aleatoria-" + i);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+
+        assertThat(statuses).containsExactly(200, 200, 429);
+    }
+
+    @Test
+    void testPathsOutsideTheApiAndPreflightAreNotLimited() throws Exception {
+        MockHttpServletRequest page = new MockHttpServletRequest("GET", "/articles");
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/articles");
+
+        filter.doFilter(page, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(preflight, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter, never()).tryConsume(anyString());
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.technews.controller;
+
+import br.com.technews.service.ArticleFeedService;
+import br.com.technews.service.ArticleFeedService.RenderedFeed;
+import br.com.technews.service.ArticleFeedService.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FeedController.class)
+@Import(TestSecurityConfig.class)
+class FeedControllerTest {
+
+    private static final byte[] BODY = "<rss version=\"2.0\"/>".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIPPED = {31, -117, 8, 0};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ArticleFeedService articleFeedService;
+
+    @BeforeEach
+    void setUp() {
+        RenderedFeed feed = new RenderedFeed(BODY, GZIPPED, "abc123", Instant.parse("2025-03-10T09:00:00Z"), 0);
+        when(articleFeedService.getFeed(any(Type.class), any(), any())).thenReturn(feed);
+    }
+
+    @Test
+    void shouldServeRssWithEtag() throws Exception {
+        mockMvc.perform(get("/feed.xml"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/rss+xml;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void shouldServeGzipWhenAccepted() throws Exception {
+        mockMvc.perform(get("/feed.atom").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/atom+xml;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+                .andExpect(content().bytes(GZIPPED));
+
+        verify(articleFeedService).getFeed(Type.ATOM, null, null);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForCurrentEtag() throws Exception {
+        mockMvc.perform(get("/feed/category/{category}.xml", "Inteligência Artificial").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(articleFeedService).getFeed(Type.RSS, "Inteligência Artificial", null);
+    }
+
+    @Test
+    void shouldServeTagFeeds() throws Exception {
+        mockMvc.perform(get("/feed/tag/java.atom"))
+                .andExpect(status().isOk());
+
+        verify(articleFeedService).getFeed(Type.ATOM, null, "java");
+    }
+
+    @Test
+    void shouldHonorZeroQualityForGzip() {
+        assertThat(FeedController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(FeedController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(FeedController.acceptsGzip("deflate")).isFalse();
+        assertThat(FeedController.acceptsGzip(null)).isFalse();
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.technews.controller;
 
+import br.com.technews.dto.HomeArticleSummary;
+import br.com.technews.dto.HomePageSnapshot;
+import br.com.technews.service.HomePageSnapshotService;
 import br.com.technews.service.SubscriberService;
 import br.com.technews.service.NewsArticleService;
 import org.junit.jupiter.api.Test;
@@ -7,14 +10,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -35,55 +34,41 @@ class PageControllerTest {
     @MockBean
     private NewsArticleService newsArticleService;
 
-    @Test
-    void shouldDisplayHomePage() throws Exception {
-        // Given
-        when(subscriberService.getAllSubscribers()).thenReturn(Arrays.asList());
-        when(newsArticleService.findPublishedArticles(any(PageRequest.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
-        when(newsArticleService.countPublished()).thenReturn(0L);
-        when(newsArticleService.getDistinctCategories()).thenReturn(Collections.emptyList());
-
-        // When & Then
-        mockMvc.perform(get("/"))
-                .andExpect(status().isOk())
-                .andExpect(view().name("index"))
-                .andExpect(model().attribute("subscriberCount", 0));
-
-        verify(subscriberService).getAllSubscribers();
-    }
+    @MockBean
+    private HomePageSnapshotService homePageSnapshotService;
 
     @Test
-    void shouldDisplayHomePageWithSubscriberCount() throws Exception {
+    void shouldDisplayHomePage() throws Exception {
         // Given
-        when(subscriberService.getAllSubscribers()).thenReturn(Arrays.asList(null, null, null));
-        when(newsArticleService.findPublishedArticles(any(PageRequest.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
-        when(newsArticleService.countPublished()).thenReturn(5L);
-        when(newsArticleService.getDistinctCategories()).thenReturn(Collections.emptyList());
+        when(homePageSnapshotService.getSnapshot()).thenReturn(HomePageSnapshot.empty());
 
         // When & Then
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("index"))
-                .andExpect(model().attribute("subscriberCount", 3));
+                .andExpect(model().attribute("subscriberCount", 0L));
 
-        verify(subscriberService).getAllSubscribers();
+        verify(homePageSnapshotService).getSnapshot();
     }
 
     @Test
-    void shouldHandleSubscriberServiceException() throws Exception {
+    void shouldDisplayHomePageFromSnapshotWithoutQueryingServices() throws Exception {
         // Given
-        when(subscriberService.getAllSubscribers()).thenThrow(new RuntimeException("Database error"));
-        when(newsArticleService.findPublishedArticles(any(PageRequest.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
-        when(newsArticleService.countPublished()).thenReturn(0L);
-        when(newsArticleService.getDistinctCategories()).thenReturn(Collections.emptyList());
+        HomeArticleSummary featured = new HomeArticleSummary(1L, "Artigo", "Resumo", null, "IA", "Maria",
+                LocalDateTime.of(2025, 3, 10, 9, 0));
+        when(homePageSnapshotService.getSnapshot()).thenReturn(new HomePageSnapshot(
+                List.of(featured), 5L, 3L, List.of("IA"), LocalDateTime.now()));
 
         // When & Then
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("index"))
-                .andExpect(model().attribute("subscriberCount", 0));
+                .andExpect(model().attribute("subscriberCount", 3L))
+                .andExpect(model().attribute("totalArticles", 5L))
+                .andExpect(model().attribute("featuredArticles", List.of(featured)))
+                .andExpect(model().attribute("categories", List.of("IA")));
 
-        verify(subscriberService).getAllSubscribers();
+        verifyNoInteractions(subscriberService, newsArticleService);
     }
 
     @Test
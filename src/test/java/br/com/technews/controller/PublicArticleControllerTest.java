@@ -0,0 +1,52 @@
+package br.com.technews.controller;
+
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.service.NewsArticleService;
+import br.com.technews.service.ViewCounterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes unitários para PublicArticleController
+ */
+@WebMvcTest(PublicArticleController.class)
+@Import(TestSecurityConfig.class)
+class PublicArticleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NewsArticleService newsArticleService;
+
+    @MockBean
+    private ViewCounterService viewCounterService;
+
+    @Test
+    void shouldRestartListingWhenCursorHasNoPublicationDate() throws Exception {
+        // Given
+        when(newsArticleService.findPublishedArticlesAfter(isNull(), isNull(), eq(12)))
+            .thenReturn(new SliceImpl<NewsArticle>(List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/articles").param("cursor", new ArticleCursor(null, 123L).encode()))
+            .andExpect(status().isOk())
+            .andExpect(view().name("articles/index"))
+            .andExpect(model().attribute("cursorMode", true));
+
+        verify(newsArticleService).findPublishedArticlesAfter(isNull(), isNull(), eq(12));
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.technews.controller.admin;
+
+import br.com.technews.config.SecurityConfig;
+import br.com.technews.service.BulkExportService;
+import br.com.technews.service.BulkExportService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@Import(SecurityConfig.class)
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BulkExportService bulkExportService;
+
+    @Test
+    void shouldRefuseAnonymousExport() throws Exception {
+        mockMvc.perform(get("/admin/export/subscribers"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/admin/export/articles").param("format", "csv"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(bulkExportService);
+    }
+
+    @Test
+    void shouldRefuseWrongCredentials() throws Exception {
+        mockMvc.perform(get("/admin/export/subscribers").with(httpBasic("admin", "errada")))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(bulkExportService);
+    }
+
+    @Test
+    void shouldExportWithAdminCredentials() throws Exception {
+        mockMvc.perform(get("/admin/export/subscribers").param("format", "csv").with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("subscribers-")));
+
+        verify(bulkExportService).exportSubscribers(eq(Format.CSV), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRefuseNonAdminUsers() throws Exception {
+        mockMvc.perform(get("/admin/export/articles"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(bulkExportService);
+    }
+}
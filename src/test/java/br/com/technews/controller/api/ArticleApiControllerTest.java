@@ -1,5 +1,9 @@
 package br.com.technews.controller.api;
 
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.ArticleDetail;
+import br.com.technews.dto.ArticleListItem;
+import br.com.technews.dto.ContentVersion;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.ArticleStatus;
 import br.com.technews.entity.Category;
@@ -16,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,6 +34,7 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -72,9 +78,9 @@ class ArticleApiControllerTest {
     @DisplayName("GET /api/articles - Deve retornar artigos publicados com paginação")
     void shouldGetAllPublishedArticlesWithPagination() throws Exception {
         // Given
-        List<NewsArticle> articles = Arrays.asList(publishedArticle);
-        Page<NewsArticle> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
-        when(newsArticleService.findPublishedArticles(any(Pageable.class))).thenReturn(articlePage);
+        List<ArticleListItem> articles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        Page<ArticleListItem> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
+        when(newsArticleService.findPublishedItems(any(Pageable.class))).thenReturn(articlePage);
 
         // When & Then
         mockMvc.perform(get("/api/articles")
@@ -95,14 +101,14 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.hasNext", is(false)))
                 .andExpect(jsonPath("$.hasPrevious", is(false)));
 
-        verify(newsArticleService).findPublishedArticles(any(Pageable.class));
+        verify(newsArticleService).findPublishedItems(any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles - Deve retornar erro quando serviço falha")
     void shouldReturnErrorWhenServiceFails() throws Exception {
         // Given
-        when(newsArticleService.findPublishedArticles(any(Pageable.class)))
+        when(newsArticleService.findPublishedItems(any(Pageable.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
@@ -113,14 +119,14 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.message", containsString("Erro ao buscar artigos")));
 
-        verify(newsArticleService).findPublishedArticles(any(Pageable.class));
+        verify(newsArticleService).findPublishedItems(any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles/{id} - Deve retornar artigo publicado por ID")
     void shouldGetPublishedArticleById() throws Exception {
         // Given
-        when(newsArticleService.findById(1L)).thenReturn(Optional.of(publishedArticle));
+        when(newsArticleService.findDetail(1L)).thenReturn(Optional.of(ArticleDetail.of(publishedArticle)));
 
         // When & Then
         mockMvc.perform(get("/api/articles/1")
@@ -132,44 +138,44 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.article.title", is("Published Article")))
                 .andExpect(jsonPath("$.article.published", is(true)));
 
-        verify(newsArticleService).findById(1L);
+        verify(newsArticleService).findDetail(1L);
     }
 
     @Test
     @DisplayName("GET /api/articles/{id} - Deve retornar 404 quando artigo não existe")
     void shouldReturn404WhenArticleNotFound() throws Exception {
         // Given
-        when(newsArticleService.findById(999L)).thenReturn(Optional.empty());
+        when(newsArticleService.findDetail(999L)).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/api/articles/999")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(newsArticleService).findById(999L);
+        verify(newsArticleService).findDetail(999L);
     }
 
     @Test
     @DisplayName("GET /api/articles/{id} - Deve retornar 404 quando artigo não está publicado")
     void shouldReturn404WhenArticleNotPublished() throws Exception {
         // Given
-        when(newsArticleService.findById(2L)).thenReturn(Optional.of(draftArticle));
+        when(newsArticleService.findDetail(2L)).thenReturn(Optional.of(ArticleDetail.of(draftArticle)));
 
         // When & Then
         mockMvc.perform(get("/api/articles/2")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(newsArticleService).findById(2L);
+        verify(newsArticleService).findDetail(2L);
     }
 
     @Test
     @DisplayName("GET /api/articles/category/{category} - Deve retornar artigos por categoria")
     void shouldGetArticlesByCategory() throws Exception {
         // Given
-        List<NewsArticle> articles = Arrays.asList(publishedArticle);
-        Page<NewsArticle> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
-        when(newsArticleService.findPublishedArticlesByCategory(eq("technology"), any(Pageable.class)))
+        List<ArticleListItem> articles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        Page<ArticleListItem> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
+        when(newsArticleService.findPublishedItemsByCategory(eq("technology"), any(Pageable.class)))
                 .thenReturn(articlePage);
 
         // When & Then
@@ -187,14 +193,14 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.totalPages", is(1)))
                 .andExpect(jsonPath("$.totalElements", is(1)));
 
-        verify(newsArticleService).findPublishedArticlesByCategory(eq("technology"), any(Pageable.class));
+        verify(newsArticleService).findPublishedItemsByCategory(eq("technology"), any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles/category/{category} - Deve retornar erro quando busca por categoria falha")
     void shouldReturnErrorWhenCategorySearchFails() throws Exception {
         // Given
-        when(newsArticleService.findPublishedArticlesByCategory(anyString(), any(Pageable.class)))
+        when(newsArticleService.findPublishedItemsByCategory(anyString(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Category search error"));
 
         // When & Then
@@ -205,17 +211,16 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.message", containsString("Erro ao buscar artigos por categoria")));
 
-        verify(newsArticleService).findPublishedArticlesByCategory(eq("technology"), any(Pageable.class));
+        verify(newsArticleService).findPublishedItemsByCategory(eq("technology"), any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles/search - Deve pesquisar artigos por termo")
     void shouldSearchArticlesByQuery() throws Exception {
         // Given
-        List<NewsArticle> articles = Arrays.asList(publishedArticle);
-        Page<NewsArticle> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
-        when(newsArticleService.searchArticlesWithFilters(
-                eq("technology"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+        List<ArticleListItem> articles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        Page<ArticleListItem> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
+        when(newsArticleService.searchItems(eq("technology"), any(Pageable.class)))
                 .thenReturn(articlePage);
 
         // When & Then
@@ -234,16 +239,14 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.totalPages", is(1)))
                 .andExpect(jsonPath("$.totalElements", is(1)));
 
-        verify(newsArticleService).searchArticlesWithFilters(
-                eq("technology"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+        verify(newsArticleService).searchItems(eq("technology"), any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles/search - Deve retornar erro quando pesquisa falha")
     void shouldReturnErrorWhenSearchFails() throws Exception {
         // Given
-        when(newsArticleService.searchArticlesWithFilters(
-                anyString(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+        when(newsArticleService.searchItems(anyString(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Search error"));
 
         // When & Then
@@ -255,16 +258,15 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.message", containsString("Erro ao pesquisar artigos")));
 
-        verify(newsArticleService).searchArticlesWithFilters(
-                eq("technology"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+        verify(newsArticleService).searchItems(eq("technology"), any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/articles/recent - Deve retornar artigos recentes")
     void shouldGetRecentArticles() throws Exception {
         // Given
-        List<NewsArticle> recentArticles = Arrays.asList(publishedArticle);
-        when(newsArticleService.findRecentArticles(10)).thenReturn(recentArticles);
+        List<ArticleListItem> recentArticles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        when(newsArticleService.findRecentItems(10)).thenReturn(recentArticles);
 
         // When & Then
         mockMvc.perform(get("/api/articles/recent")
@@ -277,15 +279,15 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.articles[0].title", is("Published Article")))
                 .andExpect(jsonPath("$.count", is(1)));
 
-        verify(newsArticleService).findRecentArticles(10);
+        verify(newsArticleService).findRecentItems(10);
     }
 
     @Test
     @DisplayName("GET /api/articles/recent - Deve usar limite padrão quando não especificado")
     void shouldUseDefaultLimitForRecentArticles() throws Exception {
         // Given
-        List<NewsArticle> recentArticles = Arrays.asList(publishedArticle);
-        when(newsArticleService.findRecentArticles(10)).thenReturn(recentArticles);
+        List<ArticleListItem> recentArticles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        when(newsArticleService.findRecentItems(10)).thenReturn(recentArticles);
 
         // When & Then
         mockMvc.perform(get("/api/articles/recent")
@@ -296,14 +298,14 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.articles", hasSize(1)))
                 .andExpect(jsonPath("$.count", is(1)));
 
-        verify(newsArticleService).findRecentArticles(10);
+        verify(newsArticleService).findRecentItems(10);
     }
 
     @Test
     @DisplayName("GET /api/articles/recent - Deve retornar erro quando busca de recentes falha")
     void shouldReturnErrorWhenRecentArticlesFails() throws Exception {
         // Given
-        when(newsArticleService.findRecentArticles(anyInt()))
+        when(newsArticleService.findRecentItems(anyInt()))
                 .thenThrow(new RuntimeException("Recent articles error"));
 
         // When & Then
@@ -314,7 +316,7 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.message", containsString("Erro ao buscar artigos recentes")));
 
-        verify(newsArticleService).findRecentArticles(10);
+        verify(newsArticleService).findRecentItems(10);
     }
 
     @Test
@@ -359,9 +361,9 @@ class ArticleApiControllerTest {
     @DisplayName("GET /api/articles - Deve aplicar ordenação ascendente")
     void shouldApplyAscendingSort() throws Exception {
         // Given
-        List<NewsArticle> articles = Arrays.asList(publishedArticle);
-        Page<NewsArticle> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
-        when(newsArticleService.findPublishedArticles(any(Pageable.class))).thenReturn(articlePage);
+        List<ArticleListItem> articles = Arrays.asList(ArticleListItem.of(publishedArticle));
+        Page<ArticleListItem> articlePage = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
+        when(newsArticleService.findPublishedItems(any(Pageable.class))).thenReturn(articlePage);
 
         // When & Then
         mockMvc.perform(get("/api/articles")
@@ -373,7 +375,67 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.success", is(true)))
                 .andExpect(jsonPath("$.articles", hasSize(1)));
 
-        verify(newsArticleService).findPublishedArticles(any(Pageable.class));
+        verify(newsArticleService).findPublishedItems(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/articles/{id} - Deve responder 304 sem carregar o artigo quando o ETag confere")
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        // Given
+        when(newsArticleService.findVersion(1L)).thenReturn(Optional.of(
+            new ContentVersion(1L, true, publishedArticle.getUpdatedAt(), 0L, null)));
+        when(newsArticleService.findDetail(1L)).thenReturn(Optional.of(ArticleDetail.of(publishedArticle)));
+
+        String etag = mockMvc.perform(get("/api/articles/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/articles/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(newsArticleService, times(1)).findDetail(1L);
+
+        // Artigo alterado: nova versão, nova resposta
+        when(newsArticleService.findVersion(1L)).thenReturn(Optional.of(
+            new ContentVersion(1L, true, publishedArticle.getUpdatedAt().plusMinutes(1), 0L, null)));
+        mockMvc.perform(get("/api/articles/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("GET /api/articles/cursor - Deve retornar fatia com próximo cursor")
+    void shouldGetArticlesByCursor() throws Exception {
+        // Given
+        ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2025, 3, 10, 9, 0), 42L);
+        when(newsArticleService.findPublishedItemsAfter(eq("Technology"), eq(cursor), eq(1)))
+            .thenReturn(new SliceImpl<>(List.of(ArticleListItem.of(publishedArticle)), PageRequest.of(0, 1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/articles/cursor")
+                .param("cursor", cursor.encode())
+                .param("size", "1")
+                .param("category", "Technology"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.articles", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(ArticleCursor.of(publishedArticle).encode())))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/articles/cursor - Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/articles/cursor").param("cursor", "nao-e-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success", is(false)));
+
+        verify(newsArticleService, never()).findPublishedItemsAfter(any(), any(), anyInt());
     }
 
     /**
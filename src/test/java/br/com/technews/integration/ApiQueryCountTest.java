@@ -0,0 +1,141 @@
+package br.com.technews.integration;
+
+import br.com.technews.entity.ArticleStatus;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.Tag;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.technews.integration.QueryBudget.assertExactly;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Número de comandos SQL por endpoint da API: as respostas usam projeções, então a quantidade não
+ * depende de quantos artigos/tags são retornados (sem N+1 nem carregamento de associações).
+ * Contagem feita por {@link QueryBudget}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("API Query Count Tests")
+class ApiQueryCountTest {
+
+    private static final String CATEGORY = "Consultas API";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NewsArticleRepository newsArticleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> articleIds = new ArrayList<>();
+    private final List<Long> tagIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String suffix = Long.toString(System.nanoTime());
+            Tag java = tagRepository.save(Tag.builder().name("consulta-java-" + suffix).build());
+            Tag cloud = tagRepository.save(Tag.builder().name("consulta-cloud-" + suffix).build());
+            tagIds.addAll(List.of(java.getId(), cloud.getId()));
+            for (int i = 0; i < 3; i++) {
+                NewsArticle article = new NewsArticle();
+                article.setTitle("Artigo de consulta " + i);
+                article.setContent("Conteúdo longo ".repeat(200));
+                article.setUrl("https://example.com/consulta-" + suffix + "-" + i);
+                article.setCategory(CATEGORY);
+                article.setPublished(true);
+                article.setStatus(ArticleStatus.PUBLICADO);
+                article.setPublishedAt(LocalDateTime.now().minusHours(i));
+                article.setTags(Set.of(java, cloud));
+                articleIds.add(newsArticleRepository.save(article).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            newsArticleRepository.deleteAllById(articleIds);
+            newsArticleRepository.flush();
+            tagRepository.deleteAllById(tagIds);
+        });
+    }
+
+    @Test
+    @DisplayName("Listagem paginada: versão, página e contagem")
+    void articleListingUsesThreeStatements() throws Exception {
+        assertExactly(3, () -> mockMvc.perform(get("/api/articles").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.articles", hasSize(2)))
+            .andExpect(jsonPath("$.articles[0].content").doesNotExist())
+            .andExpect(jsonPath("$.articles[0].tags").doesNotExist()));
+    }
+
+    @Test
+    @DisplayName("Listagem por categoria: versão, página e contagem")
+    void categoryListingUsesThreeStatements() throws Exception {
+        assertExactly(3, () -> mockMvc.perform(get("/api/articles/category/" + CATEGORY).param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.articles", hasSize(2))));
+    }
+
+    @Test
+    @DisplayName("Listagem por cursor e recentes: versão e fatia")
+    void cursorAndRecentListingsUseTwoStatements() throws Exception {
+        assertExactly(2, () -> mockMvc.perform(get("/api/articles/cursor").param("size", "3").param("category", CATEGORY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.articles", hasSize(3))));
+        assertExactly(2, () -> mockMvc.perform(get("/api/articles/recent").param("limit", "3"))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Detalhe: versão, colunas do artigo e nomes das tags")
+    void articleDetailUsesThreeStatements() throws Exception {
+        assertExactly(3, () -> mockMvc.perform(get("/api/articles/" + articleIds.get(0)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.article.content", startsWith("Conteúdo longo")))
+            .andExpect(jsonPath("$.article.tags", hasSize(2))));
+    }
+
+    @Test
+    @DisplayName("Artigos recentes das estatísticas e tags: uma consulta cada")
+    void statsAndTagEndpointsUseOneStatement() throws Exception {
+        assertExactly(1, () -> mockMvc.perform(get("/api/stats/recent-articles"))
+            .andExpect(status().isOk()));
+        assertExactly(1, () -> mockMvc.perform(get("/api/tags"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].articles").doesNotExist()));
+        assertExactly(1, () -> mockMvc.perform(get("/api/tags/popular"))
+            .andExpect(status().isOk()));
+        assertExactly(1, () -> mockMvc.perform(get("/api/tags/published"))
+            .andExpect(status().isOk()));
+        assertExactly(1, () -> mockMvc.perform(get("/api/tags/" + tagIds.get(0)))
+            .andExpect(status().isOk()));
+    }
+}
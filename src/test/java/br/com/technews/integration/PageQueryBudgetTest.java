@@ -0,0 +1,268 @@
+package br.com.technews.integration;
+
+import br.com.technews.entity.ArticleStatus;
+import br.com.technews.entity.Category;
+import br.com.technews.entity.Comment;
+import br.com.technews.entity.CommentStatus;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.Newsletter;
+import br.com.technews.entity.NewsletterSchedule;
+import br.com.technews.entity.Tag;
+import br.com.technews.repository.CategoryRepository;
+import br.com.technews.repository.CommentRepository;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.NewsletterRepository;
+import br.com.technews.repository.NewsletterScheduleRepository;
+import br.com.technews.repository.TagRepository;
+import br.com.technews.service.NewsArticleService;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.technews.integration.QueryBudget.assertExactly;
+import static br.com.technews.integration.QueryBudget.assertWithin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orçamento de consultas das páginas e APIs que exibem associações (tags, categoria, artigos da categoria,
+ * categorias do agendamento, artigo e respostas dos comentários). Sem Open Session in View essas associações
+ * precisam vir das consultas do controller; o orçamento não cresce com a quantidade de itens exibidos.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Page Query Budget Tests")
+class PageQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NewsArticleRepository newsArticleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsletterRepository newsletterRepository;
+
+    @Autowired
+    private NewsletterScheduleRepository newsletterScheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private NewsArticleService newsArticleService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> articleIds = new ArrayList<>();
+    private final List<Long> tagIds = new ArrayList<>();
+    private Long categoryId;
+    private Long newsletterId;
+    private Long scheduleId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String suffix = Long.toString(System.nanoTime());
+            Category category = categoryRepository.save(new Category("Orçamento " + suffix, "Categoria de teste"));
+            categoryId = category.getId();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                Tag tag = tagRepository.save(Tag.builder().name("orcamento-" + i + "-" + suffix).build());
+                tagIds.add(tag.getId());
+                tags.add(tag);
+            }
+            Set<NewsArticle> articles = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                NewsArticle article = new NewsArticle();
+                article.setTitle("Artigo de orçamento " + i);
+                article.setContent("Conteúdo do artigo de orçamento " + i);
+                article.setUrl("https://example.com/orcamento-" + suffix + "-" + i);
+                article.setCategory("Orçamento");
+                article.setCategoryEntity(category);
+                article.setPublished(true);
+                article.setStatus(ArticleStatus.PUBLICADO);
+                article.setPublishedAt(LocalDateTime.now().minusHours(i));
+                article.setTags(new HashSet<>(tags));
+                article = newsArticleRepository.save(article);
+                articleIds.add(article.getId());
+                articles.add(article);
+            }
+
+            Newsletter newsletter = new Newsletter(LocalDate.now().minusYears(5).minusDays(articleIds.get(0) % 1000));
+            newsletter.setSlug("orcamento-" + suffix);
+            newsletter.setContent("<p>Edição de teste</p>");
+            newsletter.setPublished(true);
+            newsletter.setArticles(articles);
+            newsletterId = newsletterRepository.save(newsletter).getId();
+
+            NewsletterSchedule schedule = new NewsletterSchedule();
+            schedule.setSubject("Agendamento de orçamento");
+            schedule.setScheduledDate(LocalDateTime.now().plusDays(1));
+            schedule.setCreatedDate(LocalDateTime.now());
+            schedule.setStatus(NewsletterSchedule.ScheduleStatus.PENDING);
+            schedule.setCategories(new HashSet<>(Set.of(category)));
+            scheduleId = newsletterScheduleRepository.save(schedule).getId();
+
+            NewsArticle first = newsArticleRepository.getReferenceById(articleIds.get(0));
+            Comment comment = commentRepository.save(comment(first, null));
+            commentId = comment.getId();
+            Comment reply = commentRepository.save(comment(first, comment));
+            Comment pending = comment(first, reply);
+            pending.setApproved(false);
+            pending.setStatus(CommentStatus.PENDING);
+            commentRepository.save(pending);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            commentRepository.deleteById(commentId);
+            commentRepository.flush();
+            newsletterScheduleRepository.deleteById(scheduleId);
+            newsletterRepository.deleteById(newsletterId);
+            newsletterRepository.flush();
+            newsArticleRepository.deleteAllById(articleIds);
+            newsArticleRepository.flush();
+            tagRepository.deleteAllById(tagIds);
+            categoryRepository.deleteById(categoryId);
+        });
+    }
+
+    @Test
+    @DisplayName("Detalhe do artigo: categoria e tags na mesma consulta, utilizáveis fora da transação")
+    void articleDetailFetchPlan() throws Exception {
+        NewsArticle[] loaded = new NewsArticle[1];
+        assertExactly(1, () -> loaded[0] = newsArticleService.findDetailedById(articleIds.get(0)).orElseThrow());
+        assertThat(Hibernate.isInitialized(loaded[0].getCategoryEntity())).isTrue();
+        assertThat(Hibernate.isInitialized(loaded[0].getTags())).isTrue();
+        assertThat(loaded[0].getTags()).hasSize(3);
+
+        assertWithin(2, () -> mockMvc.perform(get("/articles/" + articleIds.get(0)))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Orçamento "))));
+        assertWithin(2, () -> mockMvc.perform(get("/admin/articles/" + articleIds.get(0) + "/edit"))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Listagens de artigos exibem a categoria sem uma consulta por artigo")
+    void articleListingPages() throws Exception {
+        assertWithin(3, () -> mockMvc.perform(get("/articles").param("category", "Orçamento"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Artigo de orçamento 2"))));
+        assertWithin(2, () -> mockMvc.perform(get("/admin/articles"))
+            .andExpect(status().isOk()));
+        assertWithin(1, () -> mockMvc.perform(get("/admin/articles").param("cursor", ""))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Visualização da categoria lista seus artigos por consulta")
+    void categoryViewPage() throws Exception {
+        assertWithin(2, () -> mockMvc.perform(get("/admin/categories/view/" + categoryId))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Artigo de orçamento 2"))));
+    }
+
+    @Test
+    @DisplayName("API de agendamentos carrega as categorias junto com os agendamentos")
+    void scheduleApiFetchesCategories() throws Exception {
+        assertWithin(1, () -> mockMvc.perform(get("/api/newsletter/schedule/" + scheduleId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories", hasSize(1)))
+            .andExpect(jsonPath("$.categories[0].articles").doesNotExist()));
+        assertWithin(3, () -> mockMvc.perform(get("/api/newsletter/schedule"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].categories", hasSize(1))));
+        assertWithin(1, () -> mockMvc.perform(get("/api/newsletter/schedule/pending"))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Moderação de comentários: artigo na mesma consulta e respostas por página")
+    void adminCommentApi() throws Exception {
+        assertWithin(3, () -> mockMvc.perform(get("/admin/comments/api"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[?(@.id == " + commentId + ")].hasReplies", contains(true)))
+            .andExpect(jsonPath("$.content[?(@.id == " + commentId + ")].articleTitle", contains("Artigo de orçamento 0"))));
+        assertWithin(2, () -> mockMvc.perform(get("/admin/comments/api/" + commentId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.replies", hasSize(1))));
+    }
+
+    @Test
+    @DisplayName("Comentários pendentes: artigo na mesma consulta, serializados fora da sessão")
+    void pendingCommentApi() throws Exception {
+        assertWithin(3, () -> mockMvc.perform(get("/api/comments/pending"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.comments[?(@.articleId == " + articleIds.get(0) + ")].articleTitle",
+                contains("Artigo de orçamento 0")))
+            .andExpect(jsonPath("$.comments[0].replies").doesNotExist()));
+    }
+
+    @Test
+    @DisplayName("Comentários públicos do artigo: árvore inteira em uma consulta, sem carregar o artigo")
+    void publicCommentThreads() throws Exception {
+        assertWithin(1, () -> mockMvc.perform(get("/api/comments/article/" + articleIds.get(0)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comments", hasSize(1)))
+            .andExpect(jsonPath("$.comments[0].replies", hasSize(1)))
+            .andExpect(jsonPath("$.comments[0].authorEmail").doesNotExist())
+            .andExpect(jsonPath("$.totalComments").value(2)));
+    }
+
+    @Test
+    @DisplayName("Busca de newsletters e categorias da API")
+    void newsletterSearchAndCategoryApi() throws Exception {
+        assertWithin(2, () -> mockMvc.perform(get("/newsletter/api/search"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].articles").doesNotExist()));
+        assertWithin(1, () -> mockMvc.perform(get("/api/categories/" + categoryId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.category.articles").doesNotExist()));
+    }
+
+    private static Comment comment(NewsArticle article, Comment parent) {
+        return Comment.builder()
+            .authorName("Leitor")
+            .authorEmail("leitor@example.com")
+            .content("Comentário do teste de orçamento")
+            .article(article)
+            .parent(parent)
+            .createdAt(LocalDateTime.now())
+            .approved(true)
+            .status(CommentStatus.APPROVED)
+            .build();
+    }
+}
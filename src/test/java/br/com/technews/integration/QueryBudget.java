@@ -0,0 +1,46 @@
+package br.com.technews.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orçamento de comandos SQL por requisição nos testes de integração. Registrado como statement_inspector
+ * do Hibernate em application-test.properties; só conta os comandos preparados pela thread atual, onde o
+ * MockMvc executa a requisição, então jobs em segundo plano não interferem na contagem.
+ */
+public class QueryBudget implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Falha se a requisição executar mais do que {@code budget} comandos SQL
+     */
+    public static void assertWithin(int budget, Request request) throws Exception {
+        assertThat(count(request)).as("comandos SQL (orçamento %d)", budget).isLessThanOrEqualTo(budget);
+    }
+
+    /**
+     * Falha se a requisição não executar exatamente {@code expected} comandos SQL
+     */
+    public static void assertExactly(int expected, Request request) throws Exception {
+        assertThat(count(request)).as("comandos SQL").isEqualTo(expected);
+    }
+
+    private static int count(Request request) throws Exception {
+        COUNT.get()[0] = 0;
+        request.perform();
+        return COUNT.get()[0];
+    }
+
+    @FunctionalInterface
+    public interface Request {
+        void perform() throws Exception;
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.technews.replay;
+
+import br.com.technews.benchmark.FeedCorpus;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor HTTP local que reproduz as fontes externas da ingestão sem acesso à internet:
+ * <ul>
+ *   <li>{@code /rss/{id}.xml} – feed RSS gerado a partir do corpus de feeds; links e conteúdo
+ *       são únicos por fonte e por época ({@link #nextEpoch()}), então cada rodada gera itens novos</li>
+ *   <li>{@code /html/{nome}} – páginas capturadas dos scrapers (src/test/resources/replay/html)</li>
+ *   <li>{@code /gnews/top-headlines} e {@code /gnews/search} – respostas da API GNews</li>
+ * </ul>
+ * Latência (fixa + jitter) e falhas (HTTP 503 ou corpo truncado) são configuráveis e podem ser
+ * alteradas com o servidor em execução.
+ */
+public final class ReplayServer implements AutoCloseable {
+
+    private static final String RESOURCE_ROOT = "/replay/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<FeedCorpus.Entry> corpus = FeedCorpus.load();
+    private final Map<String, byte[]> resources = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration jitter = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double malformedRate;
+    private volatile long epoch;
+
+    private ReplayServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/rss/", this::handleRss);
+        server.createContext("/html/", exchange -> handleResource(exchange, "html/", ".html", "text/html; charset=utf-8"));
+        server.createContext("/gnews/", exchange -> handleResource(exchange, "gnews/articles.json", "", "application/json"));
+    }
+
+    public static ReplayServer start() {
+        try {
+            ReplayServer replay = new ReplayServer();
+            replay.server.start();
+            return replay;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao iniciar servidor de replay", e);
+        }
+    }
+
+    public ReplayServer latency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Fração das requisições respondidas com HTTP 503
+     */
+    public ReplayServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Fração das requisições respondidas com o corpo truncado pela metade (erro de parse)
+     */
+    public ReplayServer malformedRate(double malformedRate) {
+        this.malformedRate = malformedRate;
+        return this;
+    }
+
+    /**
+     * Avança a época: os feeds passam a publicar itens com URLs e hashes ainda não vistos
+     */
+    public long nextEpoch() {
+        return ++epoch;
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public String rssUrl(long sourceId) {
+        return baseUrl() + "/rss/" + sourceId + ".xml";
+    }
+
+    public String htmlUrl(String page) {
+        return baseUrl() + "/html/" + page;
+    }
+
+    public String gnewsBaseUrl() {
+        return baseUrl() + "/gnews";
+    }
+
+    public int feedSize() {
+        return corpus.size();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleRss(HttpExchange exchange) throws IOException {
+        String name = exchange.getRequestURI().getPath().substring("/rss/".length());
+        String sourceId = name.endsWith(".xml") ? name.substring(0, name.length() - 4) : name;
+        respond(exchange, "application/rss+xml; charset=utf-8", renderFeed(sourceId, epoch));
+    }
+
+    private void handleResource(HttpExchange exchange, String prefix, String suffix, String contentType) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String name = prefix.endsWith("/") ? prefix + path.substring(path.lastIndexOf('/') + 1) + suffix : prefix;
+        byte[] body = resources.computeIfAbsent(name, ReplayServer::loadResource);
+        if (body.length == 0) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        respond(exchange, contentType, body);
+    }
+
+    private void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        requests.incrementAndGet();
+        try {
+            simulateLatency();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            if (malformedRate > 0 && random.nextDouble() < malformedRate) {
+                body = Arrays.copyOf(body, body.length / 2);
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void simulateLatency() {
+        long millis = latency.toMillis();
+        if (!jitter.isZero()) {
+            millis += ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] renderFeed(String sourceId, long currentEpoch) {
+        String marker = "s" + sourceId + "e" + currentEpoch;
+        StringBuilder xml = new StringBuilder(16 * 1024)
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\"><channel>")
+            .append("<title>Replay feed ").append(escape(sourceId)).append("</title>")
+            .append("<link>https://replay.example/").append(escape(sourceId)).append("</link>")
+            .append("<description>Feed reproduzido a partir do corpus de benchmark</description>");
+        for (int i = 0; i < corpus.size(); i++) {
+            FeedCorpus.Entry entry = corpus.get(i);
+            String link = entry.link() + (entry.link().contains("?") ? "&" : "?") + "replay=" + marker + "-" + i;
+            xml.append("<item><title>").append(escape(entry.title())).append("</title>")
+                .append("<link>").append(escape(link)).append("</link>")
+                .append("<guid>").append(escape(link)).append("</guid>")
+                .append("<pubDate>Mon, 03 Mar 2025 08:00:00 GMT</pubDate>")
+                // Comentário invisível no texto, mas que torna o hash de conteúdo único por fonte/época
+                .append("<description><![CDATA[").append(entry.html()).append("<!-- ").append(marker)
+                .append(" --> ]]></description></item>");
+        }
+        xml.append("</channel></rss>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static byte[] loadResource(String name) {
+        try (InputStream in = ReplayServer.class.getResourceAsStream(RESOURCE_ROOT + name)) {
+            return in != null ? in.readAllBytes() : new byte[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao carregar fixture " + name, e);
+        }
+    }
+}
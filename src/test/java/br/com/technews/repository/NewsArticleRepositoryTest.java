@@ -1,5 +1,6 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.ContentVersion;
 import br.com.technews.entity.NewsArticle;
 import br.com.technews.entity.ArticleStatus;
 import br.com.technews.entity.Category;
@@ -12,10 +13,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -289,6 +293,25 @@ class NewsArticleRepositoryTest {
         assertThat(publishedCount).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Deve ler versão do artigo e dos publicados sem carregar entidades")
+    void shouldReadContentVersions() {
+        // When
+        Optional<ContentVersion> articleVersion = newsArticleRepository.findVersionById(publishedArticle.getId());
+        ContentVersion publishedVersion = newsArticleRepository.findPublishedVersion();
+
+        // Then
+        assertThat(articleVersion).isPresent();
+        assertThat(articleVersion.get().id()).isEqualTo(publishedArticle.getId());
+        assertThat(articleVersion.get().isPublished()).isTrue();
+        assertThat(articleVersion.get().relatedCount()).isZero();
+        assertThat(articleVersion.get().lastModified()).isCloseTo(publishedArticle.getUpdatedAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(newsArticleRepository.findVersionById(draftArticle.getId()).get().isPublished()).isFalse();
+        assertThat(newsArticleRepository.findVersionById(-1L)).isEmpty();
+        assertThat(publishedVersion.relatedCount()).isEqualTo(1);
+        assertThat(publishedVersion.lastModified()).isCloseTo(publishedArticle.getUpdatedAt(), within(1, ChronoUnit.MILLIS));
+    }
+
     @Test
     @DisplayName("Deve salvar novo artigo")
     void shouldSaveNewArticle() {
@@ -434,4 +457,63 @@ class NewsArticleRepositoryTest {
         assertThat(page.getContent().get(0).getTitle()).isEqualTo("Artigo Aprovado");
         assertThat(page.getContent().get(1).getTitle()).isEqualTo("Artigo Publicado sobre IA");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve paginar artigos publicados por cursor sem repetir empates de data")
+    void shouldPagePublishedArticlesByKeyset() {
+        // Given: dois artigos com a mesma data de publicação
+        LocalDateTime sameTime = LocalDateTime.now().minusDays(1).withNano(0);
+        NewsArticle first = persistPublished("Empate A", "https://example.com/empate-a", sameTime);
+        NewsArticle second = persistPublished("Empate B", "https://example.com/empate-b", sameTime);
+        NewsArticle newest = persistPublished("Mais recente", "https://example.com/recente", sameTime.plusHours(5));
+
+        // When: percorre de 2 em 2 a partir do último (publishedAt, id) lido
+        List<String> titles = new ArrayList<>();
+        Slice<NewsArticle> slice = newsArticleRepository.findPublishedSlice(null, PageRequest.of(0, 2));
+        slice.forEach(article -> titles.add(article.getTitle()));
+        while (slice.hasNext()) {
+            NewsArticle last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = newsArticleRepository.findPublishedSliceAfter(null, last.getPublishedAt(), last.getId(),
+                PageRequest.of(0, 2));
+            slice.forEach(article -> titles.add(article.getTitle()));
+        }
+
+        // Then: data decrescente e, no empate, id decrescente; rascunhos ficam de fora
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        assertThat(titles).containsExactly(newest.getTitle(), "Empate B", "Empate A", "Artigo Publicado sobre IA");
+        assertThat(newsArticleRepository.findPublishedSlice("Negócios", PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve contar artigos publicados por categoria, autor e dia")
+    void shouldCountPublishedArticlesByDimension() {
+        // Given
+        LocalDateTime publishedAt = LocalDateTime.of(2025, 3, 10, 9, 0);
+        persistPublished("Contagem A", "https://example.com/contagem-a", publishedAt);
+        persistPublished("Contagem B", "https://example.com/contagem-b", publishedAt.plusHours(3));
+
+        // When & Then
+        assertThat(newsArticleRepository.countPublishedByCategory())
+            .extracting(row -> row[0], row -> ((Number) row[1]).longValue())
+            .containsExactly(tuple("Tecnologia", 3L));
+        assertThat(newsArticleRepository.countPublishedByAuthor())
+            .extracting(row -> row[0], row -> ((Number) row[1]).longValue())
+            .containsExactly(tuple("João Silva", 1L));
+        assertThat(newsArticleRepository.countPublishedByDay())
+            .extracting(row -> row[0].toString(), row -> ((Number) row[1]).longValue())
+            .contains(tuple("2025-03-10", 2L));
+        assertThat(newsArticleRepository.countPublishedByTag()).isEmpty();
+    }
+
+    private NewsArticle persistPublished(String title, String url, LocalDateTime publishedAt) {
+        NewsArticle article = new NewsArticle();
+        article.setTitle(title);
+        article.setContent("Conteúdo de " + title);
+        article.setUrl(url);
+        article.setCategory("Tecnologia");
+        article.setPublished(true);
+        article.setStatus(ArticleStatus.PUBLICADO);
+        article.setPublishedAt(publishedAt);
+        return entityManager.persistAndFlush(article);
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.technews.repository;
 
+import br.com.technews.dto.NewsletterSummary;
+import br.com.technews.entity.Newsletter;
 import br.com.technews.entity.Subscriber;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +35,9 @@ class NewsletterRepositoryTest {
     @Autowired
     private SubscriberRepository subscriberRepository;
 
+    @Autowired
+    private NewsletterRepository newsletterRepository;
+
     private Subscriber activeSubscriber;
     private Subscriber inactiveSubscriber;
     private Subscriber pendingSubscriber;
@@ -364,4 +370,27 @@ class NewsletterRepositoryTest {
             entityManager.flush(); // Força a validação
         }).isInstanceOf(Exception.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve listar resumos e versões de newsletters publicadas sem o conteúdo")
+    void shouldReadPublishedNewsletterSummariesAndVersions() {
+        // Given
+        Newsletter published = new Newsletter(LocalDate.of(2025, 3, 10));
+        published.setContent("<html>edição</html>");
+        published.setPublished(true);
+        Newsletter draft = new Newsletter(LocalDate.of(2025, 3, 11));
+        entityManager.persist(published);
+        entityManager.persist(draft);
+        entityManager.flush();
+
+        // When
+        Page<NewsletterSummary> summaries = newsletterRepository.findPublishedSummaries(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        assertThat(summaries.getContent().get(0).slug()).isEqualTo(published.getSlug());
+        assertThat(newsletterRepository.findVersionBySlug(published.getSlug()).get().id()).isEqualTo(published.getId());
+        assertThat(newsletterRepository.findVersionByNewsletterDate(LocalDate.of(2025, 3, 11)).get().isPublished()).isFalse();
+        assertThat(newsletterRepository.findPublishedVersion().relatedCount()).isEqualTo(1);
+    }
+}
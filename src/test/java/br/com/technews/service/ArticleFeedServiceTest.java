@@ -0,0 +1,103 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.FeedEntry;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.service.ArticleFeedService.RenderedFeed;
+import br.com.technews.service.ArticleFeedService.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ArticleFeedService
+ */
+class ArticleFeedServiceTest {
+
+    private NewsArticleRepository newsArticleRepository;
+    private ArticleFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        newsArticleRepository = mock(NewsArticleRepository.class);
+        service = new ArticleFeedService(newsArticleRepository);
+        ReflectionTestUtils.setField(service, "baseUrl", "https://technews.example");
+    }
+
+    @Test
+    void testRssFeedIsRenderedFromEntriesAndCached() throws IOException {
+        when(newsArticleRepository.findFeedEntries(isNull(), any(Pageable.class)))
+            .thenReturn(List.of(entry(1L, "Java 25 & Spring", LocalDateTime.of(2025, 3, 10, 9, 0))));
+
+        RenderedFeed feed = service.getFeed(Type.RSS, null, null);
+        String xml = new String(feed.body(), StandardCharsets.UTF_8);
+
+        assertThat(xml).contains("<rss", "<title>Java 25 &amp; Spring</title>",
+            "<link>https://technews.example/articles/1</link>", "<category>IA</category>");
+        assertThat(gunzip(feed.gzipped())).isEqualTo(xml);
+        assertThat(feed.lastModified())
+            .isEqualTo(LocalDateTime.of(2025, 3, 10, 9, 0).atZone(ZoneId.systemDefault()).toInstant());
+
+        assertThat(service.getFeed(Type.RSS, null, null)).isSameAs(feed);
+        verify(newsArticleRepository, times(1)).findFeedEntries(isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void testFeedsAreCachedPerTypeAndFilterAndDroppedOnInvalidate() {
+        when(newsArticleRepository.findFeedEntries(any(), any(Pageable.class)))
+            .thenReturn(List.of(entry(1L, "Artigo", LocalDateTime.of(2025, 3, 10, 9, 0))));
+        when(newsArticleRepository.findFeedEntriesByTag(eq("java"), any(Pageable.class))).thenReturn(List.of());
+
+        RenderedFeed atom = service.getFeed(Type.ATOM, "IA", null);
+        RenderedFeed tag = service.getFeed(Type.RSS, null, "java");
+
+        assertThat(new String(atom.body(), StandardCharsets.UTF_8)).contains("<feed", "TechNews - IA");
+        assertThat(new String(tag.body(), StandardCharsets.UTF_8)).contains("TechNews - #java");
+        assertThat(atom.etag()).isNotEqualTo(tag.etag());
+
+        service.articlesChanged();
+        RenderedFeed rebuilt = service.getFeed(Type.ATOM, "IA", null);
+
+        assertThat(rebuilt).isNotSameAs(atom);
+        assertThat(rebuilt.etag()).isEqualTo(atom.etag());
+        verify(newsArticleRepository, times(2)).findFeedEntries(eq("IA"), any(Pageable.class));
+    }
+
+    @Test
+    void testFiltersBeyondCacheLimitAreServedWithoutCaching() {
+        ReflectionTestUtils.setField(service, "maxEntries", 1);
+        when(newsArticleRepository.findFeedEntries(any(), any(Pageable.class))).thenReturn(List.of());
+
+        service.getFeed(Type.RSS, "IA", null);
+        service.getFeed(Type.RSS, "Cloud", null);
+        service.getFeed(Type.RSS, "Cloud", null);
+        service.getFeed(Type.RSS, "IA", null);
+
+        verify(newsArticleRepository, times(1)).findFeedEntries(eq("IA"), any(Pageable.class));
+        verify(newsArticleRepository, times(2)).findFeedEntries(eq("Cloud"), any(Pageable.class));
+    }
+
+    private static FeedEntry entry(Long id, String title, LocalDateTime publishedAt) {
+        return new FeedEntry(id, title, "Resumo", "Maria", "IA", "https://origem.example/" + id,
+            publishedAt, publishedAt.minusHours(1));
+    }
+
+    private static String gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleSearchDocument;
+import br.com.technews.dto.ArticleSearchResult;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.repository.NewsArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do índice de busca em memória e da sua manutenção
+ */
+class ArticleSearchIndexTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private ArticleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArticleSearchIndex();
+        index.put(ArticleSearchIndex.analyze(document(1L, "Inteligência artificial no Brasil",
+            "Panorama da IA", "<p>Empresas brasileiras adotam <b>inteligência artificial</b>.</p>",
+            "IA", "Maria Silva", LocalDateTime.of(2025, 3, 10, 9, 0))));
+        index.put(ArticleSearchIndex.analyze(document(2L, "Kubernetes 1.30 lançado",
+            "Novidades do orquestrador", "A nova versão do Kubernetes traz melhorias de segurança e inteligência",
+            "Tecnologia", "João Souza", LocalDateTime.of(2025, 2, 1, 12, 0))));
+        index.put(ArticleSearchIndex.analyze(document(3L, "Open source em alta",
+            "Projetos open source", "Comunidades open source usam artificial intelligence para triagem",
+            "Tecnologia", "Maria Silva", LocalDateTime.of(2025, 3, 20, 8, 0))));
+    }
+
+    @Test
+    void testTokenizeFoldsAccentsAndSkipsTagsAndStopwords() {
+        assertThat(ArticleSearchIndex.tokenize("<p class=\"x\">A Inteligência é do <b>Brasil</b></p>"))
+            .containsExactly("inteligencia", "brasil");
+    }
+
+    @Test
+    void testTokenizeKeepsTextAfterBareLessThan() {
+        assertThat(ArticleSearchIndex.tokenize("C++ < Rust quando a < b em <em>desempenho</em>"))
+            .containsExactly("rust", "quando", "desempenho");
+    }
+
+    @Test
+    void testAnalyzedDocumentDropsSummaryAndContent() {
+        ArticleSearchIndex.Analyzed analyzed = ArticleSearchIndex.analyze(document(9L, "Kotlin 2.1", "Resumo",
+            "Conteúdo completo do artigo", "Tecnologia", "Ana", LocalDateTime.of(2025, 3, 1, 9, 0)));
+
+        assertThat(analyzed.document().summary()).isNull();
+        assertThat(analyzed.document().content()).isNull();
+        assertThat(analyzed.document().title()).isEqualTo("Kotlin 2.1");
+        assertThat(analyzed.terms()).containsKeys("resumo", "conteudo", "artigo");
+    }
+
+    @Test
+    void testRanksTitleMatchesFirst() {
+        ArticleSearchResult result = index.search("inteligencia", null, null, null, null, FIRST_PAGE);
+
+        // Artigo 1 tem o termo no título; artigo 2 apenas no conteúdo
+        assertThat(result.ids()).containsExactly(1L, 2L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void testRequiresAllTerms() {
+        assertThat(index.search("artificial inteligência", null, null, null, null, FIRST_PAGE).ids())
+            .containsExactly(1L);
+        assertThat(index.search("kubernetes brasil", null, null, null, null, FIRST_PAGE).ids()).isEmpty();
+        assertThat(index.search("de o a", null, null, null, null, FIRST_PAGE).ids()).isEmpty();
+    }
+
+    @Test
+    void testFiltersAndFacets() {
+        ArticleSearchResult result = index.search("", "tecnologia", "maria", null, null, FIRST_PAGE);
+        assertThat(result.ids()).containsExactly(3L);
+
+        ArticleSearchResult all = index.search(null, null, null,
+            LocalDateTime.of(2025, 3, 1, 0, 0), null, PageRequest.of(0, 10, Sort.by("title")));
+        assertThat(all.ids()).containsExactly(1L, 3L);
+        assertThat(all.facets().categories()).containsEntry("IA", 1L).containsEntry("Tecnologia", 1L);
+        assertThat(all.facets().authors()).containsExactly(entry("Maria Silva", 2L));
+        assertThat(all.facets().months()).containsExactly(entry("2025-03", 2L));
+    }
+
+    @Test
+    void testPagesResults() {
+        ArticleSearchResult result = index.search(null, null, null, null, null,
+            PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "publishedAt")));
+
+        assertThat(result.ids()).containsExactly(2L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    void testUpdateReplacesAndRemoveDeletes() {
+        index.put(ArticleSearchIndex.analyze(document(2L, "Docker 27 lançado", null, "Containers",
+            "Tecnologia", "João Souza", LocalDateTime.of(2025, 2, 1, 12, 0))));
+        assertThat(index.search("kubernetes", null, null, null, null, FIRST_PAGE).ids()).isEmpty();
+        assertThat(index.search("docker", null, null, null, null, FIRST_PAGE).ids()).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(index.search("docker", null, null, null, null, FIRST_PAGE).ids()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testServiceFallsBackUntilIndexIsBuiltAndReplaysChangesMadeDuringRebuild() throws Exception {
+        NewsArticleRepository repository = mock(NewsArticleRepository.class);
+        ArticleSearchIndexService service = new ArticleSearchIndexService(repository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        service.initPools();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findSearchDocumentsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(document(1L, "Kubernetes", null, null, "Tecnologia", null, null),
+                document(2L, "Kubernetes avançado", null, null, "Tecnologia", null, null));
+        });
+        doReturn(List.of()).when(repository).findSearchDocumentsAfter(eq(2L), any());
+
+        try {
+            assertThat(service.search("kubernetes", null, null, null, null, FIRST_PAGE)).isEmpty();
+
+            var rebuild = service.rebuildAsync();
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            // Alterações durante a reconstrução: um artigo publicado e um despublicado
+            service.articleSaved(article(3L, "Kubernetes na nuvem", true));
+            service.articleSaved(article(2L, "Kubernetes avançado", false));
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+
+            assertThat(service.isReady()).isTrue();
+            assertThat(service.search("kubernetes", null, null, null, null, FIRST_PAGE))
+                .get().extracting(ArticleSearchResult::ids).asInstanceOf(LIST).containsExactlyInAnyOrder(1L, 3L);
+        } finally {
+            service.shutdownPools();
+        }
+    }
+
+    private static ArticleSearchDocument document(Long id, String title, String summary, String content,
+                                                  String category, String author, LocalDateTime publishedAt) {
+        return new ArticleSearchDocument(id, title, summary, content, category, author, publishedAt);
+    }
+
+    private static NewsArticle article(Long id, String title, boolean published) {
+        NewsArticle article = new NewsArticle();
+        article.setId(id);
+        article.setTitle(title);
+        article.setPublished(published);
+        return article;
+    }
+}
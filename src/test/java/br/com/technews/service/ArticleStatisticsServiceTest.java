@@ -0,0 +1,134 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleStatisticsSnapshot;
+import br.com.technews.entity.ArticleStatistic;
+import br.com.technews.entity.ArticleStatistic.Dimension;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.Tag;
+import br.com.technews.repository.ArticleStatisticRepository;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.service.ArticleStatisticsService.Contribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ArticleStatisticsService
+ */
+@ExtendWith(MockitoExtension.class)
+class ArticleStatisticsServiceTest {
+
+    @Mock
+    private ArticleStatisticRepository articleStatisticRepository;
+
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+
+    private ArticleStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ArticleStatisticsService(articleStatisticRepository, newsArticleRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void testReconcileRebuildsCountsFromArticles() {
+        when(newsArticleRepository.countByPublishedTrue()).thenReturn(3L);
+        when(newsArticleRepository.countPublishedByCategory()).thenReturn(rows(new Object[]{"IA", 2L}, new Object[]{"Cloud", 1L}));
+        when(newsArticleRepository.countPublishedByAuthor()).thenReturn(rows(new Object[]{"Maria", 3L}));
+        when(newsArticleRepository.countPublishedByTag()).thenReturn(rows(new Object[]{"java", 1L}));
+        when(newsArticleRepository.countPublishedByDay()).thenReturn(rows(new Object[]{LocalDate.of(2025, 3, 10), 3L}));
+        when(articleStatisticRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.reconcile();
+
+        verify(articleStatisticRepository).deleteAllInBatch();
+        ArticleStatisticsSnapshot snapshot = service.getSnapshot();
+        assertThat(snapshot.publishedArticles()).isEqualTo(3);
+        assertThat(snapshot.topCategories(1)).containsExactly(entry("IA", 2L));
+        assertThat(snapshot.authors()).containsEntry("Maria", 3L);
+        assertThat(snapshot.tags()).containsEntry("java", 1L);
+        assertThat(snapshot.days()).containsEntry(LocalDate.of(2025, 3, 10), 3L);
+    }
+
+    @Test
+    void testPublishEditAndUnpublishAdjustCountsIncrementally() {
+        NewsArticle article = article("IA", "Maria", LocalDateTime.of(2025, 3, 10, 9, 0), "java");
+
+        Contribution published = service.contributionOf(article);
+        service.articleChanged(null, published);
+
+        article.setCategory("Cloud");
+        Contribution edited = service.contributionOf(article);
+        service.articleChanged(published, edited);
+
+        ArticleStatisticsSnapshot snapshot = service.getSnapshot();
+        assertThat(snapshot.publishedArticles()).isEqualTo(1);
+        assertThat(snapshot.categories()).containsOnlyKeys("Cloud");
+        assertThat(snapshot.tags()).containsEntry("java", 1L);
+        assertThat(snapshot.days()).containsEntry(LocalDate.of(2025, 3, 10), 1L);
+
+        article.setPublished(false);
+        service.articleChanged(edited, service.contributionOf(article));
+
+        snapshot = service.getSnapshot();
+        assertThat(snapshot.publishedArticles()).isZero();
+        assertThat(snapshot.categories()).isEmpty();
+        assertThat(snapshot.authors()).isEmpty();
+    }
+
+    @Test
+    void testFlushPersistsOnlyChangedCounts() {
+        when(articleStatisticRepository.findAll()).thenReturn(List.of(
+            ArticleStatistic.builder().id(1L).dimension(Dimension.TOTAL).statKey("all").articleCount(5L).build(),
+            ArticleStatistic.builder().id(2L).dimension(Dimension.CATEGORY).statKey("IA").articleCount(5L).build(),
+            ArticleStatistic.builder().id(3L).dimension(Dimension.CATEGORY).statKey("Cloud").articleCount(2L).build()));
+        service.load();
+        assertThat(service.getSnapshot().publishedArticles()).isEqualTo(5);
+
+        service.articleChanged(null, new Contribution("IA", null, Set.of(), null));
+        when(articleStatisticRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        service.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleStatistic>> saved = ArgumentCaptor.forClass(List.class);
+        verify(articleStatisticRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+            .extracting(ArticleStatistic::getId, ArticleStatistic::getArticleCount)
+            .containsExactlyInAnyOrder(tuple(1L, 6L), tuple(2L, 6L));
+
+        // Nada mudou desde a última gravação
+        service.flush();
+        verifyNoMoreInteractions(articleStatisticRepository);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static NewsArticle article(String category, String author, LocalDateTime publishedAt, String tag) {
+        NewsArticle article = new NewsArticle();
+        article.setId(1L);
+        article.setCategory(category);
+        article.setAuthor(author);
+        article.setPublished(true);
+        article.setPublishedAt(publishedAt);
+        article.addTag(Tag.builder().name(tag).build());
+        return article;
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleExportRow;
+import br.com.technews.dto.SubscriberExportRow;
+import br.com.technews.entity.ArticleStatus;
+import br.com.technews.entity.Subscriber;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.SubscriberRepository;
+import br.com.technews.service.BulkExportService.Format;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BulkExportService
+ */
+class BulkExportServiceTest {
+
+    private NewsArticleRepository newsArticleRepository;
+    private SubscriberRepository subscriberRepository;
+    private SimpleMeterRegistry registry;
+    private BulkExportService service;
+
+    @BeforeEach
+    void setUp() {
+        newsArticleRepository = mock(NewsArticleRepository.class);
+        subscriberRepository = mock(SubscriberRepository.class);
+        registry = new SimpleMeterRegistry();
+        service = new BulkExportService(newsArticleRepository, subscriberRepository,
+            Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+            registry);
+    }
+
+    @Test
+    void testArticlesAsNdjsonWriteOneObjectPerLineAndCloseStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(newsArticleRepository.streamExportRows())
+            .thenReturn(Stream.of(article(1L, "Java 25"), article(2L, "Spring Boot")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportArticles(Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"title\":\"Java 25\"")
+            .contains("\"status\":\"PUBLICADO\"", "\"publishedAt\":\"2025-03-10T08:30:00\"");
+        assertThat(closed).isTrue();
+        assertThat(registry.get("technews.export.rows").tag("dataset", "articles").tag("format", "ndjson")
+            .tag("outcome", "success").counter().count()).isEqualTo(2);
+        assertThat(registry.get("technews.export.duration").tag("dataset", "articles").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testSubscribersAsCsvQuoteSpecialValues() throws IOException {
+        when(subscriberRepository.streamExportRows()).thenReturn(Stream.of(
+            new SubscriberExportRow(7L, "ana@example.com", "Silva, \"Ana\"", true, false,
+                Subscriber.SubscriptionFrequency.DAILY, 3, null, LocalDateTime.of(2025, 1, 2, 3, 4), null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportSubscribers(Format.CSV, out);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "id,email,fullName,active,emailVerified,frequency,emailCount,lastEmailSentAt,subscribedAt,unsubscribedAt\r\n"
+                + "7,ana@example.com,\"Silva, \"\"Ana\"\"\",true,false,DAILY,3,,2025-01-02T03:04,\r\n");
+    }
+
+    @Test
+    void testFailedWriteIsRecordedAsFailure() {
+        when(newsArticleRepository.streamExportRows())
+            .thenReturn(Stream.generate(() -> article(1L, "Sem fim")).limit(100_000));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Conexão encerrada pelo cliente");
+            }
+        };
+
+        assertThatThrownBy(() -> service.exportArticles(Format.CSV, broken)).isInstanceOf(IOException.class);
+        assertThat(registry.get("technews.export.duration").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        // Linhas escritas até a falha (o primeiro envio acontece quando o buffer enche)
+        assertThat(registry.get("technews.export.rows").tag("outcome", "failure").counter().count()).isPositive();
+    }
+
+    @Test
+    void testCsvNeutralizesSpreadsheetFormulas() throws IOException {
+        when(subscriberRepository.streamExportRows()).thenReturn(Stream.of(
+            new SubscriberExportRow(8L, "@evil@example.com", "=HYPERLINK(\"https://evil.example\",\"x\")", true, false,
+                Subscriber.SubscriptionFrequency.WEEKLY, -1, null, null, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportSubscribers(Format.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n")[1]).isEqualTo(
+            "8,'@evil@example.com,\"'=HYPERLINK(\"\"https://evil.example\"\",\"\"x\"\")\",true,false,WEEKLY,-1,,,");
+    }
+
+    @Test
+    void testFormatParsingIgnoresCase() {
+        assertThat(Format.parse("csv")).contains(Format.CSV);
+        assertThat(Format.parse(" NDJSON ")).contains(Format.NDJSON);
+        assertThat(Format.parse("xml")).isEmpty();
+        assertThat(Format.parse(null)).isEmpty();
+    }
+
+    private static ArticleExportRow article(Long id, String title) {
+        return new ArticleExportRow(id, title, "Resumo", "Autor", "Tecnologia", "https://example.com/" + id,
+            "example.com", ArticleStatus.PUBLICADO, true, LocalDateTime.of(2025, 3, 10, 8, 30),
+            LocalDateTime.of(2025, 3, 10, 8, 0), 10L);
+    }
+}
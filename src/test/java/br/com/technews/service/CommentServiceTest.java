@@ -0,0 +1,104 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ArticleCursor;
+import br.com.technews.dto.CommentRow;
+import br.com.technews.dto.CommentThread;
+import br.com.technews.dto.CommentThreadPage;
+import br.com.technews.repository.CommentRepository;
+import br.com.technews.repository.NewsArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CommentService
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+
+    @Mock
+    private KeywordMatcherService keywordMatcherService;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Test
+    void testThreadsAreAssembledFromASingleQuery() {
+        stubArticleRows();
+        CommentThreadPage page = commentService.getCommentThreads(1L, null, null);
+
+        assertThat(page.threads()).extracting(CommentThread::id).containsExactly(7L, 3L, 1L);
+        CommentThread first = page.threads().get(2);
+        assertThat(first.replies()).extracting(CommentThread::id).containsExactly(2L, 6L);
+        assertThat(first.replies().get(0).replies()).extracting(CommentThread::id).containsExactly(4L);
+        assertThat(first.gravatarUrl()).startsWith("https://www.gravatar.com/avatar/");
+        assertThat(page.totalComments()).isEqualTo(6);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+
+        verify(commentRepository, times(1)).findApprovedRowsByArticleId(1L);
+        verifyNoInteractions(newsArticleRepository);
+    }
+
+    @Test
+    void testTopLevelThreadsArePagedByCursor() {
+        stubArticleRows();
+        CommentThreadPage first = commentService.getCommentThreads(1L, null, 2);
+
+        assertThat(first.threads()).extracting(CommentThread::id).containsExactly(7L, 3L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalComments()).isEqualTo(6);
+
+        CommentThreadPage second = commentService.getCommentThreads(1L, ArticleCursor.decode(first.nextCursor()), 2);
+
+        assertThat(second.threads()).extracting(CommentThread::id).containsExactly(1L);
+        assertThat(second.threads().get(0).replies()).hasSize(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void testCursorTiesAreBrokenById() {
+        when(commentRepository.findApprovedRowsByArticleId(2L)).thenReturn(List.of(
+            row(10L, null, 0),
+            row(11L, null, 0),
+            row(12L, null, 0)));
+
+        CommentThreadPage page = commentService.getCommentThreads(2L, new ArticleCursor(BASE, 11L), 5);
+
+        assertThat(page.threads()).extracting(CommentThread::id).containsExactly(10L);
+    }
+
+    private void stubArticleRows() {
+        // Linhas na ordem da consulta (createdAt ASC, id ASC); 5 responde a um comentário não visível
+        when(commentRepository.findApprovedRowsByArticleId(1L)).thenReturn(List.of(
+            row(1L, null, 0),
+            row(2L, 1L, 1),
+            row(3L, null, 2),
+            row(4L, 2L, 3),
+            row(5L, 99L, 4),
+            row(6L, 1L, 5),
+            row(7L, null, 6)));
+    }
+
+    private static CommentRow row(Long id, Long parentId, int minutes) {
+        return new CommentRow(id, parentId, "Leitor " + id, "leitor" + id + "@example.com", null,
+            "Comentário " + id, BASE.plusMinutes(minutes));
+    }
+}
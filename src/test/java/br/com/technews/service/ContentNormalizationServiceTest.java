@@ -0,0 +1,64 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.NormalizedContent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ContentNormalizationService
+ */
+class ContentNormalizationServiceTest {
+
+    private final ContentNormalizationService service = new ContentNormalizationService();
+
+    @Test
+    void testNormalizeExtractsTextImageAndCounts() {
+        // Given
+        String html = "<p><img src=\"https://cdn.example.com/a.jpg\"/>Primeira frase sobre Java.</p>"
+            + "<p>Segunda frase!</p><img src=\"https://cdn.example.com/b.jpg\"/>";
+
+        // When
+        NormalizedContent result = service.normalize("Novo  Release do   Java", html);
+
+        // Then
+        assertThat(result.title()).isEqualTo("Novo Release do Java");
+        assertThat(result.text()).isEqualTo("Primeira frase sobre Java. Segunda frase!");
+        assertThat(result.imageUrl()).isEqualTo("https://cdn.example.com/a.jpg");
+        assertThat(result.wordCount()).isEqualTo(6);
+        assertThat(result.sentenceCount()).isEqualTo(2);
+        assertThat(result.lowerText()).isEqualTo("novo release do java primeira frase sobre java. segunda frase!");
+        assertThat(result.tokens()).containsExactly(
+            "novo", "release", "do", "java", "primeira", "frase", "sobre", "java", "segunda", "frase");
+    }
+
+    @Test
+    void testNormalizeDecodesEntitiesInTitle() {
+        NormalizedContent result = service.normalize("AT&amp;T <b>anuncia</b> 5G", "");
+
+        assertThat(result.title()).isEqualTo("AT&T anuncia 5G");
+        assertThat(result.text()).isEmpty();
+        assertThat(result.imageUrl()).isNull();
+        assertThat(result.wordCount()).isZero();
+    }
+
+    @Test
+    void testContentHashIsStableForSameInput() {
+        NormalizedContent first = service.normalize("Título", "<p>Conteúdo</p>");
+        NormalizedContent second = service.normalize("Título", "<p>Conteúdo</p>");
+        NormalizedContent other = service.normalize("Título", "<p>Outro conteúdo</p>");
+
+        assertThat(first.contentHash()).hasSize(64).isEqualTo(second.contentHash());
+        assertThat(other.contentHash()).isNotEqualTo(first.contentHash());
+    }
+
+    @Test
+    void testNormalizeTextSkipsHashAndHandlesNulls() {
+        NormalizedContent result = service.normalizeText(null, null);
+
+        assertThat(result.contentHash()).isNull();
+        assertThat(result.title()).isEmpty();
+        assertThat(result.lowerText()).isEqualTo(" ");
+        assertThat(result.tokens()).isEmpty();
+    }
+}
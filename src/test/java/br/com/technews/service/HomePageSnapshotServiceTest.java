@@ -0,0 +1,100 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.HomeArticleSummary;
+import br.com.technews.dto.HomePageSnapshot;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.SubscriberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para HomePageSnapshotService
+ */
+class HomePageSnapshotServiceTest {
+
+    private NewsArticleRepository newsArticleRepository;
+    private SubscriberRepository subscriberRepository;
+    private HomePageSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        newsArticleRepository = mock(NewsArticleRepository.class);
+        subscriberRepository = mock(SubscriberRepository.class);
+        service = new HomePageSnapshotService(newsArticleRepository, subscriberRepository,
+            mock(PlatformTransactionManager.class));
+        service.initExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdownExecutor();
+    }
+
+    @Test
+    void testBuildsSlimSnapshotFromDatabase() {
+        NewsArticle article = new NewsArticle();
+        article.setId(1L);
+        article.setTitle("Kubernetes 1.30");
+        article.setContent("x".repeat(200));
+        article.setCategory("Cloud");
+        article.setPublishedAt(LocalDateTime.of(2025, 3, 10, 9, 0));
+        when(newsArticleRepository.findPublishedSlice(isNull(), eq(PageRequest.of(0, 6))))
+            .thenReturn(new SliceImpl<>(List.of(article)));
+        when(newsArticleRepository.countByPublishedTrue()).thenReturn(12L);
+        when(newsArticleRepository.findDistinctCategories()).thenReturn(List.of("Cloud", "IA"));
+        when(subscriberRepository.count()).thenReturn(40L);
+
+        service.refresh();
+
+        HomePageSnapshot snapshot = service.getSnapshot();
+        assertThat(snapshot.totalArticles()).isEqualTo(12);
+        assertThat(snapshot.subscriberCount()).isEqualTo(40);
+        assertThat(snapshot.categories()).containsExactly("Cloud", "IA");
+        HomeArticleSummary featured = snapshot.featuredArticles().get(0);
+        assertThat(featured.title()).isEqualTo("Kubernetes 1.30");
+        assertThat(featured.excerpt()).hasSize(120).endsWith("...");
+
+        // Leituras seguintes não consultam o banco
+        service.getSnapshot();
+        verify(newsArticleRepository, times(1)).countByPublishedTrue();
+    }
+
+    @Test
+    void testReturnsEmptySnapshotAndCoalescesRefreshRequests() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(newsArticleRepository.findPublishedSlice(isNull(), any())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new SliceImpl<NewsArticle>(List.of());
+        });
+
+        // Primeiro acesso: nada construído ainda, agenda a reconstrução sem bloquear
+        assertThat(service.getSnapshot()).isEqualTo(HomePageSnapshot.empty());
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Durante a leitura, várias escritas agendam uma única reconstrução adicional
+        var second = service.requestRefresh();
+        service.articlesChanged();
+        service.articlesChanged();
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+
+        verify(newsArticleRepository, times(2)).findPublishedSlice(isNull(), any());
+        assertThat(service.getSnapshot().builtAt()).isNotNull();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestionRunSummary;
+import br.com.technews.dto.IngestionSourceSummary;
+import br.com.technews.service.IngestionMetricsService.IngestionRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para IngestionMetricsService
+ */
+class IngestionMetricsServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final IngestionMetricsService service = new IngestionMetricsService(registry);
+
+    @Test
+    void testSuccessfulRunRecordsMetersPerSource() {
+        // Given
+        IngestionRun run = service.start("TechCrunch RSS", "RSS_FEED");
+        run.fetched(2048);
+        run.parsed();
+        run.parsed();
+        run.parsed();
+        run.duplicateByUrl();
+        run.duplicateByHash();
+        run.inserted();
+
+        // When
+        IngestionRunSummary summary = run.success();
+
+        // Then
+        assertThat(summary.success()).isTrue();
+        assertThat(summary.entriesParsed()).isEqualTo(3);
+        assertThat(registry.get("technews.ingestion.fetch").tag("source", "TechCrunch RSS").timer().count()).isEqualTo(1);
+        assertThat(registry.get("technews.ingestion.bytes").summary().totalAmount()).isEqualTo(2048);
+        assertThat(registry.get("technews.ingestion.duplicates").tag("reason", "url").counter().count()).isEqualTo(1);
+        assertThat(registry.get("technews.ingestion.duplicates").tag("reason", "hash").counter().count()).isEqualTo(1);
+        assertThat(registry.get("technews.ingestion.inserted").counter().count()).isEqualTo(1);
+        assertThat(registry.get("technews.ingestion.last.success").timeGauge().value()).isPositive();
+    }
+
+    @Test
+    void testSourceSummariesAggregateRecentRuns() {
+        IngestionRun first = service.start("The Verge", IngestionMetricsService.TYPE_SCRAPER);
+        first.fetched(100);
+        first.inserted();
+        first.success();
+
+        IngestionRun second = service.start("The Verge", IngestionMetricsService.TYPE_SCRAPER);
+        second.parseError();
+        second.failure(new IOException("timeout"));
+
+        List<IngestionRunSummary> runs = service.getRecentRuns(10);
+        assertThat(runs).hasSize(2);
+        assertThat(runs.get(0).error()).isEqualTo("timeout");
+
+        List<IngestionSourceSummary> sources = service.getSourceSummaries();
+        assertThat(sources).hasSize(1);
+        IngestionSourceSummary verge = sources.get(0);
+        assertThat(verge.runs()).isEqualTo(2);
+        assertThat(verge.failures()).isEqualTo(1);
+        assertThat(verge.inserted()).isEqualTo(1);
+        assertThat(verge.parseErrors()).isEqualTo(1);
+        assertThat(verge.lastSuccessAt()).isNotNull();
+        assertThat(registry.get("technews.ingestion.runs").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRunCannotBeFinishedTwice() {
+        IngestionRun run = service.start("Wired RSS", "RSS_FEED");
+        run.success();
+
+        assertThatThrownBy(run::success).isInstanceOf(IllegalStateException.class);
+    }
+}
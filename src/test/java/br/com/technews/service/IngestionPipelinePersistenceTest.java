@@ -0,0 +1,83 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestionReport;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.replay.ReplayServer;
+import br.com.technews.repository.NewsArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Gravação do pipeline de ingestão com entidades JPA reais (H2): o lote que falha é desfeito
+ * e os itens são regravados um a um
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IngestionPipelinePersistenceTest {
+
+    @Autowired
+    private NewsArticleRepository newsArticleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReplayServer replay;
+    private IngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        newsArticleRepository.deleteAll();
+        replay = ReplayServer.start();
+        pipeline = new IngestionPipeline(WebClient.builder(), new ContentNormalizationService(),
+            new IngestionMetricsService(new SimpleMeterRegistry()), new TransactionTemplate(transactionManager),
+            new SimpleMeterRegistry(), 5 * 1024 * 1024);
+        // O feed inteiro em um único lote
+        ReflectionTestUtils.setField(pipeline, "persistBatchSize", replay.feedSize());
+        ReflectionTestUtils.setField(pipeline, "batchMaxWaitMillis", 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replay.close();
+        newsArticleRepository.deleteAll();
+    }
+
+    @Test
+    void testFailedBatchIsRetriedWithEntitiesInsertedBeforeTheRollback() {
+        // Os dois últimos itens do feed disputam o mesmo slug: o lote falha depois de inserir os demais
+        int last = replay.feedSize() - 1;
+        IngestionTask<NewsArticle> task = new IngestionTask<>("feed-1", "RSS_FEED", 1L, replay.rssUrl(1), null, 100,
+            NewsCollectionService::parseRssFeed, (entry, normalized) -> {
+                NewsArticle article = new NewsArticle();
+                article.setTitle(entry.title());
+                article.setUrl(entry.url());
+                boolean conflicting = entry.url().endsWith("-" + last) || entry.url().endsWith("-" + (last - 1));
+                article.setSlug(conflicting ? "slug-duplicado" : null);
+                return article;
+            });
+
+        IngestionReport report = pipeline.ingest("test", List.of(task),
+            IngestionSink.of(newsArticleRepository::findExistingUrls, newsArticleRepository::saveAll,
+                article -> article.setId(null)));
+
+        assertThat(report.inserted()).isEqualTo(replay.feedSize() - 1);
+        assertThat(report.errors()).isEqualTo(1);
+        assertThat(newsArticleRepository.count()).isEqualTo(replay.feedSize() - 1);
+    }
+}
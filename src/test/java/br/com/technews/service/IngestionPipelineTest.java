@@ -0,0 +1,119 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestionReport;
+import br.com.technews.replay.ReplayServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes dos estágios do pipeline de ingestão contra o servidor de replay local
+ */
+class IngestionPipelineTest {
+
+    private ReplayServer replay;
+    private SimpleMeterRegistry meterRegistry;
+    private IngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        replay = ReplayServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new IngestionPipeline(WebClient.builder(), new ContentNormalizationService(),
+            new IngestionMetricsService(new SimpleMeterRegistry()),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 5 * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replay.close();
+    }
+
+    @Test
+    void testPersistsInBatchesNoLargerThanConfigured() {
+        ReflectionTestUtils.setField(pipeline, "persistBatchSize", 7);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        IngestionReport report = pipeline.ingest("test", tasks(4),
+            IngestionSink.of(urls -> Set.of(), batch -> batchSizes.add(batch.size())));
+
+        assertThat(report.inserted()).isEqualTo(4L * replay.feedSize());
+        assertThat(batchSizes).allMatch(size -> size <= 7);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(4 * replay.feedSize());
+        assertThat(meterRegistry.get("technews.ingestion.pipeline.stage").tags("pipeline", "test", "stage", "persist")
+            .timer().count()).isEqualTo(batchSizes.size());
+    }
+
+    @Test
+    void testFailedBatchFallsBackToSingleItems() {
+        AtomicInteger saved = new AtomicInteger();
+
+        // Lotes com mais de um item falham; cada item regravado sozinho é aceito, menos o primeiro do feed
+        IngestionReport report = pipeline.ingest("test", tasks(1), IngestionSink.of(urls -> Set.of(), batch -> {
+            if (batch.size() > 1 || batch.get(0).endsWith("-0")) {
+                throw new IllegalStateException("violação de unicidade");
+            }
+            saved.incrementAndGet();
+        }));
+
+        assertThat(report.inserted()).isEqualTo(replay.feedSize() - 1);
+        assertThat(report.errors()).isEqualTo(1);
+        assertThat(saved).hasValue(replay.feedSize() - 1);
+    }
+
+    @Test
+    void testDropsUrlsAlreadyPersisted() {
+        IngestionReport report = pipeline.ingest("test", tasks(1),
+            IngestionSink.of(urls -> Set.copyOf(urls), batch -> fail("nada deveria ser gravado")));
+
+        assertThat(report.duplicates()).isEqualTo(replay.feedSize());
+        assertThat(report.inserted()).isZero();
+        assertThat(meterRegistry.get("technews.ingestion.pipeline.items")
+            .tags("pipeline", "test", "stage", "dedup", "outcome", "dropped").counter().count())
+            .isEqualTo(replay.feedSize());
+    }
+
+    @Test
+    void testFailedFetchDoesNotStopOtherSources() {
+        List<IngestionTask<String>> tasks = new ArrayList<>(tasks(2));
+        tasks.add(new IngestionTask<>("missing", "RSS_FEED", null, replay.htmlUrl("missing"), null, 100,
+            NewsCollectionService::parseRssFeed, (entry, normalized) -> entry.url()));
+
+        IngestionReport report = pipeline.ingest("test", tasks, IngestionSink.of(urls -> Set.of(), batch -> { }));
+
+        assertThat(report.sources()).isEqualTo(3);
+        assertThat(report.failedSources()).isEqualTo(1);
+        assertThat(report.inserted()).isEqualTo(2L * replay.feedSize());
+    }
+
+    @Test
+    void testFetchErrorsAreLoggedWithoutQueryString() {
+        assertThat(IngestionPipeline.withoutQuery(
+            "401 Unauthorized from GET https://gnews.io/api/v4/search?q=java&apikey=segredo"))
+            .isEqualTo("401 Unauthorized from GET https://gnews.io/api/v4/search");
+        assertThat(IngestionPipeline.withoutQuery("https://example.com/feed.xml")).isEqualTo("https://example.com/feed.xml");
+        assertThat(IngestionPipeline.withoutQuery(null)).isNull();
+    }
+
+    private List<IngestionTask<String>> tasks(int count) {
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new IngestionTask<String>("feed-" + id, "RSS_FEED", id, replay.rssUrl(id), null, 100,
+                NewsCollectionService::parseRssFeed, (entry, normalized) -> entry.url()))
+            .toList();
+    }
+}
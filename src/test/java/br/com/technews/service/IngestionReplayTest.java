@@ -0,0 +1,254 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.IngestionReport;
+import br.com.technews.dto.IngestionRunSummary;
+import br.com.technews.entity.Category;
+import br.com.technews.entity.CollectedNews;
+import br.com.technews.entity.NewsArticle;
+import br.com.technews.entity.NewsSource;
+import br.com.technews.replay.ReplayServer;
+import br.com.technews.repository.CategoryRepository;
+import br.com.technews.repository.CollectedNewsRepository;
+import br.com.technews.repository.NewsArticleRepository;
+import br.com.technews.repository.NewsSourceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes da ingestão (RSS, scrapers e GNews) contra o servidor de replay local, sem acesso à internet
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IngestionReplayTest {
+
+    @Mock
+    private NewsSourceRepository newsSourceRepository;
+
+    @Mock
+    private CollectedNewsRepository collectedNewsRepository;
+
+    @Mock
+    private NewsArticleRepository newsArticleRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private TrustedSourceService trustedSourceService;
+
+    @Mock
+    private NewsCurationService newsCurationService;
+
+    @Mock
+    private SourceReputationService sourceReputationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReplayServer replay;
+    private IngestionMetricsService ingestionMetricsService;
+    private IngestionPipeline ingestionPipeline;
+
+    @BeforeEach
+    void setUp() {
+        replay = ReplayServer.start();
+        ingestionMetricsService = new IngestionMetricsService(new SimpleMeterRegistry());
+        ingestionPipeline = new IngestionPipeline(WebClient.builder(), new ContentNormalizationService(),
+            ingestionMetricsService, new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 5 * 1024 * 1024);
+        when(collectedNewsRepository.findExistingOriginalUrls(anyCollection())).thenReturn(Set.of());
+        when(collectedNewsRepository.findExistingContentHashes(anyCollection())).thenReturn(Set.of());
+        when(newsArticleRepository.findExistingUrls(anyCollection())).thenReturn(Set.of());
+        when(referenceDataCache.findCategoryByName(anyString())).thenReturn(Optional.of(new Category()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replay.close();
+    }
+
+    @Test
+    void testRssCollectionInsertsEveryReplayedEntry() {
+        // Given
+        NewsSource source = rssSource(1L);
+
+        // When
+        newsCollectionService().collectNewsFromSource(source);
+
+        // Then
+        assertThat(savedCollectedNews()).hasSize(replay.feedSize());
+        IngestionRunSummary run = ingestionMetricsService.getRecentRuns(1).get(0);
+        assertThat(run.success()).isTrue();
+        assertThat(run.inserted()).isEqualTo(replay.feedSize());
+        assertThat(run.bytesDownloaded()).isPositive();
+    }
+
+    @Test
+    void testRssCollectionCountsDuplicatesByUrl() {
+        when(collectedNewsRepository.findExistingOriginalUrls(anyCollection()))
+            .thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+
+        newsCollectionService().collectNewsFromSource(rssSource(2L));
+
+        IngestionRunSummary run = ingestionMetricsService.getRecentRuns(1).get(0);
+        assertThat(run.duplicatesByUrl()).isEqualTo(replay.feedSize());
+        assertThat(run.inserted()).isZero();
+        verify(collectedNewsRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testInjectedHttpErrorIsRecordedAsFailedRun() {
+        replay.errorRate(1.0);
+
+        newsCollectionService().collectNewsFromSource(rssSource(3L));
+
+        IngestionRunSummary run = ingestionMetricsService.getRecentRuns(1).get(0);
+        assertThat(run.success()).isFalse();
+        assertThat(run.error()).isNotBlank();
+        verify(collectedNewsRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testMalformedFeedIsRecordedAsFailedRun() {
+        replay.malformedRate(1.0);
+
+        newsCollectionService().collectNewsFromSource(rssSource(4L));
+
+        assertThat(ingestionMetricsService.getRecentRuns(1).get(0).success()).isFalse();
+    }
+
+    @Test
+    void testScrapersParseReplayedPages() {
+        NewsScrapingService scrapingService = new NewsScrapingService(
+            newsArticleRepository, categoryRepository, referenceDataCache, ingestionPipeline);
+        ReflectionTestUtils.setField(scrapingService, "techCrunchUrl", replay.htmlUrl("techcrunch"));
+        ReflectionTestUtils.setField(scrapingService, "arsTechnicaUrl", replay.htmlUrl("arstechnica"));
+        ReflectionTestUtils.setField(scrapingService, "theVergeUrl", replay.htmlUrl("theverge"));
+
+        List<NewsArticle> articles = scrapingService.scrapeNews();
+
+        // 5 artigos por página (limite dos scrapers)
+        assertThat(articles).hasSize(15);
+        assertThat(articles).extracting(NewsArticle::getUrl)
+            .contains("https://arstechnica.com/security/2025/03/supply-chain-attack-npm/",
+                      "https://www.theverge.com/2025/3/3/smartphone-review");
+        assertThat(ingestionMetricsService.getSourceSummaries()).hasSize(3)
+            .allSatisfy(summary -> assertThat(summary.inserted()).isEqualTo(5));
+    }
+
+    @Test
+    void testGNewsParsesReplayedResponse() {
+        GNewsService gNewsService = new GNewsService(referenceDataCache, trustedSourceService);
+        ReflectionTestUtils.setField(gNewsService, "baseUrl", replay.gnewsBaseUrl());
+        ReflectionTestUtils.setField(gNewsService, "apiKey", "replay");
+        ReflectionTestUtils.setField(gNewsService, "maxArticles", 10);
+        ReflectionTestUtils.setField(gNewsService, "language", "en");
+
+        List<NewsArticle> articles = gNewsService.getTechNews();
+
+        assertThat(articles).hasSize(4);
+        assertThat(articles).allSatisfy(article -> assertThat(article.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    void testGNewsKeepsOnlyTrustedHosts() {
+        GNewsService gNewsService = new GNewsService(referenceDataCache, trustedSourceService);
+        ReflectionTestUtils.setField(gNewsService, "baseUrl", replay.gnewsBaseUrl());
+        ReflectionTestUtils.setField(gNewsService, "apiKey", "replay");
+        ReflectionTestUtils.setField(gNewsService, "maxArticles", 10);
+        ReflectionTestUtils.setField(gNewsService, "language", "en");
+        when(trustedSourceService.getMatcher()).thenReturn(
+            TrustedSourceMatcher.compile(List.of("example-devweekly.com", "securitytoday.com")));
+
+        List<NewsArticle> trusted = gNewsService.filterByTrustedSources(gNewsService.getTechNews());
+
+        assertThat(trusted).extracting(NewsArticle::getUrl)
+            .containsExactly("https://www.example-devweekly.com/java-24-released");
+    }
+
+    @Test
+    void testRssSourcesShareOneRunAndDeduplicateAcrossFeeds() {
+        // Duas fontes com o mesmo feed: a segunda só traz URLs e conteúdos já vistos na mesma execução
+        NewsSource first = rssSource(5L);
+        NewsSource second = rssSource(6L);
+        second.setUrl(first.getUrl());
+        when(newsSourceRepository.findByActiveTrue()).thenReturn(List.of(first, second));
+
+        newsCollectionService().collectNewsFromAllSources();
+
+        assertThat(savedCollectedNews()).hasSize(replay.feedSize());
+        assertThat(ingestionMetricsService.getSourceSummaries())
+            .extracting(summary -> summary.inserted() + summary.duplicatesByUrl())
+            .containsOnly((long) replay.feedSize());
+        verify(newsSourceRepository).saveAll(List.of(first, second));
+        assertThat(first.getLastFetchAt()).isNotNull();
+    }
+
+    @Test
+    void testGNewsTasksDeduplicateAcrossRequests() {
+        GNewsService gNewsService = new GNewsService(referenceDataCache, trustedSourceService);
+        ReflectionTestUtils.setField(gNewsService, "baseUrl", replay.gnewsBaseUrl());
+        ReflectionTestUtils.setField(gNewsService, "apiKey", "replay");
+        ReflectionTestUtils.setField(gNewsService, "maxArticles", 10);
+        ReflectionTestUtils.setField(gNewsService, "language", "en");
+        when(trustedSourceService.getMatcher()).thenReturn(TrustedSourceMatcher.empty());
+        List<IngestionTask<NewsArticle>> tasks = gNewsService.techNewsTasks();
+
+        // Todas as requisições do replay devolvem os mesmos 4 artigos
+        IngestionReport report = ingestionPipeline.ingest("gnews", tasks,
+            IngestionSink.of(newsArticleRepository::findExistingUrls, newsArticleRepository::saveAll), 2, Duration.ZERO);
+
+        assertThat(report.sources()).isEqualTo(tasks.size());
+        assertThat(report.failedSources()).isZero();
+        assertThat(report.inserted()).isEqualTo(4);
+        assertThat(report.duplicates()).isEqualTo(4L * (tasks.size() - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CollectedNews> savedCollectedNews() {
+        ArgumentCaptor<List<CollectedNews>> batches = ArgumentCaptor.forClass(List.class);
+        verify(collectedNewsRepository, atLeastOnce()).saveAll(batches.capture());
+        return batches.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private NewsCollectionService newsCollectionService() {
+        return new NewsCollectionService(newsSourceRepository, collectedNewsRepository, newsCurationService,
+            sourceReputationService, ingestionPipeline);
+    }
+
+    private NewsSource rssSource(Long id) {
+        NewsSource source = NewsSource.builder()
+            .name("Replay " + id)
+            .url(replay.rssUrl(id))
+            .type(NewsSource.SourceType.RSS_FEED)
+            .maxArticlesPerFetch(100)
+            .build();
+        source.setId(id);
+        return source;
+    }
+}
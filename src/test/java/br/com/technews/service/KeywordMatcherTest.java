@@ -0,0 +1,67 @@
+package br.com.technews.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para KeywordMatcher
+ */
+class KeywordMatcherTest {
+
+    @Test
+    void testCountAllMatchesOverlappingKeywordsInSinglePass() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("java", "javascript", "script", "api"));
+
+        long count = matcher.countAll("JavaScript e Java usam a API; javascript!");
+
+        // javascript(2) + java(3) + script(2) + api(1)
+        assertThat(count).isEqualTo(8);
+    }
+
+    @Test
+    void testCountAllMatchesLegacyIndexOfSemantics() {
+        List<String> keywords = KeywordMatcherService.DEFAULT_TECH_KEYWORDS;
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+        String text = "a inteligência artificial e o machine learning mudam o desenvolvimento de software "
+            + "em cloud, com kubernetes, docker, devops e segurança de dados. aaaa";
+
+        long legacy = 0;
+        for (String keyword : keywords) {
+            int index = 0;
+            while ((index = text.indexOf(keyword, index)) != -1) {
+                legacy++;
+                index += keyword.length();
+            }
+        }
+
+        assertThat(matcher.countAll(text)).isEqualTo(legacy);
+    }
+
+    @Test
+    void testSameKeywordOccurrencesDoNotOverlap() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("aa"));
+
+        assertThat(matcher.countAll("aaaaa")).isEqualTo(2);
+    }
+
+    @Test
+    void testContainsAnyIsCaseInsensitiveAndHandlesAccents() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("Oferta Imperdível", "www."));
+
+        assertThat(matcher.containsAny("Veja esta OFERTA IMPERDÍVEL hoje")).isTrue();
+        assertThat(matcher.containsAny("acesse WWW.exemplo.com")).isTrue();
+        assertThat(matcher.containsAny("oferta imperdivel")).isFalse();
+        assertThat(matcher.containsAny(null)).isFalse();
+    }
+
+    @Test
+    void testCompileIgnoresBlankAndDuplicateKeywords() {
+        KeywordMatcher matcher = KeywordMatcher.compile(java.util.Arrays.asList("Cloud", "cloud", " ", null));
+
+        assertThat(matcher.getKeywords()).containsExactly("cloud");
+        assertThat(KeywordMatcher.compile(List.of()).countAll("qualquer texto")).isZero();
+    }
+}
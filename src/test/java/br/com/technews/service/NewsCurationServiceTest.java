@@ -0,0 +1,184 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.CurationCandidate;
+import br.com.technews.dto.CurationSummary;
+import br.com.technews.dto.ReputationSnapshot;
+import br.com.technews.entity.CollectedNews;
+import br.com.technews.repository.CollectedNewsRepository;
+import br.com.technews.repository.CurationKeywordRepository;
+import br.com.technews.repository.SourceReputationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para NewsCurationService
+ */
+@ExtendWith(MockitoExtension.class)
+class NewsCurationServiceTest {
+
+    private static final String GOOD_CONTENT = "A nova versão do framework traz melhorias de segurança para aplicações "
+        + "em cloud. O time de desenvolvimento publicou as notas de lançamento. Desenvolvedores de software Java "
+        + "e Python podem atualizar hoje. A migração é simples e está documentada na API oficial do projeto, "
+        + "com exemplos para kubernetes e docker.";
+
+    @Mock
+    private CollectedNewsRepository collectedNewsRepository;
+
+    @Mock
+    private CurationKeywordRepository curationKeywordRepository;
+
+    @Mock
+    private SourceReputationRepository sourceReputationRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NewsCurationService newsCurationService;
+
+    @BeforeEach
+    void setUp() {
+        SourceReputationService sourceReputationService = new SourceReputationService(sourceReputationRepository);
+        ReflectionTestUtils.setField(sourceReputationService, "minSamples", 20.0);
+
+        newsCurationService = new NewsCurationService(
+            collectedNewsRepository,
+            new ContentNormalizationService(),
+            new KeywordMatcherService(curationKeywordRepository),
+            sourceReputationService,
+            jdbcTemplate,
+            new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(newsCurationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(newsCurationService, "parallelism", 2);
+        newsCurationService.initPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsCurationService.shutdownPool();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRescoreBacklogPagesByKeyAndUpdatesInBatches() {
+        // Given
+        CurationCandidate good = candidate(1L, "Nova versão do framework Java melhora segurança", GOOD_CONTENT);
+        CurationCandidate spam = candidate(2L, "OFERTA", "clique aqui! compre agora! urgente!!!!");
+        CurationCandidate other = candidate(5L, "Kubernetes 1.30 lançado com novidades para devops", GOOD_CONTENT);
+
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(good, spam));
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(other));
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(5L), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        // When
+        CurationSummary summary = newsCurationService.processAllPendingNews();
+
+        // Then
+        assertThat(summary.processed()).isEqualTo(3);
+        assertThat(summary.approved()).isEqualTo(2);
+        assertThat(summary.rejected()).isEqualTo(1);
+
+        ArgumentCaptor<Collection<?>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE collected_news SET status"),
+            (Collection<Object>) (Collection<?>) batches.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(2, 1);
+        verify(collectedNewsRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRescoreBacklogSkipsCandidatesThatFailToScore() {
+        // Given
+        SourceReputationService reputation = new SourceReputationService(sourceReputationRepository) {
+            @Override
+            public ReputationSnapshot getReputation(Long sourceId, String url) {
+                if (Long.valueOf(9L).equals(sourceId)) {
+                    throw new IllegalStateException("falha");
+                }
+                return super.getReputation(sourceId, url);
+            }
+        };
+        ReflectionTestUtils.setField(reputation, "minSamples", 20.0);
+        newsCurationService.shutdownPool();
+        newsCurationService = new NewsCurationService(
+            collectedNewsRepository,
+            new ContentNormalizationService(),
+            new KeywordMatcherService(curationKeywordRepository),
+            reputation,
+            jdbcTemplate,
+            new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(newsCurationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(newsCurationService, "parallelism", 2);
+        newsCurationService.initPool();
+
+        CurationCandidate broken = new CurationCandidate(1L, "Título", GOOD_CONTENT, "https://example.com/1",
+            LocalDateTime.now().minusHours(2), 9L);
+        CurationCandidate good = candidate(2L, "Nova versão do framework Java melhora segurança", GOOD_CONTENT);
+        CurationCandidate other = candidate(5L, "Kubernetes 1.30 lançado com novidades para devops", GOOD_CONTENT);
+
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(broken, good));
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(other));
+        when(collectedNewsRepository.findCurationCandidatesAfter(anyCollection(), eq(5L), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        // When
+        CurationSummary summary = newsCurationService.rescoreBacklog(NewsCurationService.RESCORABLE_STATUSES);
+
+        // Then
+        assertThat(summary.processed()).isEqualTo(2);
+        ArgumentCaptor<Collection<?>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE collected_news SET status"),
+            (Collection<Object>) (Collection<?>) batches.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(1, 1);
+    }
+
+    @Test
+    void testCurateSetsStatusScoreAndProcessedAt() {
+        // Given
+        CollectedNews news = CollectedNews.builder()
+            .title("Nova versão do framework Java melhora segurança")
+            .content(GOOD_CONTENT)
+            .publishedAt(LocalDateTime.now())
+            .build();
+        ContentNormalizationService normalizer = new ContentNormalizationService();
+
+        // When
+        newsCurationService.curate(news, normalizer.normalize(news.getTitle(), news.getContent()));
+
+        // Then
+        assertThat(news.getStatus()).isEqualTo(CollectedNews.NewsStatus.APPROVED);
+        assertThat(news.getQualityScore()).isGreaterThanOrEqualTo(6.0);
+        assertThat(news.getProcessedAt()).isNotNull();
+    }
+
+    private CurationCandidate candidate(Long id, String title, String content) {
+        return new CurationCandidate(id, title, content, "https://example.com/" + id,
+            LocalDateTime.now().minusHours(2), 1L);
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +41,18 @@ class NewsServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ArticleSearchIndexService articleSearchIndexService;
+
+    @Mock
+    private ArticleStatisticsService articleStatisticsService;
+
+    @Mock
+    private HomePageSnapshotService homePageSnapshotService;
+
+    @Mock
+    private ArticleFeedService articleFeedService;
+
     @InjectMocks
     private NewsArticleService newsArticleService;
 
@@ -213,4 +227,64 @@ class NewsServiceTest {
         assertThat(result).isFalse();
         verify(newsArticleRepository).existsByUrl(url);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchFallsBackToLikeOrderedByDate() {
+        // Busca textual desativada (H2): LIKE, ordenado por data quando não há ordenação
+        when(newsArticleRepository.findArticlesWithFilters(eq("java"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        newsArticleService.searchArticlesWithFilters("java", null, null, null, null, PageRequest.of(0, 10));
+
+        verify(newsArticleRepository).findArticlesWithFilters("java", null, null, null, null,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publishedAt")));
+        verify(newsArticleRepository, never()).searchPublishedRanked(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFullTextSearchRanksByRelevanceWhenUnsorted() {
+        ReflectionTestUtils.setField(newsArticleService, "fullTextSearchEnabled", true);
+        when(newsArticleRepository.searchPublishedRanked(any(), any(), any(), any(), any(), any())).thenReturn(Page.empty());
+
+        newsArticleService.searchArticlesWithFilters(" inteligência artificial ", "ia", null, " ", null, PageRequest.of(2, 12));
+
+        verify(newsArticleRepository).searchPublishedRanked("inteligência artificial", "ia", "", "", "", PageRequest.of(2, 12));
+        verify(newsArticleRepository, never()).findArticlesWithFilters(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFullTextSearchMapsSortToColumns() {
+        ReflectionTestUtils.setField(newsArticleService, "fullTextSearchEnabled", true);
+        when(newsArticleRepository.searchPublishedMatching(any(), any(), any(), any(), any(), any())).thenReturn(Page.empty());
+
+        newsArticleService.searchArticlesWithFilters("java", null, "2025-01-01", null, null,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "publishedAt").and(Sort.by("unknown"))));
+
+        verify(newsArticleRepository).searchPublishedMatching("java", "", "2025-01-01", "", "",
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "published_at")));
+    }
+
+    @Test
+    void testFullTextSearchNotUsedWithoutSearchTerm() {
+        ReflectionTestUtils.setField(newsArticleService, "fullTextSearchEnabled", true);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        when(newsArticleRepository.findArticlesWithFilters(isNull(), eq("ia"), isNull(), isNull(), isNull(), eq(pageable)))
+            .thenReturn(Page.empty());
+
+        newsArticleService.searchArticlesWithFilters(null, "ia", null, null, null, pageable);
+
+        verify(newsArticleRepository).findArticlesWithFilters(null, "ia", null, null, null, pageable);
+    }
+
+    @Test
+    void testDeleteByIdNotifiesDerivedViewsOnce() {
+        when(newsArticleRepository.findById(1L)).thenReturn(Optional.of(newsArticle));
+
+        newsArticleService.deleteById(1L);
+
+        verify(newsArticleRepository).deleteById(1L);
+        verify(articleSearchIndexService).articleDeleted(1L);
+        verify(homePageSnapshotService).articlesChanged();
+        verify(articleFeedService).articlesChanged();
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.technews.service;
+
+import br.com.technews.entity.Category;
+import br.com.technews.entity.NewsletterTemplate;
+import br.com.technews.entity.Tag;
+import br.com.technews.entity.TrustedSource;
+import br.com.technews.repository.CategoryRepository;
+import br.com.technews.repository.NewsletterTemplateRepository;
+import br.com.technews.repository.TagRepository;
+import br.com.technews.repository.TrustedSourceRepository;
+import br.com.technews.service.ReferenceDataCache.Table;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ReferenceDataCache
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TrustedSourceRepository trustedSourceRepository;
+
+    @Mock
+    private NewsletterTemplateRepository templateRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReferenceDataCache(categoryRepository, tagRepository, trustedSourceRepository,
+            templateRepository, meterRegistry);
+    }
+
+    @Test
+    void testCategoryLookupsHitDatabaseOnce() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Technology", "technology"),
+            category(2L, "Ciência", "ciencia")));
+
+        assertThat(cache.findCategoryByName("technology")).map(Category::getId).contains(1L);
+        assertThat(cache.findCategoryByName(" TECHNOLOGY ")).map(Category::getId).contains(1L);
+        assertThat(cache.findCategoryBySlug("ciencia")).map(Category::getName).contains("Ciência");
+        assertThat(cache.findCategoryById(2L)).isPresent();
+        assertThat(cache.findCategoryByName("Games")).isEmpty();
+        assertThat(cache.findCategoryByName(null)).isEmpty();
+
+        verify(categoryRepository, times(1)).findAll();
+        assertThat(requests("categories", "miss")).isEqualTo(1.0);
+        assertThat(requests("categories", "hit")).isEqualTo(4.0);
+        assertThat(meterRegistry.get("technews.reference.cache.size").tag("table", "categories").gauge().value())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void testInvalidateReloadsOnlyThatTable() {
+        Tag java = Tag.builder().id(1L).name("java").isActive(true).build();
+        Tag kotlin = Tag.builder().id(2L).name("kotlin").isActive(true).build();
+        when(tagRepository.findAll()).thenReturn(List.of(java)).thenReturn(List.of(java, kotlin));
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Technology", "technology")));
+
+        assertThat(cache.findTagByName("kotlin")).isEmpty();
+        cache.findCategoryById(1L);
+
+        cache.invalidate(Table.TAGS);
+
+        assertThat(cache.findTagByName("Kotlin")).map(Tag::getId).contains(2L);
+        cache.findCategoryById(1L);
+        verify(tagRepository, times(2)).findAll();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testSnapshotExpiresAfterTtl() {
+        ReflectionTestUtils.setField(cache, "ttlMillis", 0L);
+        when(categoryRepository.findAll()).thenReturn(List.of());
+
+        cache.findCategoryByName("Technology");
+        cache.findCategoryByName("Technology");
+
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testTemplatesAndTrustedSources() {
+        NewsletterTemplate grid = template(2L, "grid", true, false);
+        NewsletterTemplate standard = template(1L, "default", true, true);
+        NewsletterTemplate retired = template(3L, "old", false, false);
+        when(templateRepository.findAll()).thenReturn(List.of(grid, standard, retired));
+
+        TrustedSource active = new TrustedSource("TechCrunch", "TechCrunch.com");
+        active.setId(1L);
+        TrustedSource inactive = new TrustedSource("Old", "old.example");
+        inactive.setId(2L);
+        inactive.setActive(false);
+        when(trustedSourceRepository.findAll()).thenReturn(List.of(active, inactive));
+
+        assertThat(cache.findDefaultTemplate()).contains(standard);
+        assertThat(cache.findActiveTemplateByKey("grid")).contains(grid);
+        assertThat(cache.findActiveTemplateByKey("old")).isEmpty();
+        assertThat(cache.findTrustedSourceByDomainName("techcrunch.com")).contains(active);
+        assertThat(cache.getActiveTrustedSources()).containsExactly(active);
+    }
+
+    private double requests(String table, String result) {
+        return meterRegistry.get("technews.reference.cache.requests")
+            .tag("table", table).tag("result", result).counter().count();
+    }
+
+    private static NewsletterTemplate template(Long id, String key, boolean active, boolean isDefault) {
+        NewsletterTemplate template = NewsletterTemplate.builder().templateKey(key).isActive(active).isDefault(isDefault).build();
+        template.setId(id);
+        return template;
+    }
+
+    private static Category category(Long id, String name, String slug) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setSlug(slug);
+        return category;
+    }
+}
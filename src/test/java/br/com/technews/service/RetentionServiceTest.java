@@ -0,0 +1,134 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.RetentionReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes do RetentionService sobre um banco H2 em memória
+ */
+class RetentionServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE collected_news (id BIGINT PRIMARY KEY, status VARCHAR(20), created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE newsletter_schedules (id BIGINT PRIMARY KEY, status VARCHAR(20), created_date TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE newsletter_schedule_categories (schedule_id BIGINT REFERENCES newsletter_schedules(id), category_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE news_articles (id BIGINT PRIMARY KEY, published BOOLEAN, created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE article_tags (article_id BIGINT REFERENCES news_articles(id), tag_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE newsletter_articles (newsletter_id BIGINT, article_id BIGINT REFERENCES news_articles(id))");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, article_id BIGINT REFERENCES news_articles(id), "
+            + "parent_id BIGINT REFERENCES comments(id))");
+
+        retentionService = new RetentionService(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(database)));
+        ReflectionTestUtils.setField(retentionService, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionService, "pauseMillis", 0L);
+        ReflectionTestUtils.setField(retentionService, "rejectedNewsDays", 30);
+        ReflectionTestUtils.setField(retentionService, "failedScheduleDays", 90);
+        ReflectionTestUtils.setField(retentionService, "unpublishedArticleDays", 7);
+        retentionService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void testPurgeRejectedNewsInBatches() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            insertNews(id, "REJECTED", 40);
+        }
+        insertNews(6, "REJECTED", 10);
+        insertNews(7, "APPROVED", 40);
+
+        // When
+        RetentionReport report = retentionService.purge(RetentionService.REJECTED_COLLECTED_NEWS);
+
+        // Then
+        assertThat(report.rowsPurged()).isEqualTo(5);
+        assertThat(report.batches()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM collected_news ORDER BY id", Long.class))
+            .containsExactly(6L, 7L);
+    }
+
+    @Test
+    void testPurgeUnpublishedArticlesRemovesDependentRows() {
+        // Given
+        insertArticle(1, false, 10);
+        insertArticle(2, false, 1);
+        insertArticle(3, true, 10);
+        jdbcTemplate.update("INSERT INTO article_tags VALUES (1, 100), (3, 100)");
+        jdbcTemplate.update("INSERT INTO newsletter_articles VALUES (50, 1)");
+        jdbcTemplate.update("INSERT INTO comments VALUES (10, 1, NULL), (11, 1, 10), (12, 3, NULL)");
+
+        // When
+        RetentionReport report = retentionService.purge(RetentionService.UNPUBLISHED_ARTICLES);
+
+        // Then
+        assertThat(report.rowsPurged()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM news_articles ORDER BY id", Long.class))
+            .containsExactly(2L, 3L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM comments", Long.class)).containsExactly(12L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_tags", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM newsletter_articles", Long.class)).isZero();
+    }
+
+    @Test
+    void testPurgeAllReportsEveryPolicy() {
+        jdbcTemplate.update("INSERT INTO newsletter_schedules VALUES (1, 'FAILED', ?)", daysAgo(120));
+        jdbcTemplate.update("INSERT INTO newsletter_schedule_categories VALUES (1, 5)");
+
+        List<RetentionReport> reports = retentionService.purgeAll();
+
+        assertThat(reports).extracting(RetentionReport::policy).containsExactly(
+            RetentionService.REJECTED_COLLECTED_NEWS,
+            RetentionService.FAILED_SCHEDULES,
+            RetentionService.UNPUBLISHED_ARTICLES);
+        assertThat(reports.get(1).rowsPurged()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM newsletter_schedule_categories", Long.class)).isZero();
+    }
+
+    @Test
+    void testPurgeUnknownPolicyThrows() {
+        assertThatThrownBy(() -> retentionService.purge("inexistente"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertNews(long id, String status, int ageDays) {
+        jdbcTemplate.update("INSERT INTO collected_news VALUES (?, ?, ?)", id, status, daysAgo(ageDays));
+    }
+
+    private void insertArticle(long id, boolean published, int ageDays) {
+        jdbcTemplate.update("INSERT INTO news_articles VALUES (?, ?, ?)", id, published, daysAgo(ageDays));
+    }
+
+    private static Timestamp daysAgo(int days) {
+        return Timestamp.valueOf(LocalDateTime.now().minusDays(days));
+    }
+}
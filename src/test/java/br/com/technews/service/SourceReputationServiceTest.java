@@ -0,0 +1,124 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.ReputationSnapshot;
+import br.com.technews.entity.SourceReputation;
+import br.com.technews.repository.SourceReputationRepository;
+import br.com.technews.service.SourceReputationService.FastTrack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SourceReputationService
+ */
+@ExtendWith(MockitoExtension.class)
+class SourceReputationServiceTest {
+
+    @Mock
+    private SourceReputationRepository sourceReputationRepository;
+
+    @InjectMocks
+    private SourceReputationService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "minSamples", 5.0);
+        ReflectionTestUtils.setField(service, "fastRejectRate", 0.1);
+        ReflectionTestUtils.setField(service, "fastApproveRate", 0.9);
+        ReflectionTestUtils.setField(service, "fastApproveMinScore", 7.5);
+        ReflectionTestUtils.setField(service, "auditInterval", 3);
+    }
+
+    @Test
+    void testNoReputationUntilMinimumSamples() {
+        for (int i = 0; i < 4; i++) {
+            service.recordCuration(1L, "https://www.example.com/a" + i, 2.0, false);
+        }
+
+        assertThat(service.getReputation(1L, "https://example.com/x")).isNull();
+        assertThat(service.scoreAdjustment(1L, "https://example.com/x")).isZero();
+    }
+
+    @Test
+    void testBadSourceIsFastRejectedWithPeriodicAudit() {
+        for (int i = 0; i < 10; i++) {
+            service.recordCuration(1L, "https://spam.example.com/" + i, 2.0, false);
+        }
+
+        ReputationSnapshot reputation = service.getReputation(1L, null);
+
+        assertThat(reputation.approvalRate()).isZero();
+        assertThat(reputation.averageScore()).isCloseTo(2.0, within(0.001));
+        assertThat(service.scoreAdjustment(1L, null)).isEqualTo(-1.0);
+        assertThat(service.fastTrack(1L, reputation)).isEqualTo(FastTrack.REJECT);
+        assertThat(service.fastTrack(1L, reputation)).isEqualTo(FastTrack.REJECT);
+        assertThat(service.fastTrack(1L, reputation)).isEqualTo(FastTrack.NONE);
+    }
+
+    @Test
+    void testDomainReputationIsUsedForUnknownSource() {
+        for (int i = 0; i < 10; i++) {
+            service.recordCuration(1L, "https://www.Good.example.com/" + i, 8.5, true);
+        }
+
+        ReputationSnapshot reputation = service.getReputation(99L, "https://good.example.com/new");
+
+        assertThat(reputation).isNotNull();
+        assertThat(reputation.approvalRate()).isEqualTo(1.0);
+        assertThat(service.fastTrack(99L, reputation)).isEqualTo(FastTrack.APPROVE);
+    }
+
+    @Test
+    void testDomainFastTrackIsAuditedPerSource() {
+        for (int i = 0; i < 10; i++) {
+            service.recordCuration(1L, "https://good.example.com/" + i, 8.5, true);
+        }
+
+        ReputationSnapshot reputation = service.getReputation(99L, "https://good.example.com/new");
+
+        assertThat(service.fastTrack(99L, reputation)).isEqualTo(FastTrack.APPROVE);
+        assertThat(service.fastTrack(99L, reputation)).isEqualTo(FastTrack.APPROVE);
+        assertThat(service.fastTrack(99L, reputation)).isEqualTo(FastTrack.NONE);
+        assertThat(service.fastTrack(99L, reputation)).isEqualTo(FastTrack.APPROVE);
+    }
+
+    @Test
+    void testDuplicateRateIsTracked() {
+        for (int i = 0; i < 6; i++) {
+            service.recordCuration(1L, null, 7.0, true);
+            service.recordDuplicate(1L, null);
+            service.recordDuplicate(1L, null);
+        }
+
+        ReputationSnapshot reputation = service.getReputation(1L, null);
+
+        assertThat(reputation.duplicateRate()).isGreaterThan(0.6);
+        assertThat(service.scoreAdjustment(1L, null)).isEqualTo(0.5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushPersistsOnlyDirtyCounters() {
+        when(sourceReputationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        service.recordCuration(1L, "https://example.com/a", 7.0, true);
+
+        service.flush();
+        service.flush();
+
+        ArgumentCaptor<List<SourceReputation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(sourceReputationRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(SourceReputation::getReputationKey)
+            .containsExactlyInAnyOrder("1", "example.com");
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.technews.service;
+
+import br.com.technews.dto.NewsletterSummary;
+import br.com.technews.entity.Newsletter;
+import br.com.technews.repository.NewsletterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para StaticNewsletterArchiveService
+ */
+class StaticNewsletterArchiveServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private NewsletterRepository newsletterRepository;
+    private StaticNewsletterArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        newsletterRepository = mock(NewsletterRepository.class);
+        TemplateEngine templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.process(eq("newsletter/static-archive"), any(IContext.class)))
+            .thenReturn("<html>arquivo</html>");
+        service = new StaticNewsletterArchiveService(newsletterRepository, templateEngine,
+            mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "directory", directory.toString());
+        service.initExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdownExecutor();
+    }
+
+    @Test
+    void testRebuildWritesPagesWithGzipAndRemovesUnpublished() throws IOException {
+        Newsletter newsletter = newsletter(1L, "newsletter-2025-03-10", true);
+        Files.writeString(directory.resolve("newsletter-2025-01-01.html"), "antiga");
+        Files.writeString(directory.resolve("newsletter-2025-01-01.html.gz"), "antiga");
+        when(newsletterRepository.findByPublishedTrueOrderByNewsletterDateDesc(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(newsletter), PageRequest.of(0, 20), 1));
+        when(newsletterRepository.findPublishedSummaries(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(summary(newsletter)), PageRequest.of(0, 10), 1));
+
+        service.rebuildAll();
+
+        assertThat(Files.readString(directory.resolve("newsletter-2025-03-10.html"))).isEqualTo(newsletter.getContent());
+        assertThat(gunzip(directory.resolve("newsletter-2025-03-10.html.gz"))).isEqualTo(newsletter.getContent());
+        assertThat(Files.readString(directory.resolve("arquivo/pagina-1.html"))).isEqualTo("<html>arquivo</html>");
+        assertThat(directory.resolve("newsletter-2025-01-01.html")).doesNotExist();
+        assertThat(directory.resolve("newsletter-2025-01-01.html.gz")).doesNotExist();
+
+        assertThat(service.newsletterPath("newsletter-2025-03-10"))
+            .contains(StaticNewsletterArchiveService.URL_PREFIX + "newsletter-2025-03-10.html");
+        assertThat(service.indexPath(0, 10)).contains(StaticNewsletterArchiveService.URL_PREFIX + "arquivo/pagina-1.html");
+        assertThat(service.indexPath(0, 20)).isEmpty();
+        assertThat(service.newsletterPath("../segredo")).isEmpty();
+    }
+
+    @Test
+    void testUnpublishedNewsletterIsRemovedIncrementally() throws IOException {
+        Newsletter newsletter = newsletter(1L, "newsletter-2025-03-10", true);
+        when(newsletterRepository.findById(1L)).thenReturn(Optional.of(newsletter));
+
+        service.writeNewsletter(1L);
+        assertThat(directory.resolve("newsletter-2025-03-10.html")).exists();
+
+        newsletter.setPublished(false);
+        service.writeNewsletter(1L);
+        assertThat(directory.resolve("newsletter-2025-03-10.html")).doesNotExist();
+        assertThat(directory.resolve("newsletter-2025-03-10.html.gz")).doesNotExist();
+    }
+
+    private static Newsletter newsletter(Long id, String slug, boolean published) {
+        Newsletter newsletter = new Newsletter();
+        newsletter.setId(id);
+        newsletter.setSlug(slug);
+        newsletter.setTitle("TechNews - 10/03/2025");
+        newsletter.setNewsletterDate(LocalDate.of(2025, 3, 10));
+        newsletter.setPublished(published);
+        newsletter.setContent("<html><body>Edição de " + slug + "</body></html>");
+        return newsletter;
+    }
+
+    private static NewsletterSummary summary(Newsletter newsletter) {
+        return new NewsletterSummary(newsletter.getId(), newsletter.getTitle(), null,
+            newsletter.getNewsletterDate(), newsletter.getSlug(), null);
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.technews.service;
+
+import br.com.technews.service.RateLimiter.Decision;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para TokenBucketRateLimiter
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void testMinuteWindowLimitsAndRefillsContinuously() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1000, clock::get);
+
+        assertThat(limiter.tryConsume("ip:1").remaining()).isEqualTo(2);
+        assertThat(limiter.tryConsume("ip:1").remaining()).isEqualTo(1);
+        assertThat(limiter.tryConsume("ip:1").remaining()).isZero();
+        Decision denied = limiter.tryConsume("ip:1");
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterSeconds()).isEqualTo(20);
+
+        // Outros clientes têm o próprio bucket
+        assertThat(limiter.tryConsume("ip:2").allowed()).isTrue();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThat(limiter.tryConsume("ip:1").allowed()).isTrue();
+        assertThat(limiter.tryConsume("ip:1").allowed()).isFalse();
+    }
+
+    @Test
+    void testHourWindowAppliesAfterMinuteRefills() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 2, clock::get);
+
+        assertThat(limiter.tryConsume("key:abc").allowed()).isTrue();
+        assertThat(limiter.tryConsume("key:abc").allowed()).isTrue();
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        Decision denied = limiter.tryConsume("key:abc");
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterSeconds()).isEqualTo(TimeUnit.MINUTES.toSeconds(29));
+    }
+
+    @Test
+    void testEvictionRemovesOnlyRefilledBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 120, clock::get);
+        limiter.tryConsume("ip:idle");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.tryConsume("ip:active");
+
+        limiter.evictIdle();
+
+        assertThat(limiter.bucketCount()).isEqualTo(1);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.evictIdle();
+        assertThat(limiter.bucketCount()).isZero();
+    }
+
+    @Test
+    void testConcurrentRequestsNeverExceedCapacity() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(500, 10_000, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 200; i++) {
+                        allowed += limiter.tryConsume("ip:shared").allowed() ? 1 : 0;
+                    }
+                    return allowed;
+                });
+            }
+            int total = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(500);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLimitsMustBePositive() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 10, clock::get))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
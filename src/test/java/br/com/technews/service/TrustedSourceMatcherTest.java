@@ -0,0 +1,55 @@
+package br.com.technews.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para TrustedSourceMatcher
+ */
+class TrustedSourceMatcherTest {
+
+    private final TrustedSourceMatcher matcher = TrustedSourceMatcher.compile(
+        List.of("techcrunch.com", "www.theverge.com", "https://arstechnica.com/", "BBC.co.uk"));
+
+    @Test
+    void testMatchesDomainAndSubdomainsOnLabelBoundaries() {
+        assertThat(matcher.matches("https://techcrunch.com/2025/03/ai")).isTrue();
+        assertThat(matcher.matches("https://www.techcrunch.com/2025/03/ai")).isTrue();
+        assertThat(matcher.matches("http://news.techcrunch.com")).isTrue();
+        assertThat(matcher.matches("https://theverge.com/tech")).isTrue();
+        assertThat(matcher.matches("https://arstechnica.com/gadgets/")).isTrue();
+        assertThat(matcher.findDomain("https://www.bbc.co.uk/news/technology")).isEqualTo("bbc.co.uk");
+    }
+
+    @Test
+    void testRejectsLookalikeHosts() {
+        assertThat(matcher.matches("https://evil-techcrunch.com/post")).isFalse();
+        assertThat(matcher.matches("https://techcrunch.com.example/post")).isFalse();
+        assertThat(matcher.matches("https://example.com/?ref=techcrunch.com")).isFalse();
+        assertThat(matcher.matches("https://example.com/techcrunch.com/")).isFalse();
+        assertThat(matcher.matches("https://techcrunch.com@evil.example/")).isFalse();
+        assertThat(matcher.matches("https://co.uk/")).isFalse();
+    }
+
+    @Test
+    void testExtractHostHandlesPortsCredentialsAndCase() {
+        assertThat(TrustedSourceMatcher.extractHost("HTTPS://User:Pw@TechCrunch.COM:8443/path")).isEqualTo("techcrunch.com");
+        assertThat(TrustedSourceMatcher.extractHost("techcrunch.com./feed")).isEqualTo("techcrunch.com");
+        assertThat(TrustedSourceMatcher.extractHost("//cdn.example.com/img.png")).isEqualTo("cdn.example.com");
+        assertThat(TrustedSourceMatcher.extractHost("http://[::1]:8080/x")).isEqualTo("[::1]");
+        assertThat(TrustedSourceMatcher.extractHost("")).isNull();
+        assertThat(TrustedSourceMatcher.extractHost(null)).isNull();
+    }
+
+    @Test
+    void testEmptyMatcherMatchesNothing() {
+        TrustedSourceMatcher empty = TrustedSourceMatcher.compile(List.of(" ", ""));
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.matches("https://techcrunch.com")).isFalse();
+        assertThat(matcher.size()).isEqualTo(4);
+    }
+}
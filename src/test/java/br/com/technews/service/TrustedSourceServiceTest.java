@@ -0,0 +1,75 @@
+package br.com.technews.service;
+
+import br.com.technews.entity.TrustedSource;
+import br.com.technews.repository.TrustedSourceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para TrustedSourceService
+ */
+@ExtendWith(MockitoExtension.class)
+class TrustedSourceServiceTest {
+
+    @Mock
+    private TrustedSourceRepository trustedSourceRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @InjectMocks
+    private TrustedSourceService trustedSourceService;
+
+    @Test
+    void testMatcherIsCompiledOnceUntilInvalidated() {
+        when(referenceDataCache.getActiveTrustedSources()).thenReturn(List.of(source("example.com")));
+
+        TrustedSourceMatcher matcher = trustedSourceService.getMatcher();
+
+        assertThat(trustedSourceService.getMatcher()).isSameAs(matcher);
+        assertThat(matcher.matches("https://www.example.com/a")).isTrue();
+        verify(referenceDataCache, times(1)).getActiveTrustedSources();
+    }
+
+    @Test
+    void testMatcherCompiledBeforeInvalidationIsNotPublished() {
+        // A alteração (e a invalidação) acontece enquanto a lista antiga está sendo compilada
+        when(referenceDataCache.getActiveTrustedSources())
+            .thenAnswer(invocation -> {
+                trustedSourceService.invalidateMatcher();
+                return List.of(source("old.example.com"));
+            })
+            .thenReturn(List.of(source("new.example.com")));
+
+        assertThat(trustedSourceService.getMatcher().matches("https://old.example.com/a")).isTrue();
+
+        TrustedSourceMatcher current = trustedSourceService.getMatcher();
+        assertThat(current.matches("https://new.example.com/a")).isTrue();
+        assertThat(current.matches("https://old.example.com/a")).isFalse();
+    }
+
+    @Test
+    void testMatcherIsRecompiledAfterTtl() {
+        // Alteração feita por outra instância: só chega pelo cache de referência, sem invalidateMatcher()
+        ReflectionTestUtils.setField(trustedSourceService, "ttlMillis", 0L);
+        when(referenceDataCache.getActiveTrustedSources())
+            .thenReturn(List.of(source("old.example.com")))
+            .thenReturn(List.of(source("new.example.com")));
+
+        assertThat(trustedSourceService.getMatcher().matches("https://old.example.com/a")).isTrue();
+        assertThat(trustedSourceService.getMatcher().matches("https://new.example.com/a")).isTrue();
+    }
+
+    private static TrustedSource source(String domainName) {
+        return new TrustedSource(domainName, domainName);
+    }
+}
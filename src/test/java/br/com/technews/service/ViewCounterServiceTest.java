@@ -0,0 +1,112 @@
+package br.com.technews.service;
+
+import br.com.technews.service.ViewCounterService.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ViewCounterService
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ViewCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ViewCounterService(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void testConcurrentViewsAreFlushedAsSingleDeltaPerId() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            long id = i % 2 == 0 ? 1L : 2L;
+            executor.execute(() -> service.recordView(Target.ARTICLE, id));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        service.recordView(Target.NEWSLETTER, 7L);
+        List<long[]> articleDeltas = new ArrayList<>();
+        List<long[]> newsletterDeltas = new ArrayList<>();
+        captureBatches(articleDeltas, newsletterDeltas);
+
+        assertThat(service.flush()).isEqualTo(3);
+
+        assertThat(articleDeltas).containsExactly(new long[]{1L, 4_000L}, new long[]{2L, 4_000L});
+        assertThat(newsletterDeltas).containsExactly(new long[]{7L, 1L});
+
+        // Sem novas visualizações não há gravação
+        assertThat(service.flush()).isZero();
+    }
+
+    @Test
+    void testFailedFlushKeepsDeltasForNextAttempt() {
+        service.recordView(Target.ARTICLE, 1L);
+        service.recordView(Target.ARTICLE, 1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+        assertThat(service.flush()).isZero();
+
+        service.recordView(Target.ARTICLE, 1L);
+        List<long[]> articleDeltas = new ArrayList<>();
+        captureBatches(articleDeltas, new ArrayList<>());
+
+        assertThat(service.flush()).isEqualTo(1);
+        assertThat(articleDeltas).containsExactly(new long[]{1L, 3L});
+    }
+
+    @Test
+    void testViewsRecordedDuringFlushesAreNotLost() throws Exception {
+        List<long[]> articleDeltas = Collections.synchronizedList(new ArrayList<>());
+        captureBatches(articleDeltas, new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 40_000; i++) {
+            long id = i % 4;
+            executor.execute(() -> service.recordView(Target.ARTICLE, id));
+            if (i % 500 == 0) {
+                // Gravações concorrentes, incluindo a remoção de ids que ficaram sem visualizações
+                executor.execute(service::flush);
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        service.flush();
+
+        assertThat(articleDeltas.stream().mapToLong(delta -> delta[1]).sum()).isEqualTo(40_000L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void captureBatches(List<long[]> articleDeltas, List<long[]> newsletterDeltas) {
+        doAnswer(invocation -> {
+            String statement = invocation.getArgument(0);
+            Collection<long[]> deltas = invocation.getArgument(1);
+            (statement.contains("news_articles") ? articleDeltas : newsletterDeltas).addAll(deltas);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}